@@ -0,0 +1,64 @@
+package gr.confinanz.tasks.management.constants;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Types and field bits of the entries of the task change journal.
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskChangeConstants {
+
+	public static final long FIELD_COMPLETED = 1 << 4;
+
+	public static final long FIELD_DESCRIPTION = 1 << 1;
+
+	public static final long FIELD_EXPIRATION_DATE = 1 << 2;
+
+	public static final String[] FIELD_NAMES = {
+		"title", "description", "expirationDate", "taskUserId", "completed",
+		"status", "taskUserName"
+	};
+
+	public static final long FIELD_STATUS = 1 << 5;
+
+	public static final long FIELD_TASK_USER_ID = 1 << 3;
+
+	public static final long FIELD_TASK_USER_NAME = 1 << 6;
+
+	public static final long FIELD_TITLE = 1;
+
+	public static final long FIELD_ALL = (1 << FIELD_NAMES.length) - 1;
+
+	public static final int TYPE_ADD = 0;
+
+	public static final int TYPE_DELETE = 2;
+
+	public static final int TYPE_UPDATE = 1;
+
+	public static List<String> getFieldNames(long fieldMask) {
+		List<String> fieldNames = new ArrayList<>();
+
+		for (int i = 0; i < FIELD_NAMES.length; i++) {
+			if ((fieldMask & (1 << i)) != 0) {
+				fieldNames.add(FIELD_NAMES[i]);
+			}
+		}
+
+		return fieldNames;
+	}
+
+	public static String getTypeLabel(int type) {
+		if (type == TYPE_ADD) {
+			return "add";
+		}
+		else if (type == TYPE_DELETE) {
+			return "delete";
+		}
+
+		return "update";
+	}
+
+}
@@ -0,0 +1,36 @@
+package gr.confinanz.tasks.management.constants;
+
+/**
+ * Names of the task fields in the search index, and of the search context
+ * attributes that filter on them.
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskSearchConstants {
+
+	public static final String COMPLETED = "completed";
+
+	/**
+	 * The stored plain text excerpt of the description, which is indexed in
+	 * full for matching only.
+	 */
+	public static final String DESCRIPTION_EXCERPT = "descriptionExcerpt";
+
+	/**
+	 * The search context attribute holding the time in milliseconds that
+	 * matching tasks expire before.
+	 */
+	public static final String DUE_BEFORE = "dueBefore";
+
+	public static final String EXPIRATION_DATE = "expirationDate";
+
+	public static final String TASK_ID = "taskId";
+
+	public static final String TASK_TITLE = "taskTitle";
+
+	public static final String TASK_USER_ID = "taskUserId";
+
+	public static final String TASK_USER_NAME = "taskUserName";
+
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package gr.confinanz.tasks.management.model;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.annotation.ImplementationClassName;
+import com.liferay.portal.kernel.model.PersistedModel;
+import com.liferay.portal.kernel.util.Accessor;
+
+/**
+ * The extended model interface for the TaskChange service. Represents a row in the &quot;ABT_TaskChange&quot; database table, with each column mapped to a property of this class.
+ *
+ * @author Abdessamad Ben Taleb
+ * @see TaskChangeModel
+ * @see gr.confinanz.tasks.management.model.impl.TaskChangeImpl
+ * @see gr.confinanz.tasks.management.model.impl.TaskChangeModelImpl
+ * @generated
+ */
+@ImplementationClassName("gr.confinanz.tasks.management.model.impl.TaskChangeImpl")
+@ProviderType
+public interface TaskChange extends TaskChangeModel, PersistedModel {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify this interface directly. Add methods to {@link gr.confinanz.tasks.management.model.impl.TaskChangeImpl} and rerun ServiceBuilder to automatically copy the method declarations to this interface.
+	 */
+	public static final Accessor<TaskChange, Long> TASK_CHANGE_ID_ACCESSOR = new Accessor<TaskChange, Long>() {
+			@Override
+			public Long get(TaskChange taskChange) {
+				return taskChange.getTaskChangeId();
+			}
+
+			@Override
+			public Class<Long> getAttributeClass() {
+				return Long.class;
+			}
+
+			@Override
+			public Class<TaskChange> getTypeClass() {
+				return TaskChange.class;
+			}
+		};
+}
\ No newline at end of file
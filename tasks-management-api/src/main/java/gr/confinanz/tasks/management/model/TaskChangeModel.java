@@ -0,0 +1,221 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package gr.confinanz.tasks.management.model;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.expando.kernel.model.ExpandoBridge;
+
+import com.liferay.portal.kernel.model.BaseModel;
+import com.liferay.portal.kernel.model.CacheModel;
+import com.liferay.portal.kernel.model.ShardedModel;
+import com.liferay.portal.kernel.service.ServiceContext;
+
+import java.io.Serializable;
+
+import java.util.Date;
+
+/**
+ * The base model interface for the TaskChange service. Represents a row in the &quot;ABT_TaskChange&quot; database table, with each column mapped to a property of this class.
+ *
+ * <p>
+ * This interface and its corresponding implementation {@link gr.confinanz.tasks.management.model.impl.TaskChangeModelImpl} exist only as a container for the default property accessors generated by ServiceBuilder. Helper methods and all application logic should be put in {@link gr.confinanz.tasks.management.model.impl.TaskChangeImpl}.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ * @see TaskChange
+ * @see gr.confinanz.tasks.management.model.impl.TaskChangeImpl
+ * @see gr.confinanz.tasks.management.model.impl.TaskChangeModelImpl
+ * @generated
+ */
+@ProviderType
+public interface TaskChangeModel extends BaseModel<TaskChange>, ShardedModel {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this interface directly. All methods that expect a task change model instance should use the {@link TaskChange} interface instead.
+	 */
+
+	/**
+	 * Returns the primary key of this task change.
+	 *
+	 * @return the primary key of this task change
+	 */
+	public long getPrimaryKey();
+
+	/**
+	 * Sets the primary key of this task change.
+	 *
+	 * @param primaryKey the primary key of this task change
+	 */
+	public void setPrimaryKey(long primaryKey);
+
+	/**
+	 * Returns the task change ID of this task change.
+	 *
+	 * @return the task change ID of this task change
+	 */
+	public long getTaskChangeId();
+
+	/**
+	 * Sets the task change ID of this task change.
+	 *
+	 * @param taskChangeId the task change ID of this task change
+	 */
+	public void setTaskChangeId(long taskChangeId);
+
+	/**
+	 * Returns the group ID of this task change.
+	 *
+	 * @return the group ID of this task change
+	 */
+	public long getGroupId();
+
+	/**
+	 * Sets the group ID of this task change.
+	 *
+	 * @param groupId the group ID of this task change
+	 */
+	public void setGroupId(long groupId);
+
+	/**
+	 * Returns the company ID of this task change.
+	 *
+	 * @return the company ID of this task change
+	 */
+	@Override
+	public long getCompanyId();
+
+	/**
+	 * Sets the company ID of this task change.
+	 *
+	 * @param companyId the company ID of this task change
+	 */
+	@Override
+	public void setCompanyId(long companyId);
+
+	/**
+	 * Returns the task ID of this task change.
+	 *
+	 * @return the task ID of this task change
+	 */
+	public long getTaskId();
+
+	/**
+	 * Sets the task ID of this task change.
+	 *
+	 * @param taskId the task ID of this task change
+	 */
+	public void setTaskId(long taskId);
+
+	/**
+	 * Returns the change type of this task change.
+	 *
+	 * @return the change type of this task change
+	 */
+	public int getChangeType();
+
+	/**
+	 * Sets the change type of this task change.
+	 *
+	 * @param changeType the change type of this task change
+	 */
+	public void setChangeType(int changeType);
+
+	/**
+	 * Returns the field mask of this task change.
+	 *
+	 * @return the field mask of this task change
+	 */
+	public long getFieldMask();
+
+	/**
+	 * Sets the field mask of this task change.
+	 *
+	 * @param fieldMask the field mask of this task change
+	 */
+	public void setFieldMask(long fieldMask);
+
+	/**
+	 * Returns the create date of this task change.
+	 *
+	 * @return the create date of this task change
+	 */
+	public Date getCreateDate();
+
+	/**
+	 * Sets the create date of this task change.
+	 *
+	 * @param createDate the create date of this task change
+	 */
+	public void setCreateDate(Date createDate);
+
+	@Override
+	public boolean isNew();
+
+	@Override
+	public void setNew(boolean n);
+
+	@Override
+	public boolean isCachedModel();
+
+	@Override
+	public void setCachedModel(boolean cachedModel);
+
+	@Override
+	public boolean isEscapedModel();
+
+	@Override
+	public Serializable getPrimaryKeyObj();
+
+	@Override
+	public void setPrimaryKeyObj(Serializable primaryKeyObj);
+
+	@Override
+	public ExpandoBridge getExpandoBridge();
+
+	@Override
+	public void setExpandoBridgeAttributes(BaseModel<?> baseModel);
+
+	@Override
+	public void setExpandoBridgeAttributes(ExpandoBridge expandoBridge);
+
+	@Override
+	public void setExpandoBridgeAttributes(ServiceContext serviceContext);
+
+	@Override
+	public Object clone();
+
+	@Override
+	public int compareTo(gr.confinanz.tasks.management.model.TaskChange taskChange);
+
+	@Override
+	public int hashCode();
+
+	@Override
+	public CacheModel<gr.confinanz.tasks.management.model.TaskChange> toCacheModel();
+
+	@Override
+	public gr.confinanz.tasks.management.model.TaskChange toEscapedModel();
+
+	@Override
+	public gr.confinanz.tasks.management.model.TaskChange toUnescapedModel();
+
+	@Override
+	public String toString();
+
+	@Override
+	public String toXmlString();
+}
\ No newline at end of file
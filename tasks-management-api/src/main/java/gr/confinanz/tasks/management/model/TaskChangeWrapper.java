@@ -0,0 +1,417 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package gr.confinanz.tasks.management.model;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.expando.kernel.model.ExpandoBridge;
+
+import com.liferay.portal.kernel.model.ModelWrapper;
+import com.liferay.portal.kernel.service.ServiceContext;
+
+import java.io.Serializable;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>
+ * This class is a wrapper for {@link TaskChange}.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ * @see TaskChange
+ * @generated
+ */
+@ProviderType
+public class TaskChangeWrapper implements TaskChange, ModelWrapper<TaskChange> {
+	public TaskChangeWrapper(TaskChange taskChange) {
+		_taskChange = taskChange;
+	}
+
+	@Override
+	public Class<?> getModelClass() {
+		return TaskChange.class;
+	}
+
+	@Override
+	public String getModelClassName() {
+		return TaskChange.class.getName();
+	}
+
+	@Override
+	public Map<String, Object> getModelAttributes() {
+		Map<String, Object> attributes = new HashMap<String, Object>();
+
+		attributes.put("taskChangeId", getTaskChangeId());
+		attributes.put("groupId", getGroupId());
+		attributes.put("companyId", getCompanyId());
+		attributes.put("taskId", getTaskId());
+		attributes.put("changeType", getChangeType());
+		attributes.put("fieldMask", getFieldMask());
+		attributes.put("createDate", getCreateDate());
+
+		return attributes;
+	}
+
+	@Override
+	public void setModelAttributes(Map<String, Object> attributes) {
+		Long taskChangeId = (Long)attributes.get("taskChangeId");
+
+		if (taskChangeId != null) {
+			setTaskChangeId(taskChangeId);
+		}
+
+		Long groupId = (Long)attributes.get("groupId");
+
+		if (groupId != null) {
+			setGroupId(groupId);
+		}
+
+		Long companyId = (Long)attributes.get("companyId");
+
+		if (companyId != null) {
+			setCompanyId(companyId);
+		}
+
+		Long taskId = (Long)attributes.get("taskId");
+
+		if (taskId != null) {
+			setTaskId(taskId);
+		}
+
+		Integer changeType = (Integer)attributes.get("changeType");
+
+		if (changeType != null) {
+			setChangeType(changeType);
+		}
+
+		Long fieldMask = (Long)attributes.get("fieldMask");
+
+		if (fieldMask != null) {
+			setFieldMask(fieldMask);
+		}
+
+		Date createDate = (Date)attributes.get("createDate");
+
+		if (createDate != null) {
+			setCreateDate(createDate);
+		}
+	}
+
+	@Override
+	public boolean isCachedModel() {
+		return _taskChange.isCachedModel();
+	}
+
+	@Override
+	public boolean isEscapedModel() {
+		return _taskChange.isEscapedModel();
+	}
+
+	@Override
+	public boolean isNew() {
+		return _taskChange.isNew();
+	}
+
+	@Override
+	public ExpandoBridge getExpandoBridge() {
+		return _taskChange.getExpandoBridge();
+	}
+
+	@Override
+	public com.liferay.portal.kernel.model.CacheModel<gr.confinanz.tasks.management.model.TaskChange> toCacheModel() {
+		return _taskChange.toCacheModel();
+	}
+
+	@Override
+	public gr.confinanz.tasks.management.model.TaskChange toEscapedModel() {
+		return new TaskChangeWrapper(_taskChange.toEscapedModel());
+	}
+
+	@Override
+	public gr.confinanz.tasks.management.model.TaskChange toUnescapedModel() {
+		return new TaskChangeWrapper(_taskChange.toUnescapedModel());
+	}
+
+	@Override
+	public int compareTo(gr.confinanz.tasks.management.model.TaskChange taskChange) {
+		return _taskChange.compareTo(taskChange);
+	}
+
+	/**
+	* Returns the change type of this task change.
+	*
+	* @return the change type of this task change
+	*/
+	@Override
+	public int getChangeType() {
+		return _taskChange.getChangeType();
+	}
+
+	@Override
+	public int hashCode() {
+		return _taskChange.hashCode();
+	}
+
+	@Override
+	public Serializable getPrimaryKeyObj() {
+		return _taskChange.getPrimaryKeyObj();
+	}
+
+	@Override
+	public java.lang.Object clone() {
+		return new TaskChangeWrapper((TaskChange)_taskChange.clone());
+	}
+
+	@Override
+	public java.lang.String toString() {
+		return _taskChange.toString();
+	}
+
+	@Override
+	public java.lang.String toXmlString() {
+		return _taskChange.toXmlString();
+	}
+
+	/**
+	* Returns the create date of this task change.
+	*
+	* @return the create date of this task change
+	*/
+	@Override
+	public Date getCreateDate() {
+		return _taskChange.getCreateDate();
+	}
+
+	/**
+	* Returns the company ID of this task change.
+	*
+	* @return the company ID of this task change
+	*/
+	@Override
+	public long getCompanyId() {
+		return _taskChange.getCompanyId();
+	}
+
+	/**
+	* Returns the field mask of this task change.
+	*
+	* @return the field mask of this task change
+	*/
+	@Override
+	public long getFieldMask() {
+		return _taskChange.getFieldMask();
+	}
+
+	/**
+	* Returns the group ID of this task change.
+	*
+	* @return the group ID of this task change
+	*/
+	@Override
+	public long getGroupId() {
+		return _taskChange.getGroupId();
+	}
+
+	/**
+	* Returns the primary key of this task change.
+	*
+	* @return the primary key of this task change
+	*/
+	@Override
+	public long getPrimaryKey() {
+		return _taskChange.getPrimaryKey();
+	}
+
+	/**
+	* Returns the task change ID of this task change.
+	*
+	* @return the task change ID of this task change
+	*/
+	@Override
+	public long getTaskChangeId() {
+		return _taskChange.getTaskChangeId();
+	}
+
+	/**
+	* Returns the task ID of this task change.
+	*
+	* @return the task ID of this task change
+	*/
+	@Override
+	public long getTaskId() {
+		return _taskChange.getTaskId();
+	}
+
+	@Override
+	public void persist() {
+		_taskChange.persist();
+	}
+
+	@Override
+	public void setCachedModel(boolean cachedModel) {
+		_taskChange.setCachedModel(cachedModel);
+	}
+
+	/**
+	* Sets the change type of this task change.
+	*
+	* @param changeType the change type of this task change
+	*/
+	@Override
+	public void setChangeType(int changeType) {
+		_taskChange.setChangeType(changeType);
+	}
+
+	/**
+	* Sets the company ID of this task change.
+	*
+	* @param companyId the company ID of this task change
+	*/
+	@Override
+	public void setCompanyId(long companyId) {
+		_taskChange.setCompanyId(companyId);
+	}
+
+	/**
+	* Sets the create date of this task change.
+	*
+	* @param createDate the create date of this task change
+	*/
+	@Override
+	public void setCreateDate(Date createDate) {
+		_taskChange.setCreateDate(createDate);
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(
+		com.liferay.portal.kernel.model.BaseModel<?> baseModel) {
+		_taskChange.setExpandoBridgeAttributes(baseModel);
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(ExpandoBridge expandoBridge) {
+		_taskChange.setExpandoBridgeAttributes(expandoBridge);
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(ServiceContext serviceContext) {
+		_taskChange.setExpandoBridgeAttributes(serviceContext);
+	}
+
+	/**
+	* Sets the field mask of this task change.
+	*
+	* @param fieldMask the field mask of this task change
+	*/
+	@Override
+	public void setFieldMask(long fieldMask) {
+		_taskChange.setFieldMask(fieldMask);
+	}
+
+	/**
+	* Sets the group ID of this task change.
+	*
+	* @param groupId the group ID of this task change
+	*/
+	@Override
+	public void setGroupId(long groupId) {
+		_taskChange.setGroupId(groupId);
+	}
+
+	@Override
+	public void setNew(boolean n) {
+		_taskChange.setNew(n);
+	}
+
+	/**
+	* Sets the primary key of this task change.
+	*
+	* @param primaryKey the primary key of this task change
+	*/
+	@Override
+	public void setPrimaryKey(long primaryKey) {
+		_taskChange.setPrimaryKey(primaryKey);
+	}
+
+	@Override
+	public void setPrimaryKeyObj(Serializable primaryKeyObj) {
+		_taskChange.setPrimaryKeyObj(primaryKeyObj);
+	}
+
+	/**
+	* Sets the task change ID of this task change.
+	*
+	* @param taskChangeId the task change ID of this task change
+	*/
+	@Override
+	public void setTaskChangeId(long taskChangeId) {
+		_taskChange.setTaskChangeId(taskChangeId);
+	}
+
+	/**
+	* Sets the task ID of this task change.
+	*
+	* @param taskId the task ID of this task change
+	*/
+	@Override
+	public void setTaskId(long taskId) {
+		_taskChange.setTaskId(taskId);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof TaskChangeWrapper)) {
+			return false;
+		}
+
+		TaskChangeWrapper taskChangeWrapper = (TaskChangeWrapper)obj;
+
+		if (Objects.equals(_taskChange, taskChangeWrapper._taskChange)) {
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public TaskChange getWrappedModel() {
+		return _taskChange;
+	}
+
+	@Override
+	public boolean isEntityCacheEnabled() {
+		return _taskChange.isEntityCacheEnabled();
+	}
+
+	@Override
+	public boolean isFinderCacheEnabled() {
+		return _taskChange.isFinderCacheEnabled();
+	}
+
+	@Override
+	public void resetOriginalValues() {
+		_taskChange.resetOriginalValues();
+	}
+
+	private final TaskChange _taskChange;
+}
\ No newline at end of file
@@ -269,6 +269,21 @@ public interface TaskModel extends BaseModel<Task>, GroupedModel, ShardedModel,
 	 */
 	public void setTaskUserId(long taskUserId);
 
+	/**
+	 * Returns the task user name of this task.
+	 *
+	 * @return the task user name of this task
+	 */
+	@AutoEscape
+	public String getTaskUserName();
+
+	/**
+	 * Sets the task user name of this task.
+	 *
+	 * @param taskUserName the task user name of this task
+	 */
+	public void setTaskUserName(String taskUserName);
+
 	/**
 	 * Returns the task user uuid of this task.
 	 *
@@ -46,6 +46,7 @@ public class TaskSoap implements Serializable {
 		soapModel.setDescription(model.getDescription());
 		soapModel.setExpirationDate(model.getExpirationDate());
 		soapModel.setTaskUserId(model.getTaskUserId());
+		soapModel.setTaskUserName(model.getTaskUserName());
 		soapModel.setCompleted(model.getCompleted());
 		soapModel.setStatus(model.getStatus());
 		soapModel.setStatusByUserId(model.getStatusByUserId());
@@ -199,6 +200,14 @@ public class TaskSoap implements Serializable {
 		_taskUserId = taskUserId;
 	}
 
+	public String getTaskUserName() {
+		return _taskUserName;
+	}
+
+	public void setTaskUserName(String taskUserName) {
+		_taskUserName = taskUserName;
+	}
+
 	public boolean getCompleted() {
 		return _completed;
 	}
@@ -255,6 +264,7 @@ public class TaskSoap implements Serializable {
 	private String _description;
 	private Date _expirationDate;
 	private long _taskUserId;
+	private String _taskUserName;
 	private boolean _completed;
 	private int _status;
 	private long _statusByUserId;
@@ -71,6 +71,7 @@ public class TaskWrapper implements Task, ModelWrapper<Task> {
 		attributes.put("description", getDescription());
 		attributes.put("expirationDate", getExpirationDate());
 		attributes.put("taskUserId", getTaskUserId());
+		attributes.put("taskUserName", getTaskUserName());
 		attributes.put("completed", getCompleted());
 		attributes.put("status", getStatus());
 		attributes.put("statusByUserId", getStatusByUserId());
@@ -154,6 +155,12 @@ public class TaskWrapper implements Task, ModelWrapper<Task> {
 			setTaskUserId(taskUserId);
 		}
 
+		String taskUserName = (String)attributes.get("taskUserName");
+
+		if (taskUserName != null) {
+			setTaskUserName(taskUserName);
+		}
+
 		Boolean completed = (Boolean)attributes.get("completed");
 
 		if (completed != null) {
@@ -380,6 +387,16 @@ public class TaskWrapper implements Task, ModelWrapper<Task> {
 		return _task.getStatusByUserUuid();
 	}
 
+	/**
+	* Returns the task user name of this task.
+	*
+	* @return the task user name of this task
+	*/
+	@Override
+	public java.lang.String getTaskUserName() {
+		return _task.getTaskUserName();
+	}
+
 	/**
 	* Returns the task user uuid of this task.
 	*
@@ -736,6 +753,16 @@ public class TaskWrapper implements Task, ModelWrapper<Task> {
 		_task.setTaskUserId(taskUserId);
 	}
 
+	/**
+	* Sets the task user name of this task.
+	*
+	* @param taskUserName the task user name of this task
+	*/
+	@Override
+	public void setTaskUserName(java.lang.String taskUserName) {
+		_task.setTaskUserName(taskUserName);
+	}
+
 	/**
 	* Sets the task user uuid of this task.
 	*
@@ -0,0 +1,259 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package gr.confinanz.tasks.management.service;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.IndexableActionableDynamicQuery;
+import com.liferay.portal.kernel.dao.orm.Projection;
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.model.PersistedModel;
+import com.liferay.portal.kernel.search.Indexable;
+import com.liferay.portal.kernel.search.IndexableType;
+import com.liferay.portal.kernel.service.BaseLocalService;
+import com.liferay.portal.kernel.service.PersistedModelLocalService;
+import com.liferay.portal.kernel.transaction.Isolation;
+import com.liferay.portal.kernel.transaction.Propagation;
+import com.liferay.portal.kernel.transaction.Transactional;
+import com.liferay.portal.kernel.util.OrderByComparator;
+
+import gr.confinanz.tasks.management.model.Task;
+import gr.confinanz.tasks.management.model.TaskChange;
+
+import java.io.Serializable;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Provides the local service interface for TaskChange. Methods of this
+ * service will not have security checks based on the propagated JAAS
+ * credentials because this service can only be accessed from within the same
+ * VM.
+ *
+ * @author Abdessamad Ben Taleb
+ * @see TaskChangeLocalServiceUtil
+ * @see gr.confinanz.tasks.management.service.base.TaskChangeLocalServiceBaseImpl
+ * @see gr.confinanz.tasks.management.service.impl.TaskChangeLocalServiceImpl
+ * @generated
+ */
+@ProviderType
+@Transactional(isolation = Isolation.PORTAL, rollbackFor =  {
+	PortalException.class, SystemException.class})
+public interface TaskChangeLocalService extends BaseLocalService,
+	PersistedModelLocalService {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this interface directly. Always use {@link TaskChangeLocalServiceUtil} to access the task change local service. Add custom service methods to {@link gr.confinanz.tasks.management.service.impl.TaskChangeLocalServiceImpl} and rerun ServiceBuilder to automatically copy the method declarations to this interface.
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public ActionableDynamicQuery getActionableDynamicQuery();
+
+	public DynamicQuery dynamicQuery();
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public IndexableActionableDynamicQuery getIndexableActionableDynamicQuery();
+
+	/**
+	* @throws PortalException
+	*/
+	@Override
+	public PersistedModel deletePersistedModel(PersistedModel persistedModel) throws PortalException;
+
+	@Override
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public PersistedModel getPersistedModel(Serializable primaryKeyObj) throws PortalException;
+
+	/**
+	* Adds the task change to the database. Also notifies the appropriate model listeners.
+	*
+	* @param taskChange the task change
+	* @return the task change that was added
+	*/
+	@Indexable(type = IndexableType.REINDEX)
+	public TaskChange addTaskChange(TaskChange taskChange);
+
+	/**
+	* Records a change of the task in the journal, in the transaction of the caller. The change is committed or rolled back with the write of the task.
+	*
+	* <p>
+	* The row of the sequence stays locked until the transaction ends, so a transaction that takes a sequence after another one commits after it, and a consumer never reads past a sequence that is not yet visible. Callers record the change as the last write of their transaction, to hold the lock as briefly as possible.
+	* </p>
+	*
+	* @param task the task that was changed
+	* @param changeType the type of the change
+	* @param fieldMask the bit mask of the fields that were changed
+	*/
+	public void addTaskChange(Task task, int changeType, long fieldMask);
+
+	/**
+	* Creates a new task change with the primary key. Does not add the task change to the database.
+	*
+	* @param taskChangeId the primary key for the new task change
+	* @return the new task change
+	*/
+	public TaskChange createTaskChange(long taskChangeId);
+
+	/**
+	* Deletes the task change from the database. Also notifies the appropriate model listeners.
+	*
+	* @param taskChange the task change
+	* @return the task change that was removed
+	*/
+	@Indexable(type = IndexableType.DELETE)
+	public TaskChange deleteTaskChange(TaskChange taskChange);
+
+	/**
+	* Deletes the task change with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param taskChangeId the primary key of the task change
+	* @return the task change that was removed
+	* @throws PortalException if a task change with the primary key could not be found
+	*/
+	@Indexable(type = IndexableType.DELETE)
+	public TaskChange deleteTaskChange(long taskChangeId) throws PortalException;
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public TaskChange fetchTaskChange(long taskChangeId);
+
+	/**
+	* Returns the task change with the primary key.
+	*
+	* @param taskChangeId the primary key of the task change
+	* @return the task change
+	* @throws PortalException if a task change with the primary key could not be found
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public TaskChange getTaskChange(long taskChangeId) throws PortalException;
+
+	/**
+	* Updates the task change in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	*
+	* @param taskChange the task change
+	* @return the task change that was updated
+	*/
+	@Indexable(type = IndexableType.REINDEX)
+	public TaskChange updateTaskChange(TaskChange taskChange);
+
+	/**
+	* Deletes at most <code>limit</code> task changes created before the date.
+	*
+	* @param createDate the date before which task changes are deleted
+	* @param limit the maximum number of task changes to delete
+	* @return the number of task changes that were deleted
+	*/
+	public int deleteTaskChanges(Date createDate, int limit);
+
+	/**
+	* Returns the number of task changes.
+	*
+	* @return the number of task changes
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public int getTaskChangesCount();
+
+	/**
+	* Returns the OSGi service identifier.
+	*
+	* @return the OSGi service identifier
+	*/
+	public java.lang.String getOSGiServiceIdentifier();
+
+	/**
+	* Performs a dynamic query on the database and returns the matching rows.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the matching rows
+	*/
+	public <T> List<T> dynamicQuery(DynamicQuery dynamicQuery);
+
+	/**
+	* Performs a dynamic query on the database and returns a range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link gr.confinanz.tasks.management.model.impl.TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @return the range of matching rows
+	*/
+	public <T> List<T> dynamicQuery(DynamicQuery dynamicQuery, int start, int end);
+
+	/**
+	* Performs a dynamic query on the database and returns an ordered range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link gr.confinanz.tasks.management.model.impl.TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching rows
+	*/
+	public <T> List<T> dynamicQuery(DynamicQuery dynamicQuery, int start, int end, OrderByComparator<T> orderByComparator);
+
+	/**
+	* Returns the changes of the company with a sequence greater than the given
+	* sequence, in the order of the sequence. Sequences are handed out in
+	* commit order, so a caller never skips past a change that is not yet
+	* visible.
+	*
+	* @param companyId the primary key of the company
+	* @param sequence the sequence of the last change the caller has seen
+	* @param limit the maximum number of changes to return
+	* @return the changes after the sequence
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public List<TaskChange> getChangesSince(long companyId, long sequence, int limit);
+
+	/**
+	* Returns a range of all the task changes.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link gr.confinanz.tasks.management.model.impl.TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of task changes
+	* @param end the upper bound of the range of task changes (not inclusive)
+	* @return the range of task changes
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public List<TaskChange> getTaskChanges(int start, int end);
+
+	/**
+	* Returns the number of rows matching the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the number of rows matching the dynamic query
+	*/
+	public long dynamicQueryCount(DynamicQuery dynamicQuery);
+
+	/**
+	* Returns the number of rows matching the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @param projection the projection to apply to the query
+	* @return the number of rows matching the dynamic query
+	*/
+	public long dynamicQueryCount(DynamicQuery dynamicQuery, Projection projection);
+}
\ No newline at end of file
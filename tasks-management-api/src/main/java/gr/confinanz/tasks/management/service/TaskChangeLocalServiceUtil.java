@@ -0,0 +1,281 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package gr.confinanz.tasks.management.service;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.osgi.util.ServiceTrackerFactory;
+
+import org.osgi.util.tracker.ServiceTracker;
+
+/**
+ * Provides the local service utility for TaskChange. This utility wraps
+ * {@link gr.confinanz.tasks.management.service.impl.TaskChangeLocalServiceImpl} and is the
+ * primary access point for service operations in application layer code running
+ * on the local server. Methods of this service will not have security checks
+ * based on the propagated JAAS credentials because this service can only be
+ * accessed from within the same VM.
+ *
+ * @author Abdessamad Ben Taleb
+ * @see TaskChangeLocalService
+ * @see gr.confinanz.tasks.management.service.base.TaskChangeLocalServiceBaseImpl
+ * @see gr.confinanz.tasks.management.service.impl.TaskChangeLocalServiceImpl
+ * @generated
+ */
+@ProviderType
+public class TaskChangeLocalServiceUtil {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify this class directly. Add custom service methods to {@link gr.confinanz.tasks.management.service.impl.TaskChangeLocalServiceImpl} and rerun ServiceBuilder to regenerate this class.
+	 */
+	public static com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery getActionableDynamicQuery() {
+		return getService().getActionableDynamicQuery();
+	}
+
+	public static com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery() {
+		return getService().dynamicQuery();
+	}
+
+	public static com.liferay.portal.kernel.dao.orm.IndexableActionableDynamicQuery getIndexableActionableDynamicQuery() {
+		return getService().getIndexableActionableDynamicQuery();
+	}
+
+	/**
+	* @throws PortalException
+	*/
+	public static com.liferay.portal.kernel.model.PersistedModel deletePersistedModel(com.liferay.portal.kernel.model.PersistedModel persistedModel)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().deletePersistedModel(persistedModel);
+	}
+
+	public static com.liferay.portal.kernel.model.PersistedModel getPersistedModel(java.io.Serializable primaryKeyObj)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().getPersistedModel(primaryKeyObj);
+	}
+
+	/**
+	* Adds the task change to the database. Also notifies the appropriate model listeners.
+	*
+	* @param taskChange the task change
+	* @return the task change that was added
+	*/
+	public static gr.confinanz.tasks.management.model.TaskChange addTaskChange(gr.confinanz.tasks.management.model.TaskChange taskChange) {
+		return getService().addTaskChange(taskChange);
+	}
+
+	/**
+	* Records a change of the task in the journal, in the transaction of the caller. The change is committed or rolled back with the write of the task.
+	*
+	* <p>
+	* The row of the sequence stays locked until the transaction ends, so a transaction that takes a sequence after another one commits after it, and a consumer never reads past a sequence that is not yet visible. Callers record the change as the last write of their transaction, to hold the lock as briefly as possible.
+	* </p>
+	*
+	* @param task the task that was changed
+	* @param changeType the type of the change
+	* @param fieldMask the bit mask of the fields that were changed
+	*/
+	public static void addTaskChange(gr.confinanz.tasks.management.model.Task task, int changeType, long fieldMask) {
+		getService().addTaskChange(task, changeType, fieldMask);
+	}
+
+	/**
+	* Creates a new task change with the primary key. Does not add the task change to the database.
+	*
+	* @param taskChangeId the primary key for the new task change
+	* @return the new task change
+	*/
+	public static gr.confinanz.tasks.management.model.TaskChange createTaskChange(long taskChangeId) {
+		return getService().createTaskChange(taskChangeId);
+	}
+
+	/**
+	* Deletes the task change from the database. Also notifies the appropriate model listeners.
+	*
+	* @param taskChange the task change
+	* @return the task change that was removed
+	*/
+	public static gr.confinanz.tasks.management.model.TaskChange deleteTaskChange(gr.confinanz.tasks.management.model.TaskChange taskChange) {
+		return getService().deleteTaskChange(taskChange);
+	}
+
+	/**
+	* Deletes the task change with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param taskChangeId the primary key of the task change
+	* @return the task change that was removed
+	* @throws PortalException if a task change with the primary key could not be found
+	*/
+	public static gr.confinanz.tasks.management.model.TaskChange deleteTaskChange(long taskChangeId)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().deleteTaskChange(taskChangeId);
+	}
+
+	public static gr.confinanz.tasks.management.model.TaskChange fetchTaskChange(long taskChangeId) {
+		return getService().fetchTaskChange(taskChangeId);
+	}
+
+	/**
+	* Returns the task change with the primary key.
+	*
+	* @param taskChangeId the primary key of the task change
+	* @return the task change
+	* @throws PortalException if a task change with the primary key could not be found
+	*/
+	public static gr.confinanz.tasks.management.model.TaskChange getTaskChange(long taskChangeId)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().getTaskChange(taskChangeId);
+	}
+
+	/**
+	* Updates the task change in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	*
+	* @param taskChange the task change
+	* @return the task change that was updated
+	*/
+	public static gr.confinanz.tasks.management.model.TaskChange updateTaskChange(gr.confinanz.tasks.management.model.TaskChange taskChange) {
+		return getService().updateTaskChange(taskChange);
+	}
+
+	/**
+	* Deletes at most <code>limit</code> task changes created before the date.
+	*
+	* @param createDate the date before which task changes are deleted
+	* @param limit the maximum number of task changes to delete
+	* @return the number of task changes that were deleted
+	*/
+	public static int deleteTaskChanges(java.util.Date createDate, int limit) {
+		return getService().deleteTaskChanges(createDate, limit);
+	}
+
+	/**
+	* Returns the number of task changes.
+	*
+	* @return the number of task changes
+	*/
+	public static int getTaskChangesCount() {
+		return getService().getTaskChangesCount();
+	}
+
+	/**
+	* Returns the OSGi service identifier.
+	*
+	* @return the OSGi service identifier
+	*/
+	public static java.lang.String getOSGiServiceIdentifier() {
+		return getService().getOSGiServiceIdentifier();
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns the matching rows.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the matching rows
+	*/
+	public static <T> java.util.List<T> dynamicQuery(com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery) {
+		return getService().dynamicQuery(dynamicQuery);
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns a range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link gr.confinanz.tasks.management.model.impl.TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @return the range of matching rows
+	*/
+	public static <T> java.util.List<T> dynamicQuery(com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start, int end) {
+		return getService().dynamicQuery(dynamicQuery, start, end);
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns an ordered range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link gr.confinanz.tasks.management.model.impl.TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching rows
+	*/
+	public static <T> java.util.List<T> dynamicQuery(com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start, int end, com.liferay.portal.kernel.util.OrderByComparator<T> orderByComparator) {
+		return getService().dynamicQuery(dynamicQuery, start, end, orderByComparator);
+	}
+
+	/**
+	* Returns the changes of the company with a sequence greater than the given
+	* sequence, in the order of the sequence. Sequences are handed out in
+	* commit order, so a caller never skips past a change that is not yet
+	* visible.
+	*
+	* @param companyId the primary key of the company
+	* @param sequence the sequence of the last change the caller has seen
+	* @param limit the maximum number of changes to return
+	* @return the changes after the sequence
+	*/
+	public static java.util.List<gr.confinanz.tasks.management.model.TaskChange> getChangesSince(long companyId, long sequence, int limit) {
+		return getService().getChangesSince(companyId, sequence, limit);
+	}
+
+	/**
+	* Returns a range of all the task changes.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link gr.confinanz.tasks.management.model.impl.TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of task changes
+	* @param end the upper bound of the range of task changes (not inclusive)
+	* @return the range of task changes
+	*/
+	public static java.util.List<gr.confinanz.tasks.management.model.TaskChange> getTaskChanges(int start, int end) {
+		return getService().getTaskChanges(start, end);
+	}
+
+	/**
+	* Returns the number of rows matching the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the number of rows matching the dynamic query
+	*/
+	public static long dynamicQueryCount(com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery) {
+		return getService().dynamicQueryCount(dynamicQuery);
+	}
+
+	/**
+	* Returns the number of rows matching the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @param projection the projection to apply to the query
+	* @return the number of rows matching the dynamic query
+	*/
+	public static long dynamicQueryCount(com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, com.liferay.portal.kernel.dao.orm.Projection projection) {
+		return getService().dynamicQueryCount(dynamicQuery, projection);
+	}
+
+	public static TaskChangeLocalService getService() {
+		return _serviceTracker.getService();
+	}
+
+	private static ServiceTracker<TaskChangeLocalService, TaskChangeLocalService> _serviceTracker =
+		ServiceTrackerFactory.open(TaskChangeLocalService.class);
+}
\ No newline at end of file
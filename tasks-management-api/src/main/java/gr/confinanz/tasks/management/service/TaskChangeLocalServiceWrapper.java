@@ -0,0 +1,302 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package gr.confinanz.tasks.management.service;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.service.ServiceWrapper;
+
+/**
+ * Provides a wrapper for {@link TaskChangeLocalService}.
+ *
+ * @author Abdessamad Ben Taleb
+ * @see TaskChangeLocalService
+ * @generated
+ */
+@ProviderType
+public class TaskChangeLocalServiceWrapper implements TaskChangeLocalService,
+	ServiceWrapper<TaskChangeLocalService> {
+	public TaskChangeLocalServiceWrapper(
+		TaskChangeLocalService taskChangeLocalService) {
+		_taskChangeLocalService = taskChangeLocalService;
+	}
+
+	@Override
+	public com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery getActionableDynamicQuery() {
+		return _taskChangeLocalService.getActionableDynamicQuery();
+	}
+
+	@Override
+	public com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery() {
+		return _taskChangeLocalService.dynamicQuery();
+	}
+
+	@Override
+	public com.liferay.portal.kernel.dao.orm.IndexableActionableDynamicQuery getIndexableActionableDynamicQuery() {
+		return _taskChangeLocalService.getIndexableActionableDynamicQuery();
+	}
+
+	/**
+	* @throws PortalException
+	*/
+	@Override
+	public com.liferay.portal.kernel.model.PersistedModel deletePersistedModel(com.liferay.portal.kernel.model.PersistedModel persistedModel)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _taskChangeLocalService.deletePersistedModel(persistedModel);
+	}
+
+	@Override
+	public com.liferay.portal.kernel.model.PersistedModel getPersistedModel(java.io.Serializable primaryKeyObj)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _taskChangeLocalService.getPersistedModel(primaryKeyObj);
+	}
+
+	/**
+	* Adds the task change to the database. Also notifies the appropriate model listeners.
+	*
+	* @param taskChange the task change
+	* @return the task change that was added
+	*/
+	@Override
+	public gr.confinanz.tasks.management.model.TaskChange addTaskChange(gr.confinanz.tasks.management.model.TaskChange taskChange) {
+		return _taskChangeLocalService.addTaskChange(taskChange);
+	}
+
+	/**
+	* Records a change of the task in the journal, in the transaction of the caller. The change is committed or rolled back with the write of the task.
+	*
+	* <p>
+	* The row of the sequence stays locked until the transaction ends, so a transaction that takes a sequence after another one commits after it, and a consumer never reads past a sequence that is not yet visible. Callers record the change as the last write of their transaction, to hold the lock as briefly as possible.
+	* </p>
+	*
+	* @param task the task that was changed
+	* @param changeType the type of the change
+	* @param fieldMask the bit mask of the fields that were changed
+	*/
+	@Override
+	public void addTaskChange(gr.confinanz.tasks.management.model.Task task, int changeType, long fieldMask) {
+		_taskChangeLocalService.addTaskChange(task, changeType, fieldMask);
+	}
+
+	/**
+	* Creates a new task change with the primary key. Does not add the task change to the database.
+	*
+	* @param taskChangeId the primary key for the new task change
+	* @return the new task change
+	*/
+	@Override
+	public gr.confinanz.tasks.management.model.TaskChange createTaskChange(long taskChangeId) {
+		return _taskChangeLocalService.createTaskChange(taskChangeId);
+	}
+
+	/**
+	* Deletes the task change from the database. Also notifies the appropriate model listeners.
+	*
+	* @param taskChange the task change
+	* @return the task change that was removed
+	*/
+	@Override
+	public gr.confinanz.tasks.management.model.TaskChange deleteTaskChange(gr.confinanz.tasks.management.model.TaskChange taskChange) {
+		return _taskChangeLocalService.deleteTaskChange(taskChange);
+	}
+
+	/**
+	* Deletes the task change with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param taskChangeId the primary key of the task change
+	* @return the task change that was removed
+	* @throws PortalException if a task change with the primary key could not be found
+	*/
+	@Override
+	public gr.confinanz.tasks.management.model.TaskChange deleteTaskChange(long taskChangeId)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _taskChangeLocalService.deleteTaskChange(taskChangeId);
+	}
+
+	@Override
+	public gr.confinanz.tasks.management.model.TaskChange fetchTaskChange(long taskChangeId) {
+		return _taskChangeLocalService.fetchTaskChange(taskChangeId);
+	}
+
+	/**
+	* Returns the task change with the primary key.
+	*
+	* @param taskChangeId the primary key of the task change
+	* @return the task change
+	* @throws PortalException if a task change with the primary key could not be found
+	*/
+	@Override
+	public gr.confinanz.tasks.management.model.TaskChange getTaskChange(long taskChangeId)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _taskChangeLocalService.getTaskChange(taskChangeId);
+	}
+
+	/**
+	* Updates the task change in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	*
+	* @param taskChange the task change
+	* @return the task change that was updated
+	*/
+	@Override
+	public gr.confinanz.tasks.management.model.TaskChange updateTaskChange(gr.confinanz.tasks.management.model.TaskChange taskChange) {
+		return _taskChangeLocalService.updateTaskChange(taskChange);
+	}
+
+	/**
+	* Deletes at most <code>limit</code> task changes created before the date.
+	*
+	* @param createDate the date before which task changes are deleted
+	* @param limit the maximum number of task changes to delete
+	* @return the number of task changes that were deleted
+	*/
+	@Override
+	public int deleteTaskChanges(java.util.Date createDate, int limit) {
+		return _taskChangeLocalService.deleteTaskChanges(createDate, limit);
+	}
+
+	/**
+	* Returns the number of task changes.
+	*
+	* @return the number of task changes
+	*/
+	@Override
+	public int getTaskChangesCount() {
+		return _taskChangeLocalService.getTaskChangesCount();
+	}
+
+	/**
+	* Returns the OSGi service identifier.
+	*
+	* @return the OSGi service identifier
+	*/
+	@Override
+	public java.lang.String getOSGiServiceIdentifier() {
+		return _taskChangeLocalService.getOSGiServiceIdentifier();
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns the matching rows.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the matching rows
+	*/
+	@Override
+	public <T> java.util.List<T> dynamicQuery(com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery) {
+		return _taskChangeLocalService.dynamicQuery(dynamicQuery);
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns a range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link gr.confinanz.tasks.management.model.impl.TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @return the range of matching rows
+	*/
+	@Override
+	public <T> java.util.List<T> dynamicQuery(com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start, int end) {
+		return _taskChangeLocalService.dynamicQuery(dynamicQuery, start, end);
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns an ordered range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link gr.confinanz.tasks.management.model.impl.TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching rows
+	*/
+	@Override
+	public <T> java.util.List<T> dynamicQuery(com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start, int end, com.liferay.portal.kernel.util.OrderByComparator<T> orderByComparator) {
+		return _taskChangeLocalService.dynamicQuery(dynamicQuery, start, end, orderByComparator);
+	}
+
+	/**
+	* Returns the changes of the company with a sequence greater than the given
+	* sequence, in the order of the sequence. Sequences are handed out in
+	* commit order, so a caller never skips past a change that is not yet
+	* visible.
+	*
+	* @param companyId the primary key of the company
+	* @param sequence the sequence of the last change the caller has seen
+	* @param limit the maximum number of changes to return
+	* @return the changes after the sequence
+	*/
+	@Override
+	public java.util.List<gr.confinanz.tasks.management.model.TaskChange> getChangesSince(long companyId, long sequence, int limit) {
+		return _taskChangeLocalService.getChangesSince(companyId, sequence, limit);
+	}
+
+	/**
+	* Returns a range of all the task changes.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link gr.confinanz.tasks.management.model.impl.TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of task changes
+	* @param end the upper bound of the range of task changes (not inclusive)
+	* @return the range of task changes
+	*/
+	@Override
+	public java.util.List<gr.confinanz.tasks.management.model.TaskChange> getTaskChanges(int start, int end) {
+		return _taskChangeLocalService.getTaskChanges(start, end);
+	}
+
+	/**
+	* Returns the number of rows matching the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the number of rows matching the dynamic query
+	*/
+	@Override
+	public long dynamicQueryCount(com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery) {
+		return _taskChangeLocalService.dynamicQueryCount(dynamicQuery);
+	}
+
+	/**
+	* Returns the number of rows matching the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @param projection the projection to apply to the query
+	* @return the number of rows matching the dynamic query
+	*/
+	@Override
+	public long dynamicQueryCount(com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, com.liferay.portal.kernel.dao.orm.Projection projection) {
+		return _taskChangeLocalService.dynamicQueryCount(dynamicQuery, projection);
+	}
+
+	@Override
+	public TaskChangeLocalService getWrappedService() {
+		return _taskChangeLocalService;
+	}
+
+	@Override
+	public void setWrappedService(
+		TaskChangeLocalService taskChangeLocalService) {
+		_taskChangeLocalService = taskChangeLocalService;
+	}
+
+	private TaskChangeLocalService _taskChangeLocalService;
+}
\ No newline at end of file
@@ -175,6 +175,12 @@ public class TaskLocalServiceUtil {
 		return getService().getTaskByUuidAndGroupId(uuid, groupId);
 	}
 
+	public static gr.confinanz.tasks.management.model.Task updateCompleted(
+		long taskId, boolean completed)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().updateCompleted(taskId, completed);
+	}
+
 	/**
 	* Updates the task in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
 	*
@@ -355,6 +361,107 @@ public class TaskLocalServiceUtil {
 		return getService().dynamicQueryCount(dynamicQuery, projection);
 	}
 
+	/**
+	* Returns the tasks with the primary keys, in the order of the primary keys.
+	*
+	* @param taskIds the primary keys of the tasks
+	* @return the tasks, with a <code>null</code> slot for every primary key whose task could not be found
+	*/
+	public static gr.confinanz.tasks.management.model.Task[] fetchTasks(
+		long[] taskIds) {
+		return getService().fetchTasks(taskIds);
+	}
+
+	/**
+	* Returns the primary keys of the tasks of the group with a title word
+	* starting with every word of the query, from the in-memory title index.
+	*
+	* @param groupId the primary key of the group
+	* @param query the words the titles are matched against
+	* @param limit the maximum number of primary keys to return
+	* @return the primary keys of the matching tasks
+	*/
+	public static long[] suggestTaskIds(long groupId, java.lang.String query,
+		int limit) {
+		return getService().suggestTaskIds(groupId, query, limit);
+	}
+
+	/**
+	* Returns the primary keys of the tasks of the group that are likely
+	* duplicates of a task with the title and description, the most similar
+	* first, from the in-memory MinHash index of the group.
+	*
+	* @param groupId the primary key of the group
+	* @param title the title of the task
+	* @param description the description of the task
+	* @param limit the maximum number of primary keys to return
+	* @return the primary keys of the likely duplicates
+	*/
+	public static long[] getSimilarTaskIds(long groupId,
+		java.lang.String title, java.lang.String description, int limit) {
+		return getService()
+				   .getSimilarTaskIds(groupId, title, description, limit);
+	}
+
+	/**
+	* Returns a page of the tasks of the group in the order of their
+	* expiration dates and primary keys, starting after the cursor. The page
+	* is found through the index on the group, expiration date and primary
+	* key, so a page deep into a large group costs as much as the first one.
+	*
+	* @param groupId the primary key of the group
+	* @param completed whether the tasks are completed, or <code>null</code> for all the tasks
+	* @param ascending whether the earliest expiration date comes first
+	* @param cursorExpirationDate the expiration date of the last task of the previous page, or <code>null</code> for the first page or if that task has none
+	* @param cursorTaskId the primary key of the last task of the previous page, or <code>0</code> for the first page
+	* @param limit the maximum number of tasks to return
+	* @return the tasks of the page
+	*/
+	public static java.util.List<gr.confinanz.tasks.management.model.Task> getTasksAfter(
+		long groupId, java.lang.Boolean completed, boolean ascending,
+		java.util.Date cursorExpirationDate, long cursorTaskId, int limit) {
+		return getService()
+				   .getTasksAfter(groupId, completed, ascending,
+			cursorExpirationDate, cursorTaskId, limit);
+	}
+
+	/**
+	* Returns a page of the tasks of a column of the task board of the group,
+	* in the order of their expiration dates and primary keys, starting after
+	* the cursor.
+	*
+	* @param groupId the primary key of the group
+	* @param status the workflow status of the tasks
+	* @param completed whether the tasks are completed
+	* @param ascending whether the earliest expiration date comes first
+	* @param cursorExpirationDate the expiration date of the last task of the previous page, or <code>null</code> for the first page or if that task has none
+	* @param cursorTaskId the primary key of the last task of the previous page, or <code>0</code> for the first page
+	* @param limit the maximum number of tasks to return
+	* @return the tasks of the page
+	*/
+	public static java.util.List<gr.confinanz.tasks.management.model.Task> getTasksAfter(
+		long groupId, int status, boolean completed, boolean ascending,
+		java.util.Date cursorExpirationDate, long cursorTaskId, int limit) {
+		return getService()
+				   .getTasksAfter(groupId, status, completed, ascending,
+			cursorExpirationDate, cursorTaskId, limit);
+	}
+
+	/**
+	* Returns the columns of the task board of the group, one for each
+	* workflow status and completed flag that tasks of the group have, with
+	* the first cards of each column. The counts come from one grouped query,
+	* and the columns that fit in a page are read whole with one more query.
+	*
+	* @param groupId the primary key of the group
+	* @param cardsCount the maximum number of cards of each column
+	* @return the columns of the task board
+	*/
+	public static java.util.List<gr.confinanz.tasks.management.util.TaskBoardColumn> getTaskBoardColumns(
+		long groupId, int cardsCount) {
+		return getService().getTaskBoardColumns(groupId, cardsCount);
+	}
+
 	public static void deleteGroupTasks(long companyId, long groupId)
 		throws com.liferay.portal.kernel.exception.PortalException {
 		getService().deleteGroupTasks(companyId, groupId);
@@ -375,6 +482,19 @@ public class TaskLocalServiceUtil {
 			assetLinkEntryIds, priority);
 	}
 
+	/**
+	* Copies the current full names of the users to the tasks assigned to
+	* them. The users are loaded with one query and every user costs one
+	* update statement, whatever the number of its tasks. The tasks are then
+	* dropped from the caches and reindexed.
+	*
+	* @param taskUserIds the primary keys of the renamed users
+	*/
+	public static void updateTaskUserNames(long[] taskUserIds)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		getService().updateTaskUserNames(taskUserIds);
+	}
+
 	public static TaskLocalService getService() {
 		return _serviceTracker.getService();
 	}
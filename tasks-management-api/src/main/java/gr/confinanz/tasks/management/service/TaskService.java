@@ -28,6 +28,7 @@ import com.liferay.portal.kernel.transaction.Propagation;
 import com.liferay.portal.kernel.transaction.Transactional;
 
 import gr.confinanz.tasks.management.model.Task;
+import gr.confinanz.tasks.management.model.TaskChange;
 
 import java.util.List;
 
@@ -62,9 +63,36 @@ public interface TaskService extends BaseService {
 
 	public Task deleteTask(long taskId) throws PortalException;
 
+	/**
+	* Returns the tasks with the primary keys that the current user can view,
+	* in the order of the primary keys.
+	*
+	* @param taskIds the primary keys of the tasks
+	* @return the tasks, with a <code>null</code> slot for every primary key whose task could not be found or viewed
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public Task[] fetchTasks(long[] taskIds) throws PortalException;
+
+	/**
+	* Returns the changes of the company with a sequence greater than the given
+	* sequence, in the order of the sequence. Only company administrators can
+	* read the change journal.
+	*
+	* @param companyId the primary key of the company
+	* @param sequence the sequence of the last change the caller has seen
+	* @param limit the maximum number of changes to return
+	* @return the changes after the sequence
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public List<TaskChange> getChangesSince(long companyId, long sequence,
+		int limit) throws PortalException;
+
 	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public Task getTask(long taskId) throws PortalException;
 
+	public Task updateCompleted(long taskId, boolean completed)
+		throws PortalException;
+
 	public Task updateTask(long taskId, java.lang.String title,
 		java.lang.String description, int expirationDateMonth,
 		int expirationDateDay, int expirationDateYear, long taskUserId,
@@ -90,4 +118,85 @@ public interface TaskService extends BaseService {
 	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public List<Task> getTasks(long companyId, long groupId, int status,
 		int start, int end);
+
+	/**
+	* Returns the tasks of the group that the current user can view and that
+	* have a title word starting with every word of the query.
+	*
+	* @param groupId the primary key of the group
+	* @param query the words the titles are matched against
+	* @param limit the maximum number of tasks to return
+	* @return the matching tasks
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public List<Task> suggestTasks(long groupId, java.lang.String query,
+		int limit) throws PortalException;
+
+	/**
+	* Returns the tasks of the group that the current user can view and that
+	* are likely duplicates of a task with the title and description, the most
+	* similar first.
+	*
+	* @param groupId the primary key of the group
+	* @param title the title of the task
+	* @param description the description of the task
+	* @param limit the maximum number of tasks to return
+	* @return the likely duplicates
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public List<Task> getSimilarTasks(long groupId, java.lang.String title,
+		java.lang.String description, int limit) throws PortalException;
+
+	/**
+	* Returns a page of the tasks of the group that the current user can
+	* view, in the order of their expiration dates and primary keys, starting
+	* after the cursor.
+	*
+	* @param groupId the primary key of the group
+	* @param completed whether the tasks are completed, or <code>null</code> for all the tasks
+	* @param ascending whether the earliest expiration date comes first
+	* @param cursorExpirationDate the expiration date of the last task of the previous page, or <code>null</code> for the first page or if that task has none
+	* @param cursorTaskId the primary key of the last task of the previous page, or <code>0</code> for the first page
+	* @param limit the maximum number of tasks to return
+	* @return the tasks of the page
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public List<Task> getTasksAfter(long groupId, java.lang.Boolean completed,
+		boolean ascending, java.util.Date cursorExpirationDate,
+		long cursorTaskId, int limit) throws PortalException;
+
+	/**
+	* Returns a page of the tasks of a column of the task board of the group
+	* that the current user can view, in the order of their expiration dates
+	* and primary keys, starting after the cursor.
+	*
+	* @param groupId the primary key of the group
+	* @param status the workflow status of the tasks
+	* @param completed whether the tasks are completed
+	* @param ascending whether the earliest expiration date comes first
+	* @param cursorExpirationDate the expiration date of the last task of the previous page, or <code>null</code> for the first page or if that task has none
+	* @param cursorTaskId the primary key of the last task of the previous page, or <code>0</code> for the first page
+	* @param limit the maximum number of tasks to return
+	* @return the tasks of the page
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public List<Task> getTasksAfter(long groupId, int status,
+		boolean completed, boolean ascending,
+		java.util.Date cursorExpirationDate, long cursorTaskId, int limit)
+		throws PortalException;
+
+	/**
+	* Returns the columns of the task board of the group, one for each
+	* workflow status and completed flag that tasks of the group have, with
+	* the first cards of each column that the current user can view. The
+	* counts of the columns include the tasks the user cannot view, so they
+	* are <code>-1</code> unless the user is a group administrator.
+	*
+	* @param groupId the primary key of the group
+	* @param cardsCount the maximum number of cards of each column
+	* @return the columns of the task board
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public List<gr.confinanz.tasks.management.util.TaskBoardColumn> getTaskBoardColumns(
+		long groupId, int cardsCount) throws PortalException;
 }
\ No newline at end of file
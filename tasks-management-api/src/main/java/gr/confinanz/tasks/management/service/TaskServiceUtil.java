@@ -58,11 +58,46 @@ public class TaskServiceUtil {
 		return getService().deleteTask(taskId);
 	}
 
+	/**
+	* Returns the tasks with the primary keys that the current user can view,
+	* in the order of the primary keys.
+	*
+	* @param taskIds the primary keys of the tasks
+	* @return the tasks, with a <code>null</code> slot for every primary key whose task could not be found or viewed
+	*/
+	public static gr.confinanz.tasks.management.model.Task[] fetchTasks(
+		long[] taskIds)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().fetchTasks(taskIds);
+	}
+
+	/**
+	* Returns the changes of the company with a sequence greater than the given
+	* sequence, in the order of the sequence. Only company administrators can
+	* read the change journal.
+	*
+	* @param companyId the primary key of the company
+	* @param sequence the sequence of the last change the caller has seen
+	* @param limit the maximum number of changes to return
+	* @return the changes after the sequence
+	*/
+	public static java.util.List<gr.confinanz.tasks.management.model.TaskChange> getChangesSince(
+		long companyId, long sequence, int limit)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().getChangesSince(companyId, sequence, limit);
+	}
+
 	public static gr.confinanz.tasks.management.model.Task getTask(long taskId)
 		throws com.liferay.portal.kernel.exception.PortalException {
 		return getService().getTask(taskId);
 	}
 
+	public static gr.confinanz.tasks.management.model.Task updateCompleted(
+		long taskId, boolean completed)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().updateCompleted(taskId, completed);
+	}
+
 	public static gr.confinanz.tasks.management.model.Task updateTask(
 		long taskId, java.lang.String title, java.lang.String description,
 		int expirationDateMonth, int expirationDateDay, int expirationDateYear,
@@ -102,6 +137,100 @@ public class TaskServiceUtil {
 		return getService().getTasks(companyId, groupId, status, start, end);
 	}
 
+	/**
+	* Returns the tasks of the group that the current user can view and that
+	* have a title word starting with every word of the query.
+	*
+	* @param groupId the primary key of the group
+	* @param query the words the titles are matched against
+	* @param limit the maximum number of tasks to return
+	* @return the matching tasks
+	*/
+	public static java.util.List<gr.confinanz.tasks.management.model.Task> suggestTasks(
+		long groupId, java.lang.String query, int limit)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().suggestTasks(groupId, query, limit);
+	}
+
+	/**
+	* Returns the tasks of the group that the current user can view and that
+	* are likely duplicates of a task with the title and description, the most
+	* similar first.
+	*
+	* @param groupId the primary key of the group
+	* @param title the title of the task
+	* @param description the description of the task
+	* @param limit the maximum number of tasks to return
+	* @return the likely duplicates
+	*/
+	public static java.util.List<gr.confinanz.tasks.management.model.Task> getSimilarTasks(
+		long groupId, java.lang.String title, java.lang.String description,
+		int limit) throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().getSimilarTasks(groupId, title, description, limit);
+	}
+
+	/**
+	* Returns a page of the tasks of the group that the current user can
+	* view, in the order of their expiration dates and primary keys, starting
+	* after the cursor.
+	*
+	* @param groupId the primary key of the group
+	* @param completed whether the tasks are completed, or <code>null</code> for all the tasks
+	* @param ascending whether the earliest expiration date comes first
+	* @param cursorExpirationDate the expiration date of the last task of the previous page, or <code>null</code> for the first page or if that task has none
+	* @param cursorTaskId the primary key of the last task of the previous page, or <code>0</code> for the first page
+	* @param limit the maximum number of tasks to return
+	* @return the tasks of the page
+	*/
+	public static java.util.List<gr.confinanz.tasks.management.model.Task> getTasksAfter(
+		long groupId, java.lang.Boolean completed, boolean ascending,
+		java.util.Date cursorExpirationDate, long cursorTaskId, int limit)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService()
+				   .getTasksAfter(groupId, completed, ascending,
+			cursorExpirationDate, cursorTaskId, limit);
+	}
+
+	/**
+	* Returns a page of the tasks of a column of the task board of the group
+	* that the current user can view, in the order of their expiration dates
+	* and primary keys, starting after the cursor.
+	*
+	* @param groupId the primary key of the group
+	* @param status the workflow status of the tasks
+	* @param completed whether the tasks are completed
+	* @param ascending whether the earliest expiration date comes first
+	* @param cursorExpirationDate the expiration date of the last task of the previous page, or <code>null</code> for the first page or if that task has none
+	* @param cursorTaskId the primary key of the last task of the previous page, or <code>0</code> for the first page
+	* @param limit the maximum number of tasks to return
+	* @return the tasks of the page
+	*/
+	public static java.util.List<gr.confinanz.tasks.management.model.Task> getTasksAfter(
+		long groupId, int status, boolean completed, boolean ascending,
+		java.util.Date cursorExpirationDate, long cursorTaskId, int limit)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService()
+				   .getTasksAfter(groupId, status, completed, ascending,
+			cursorExpirationDate, cursorTaskId, limit);
+	}
+
+	/**
+	* Returns the columns of the task board of the group, one for each
+	* workflow status and completed flag that tasks of the group have, with
+	* the first cards of each column that the current user can view. The
+	* counts of the columns include the tasks the user cannot view, so they
+	* are <code>-1</code> unless the user is a group administrator.
+	*
+	* @param groupId the primary key of the group
+	* @param cardsCount the maximum number of cards of each column
+	* @return the columns of the task board
+	*/
+	public static java.util.List<gr.confinanz.tasks.management.util.TaskBoardColumn> getTaskBoardColumns(
+		long groupId, int cardsCount)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().getTaskBoardColumns(groupId, cardsCount);
+	}
+
 	public static TaskService getService() {
 		return _serviceTracker.getService();
 	}
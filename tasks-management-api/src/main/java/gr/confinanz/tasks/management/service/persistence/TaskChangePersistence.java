@@ -0,0 +1,418 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package gr.confinanz.tasks.management.service.persistence;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.service.persistence.BasePersistence;
+
+import gr.confinanz.tasks.management.exception.NoSuchTaskChangeException;
+import gr.confinanz.tasks.management.model.TaskChange;
+
+/**
+ * The persistence interface for the task change service.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ * @see gr.confinanz.tasks.management.service.persistence.impl.TaskChangePersistenceImpl
+ * @see TaskChangeUtil
+ * @generated
+ */
+@ProviderType
+public interface TaskChangePersistence extends BasePersistence<TaskChange> {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this interface directly. Always use {@link TaskChangeUtil} to access the task change persistence. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this interface.
+	 */
+
+	/**
+	* Returns all the task changes where companyId = &#63;.
+	*
+	* @param companyId the company ID
+	* @return the matching task changes
+	*/
+	public java.util.List<TaskChange> findByCompanyId(long companyId);
+
+	/**
+	* Returns a range of all the task changes where companyId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param start the lower bound of the range of task changes
+	* @param end the upper bound of the range of task changes (not inclusive)
+	* @return the range of matching task changes
+	*/
+	public java.util.List<TaskChange> findByCompanyId(long companyId, int start, int end);
+
+	/**
+	* Returns an ordered range of all the task changes where companyId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param start the lower bound of the range of task changes
+	* @param end the upper bound of the range of task changes (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching task changes
+	*/
+	public java.util.List<TaskChange> findByCompanyId(long companyId, int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<TaskChange> orderByComparator);
+
+	/**
+	* Returns an ordered range of all the task changes where companyId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param start the lower bound of the range of task changes
+	* @param end the upper bound of the range of task changes (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of matching task changes
+	*/
+	public java.util.List<TaskChange> findByCompanyId(long companyId, int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<TaskChange> orderByComparator,
+		boolean retrieveFromCache);
+
+	/**
+	* Returns the first task change in the ordered set where companyId = &#63;.
+	*
+	* @param companyId the company ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching task change
+	* @throws NoSuchTaskChangeException if a matching task change could not be found
+	*/
+	public TaskChange findByCompanyId_First(long companyId,
+		com.liferay.portal.kernel.util.OrderByComparator<TaskChange> orderByComparator)
+		throws NoSuchTaskChangeException;
+
+	/**
+	* Returns the first task change in the ordered set where companyId = &#63;.
+	*
+	* @param companyId the company ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching task change, or <code>null</code> if a matching task change could not be found
+	*/
+	public TaskChange fetchByCompanyId_First(long companyId,
+		com.liferay.portal.kernel.util.OrderByComparator<TaskChange> orderByComparator);
+
+	/**
+	* Returns the last task change in the ordered set where companyId = &#63;.
+	*
+	* @param companyId the company ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching task change
+	* @throws NoSuchTaskChangeException if a matching task change could not be found
+	*/
+	public TaskChange findByCompanyId_Last(long companyId,
+		com.liferay.portal.kernel.util.OrderByComparator<TaskChange> orderByComparator)
+		throws NoSuchTaskChangeException;
+
+	/**
+	* Returns the last task change in the ordered set where companyId = &#63;.
+	*
+	* @param companyId the company ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching task change, or <code>null</code> if a matching task change could not be found
+	*/
+	public TaskChange fetchByCompanyId_Last(long companyId,
+		com.liferay.portal.kernel.util.OrderByComparator<TaskChange> orderByComparator);
+
+	/**
+	* Returns the task changes before and after the current task change in the ordered set where companyId = &#63;.
+	*
+	* @param taskChangeId the primary key of the current task change
+	* @param companyId the company ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next task change
+	* @throws NoSuchTaskChangeException if a task change with the primary key could not be found
+	*/
+	public TaskChange[] findByCompanyId_PrevAndNext(long taskChangeId, long companyId,
+		com.liferay.portal.kernel.util.OrderByComparator<TaskChange> orderByComparator)
+		throws NoSuchTaskChangeException;
+
+	/**
+	* Removes all the task changes where companyId = &#63; from the database.
+	*
+	* @param companyId the company ID
+	*/
+	public void removeByCompanyId(long companyId);
+
+	/**
+	* Returns the number of task changes where companyId = &#63;.
+	*
+	* @param companyId the company ID
+	* @return the number of matching task changes
+	*/
+	public int countByCompanyId(long companyId);
+
+	/**
+	* Returns all the task changes where createDate &lt; &#63;.
+	*
+	* @param createDate the create date
+	* @return the matching task changes
+	*/
+	public java.util.List<TaskChange> findByLtCreateDate(java.util.Date createDate);
+
+	/**
+	* Returns a range of all the task changes where createDate &lt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param createDate the create date
+	* @param start the lower bound of the range of task changes
+	* @param end the upper bound of the range of task changes (not inclusive)
+	* @return the range of matching task changes
+	*/
+	public java.util.List<TaskChange> findByLtCreateDate(java.util.Date createDate, int start, int end);
+
+	/**
+	* Returns an ordered range of all the task changes where createDate &lt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param createDate the create date
+	* @param start the lower bound of the range of task changes
+	* @param end the upper bound of the range of task changes (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching task changes
+	*/
+	public java.util.List<TaskChange> findByLtCreateDate(java.util.Date createDate, int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<TaskChange> orderByComparator);
+
+	/**
+	* Returns an ordered range of all the task changes where createDate &lt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param createDate the create date
+	* @param start the lower bound of the range of task changes
+	* @param end the upper bound of the range of task changes (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of matching task changes
+	*/
+	public java.util.List<TaskChange> findByLtCreateDate(java.util.Date createDate, int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<TaskChange> orderByComparator,
+		boolean retrieveFromCache);
+
+	/**
+	* Returns the first task change in the ordered set where createDate &lt; &#63;.
+	*
+	* @param createDate the create date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching task change
+	* @throws NoSuchTaskChangeException if a matching task change could not be found
+	*/
+	public TaskChange findByLtCreateDate_First(java.util.Date createDate,
+		com.liferay.portal.kernel.util.OrderByComparator<TaskChange> orderByComparator)
+		throws NoSuchTaskChangeException;
+
+	/**
+	* Returns the first task change in the ordered set where createDate &lt; &#63;.
+	*
+	* @param createDate the create date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching task change, or <code>null</code> if a matching task change could not be found
+	*/
+	public TaskChange fetchByLtCreateDate_First(java.util.Date createDate,
+		com.liferay.portal.kernel.util.OrderByComparator<TaskChange> orderByComparator);
+
+	/**
+	* Returns the last task change in the ordered set where createDate &lt; &#63;.
+	*
+	* @param createDate the create date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching task change
+	* @throws NoSuchTaskChangeException if a matching task change could not be found
+	*/
+	public TaskChange findByLtCreateDate_Last(java.util.Date createDate,
+		com.liferay.portal.kernel.util.OrderByComparator<TaskChange> orderByComparator)
+		throws NoSuchTaskChangeException;
+
+	/**
+	* Returns the last task change in the ordered set where createDate &lt; &#63;.
+	*
+	* @param createDate the create date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching task change, or <code>null</code> if a matching task change could not be found
+	*/
+	public TaskChange fetchByLtCreateDate_Last(java.util.Date createDate,
+		com.liferay.portal.kernel.util.OrderByComparator<TaskChange> orderByComparator);
+
+	/**
+	* Returns the task changes before and after the current task change in the ordered set where createDate &lt; &#63;.
+	*
+	* @param taskChangeId the primary key of the current task change
+	* @param createDate the create date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next task change
+	* @throws NoSuchTaskChangeException if a task change with the primary key could not be found
+	*/
+	public TaskChange[] findByLtCreateDate_PrevAndNext(long taskChangeId, java.util.Date createDate,
+		com.liferay.portal.kernel.util.OrderByComparator<TaskChange> orderByComparator)
+		throws NoSuchTaskChangeException;
+
+	/**
+	* Removes all the task changes where createDate &lt; &#63; from the database.
+	*
+	* @param createDate the create date
+	*/
+	public void removeByLtCreateDate(java.util.Date createDate);
+
+	/**
+	* Returns the number of task changes where createDate &lt; &#63;.
+	*
+	* @param createDate the create date
+	* @return the number of matching task changes
+	*/
+	public int countByLtCreateDate(java.util.Date createDate);
+
+	/**
+	* Caches the task change in the entity cache if it is enabled.
+	*
+	* @param taskChange the task change
+	*/
+	public void cacheResult(TaskChange taskChange);
+
+	/**
+	* Caches the task changes in the entity cache if it is enabled.
+	*
+	* @param taskChanges the task changes
+	*/
+	public void cacheResult(java.util.List<TaskChange> taskChanges);
+
+	/**
+	* Creates a new task change with the primary key. Does not add the task change to the database.
+	*
+	* @param taskChangeId the primary key for the new task change
+	* @return the new task change
+	*/
+	public TaskChange create(long taskChangeId);
+
+	/**
+	* Removes the task change with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param taskChangeId the primary key of the task change
+	* @return the task change that was removed
+	* @throws NoSuchTaskChangeException if a task change with the primary key could not be found
+	*/
+	public TaskChange remove(long taskChangeId) throws NoSuchTaskChangeException;
+
+	public TaskChange updateImpl(TaskChange taskChange);
+
+	/**
+	* Returns the task change with the primary key or throws a {@link NoSuchTaskChangeException} if it could not be found.
+	*
+	* @param taskChangeId the primary key of the task change
+	* @return the task change
+	* @throws NoSuchTaskChangeException if a task change with the primary key could not be found
+	*/
+	public TaskChange findByPrimaryKey(long taskChangeId)
+		throws NoSuchTaskChangeException;
+
+	/**
+	* Returns the task change with the primary key or returns <code>null</code> if it could not be found.
+	*
+	* @param taskChangeId the primary key of the task change
+	* @return the task change, or <code>null</code> if a task change with the primary key could not be found
+	*/
+	public TaskChange fetchByPrimaryKey(long taskChangeId);
+
+	@Override
+	public java.util.Map<java.io.Serializable, TaskChange> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys);
+
+	/**
+	* Returns all the task changes.
+	*
+	* @return the task changes
+	*/
+	public java.util.List<TaskChange> findAll();
+
+	/**
+	* Returns a range of all the task changes.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of task changes
+	* @param end the upper bound of the range of task changes (not inclusive)
+	* @return the range of task changes
+	*/
+	public java.util.List<TaskChange> findAll(int start, int end);
+
+	/**
+	* Returns an ordered range of all the task changes.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of task changes
+	* @param end the upper bound of the range of task changes (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of task changes
+	*/
+	public java.util.List<TaskChange> findAll(int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<TaskChange> orderByComparator);
+
+	/**
+	* Returns an ordered range of all the task changes.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of task changes
+	* @param end the upper bound of the range of task changes (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of task changes
+	*/
+	public java.util.List<TaskChange> findAll(int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<TaskChange> orderByComparator,
+		boolean retrieveFromCache);
+
+	/**
+	* Removes all the task changes from the database.
+	*/
+	public void removeAll();
+
+	/**
+	* Returns the number of task changes.
+	*
+	* @return the number of task changes
+	*/
+	public int countAll();
+}
\ No newline at end of file
@@ -0,0 +1,565 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package gr.confinanz.tasks.management.service.persistence;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.osgi.util.ServiceTrackerFactory;
+
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.service.ServiceContext;
+import com.liferay.portal.kernel.util.OrderByComparator;
+
+import gr.confinanz.tasks.management.model.TaskChange;
+
+import org.osgi.util.tracker.ServiceTracker;
+
+import java.util.List;
+
+/**
+ * The persistence utility for the task change service. This utility wraps {@link gr.confinanz.tasks.management.service.persistence.impl.TaskChangePersistenceImpl} and provides direct access to the database for CRUD operations. This utility should only be used by the service layer, as it must operate within a transaction. Never access this utility in a JSP, controller, model, or other front-end class.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ * @see TaskChangePersistence
+ * @see gr.confinanz.tasks.management.service.persistence.impl.TaskChangePersistenceImpl
+ * @generated
+ */
+@ProviderType
+public class TaskChangeUtil {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify this class directly. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this class.
+	 */
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#clearCache()
+	 */
+	public static void clearCache() {
+		getPersistence().clearCache();
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#clearCache(com.liferay.portal.kernel.model.BaseModel)
+	 */
+	public static void clearCache(TaskChange taskChange) {
+		getPersistence().clearCache(taskChange);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#countWithDynamicQuery(DynamicQuery)
+	 */
+	public static long countWithDynamicQuery(DynamicQuery dynamicQuery) {
+		return getPersistence().countWithDynamicQuery(dynamicQuery);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery)
+	 */
+	public static List<TaskChange> findWithDynamicQuery(DynamicQuery dynamicQuery) {
+		return getPersistence().findWithDynamicQuery(dynamicQuery);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery, int, int)
+	 */
+	public static List<TaskChange> findWithDynamicQuery(
+		DynamicQuery dynamicQuery, int start, int end) {
+		return getPersistence().findWithDynamicQuery(dynamicQuery, start, end);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery, int, int, OrderByComparator)
+	 */
+	public static List<TaskChange> findWithDynamicQuery(
+		DynamicQuery dynamicQuery, int start, int end,
+		OrderByComparator<TaskChange> orderByComparator) {
+		return getPersistence()
+				   .findWithDynamicQuery(dynamicQuery, start, end,
+			orderByComparator);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#update(com.liferay.portal.kernel.model.BaseModel)
+	 */
+	public static TaskChange update(TaskChange taskChange) {
+		return getPersistence().update(taskChange);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#update(com.liferay.portal.kernel.model.BaseModel, ServiceContext)
+	 */
+	public static TaskChange update(TaskChange taskChange, ServiceContext serviceContext) {
+		return getPersistence().update(taskChange, serviceContext);
+	}
+
+	/**
+	* Returns all the task changes where companyId = &#63;.
+	*
+	* @param companyId the company ID
+	* @return the matching task changes
+	*/
+	public static List<TaskChange> findByCompanyId(long companyId) {
+		return getPersistence().findByCompanyId(companyId);
+	}
+
+	/**
+	* Returns a range of all the task changes where companyId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param start the lower bound of the range of task changes
+	* @param end the upper bound of the range of task changes (not inclusive)
+	* @return the range of matching task changes
+	*/
+	public static List<TaskChange> findByCompanyId(long companyId, int start, int end) {
+		return getPersistence().findByCompanyId(companyId, start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the task changes where companyId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param start the lower bound of the range of task changes
+	* @param end the upper bound of the range of task changes (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching task changes
+	*/
+	public static List<TaskChange> findByCompanyId(long companyId, int start, int end,
+		OrderByComparator<TaskChange> orderByComparator) {
+		return getPersistence().findByCompanyId(companyId, start, end, orderByComparator);
+	}
+
+	/**
+	* Returns an ordered range of all the task changes where companyId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param start the lower bound of the range of task changes
+	* @param end the upper bound of the range of task changes (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of matching task changes
+	*/
+	public static List<TaskChange> findByCompanyId(long companyId, int start, int end,
+		OrderByComparator<TaskChange> orderByComparator,
+		boolean retrieveFromCache) {
+		return getPersistence().findByCompanyId(companyId, start, end, orderByComparator, retrieveFromCache);
+	}
+
+	/**
+	* Returns the first task change in the ordered set where companyId = &#63;.
+	*
+	* @param companyId the company ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching task change
+	* @throws NoSuchTaskChangeException if a matching task change could not be found
+	*/
+	public static TaskChange findByCompanyId_First(long companyId,
+		OrderByComparator<TaskChange> orderByComparator)
+		throws gr.confinanz.tasks.management.exception.NoSuchTaskChangeException {
+		return getPersistence().findByCompanyId_First(companyId, orderByComparator);
+	}
+
+	/**
+	* Returns the first task change in the ordered set where companyId = &#63;.
+	*
+	* @param companyId the company ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching task change, or <code>null</code> if a matching task change could not be found
+	*/
+	public static TaskChange fetchByCompanyId_First(long companyId,
+		OrderByComparator<TaskChange> orderByComparator) {
+		return getPersistence().fetchByCompanyId_First(companyId, orderByComparator);
+	}
+
+	/**
+	* Returns the last task change in the ordered set where companyId = &#63;.
+	*
+	* @param companyId the company ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching task change
+	* @throws NoSuchTaskChangeException if a matching task change could not be found
+	*/
+	public static TaskChange findByCompanyId_Last(long companyId,
+		OrderByComparator<TaskChange> orderByComparator)
+		throws gr.confinanz.tasks.management.exception.NoSuchTaskChangeException {
+		return getPersistence().findByCompanyId_Last(companyId, orderByComparator);
+	}
+
+	/**
+	* Returns the last task change in the ordered set where companyId = &#63;.
+	*
+	* @param companyId the company ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching task change, or <code>null</code> if a matching task change could not be found
+	*/
+	public static TaskChange fetchByCompanyId_Last(long companyId,
+		OrderByComparator<TaskChange> orderByComparator) {
+		return getPersistence().fetchByCompanyId_Last(companyId, orderByComparator);
+	}
+
+	/**
+	* Returns the task changes before and after the current task change in the ordered set where companyId = &#63;.
+	*
+	* @param taskChangeId the primary key of the current task change
+	* @param companyId the company ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next task change
+	* @throws NoSuchTaskChangeException if a task change with the primary key could not be found
+	*/
+	public static TaskChange[] findByCompanyId_PrevAndNext(long taskChangeId, long companyId,
+		OrderByComparator<TaskChange> orderByComparator)
+		throws gr.confinanz.tasks.management.exception.NoSuchTaskChangeException {
+		return getPersistence().findByCompanyId_PrevAndNext(taskChangeId, companyId, orderByComparator);
+	}
+
+	/**
+	* Removes all the task changes where companyId = &#63; from the database.
+	*
+	* @param companyId the company ID
+	*/
+	public static void removeByCompanyId(long companyId) {
+		getPersistence().removeByCompanyId(companyId);
+	}
+
+	/**
+	* Returns the number of task changes where companyId = &#63;.
+	*
+	* @param companyId the company ID
+	* @return the number of matching task changes
+	*/
+	public static int countByCompanyId(long companyId) {
+		return getPersistence().countByCompanyId(companyId);
+	}
+
+	/**
+	* Returns all the task changes where createDate &lt; &#63;.
+	*
+	* @param createDate the create date
+	* @return the matching task changes
+	*/
+	public static List<TaskChange> findByLtCreateDate(java.util.Date createDate) {
+		return getPersistence().findByLtCreateDate(createDate);
+	}
+
+	/**
+	* Returns a range of all the task changes where createDate &lt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param createDate the create date
+	* @param start the lower bound of the range of task changes
+	* @param end the upper bound of the range of task changes (not inclusive)
+	* @return the range of matching task changes
+	*/
+	public static List<TaskChange> findByLtCreateDate(java.util.Date createDate, int start, int end) {
+		return getPersistence().findByLtCreateDate(createDate, start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the task changes where createDate &lt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param createDate the create date
+	* @param start the lower bound of the range of task changes
+	* @param end the upper bound of the range of task changes (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching task changes
+	*/
+	public static List<TaskChange> findByLtCreateDate(java.util.Date createDate, int start, int end,
+		OrderByComparator<TaskChange> orderByComparator) {
+		return getPersistence().findByLtCreateDate(createDate, start, end, orderByComparator);
+	}
+
+	/**
+	* Returns an ordered range of all the task changes where createDate &lt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param createDate the create date
+	* @param start the lower bound of the range of task changes
+	* @param end the upper bound of the range of task changes (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of matching task changes
+	*/
+	public static List<TaskChange> findByLtCreateDate(java.util.Date createDate, int start, int end,
+		OrderByComparator<TaskChange> orderByComparator,
+		boolean retrieveFromCache) {
+		return getPersistence().findByLtCreateDate(createDate, start, end, orderByComparator, retrieveFromCache);
+	}
+
+	/**
+	* Returns the first task change in the ordered set where createDate &lt; &#63;.
+	*
+	* @param createDate the create date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching task change
+	* @throws NoSuchTaskChangeException if a matching task change could not be found
+	*/
+	public static TaskChange findByLtCreateDate_First(java.util.Date createDate,
+		OrderByComparator<TaskChange> orderByComparator)
+		throws gr.confinanz.tasks.management.exception.NoSuchTaskChangeException {
+		return getPersistence().findByLtCreateDate_First(createDate, orderByComparator);
+	}
+
+	/**
+	* Returns the first task change in the ordered set where createDate &lt; &#63;.
+	*
+	* @param createDate the create date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching task change, or <code>null</code> if a matching task change could not be found
+	*/
+	public static TaskChange fetchByLtCreateDate_First(java.util.Date createDate,
+		OrderByComparator<TaskChange> orderByComparator) {
+		return getPersistence().fetchByLtCreateDate_First(createDate, orderByComparator);
+	}
+
+	/**
+	* Returns the last task change in the ordered set where createDate &lt; &#63;.
+	*
+	* @param createDate the create date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching task change
+	* @throws NoSuchTaskChangeException if a matching task change could not be found
+	*/
+	public static TaskChange findByLtCreateDate_Last(java.util.Date createDate,
+		OrderByComparator<TaskChange> orderByComparator)
+		throws gr.confinanz.tasks.management.exception.NoSuchTaskChangeException {
+		return getPersistence().findByLtCreateDate_Last(createDate, orderByComparator);
+	}
+
+	/**
+	* Returns the last task change in the ordered set where createDate &lt; &#63;.
+	*
+	* @param createDate the create date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching task change, or <code>null</code> if a matching task change could not be found
+	*/
+	public static TaskChange fetchByLtCreateDate_Last(java.util.Date createDate,
+		OrderByComparator<TaskChange> orderByComparator) {
+		return getPersistence().fetchByLtCreateDate_Last(createDate, orderByComparator);
+	}
+
+	/**
+	* Returns the task changes before and after the current task change in the ordered set where createDate &lt; &#63;.
+	*
+	* @param taskChangeId the primary key of the current task change
+	* @param createDate the create date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next task change
+	* @throws NoSuchTaskChangeException if a task change with the primary key could not be found
+	*/
+	public static TaskChange[] findByLtCreateDate_PrevAndNext(long taskChangeId, java.util.Date createDate,
+		OrderByComparator<TaskChange> orderByComparator)
+		throws gr.confinanz.tasks.management.exception.NoSuchTaskChangeException {
+		return getPersistence().findByLtCreateDate_PrevAndNext(taskChangeId, createDate, orderByComparator);
+	}
+
+	/**
+	* Removes all the task changes where createDate &lt; &#63; from the database.
+	*
+	* @param createDate the create date
+	*/
+	public static void removeByLtCreateDate(java.util.Date createDate) {
+		getPersistence().removeByLtCreateDate(createDate);
+	}
+
+	/**
+	* Returns the number of task changes where createDate &lt; &#63;.
+	*
+	* @param createDate the create date
+	* @return the number of matching task changes
+	*/
+	public static int countByLtCreateDate(java.util.Date createDate) {
+		return getPersistence().countByLtCreateDate(createDate);
+	}
+
+	/**
+	* Caches the task change in the entity cache if it is enabled.
+	*
+	* @param taskChange the task change
+	*/
+	public static void cacheResult(TaskChange taskChange) {
+		getPersistence().cacheResult(taskChange);
+	}
+
+	/**
+	* Caches the task changes in the entity cache if it is enabled.
+	*
+	* @param taskChanges the task changes
+	*/
+	public static void cacheResult(List<TaskChange> taskChanges) {
+		getPersistence().cacheResult(taskChanges);
+	}
+
+	/**
+	* Creates a new task change with the primary key. Does not add the task change to the database.
+	*
+	* @param taskChangeId the primary key for the new task change
+	* @return the new task change
+	*/
+	public static TaskChange create(long taskChangeId) {
+		return getPersistence().create(taskChangeId);
+	}
+
+	/**
+	* Removes the task change with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param taskChangeId the primary key of the task change
+	* @return the task change that was removed
+	* @throws NoSuchTaskChangeException if a task change with the primary key could not be found
+	*/
+	public static TaskChange remove(long taskChangeId)
+		throws gr.confinanz.tasks.management.exception.NoSuchTaskChangeException {
+		return getPersistence().remove(taskChangeId);
+	}
+
+	public static TaskChange updateImpl(TaskChange taskChange) {
+		return getPersistence().updateImpl(taskChange);
+	}
+
+	/**
+	* Returns the task change with the primary key or throws a {@link NoSuchTaskChangeException} if it could not be found.
+	*
+	* @param taskChangeId the primary key of the task change
+	* @return the task change
+	* @throws NoSuchTaskChangeException if a task change with the primary key could not be found
+	*/
+	public static TaskChange findByPrimaryKey(long taskChangeId)
+		throws gr.confinanz.tasks.management.exception.NoSuchTaskChangeException {
+		return getPersistence().findByPrimaryKey(taskChangeId);
+	}
+
+	/**
+	* Returns the task change with the primary key or returns <code>null</code> if it could not be found.
+	*
+	* @param taskChangeId the primary key of the task change
+	* @return the task change, or <code>null</code> if a task change with the primary key could not be found
+	*/
+	public static TaskChange fetchByPrimaryKey(long taskChangeId) {
+		return getPersistence().fetchByPrimaryKey(taskChangeId);
+	}
+
+	public static java.util.Map<java.io.Serializable, TaskChange> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys) {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
+	/**
+	* Returns all the task changes.
+	*
+	* @return the task changes
+	*/
+	public static List<TaskChange> findAll() {
+		return getPersistence().findAll();
+	}
+
+	/**
+	* Returns a range of all the task changes.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of task changes
+	* @param end the upper bound of the range of task changes (not inclusive)
+	* @return the range of task changes
+	*/
+	public static List<TaskChange> findAll(int start, int end) {
+		return getPersistence().findAll(start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the task changes.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of task changes
+	* @param end the upper bound of the range of task changes (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of task changes
+	*/
+	public static List<TaskChange> findAll(int start, int end,
+		OrderByComparator<TaskChange> orderByComparator) {
+		return getPersistence().findAll(start, end, orderByComparator);
+	}
+
+	/**
+	* Returns an ordered range of all the task changes.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of task changes
+	* @param end the upper bound of the range of task changes (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of task changes
+	*/
+	public static List<TaskChange> findAll(int start, int end,
+		OrderByComparator<TaskChange> orderByComparator, boolean retrieveFromCache) {
+		return getPersistence()
+				   .findAll(start, end, orderByComparator, retrieveFromCache);
+	}
+
+	/**
+	* Removes all the task changes from the database.
+	*/
+	public static void removeAll() {
+		getPersistence().removeAll();
+	}
+
+	/**
+	* Returns the number of task changes.
+	*
+	* @return the number of task changes
+	*/
+	public static int countAll() {
+		return getPersistence().countAll();
+	}
+
+	public static TaskChangePersistence getPersistence() {
+		return _serviceTracker.getService();
+	}
+
+	private static ServiceTracker<TaskChangePersistence, TaskChangePersistence> _serviceTracker =
+		ServiceTrackerFactory.open(TaskChangePersistence.class);
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package gr.confinanz.tasks.management.service.persistence;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.osgi.util.ServiceTrackerFactory;
+
+import org.osgi.util.tracker.ServiceTracker;
+
+/**
+ * @author Abdessamad Ben Taleb
+ * @generated
+ */
+@ProviderType
+public class TaskFinderUtil {
+	public static gr.confinanz.tasks.management.model.Task[] fetchByPrimaryKeys(
+		long[] taskIds) {
+		return getFinder().fetchByPrimaryKeys(taskIds);
+	}
+
+	public static TaskFinder getFinder() {
+		return _serviceTracker.getService();
+	}
+
+	private static ServiceTracker<TaskFinder, TaskFinder> _serviceTracker = ServiceTrackerFactory.open(TaskFinder.class);
+}
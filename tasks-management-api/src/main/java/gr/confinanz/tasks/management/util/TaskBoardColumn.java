@@ -0,0 +1,72 @@
+package gr.confinanz.tasks.management.util;
+
+import java.io.Serializable;
+
+import java.util.List;
+
+import gr.confinanz.tasks.management.model.Task;
+
+/**
+ * A column of the task board: the tasks of a group with one workflow status
+ * and completed flag, with the first cards of the column.
+ *
+ * <p>
+ * The count is of all the tasks of the column, including the ones the user
+ * cannot view, or <code>-1</code> if it is withheld from the user. The cards
+ * are in the order of their expiration dates and primary keys, and the last
+ * one is the cursor the next cards of the column are read after.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskBoardColumn implements Serializable {
+
+	public TaskBoardColumn(
+		int status, boolean completed, int count, List<Task> tasks,
+		boolean hasMore) {
+
+		_status = status;
+		_completed = completed;
+		_count = count;
+		_tasks = tasks;
+		_hasMore = hasMore;
+	}
+
+	/**
+	 * Returns the number of tasks of the column, or <code>-1</code> if it is
+	 * withheld from the user.
+	 */
+	public int getCount() {
+		return _count;
+	}
+
+	public int getStatus() {
+		return _status;
+	}
+
+	public List<Task> getTasks() {
+		return _tasks;
+	}
+
+	public boolean isCompleted() {
+		return _completed;
+	}
+
+	/**
+	 * Returns <code>true</code> if the column has cards after the last one of
+	 * {@link #getTasks()}.
+	 */
+	public boolean isHasMore() {
+		return _hasMore;
+	}
+
+	private static final long serialVersionUID = 1L;
+
+	private final boolean _completed;
+	private final int _count;
+	private final boolean _hasMore;
+	private final int _status;
+	private final List<Task> _tasks;
+
+}
@@ -0,0 +1,81 @@
+package gr.confinanz.tasks.management.util;
+
+import gr.confinanz.tasks.management.constants.TaskChangeConstants;
+import gr.confinanz.tasks.management.model.Task;
+
+/**
+ * An add, update or delete of a task as published on the
+ * {@link TaskEventBus}. The type is one of the <code>TYPE_</code> constants
+ * of {@link TaskChangeConstants}.
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskEvent {
+
+	public TaskEvent(Task task, int type) {
+		this(task, type, null);
+	}
+
+	public TaskEvent(Task task, int type, long[] viewRoleIds) {
+		_companyId = task.getCompanyId();
+		_groupId = task.getGroupId();
+		_taskId = task.getTaskId();
+		_type = type;
+		_userId = task.getUserId();
+		_viewRoleIds = viewRoleIds;
+
+		if (task.getModifiedDate() != null) {
+			_modifiedTime = task.getModifiedDate().getTime();
+		}
+		else {
+			_modifiedTime = 0;
+		}
+	}
+
+	public long getCompanyId() {
+		return _companyId;
+	}
+
+	public long getGroupId() {
+		return _groupId;
+	}
+
+	public long getModifiedTime() {
+		return _modifiedTime;
+	}
+
+	public long getTaskId() {
+		return _taskId;
+	}
+
+	public int getType() {
+		return _type;
+	}
+
+	/**
+	 * Returns the primary key of the user who created the task.
+	 */
+	public long getUserId() {
+		return _userId;
+	}
+
+	/**
+	 * Returns the primary keys of the roles that could view the task before
+	 * it was deleted, or <code>null</code> if the event is not a delete. The
+	 * permissions of a deleted task are gone by the time the event is sent,
+	 * so they are recorded with it.
+	 */
+	public long[] getViewRoleIds() {
+		return _viewRoleIds;
+	}
+
+	private final long _companyId;
+	private final long _groupId;
+	private final long _modifiedTime;
+	private final long _taskId;
+	private final int _type;
+	private final long _userId;
+	private final long[] _viewRoleIds;
+
+}
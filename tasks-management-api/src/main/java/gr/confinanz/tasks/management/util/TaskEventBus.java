@@ -0,0 +1,94 @@
+package gr.confinanz.tasks.management.util;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Fans task events out to the subscriptions of the group of the task.
+ *
+ * <p>
+ * The bus only lives in this VM. Events are published by the task model
+ * listener once the transaction that wrote the task has committed, so a
+ * subscriber that reloads a task always sees the change.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskEventBus {
+
+	public static void publish(TaskEvent taskEvent) {
+		Set<TaskEventSubscription> subscriptions = _subscriptions.get(
+			taskEvent.getGroupId());
+
+		if (subscriptions == null) {
+			return;
+		}
+
+		for (TaskEventSubscription subscription : subscriptions) {
+			subscription.offer(taskEvent);
+		}
+	}
+
+	public static TaskEventSubscription subscribe(long groupId, int capacity) {
+		return subscribe(groupId, capacity, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Subscribes to the events of the group, or returns <code>null</code> if
+	 * there are already <code>maxSubscriptions</code> open subscriptions.
+	 * Subscribing and unsubscribing are serialized, so the set of a group is
+	 * dropped when its last subscription leaves without losing one that joins
+	 * at the same time. Publishing does not take the lock.
+	 */
+	public static synchronized TaskEventSubscription subscribe(
+		long groupId, int capacity, int maxSubscriptions) {
+
+		if (_subscriptionsCount >= maxSubscriptions) {
+			return null;
+		}
+
+		TaskEventSubscription subscription = new TaskEventSubscription(
+			groupId, capacity);
+
+		Set<TaskEventSubscription> subscriptions = _subscriptions.get(groupId);
+
+		if (subscriptions == null) {
+			subscriptions = new CopyOnWriteArraySet<>();
+
+			_subscriptions.put(groupId, subscriptions);
+		}
+
+		subscriptions.add(subscription);
+
+		_subscriptionsCount++;
+
+		return subscription;
+	}
+
+	protected static synchronized void unsubscribe(
+		TaskEventSubscription subscription) {
+
+		Set<TaskEventSubscription> subscriptions = _subscriptions.get(
+			subscription.getGroupId());
+
+		if (subscriptions == null) {
+			return;
+		}
+
+		if (subscriptions.remove(subscription)) {
+			_subscriptionsCount--;
+		}
+
+		if (subscriptions.isEmpty()) {
+			_subscriptions.remove(subscription.getGroupId());
+		}
+	}
+
+	private static final ConcurrentMap<Long, Set<TaskEventSubscription>>
+		_subscriptions = new ConcurrentHashMap<>();
+	private static int _subscriptionsCount;
+
+}
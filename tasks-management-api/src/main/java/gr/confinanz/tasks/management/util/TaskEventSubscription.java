@@ -0,0 +1,76 @@
+package gr.confinanz.tasks.management.util;
+
+import java.io.Closeable;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A subscription to the task events of one group, buffered in a bounded
+ * queue.
+ *
+ * <p>
+ * Publishing never waits for a slow subscriber. When the queue is full the
+ * event is dropped and the subscription is marked as overflowed, and the
+ * subscriber is expected to reload the tasks of the group once it sees the
+ * mark through {@link #resetOverflowed()}.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskEventSubscription implements Closeable {
+
+	public TaskEventSubscription(long groupId, int capacity) {
+		_groupId = groupId;
+
+		_taskEvents = new ArrayBlockingQueue<>(capacity);
+	}
+
+	@Override
+	public void close() {
+		TaskEventBus.unsubscribe(this);
+	}
+
+	public long getGroupId() {
+		return _groupId;
+	}
+
+	/**
+	 * Returns the next event, waiting up to the timeout for one to be
+	 * published, or <code>null</code> if none was.
+	 */
+	public TaskEvent poll(long timeout, TimeUnit timeUnit)
+		throws InterruptedException {
+
+		return _taskEvents.poll(timeout, timeUnit);
+	}
+
+	/**
+	 * Clears the overflow mark and returns whether it was set. Events still
+	 * buffered when the mark is cleared are discarded, since the subscriber
+	 * is going to reload the tasks anyway.
+	 */
+	public boolean resetOverflowed() {
+		if (!_overflowed.getAndSet(false)) {
+			return false;
+		}
+
+		_taskEvents.clear();
+
+		return true;
+	}
+
+	protected void offer(TaskEvent taskEvent) {
+		if (!_taskEvents.offer(taskEvent)) {
+			_overflowed.set(true);
+		}
+	}
+
+	private final long _groupId;
+	private final AtomicBoolean _overflowed = new AtomicBoolean();
+	private final BlockingQueue<TaskEvent> _taskEvents;
+
+}
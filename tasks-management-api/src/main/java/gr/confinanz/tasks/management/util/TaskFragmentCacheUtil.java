@@ -0,0 +1,115 @@
+package gr.confinanz.tasks.management.util;
+
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.SingleVMPoolUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import gr.confinanz.tasks.management.model.Task;
+
+/**
+ * Keeps the rendered HTML of the asset templates of the tasks, so a task
+ * shown to many users in the Asset Publisher or in search results is
+ * rendered once.
+ *
+ * <p>
+ * The fragments live in a single VM cache, with one entry per task that
+ * holds its fragments by template and locale. An entry is stamped with the
+ * modified date of the task and the name of the user it is assigned to, so
+ * an updated task or a renamed user is never served from an old fragment,
+ * and the first fragment of a new stamp replaces the entry. The task model
+ * listener also removes the entry of a task once a write to it commits,
+ * which frees the memory right away. The cache configuration bounds the
+ * number of entries, and fragments longer than
+ * {@link #MAX_FRAGMENT_LENGTH} characters are not kept.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskFragmentCacheUtil {
+
+	public static final int MAX_FRAGMENT_LENGTH = 128 * 1024;
+
+	public static String get(Task task, String template, Locale locale) {
+		Fragments fragments = _getPortalCache().get(task.getTaskId());
+
+		if ((fragments == null) || !fragments._stamp.equals(_getStamp(task))) {
+			return null;
+		}
+
+		return fragments._contents.get(_getKey(template, locale));
+	}
+
+	public static void put(
+		Task task, String template, Locale locale, String content) {
+
+		if (content.length() > MAX_FRAGMENT_LENGTH) {
+			return;
+		}
+
+		PortalCache<Long, Fragments> portalCache = _getPortalCache();
+
+		String stamp = _getStamp(task);
+
+		Fragments fragments = portalCache.get(task.getTaskId());
+
+		if ((fragments == null) || !fragments._stamp.equals(stamp)) {
+			fragments = new Fragments(stamp);
+
+			portalCache.put(task.getTaskId(), fragments);
+		}
+
+		fragments._contents.put(_getKey(template, locale), content);
+	}
+
+	/**
+	 * Removes the fragments of the task, whatever their template or locale.
+	 */
+	public static void remove(long taskId) {
+		_getPortalCache().remove(taskId);
+	}
+
+	private static String _getKey(String template, Locale locale) {
+		return template + _KEY_SEPARATOR + locale;
+	}
+
+	private static PortalCache<Long, Fragments> _getPortalCache() {
+		return (PortalCache<Long, Fragments>)SingleVMPoolUtil.getPortalCache(
+			_CACHE_NAME);
+	}
+
+	private static String _getStamp(Task task) {
+		Date modifiedDate = task.getModifiedDate();
+
+		StringBundler sb = new StringBundler(3);
+
+		sb.append((modifiedDate == null) ? 0 : modifiedDate.getTime());
+		sb.append(_KEY_SEPARATOR);
+		sb.append(task.getTaskUserName());
+
+		return sb.toString();
+	}
+
+	private static final String _CACHE_NAME =
+		TaskFragmentCacheUtil.class.getName() + "_FRAGMENTS";
+
+	private static final String _KEY_SEPARATOR = "#";
+
+	private static class Fragments {
+
+		private Fragments(String stamp) {
+			_stamp = stamp;
+		}
+
+		private final Map<String, String> _contents =
+			new ConcurrentHashMap<>();
+		private final String _stamp;
+
+	}
+
+}
@@ -0,0 +1,128 @@
+package gr.confinanz.tasks.management.util;
+
+import java.io.Serializable;
+
+/**
+ * A snapshot of the progress of the reindex of the tasks of a company.
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskReindexStatus implements Serializable {
+
+	public TaskReindexStatus(
+		long companyId, boolean running, long startTime, long modifiedTime,
+		long totalCount, long indexedCount, long resumedCount, long errorCount,
+		long checkpoint) {
+
+		_companyId = companyId;
+		_running = running;
+		_startTime = startTime;
+		_modifiedTime = modifiedTime;
+		_totalCount = totalCount;
+		_indexedCount = indexedCount;
+		_resumedCount = resumedCount;
+		_errorCount = errorCount;
+		_checkpoint = checkpoint;
+	}
+
+	/**
+	 * Returns the primary key the reindex continues from if it is
+	 * interrupted.
+	 */
+	public long getCheckpoint() {
+		return _checkpoint;
+	}
+
+	public long getCompanyId() {
+		return _companyId;
+	}
+
+	/**
+	 * Returns the number of documents indexed per second by this run, not
+	 * counting the tasks that were indexed before it resumed.
+	 */
+	public double getDocumentsPerSecond() {
+		long time = _modifiedTime - _startTime;
+
+		if (time <= 0) {
+			return 0;
+		}
+
+		return (_indexedCount - _resumedCount) * 1000.0 / time;
+	}
+
+	public long getErrorCount() {
+		return _errorCount;
+	}
+
+	/**
+	 * Returns the estimated number of milliseconds until the reindex
+	 * completes at the current rate, or <code>-1</code> if it cannot be
+	 * estimated yet.
+	 */
+	public long getEstimatedTimeRemaining() {
+		if (!_running) {
+			return 0;
+		}
+
+		double documentsPerSecond = getDocumentsPerSecond();
+
+		if (documentsPerSecond <= 0) {
+			return -1;
+		}
+
+		long remainingCount = Math.max(0, _totalCount - _indexedCount);
+
+		return (long)(remainingCount * 1000 / documentsPerSecond);
+	}
+
+	public long getIndexedCount() {
+		return _indexedCount;
+	}
+
+	public long getModifiedTime() {
+		return _modifiedTime;
+	}
+
+	public double getPercentComplete() {
+		if (_totalCount <= 0) {
+			return 100;
+		}
+
+		return Math.min(100, _indexedCount * 100.0 / _totalCount);
+	}
+
+	/**
+	 * Returns the number of tasks that were already indexed when this run
+	 * resumed from a checkpoint.
+	 */
+	public long getResumedCount() {
+		return _resumedCount;
+	}
+
+	public long getStartTime() {
+		return _startTime;
+	}
+
+	public long getTotalCount() {
+		return _totalCount;
+	}
+
+	public boolean isRunning() {
+		return _running;
+	}
+
+	private static final long serialVersionUID = 1L;
+
+	private final long _checkpoint;
+	private final long _companyId;
+	private final long _errorCount;
+	private final long _indexedCount;
+	private final long _modifiedTime;
+	private final long _resumedCount;
+	private final boolean _running;
+	private final long _startTime;
+	private final long _totalCount;
+
+}
@@ -0,0 +1,53 @@
+package gr.confinanz.tasks.management.util;
+
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import gr.confinanz.tasks.management.model.Task;
+
+/**
+ * Shares the progress of the task reindex of every company through a
+ * multi-VM cache, so that it can be followed from any node of a cluster and
+ * not only from the one running the reindex.
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskReindexStatusUtil {
+
+	public static TaskReindexStatus getStatus(long companyId) {
+		return _getPortalCache().get(companyId);
+	}
+
+	public static List<TaskReindexStatus> getStatuses() {
+		PortalCache<Long, TaskReindexStatus> portalCache = _getPortalCache();
+
+		List<TaskReindexStatus> statuses = new ArrayList<>();
+
+		for (Long companyId : portalCache.getKeys()) {
+			TaskReindexStatus status = portalCache.get(companyId);
+
+			if (status != null) {
+				statuses.add(status);
+			}
+		}
+
+		return statuses;
+	}
+
+	public static void setStatus(TaskReindexStatus status) {
+		_getPortalCache().put(status.getCompanyId(), status);
+	}
+
+	private static PortalCache<Long, TaskReindexStatus> _getPortalCache() {
+		return (PortalCache<Long, TaskReindexStatus>)
+			MultiVMPoolUtil.getPortalCache(_CACHE_NAME);
+	}
+
+	private static final String _CACHE_NAME =
+		Task.class.getName() + "_REINDEX_STATUS";
+
+}
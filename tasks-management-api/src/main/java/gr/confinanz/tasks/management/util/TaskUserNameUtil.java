@@ -0,0 +1,329 @@
+package gr.confinanz.tasks.management.util;
+
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionList;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
+import com.liferay.portal.kernel.model.User;
+import com.liferay.portal.kernel.security.auth.FullNameGenerator;
+import com.liferay.portal.kernel.security.auth.FullNameGeneratorFactory;
+import com.liferay.portal.kernel.service.UserLocalServiceUtil;
+import com.liferay.portal.kernel.util.AutoResetThreadLocal;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.Validator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import gr.confinanz.tasks.management.model.Task;
+
+/**
+ * Resolves the full names of the users tasks are assigned to, for the tasks
+ * whose denormalized <code>taskUserName</code> is still blank, such as the
+ * tasks that were added before the column existed.
+ *
+ * <p>
+ * The names that are not in the small least recently used cache of this node
+ * are loaded with one query per batch of users. Users that do not exist are
+ * cached as well, so the tasks of a deleted user do not query for it again.
+ * The task user model listener removes the name of a renamed user. Lists of
+ * tasks resolve their names once with {@link #getTaskUserNames(List)} and
+ * read them with {@link #getTaskUserName(Task, Map)}.
+ * </p>
+ *
+ * <p>
+ * It also tells the user model listeners whether an update renames the
+ * user. The stored names are read once per update and shared by the
+ * listeners, so an update that leaves the names alone, such as the one on
+ * every login, costs one query however many listeners ask.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskUserNameUtil {
+
+	/**
+	 * Forgets the stored names of the user that were read for an update. The
+	 * user model listeners call it once the update is written.
+	 */
+	public static void clearStoredNames(long userId) {
+		Map<Long, Object[]> storedNames = _storedNames.get();
+
+		storedNames.remove(userId);
+	}
+
+	/**
+	 * Returns the name of the user the task is assigned to, from the task
+	 * itself if it is set.
+	 */
+	public static String getTaskUserName(Task task) {
+		String taskUserName = task.getTaskUserName();
+
+		if (Validator.isNotNull(taskUserName)) {
+			return taskUserName;
+		}
+
+		Map<Long, String> userNames = getUserNames(
+			new long[] {task.getTaskUserId()});
+
+		return userNames.get(task.getTaskUserId());
+	}
+
+	/**
+	 * Returns the name of the user the task is assigned to, from the task
+	 * itself if it is set, or else from the names resolved for the list of
+	 * the task.
+	 */
+	public static String getTaskUserName(
+		Task task, Map<Long, String> taskUserNames) {
+
+		String taskUserName = task.getTaskUserName();
+
+		if (Validator.isNotNull(taskUserName)) {
+			return taskUserName;
+		}
+
+		if (taskUserNames.containsKey(task.getTaskUserId())) {
+			return taskUserNames.get(task.getTaskUserId());
+		}
+
+		return getTaskUserName(task);
+	}
+
+	/**
+	 * Returns the names of the users the tasks are assigned to, resolving the
+	 * blank ones with one query.
+	 */
+	public static Map<Long, String> getTaskUserNames(List<Task> tasks) {
+		List<Long> userIds = new ArrayList<>();
+
+		for (Task task : tasks) {
+			if (Validator.isNull(task.getTaskUserName())) {
+				userIds.add(task.getTaskUserId());
+			}
+		}
+
+		long[] userIdsArray = new long[userIds.size()];
+
+		for (int i = 0; i < userIdsArray.length; i++) {
+			userIdsArray[i] = userIds.get(i);
+		}
+
+		Map<Long, String> userNames = getUserNames(userIdsArray);
+
+		for (Task task : tasks) {
+			if (Validator.isNotNull(task.getTaskUserName())) {
+				userNames.put(task.getTaskUserId(), task.getTaskUserName());
+			}
+		}
+
+		return userNames;
+	}
+
+	/**
+	 * Returns the full names of the users, by primary key. Users that do not
+	 * exist are left out.
+	 */
+	public static Map<Long, String> getUserNames(long[] userIds) {
+		Map<Long, String> userNames = new HashMap<>();
+
+		Set<Long> missingUserIds = new LinkedHashSet<>();
+
+		synchronized (_userNames) {
+			for (long userId : userIds) {
+				String userName = _userNames.get(userId);
+
+				if (userName == null) {
+					missingUserIds.add(userId);
+				}
+				else if (!userName.isEmpty()) {
+					userNames.put(userId, userName);
+				}
+			}
+		}
+
+		if (missingUserIds.isEmpty()) {
+			return userNames;
+		}
+
+		Map<Long, String> loadedUserNames = _load(
+			new ArrayList<>(missingUserIds));
+
+		synchronized (_userNames) {
+			for (long userId : missingUserIds) {
+				String userName = loadedUserNames.get(userId);
+
+				if (userName == null) {
+					userName = StringPool.BLANK;
+				}
+
+				_userNames.put(userId, userName);
+			}
+		}
+
+		userNames.putAll(loadedUserNames);
+
+		return userNames;
+	}
+
+	/**
+	 * Returns <code>true</code> if the full name of the user differs from the
+	 * stored one, which the update has not written yet.
+	 */
+	public static boolean isFullNameChanged(User user) {
+		Object[] storedNames = _getStoredNames(user);
+
+		if (storedNames == null) {
+			return false;
+		}
+
+		FullNameGenerator fullNameGenerator =
+			FullNameGeneratorFactory.getInstance();
+
+		String fullName = fullNameGenerator.getFullName(
+			(String)storedNames[0], (String)storedNames[1],
+			(String)storedNames[2]);
+
+		return !fullName.equals(user.getFullName());
+	}
+
+	/**
+	 * Returns <code>true</code> if the first, middle or last name or the
+	 * screen name of the user differs from the stored one, or if the user is
+	 * not stored yet.
+	 */
+	public static boolean isNameChanged(User user) {
+		Object[] storedNames = _getStoredNames(user);
+
+		if ((storedNames != null) &&
+			Validator.equals(user.getFirstName(), storedNames[0]) &&
+			Validator.equals(user.getMiddleName(), storedNames[1]) &&
+			Validator.equals(user.getLastName(), storedNames[2]) &&
+			Validator.equals(user.getScreenName(), storedNames[3])) {
+
+			return false;
+		}
+
+		return true;
+	}
+
+	public static void remove(long userId) {
+		synchronized (_userNames) {
+			_userNames.remove(userId);
+		}
+	}
+
+	/**
+	 * Returns the first, middle and last name and the screen name that are
+	 * stored for the user, reading them once per update, or
+	 * <code>null</code> if the user is not stored.
+	 */
+	private static Object[] _getStoredNames(User user) {
+		Map<Long, Object[]> storedNames = _storedNames.get();
+
+		Object[] row = storedNames.get(user.getUserId());
+
+		if (row != null) {
+			if (row.length == 0) {
+				return null;
+			}
+
+			return row;
+		}
+
+		DynamicQuery dynamicQuery = UserLocalServiceUtil.dynamicQuery();
+
+		dynamicQuery.add(
+			RestrictionsFactoryUtil.eq("userId", user.getUserId()));
+
+		ProjectionList projectionList = ProjectionFactoryUtil.projectionList();
+
+		projectionList.add(ProjectionFactoryUtil.property("firstName"));
+		projectionList.add(ProjectionFactoryUtil.property("middleName"));
+		projectionList.add(ProjectionFactoryUtil.property("lastName"));
+		projectionList.add(ProjectionFactoryUtil.property("screenName"));
+
+		dynamicQuery.setProjection(projectionList);
+
+		List<Object[]> rows = UserLocalServiceUtil.dynamicQuery(dynamicQuery);
+
+		if (rows.isEmpty()) {
+			storedNames.put(user.getUserId(), new Object[0]);
+
+			return null;
+		}
+
+		row = rows.get(0);
+
+		storedNames.put(user.getUserId(), row);
+
+		return row;
+	}
+
+	private static Map<Long, String> _load(List<Long> userIds) {
+		Map<Long, String> userNames = new HashMap<>();
+
+		FullNameGenerator fullNameGenerator =
+			FullNameGeneratorFactory.getInstance();
+
+		for (int i = 0; i < userIds.size(); i += _BATCH_SIZE) {
+			DynamicQuery dynamicQuery = UserLocalServiceUtil.dynamicQuery();
+
+			dynamicQuery.add(
+				RestrictionsFactoryUtil.in(
+					"userId",
+					userIds.subList(
+						i, Math.min(i + _BATCH_SIZE, userIds.size()))));
+
+			ProjectionList projectionList =
+				ProjectionFactoryUtil.projectionList();
+
+			projectionList.add(ProjectionFactoryUtil.property("userId"));
+			projectionList.add(ProjectionFactoryUtil.property("firstName"));
+			projectionList.add(ProjectionFactoryUtil.property("middleName"));
+			projectionList.add(ProjectionFactoryUtil.property("lastName"));
+
+			dynamicQuery.setProjection(projectionList);
+
+			List<Object[]> rows = UserLocalServiceUtil.dynamicQuery(
+				dynamicQuery);
+
+			for (Object[] row : rows) {
+				userNames.put(
+					(Long)row[0],
+					fullNameGenerator.getFullName(
+						(String)row[1], (String)row[2], (String)row[3]));
+			}
+		}
+
+		return userNames;
+	}
+
+	private static final int _BATCH_SIZE = 500;
+
+	private static final int _MAX_SIZE = 1000;
+
+	private static final ThreadLocal<Map<Long, Object[]>> _storedNames =
+		new AutoResetThreadLocal<Map<Long, Object[]>>(
+			TaskUserNameUtil.class + "._storedNames",
+			new HashMap<Long, Object[]>());
+
+	private static final Map<Long, String> _userNames =
+		new LinkedHashMap<Long, String>(16, 0.75F, true) {
+
+			@Override
+			protected boolean removeEldestEntry(
+				Map.Entry<Long, String> eldest) {
+
+				return size() > _MAX_SIZE;
+			}
+
+		};
+
+}
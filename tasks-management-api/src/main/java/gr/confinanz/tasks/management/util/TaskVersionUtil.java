@@ -0,0 +1,123 @@
+package gr.confinanz.tasks.management.util;
+
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import gr.confinanz.tasks.management.model.Task;
+
+/**
+ * Tracks a version number per group and per company that changes whenever a
+ * task of the group or company is added, updated or deleted, and a version
+ * number per group that changes whenever its members change.
+ *
+ * <p>
+ * The versions live in a multi-VM cache. A write removes the version instead
+ * of incrementing it, and the next read creates a version that was never
+ * handed out before, so every node of a cluster sees the change as soon as
+ * the removal is replicated. A version is made of the time it was handed
+ * out, so its age tells how long ago the data it stands for last changed.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskVersionUtil {
+
+	public static long getCompanyVersion(long companyId) {
+		return _getVersion(_getCompanyPortalCache(), companyId);
+	}
+
+	public static long getGroupMembersVersion(long groupId) {
+		return _getVersion(_getGroupMembersPortalCache(), groupId);
+	}
+
+	public static long getGroupVersion(long groupId) {
+		return _getVersion(_getGroupPortalCache(), groupId);
+	}
+
+	/**
+	 * Returns the time the version was handed out, in milliseconds since the
+	 * epoch.
+	 */
+	public static long getVersionTime(long version) {
+		return version >> _VERSION_TIME_SHIFT;
+	}
+
+	public static void invalidate(long companyId, long groupId) {
+		_getCompanyPortalCache().remove(companyId);
+		_getGroupPortalCache().remove(groupId);
+	}
+
+	/**
+	 * Removes the versions of every group and company, for the changes that
+	 * are not tied to one group, such as a permission granted on the tasks
+	 * of every site.
+	 */
+	public static void invalidateAll() {
+		_getCompanyPortalCache().removeAll();
+		_getGroupPortalCache().removeAll();
+	}
+
+	public static void invalidateGroupMembers(long groupId) {
+		_getGroupMembersPortalCache().remove(groupId);
+	}
+
+	private static PortalCache<Long, Long> _getCompanyPortalCache() {
+		return (PortalCache<Long, Long>)MultiVMPoolUtil.getPortalCache(
+			_CACHE_NAME_COMPANY);
+	}
+
+	private static PortalCache<Long, Long> _getGroupMembersPortalCache() {
+		return (PortalCache<Long, Long>)MultiVMPoolUtil.getPortalCache(
+			_CACHE_NAME_GROUP_MEMBERS);
+	}
+
+	private static PortalCache<Long, Long> _getGroupPortalCache() {
+		return (PortalCache<Long, Long>)MultiVMPoolUtil.getPortalCache(
+			_CACHE_NAME_GROUP);
+	}
+
+	private static long _getVersion(
+		PortalCache<Long, Long> portalCache, long key) {
+
+		Long version = portalCache.get(key);
+
+		if (version == null) {
+			version = _nextVersion();
+
+			portalCache.put(key, version);
+		}
+
+		return version;
+	}
+
+	private static long _nextVersion() {
+		long now = System.currentTimeMillis() << _VERSION_TIME_SHIFT;
+
+		while (true) {
+			long lastVersion = _lastVersion.get();
+
+			long version = Math.max(now, lastVersion + 1);
+
+			if (_lastVersion.compareAndSet(lastVersion, version)) {
+				return version;
+			}
+		}
+	}
+
+	private static final String _CACHE_NAME_COMPANY =
+		Task.class.getName() + "_VERSION_COMPANY";
+
+	private static final String _CACHE_NAME_GROUP =
+		Task.class.getName() + "_VERSION_GROUP";
+
+	private static final String _CACHE_NAME_GROUP_MEMBERS =
+		Task.class.getName() + "_VERSION_GROUP_MEMBERS";
+
+	private static final int _VERSION_TIME_SHIFT = 12;
+
+	private static final AtomicLong _lastVersion = new AtomicLong();
+
+}
@@ -0,0 +1,340 @@
+package gr.confinanz.tasks.management.rest.application;
+
+import com.liferay.portal.kernel.json.JSONArray;
+import com.liferay.portal.kernel.json.JSONFactoryUtil;
+import com.liferay.portal.kernel.json.JSONObject;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.security.auth.CompanyThreadLocal;
+import com.liferay.portal.kernel.security.auth.PrincipalThreadLocal;
+import com.liferay.portal.kernel.service.ServiceContext;
+import com.liferay.portal.kernel.transaction.Propagation;
+import com.liferay.portal.kernel.transaction.TransactionConfig;
+import com.liferay.portal.kernel.transaction.TransactionInvokerUtil;
+
+import java.util.concurrent.Callable;
+
+import gr.confinanz.tasks.management.model.Task;
+import gr.confinanz.tasks.management.service.TaskService;
+
+/**
+ * Runs the operations of a <code>POST /tasks/batch</code> request.
+ *
+ * <p>
+ * Every operation is a JSON object with an <code>operation</code> of
+ * <code>add</code>, <code>update</code>, <code>complete</code> or
+ * <code>delete</code> and the fields of the matching {@link TaskService}
+ * method. The tasks targeted by the batch are loaded and permission checked
+ * up front in one bulk call, then the operations run in transactions of
+ * <code>chunkSize</code> operations each. When an operation fails, its chunk
+ * is rolled back and the other operations of the chunk are run again without
+ * it. In atomic mode the whole batch is one transaction and any failure rolls
+ * back every operation.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskBatchProcessor {
+
+	public static final String STATUS_ERROR = "error";
+
+	public static final String STATUS_OK = "ok";
+
+	public static final String STATUS_ROLLED_BACK = "rolled-back";
+
+	public TaskBatchProcessor(
+		TaskService taskService, int chunkSize, boolean atomic) {
+
+		_taskService = taskService;
+		_chunkSize = chunkSize;
+		_atomic = atomic;
+	}
+
+	public JSONArray process(JSONArray operationsJSONArray) {
+		int length = operationsJSONArray.length();
+
+		JSONObject[] results = new JSONObject[length];
+
+		boolean prefetched = prefetchTasks(operationsJSONArray, results);
+
+		if (_atomic) {
+			if (prefetched) {
+				processChunk(operationsJSONArray, 0, length, results);
+			}
+			else {
+				rollBack(results, 0, length);
+			}
+		}
+		else {
+			for (int start = 0; start < length; start += _chunkSize) {
+				processChunk(
+					operationsJSONArray, start,
+					Math.min(start + _chunkSize, length), results);
+			}
+		}
+
+		JSONArray resultsJSONArray = JSONFactoryUtil.createJSONArray();
+
+		for (JSONObject result : results) {
+			resultsJSONArray.put(result);
+		}
+
+		return resultsJSONArray;
+	}
+
+	protected JSONObject createResult(int index, String status) {
+		JSONObject jsonObject = JSONFactoryUtil.createJSONObject();
+
+		jsonObject.put("index", index);
+		jsonObject.put("status", status);
+
+		return jsonObject;
+	}
+
+	protected JSONObject createErrorResult(int index, String message) {
+		JSONObject jsonObject = createResult(index, STATUS_ERROR);
+
+		jsonObject.put("message", message);
+
+		return jsonObject;
+	}
+
+	/**
+	 * Loads every task referenced by an update, complete or delete operation
+	 * in one bulk call, which also warms the entity cache for the operations.
+	 * Operations whose task could not be found or viewed fail right away.
+	 *
+	 * @return <code>true</code> if every referenced task was found
+	 */
+	protected boolean prefetchTasks(
+		JSONArray operationsJSONArray, JSONObject[] results) {
+
+		int length = operationsJSONArray.length();
+
+		long[] taskIds = new long[length];
+		int[] indexes = new int[length];
+		int count = 0;
+
+		for (int i = 0; i < length; i++) {
+			JSONObject operationJSONObject =
+				operationsJSONArray.getJSONObject(i);
+
+			if ((operationJSONObject == null) ||
+				_OPERATION_ADD.equals(
+					operationJSONObject.getString("operation"))) {
+
+				continue;
+			}
+
+			taskIds[count] = operationJSONObject.getLong("taskId");
+			indexes[count] = i;
+
+			count++;
+		}
+
+		if (count == 0) {
+			return true;
+		}
+
+		long[] prefetchTaskIds = new long[count];
+
+		System.arraycopy(taskIds, 0, prefetchTaskIds, 0, count);
+
+		Task[] tasks = null;
+
+		try {
+			tasks = _taskService.fetchTasks(prefetchTaskIds);
+		}
+		catch (Exception e) {
+			_log.error(e, e);
+
+			for (int i = 0; i < count; i++) {
+				results[indexes[i]] = createErrorResult(
+					indexes[i], e.getMessage());
+			}
+
+			return false;
+		}
+
+		boolean prefetched = true;
+
+		for (int i = 0; i < count; i++) {
+			if (tasks[i] == null) {
+				results[indexes[i]] = createErrorResult(
+					indexes[i], "No task exists with the primary key " +
+						prefetchTaskIds[i]);
+
+				prefetched = false;
+			}
+		}
+
+		return prefetched;
+	}
+
+	protected Task process(JSONObject operationJSONObject) throws Exception {
+		if (operationJSONObject == null) {
+			throw new IllegalArgumentException("Operation is not an object");
+		}
+
+		String operation = operationJSONObject.getString("operation");
+
+		long taskId = operationJSONObject.getLong("taskId");
+
+		if (operation.equals(_OPERATION_COMPLETE)) {
+			return _taskService.updateCompleted(
+				taskId, operationJSONObject.getBoolean("completed", true));
+		}
+		else if (operation.equals(_OPERATION_DELETE)) {
+			return _taskService.deleteTask(taskId);
+		}
+
+		String title = operationJSONObject.getString("title");
+		String description = operationJSONObject.getString("description");
+		int expirationDateMonth = operationJSONObject.getInt(
+			"expirationDateMonth");
+		int expirationDateDay = operationJSONObject.getInt(
+			"expirationDateDay");
+		int expirationDateYear = operationJSONObject.getInt(
+			"expirationDateYear");
+		long taskUserId = operationJSONObject.getLong("taskUserId");
+		boolean completed = operationJSONObject.getBoolean("completed");
+
+		if (operation.equals(_OPERATION_ADD)) {
+			ServiceContext serviceContext = new ServiceContext();
+
+			serviceContext.setCompanyId(CompanyThreadLocal.getCompanyId());
+			serviceContext.setScopeGroupId(
+				operationJSONObject.getLong("groupId"));
+			serviceContext.setUserId(PrincipalThreadLocal.getUserId());
+
+			return _taskService.addTask(
+				title, description, expirationDateMonth, expirationDateDay,
+				expirationDateYear, taskUserId, completed, serviceContext);
+		}
+		else if (operation.equals(_OPERATION_UPDATE)) {
+			return _taskService.updateTask(
+				taskId, title, description, expirationDateMonth,
+				expirationDateDay, expirationDateYear, taskUserId, completed,
+				new ServiceContext());
+		}
+
+		throw new IllegalArgumentException(
+			"Unknown operation \"" + operation + "\"");
+	}
+
+	/**
+	 * Runs the operations from <code>start</code> to <code>end</code> in one
+	 * transaction. Operations that already have a result are skipped.
+	 */
+	protected void processChunk(
+		final JSONArray operationsJSONArray, final int start, final int end,
+		final JSONObject[] results) {
+
+		final int[] failedIndex = {-1};
+
+		try {
+			TransactionInvokerUtil.invoke(
+				_transactionConfig,
+				new Callable<Void>() {
+
+					@Override
+					public Void call() throws Exception {
+						for (int i = start; i < end; i++) {
+							if (results[i] != null) {
+								continue;
+							}
+
+							failedIndex[0] = i;
+
+							Task task = process(
+								operationsJSONArray.getJSONObject(i));
+
+							JSONObject result = createResult(i, STATUS_OK);
+
+							result.put("taskId", task.getTaskId());
+
+							results[i] = result;
+						}
+
+						failedIndex[0] = -1;
+
+						return null;
+					}
+
+				});
+		}
+		catch (Throwable t) {
+			if (_log.isDebugEnabled()) {
+				_log.debug(t, t);
+			}
+
+			String message = t.getMessage();
+
+			if (message == null) {
+				message = t.getClass().getName();
+			}
+
+			if (failedIndex[0] < 0) {
+				for (int i = start; i < end; i++) {
+					if ((results[i] == null) ||
+						STATUS_OK.equals(results[i].getString("status"))) {
+
+						results[i] = createErrorResult(i, message);
+					}
+				}
+
+				return;
+			}
+
+			JSONObject failedResult = createErrorResult(
+				failedIndex[0], message);
+
+			for (int i = start; i < failedIndex[0]; i++) {
+				if (STATUS_OK.equals(results[i].getString("status"))) {
+					results[i] = null;
+				}
+			}
+
+			if (_atomic) {
+				rollBack(results, start, end);
+			}
+
+			results[failedIndex[0]] = failedResult;
+
+			if (!_atomic) {
+				processChunk(operationsJSONArray, start, end, results);
+			}
+		}
+	}
+
+	protected void rollBack(JSONObject[] results, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if ((results[i] == null) ||
+				STATUS_OK.equals(results[i].getString("status"))) {
+
+				results[i] = createResult(i, STATUS_ROLLED_BACK);
+			}
+		}
+	}
+
+	private static final String _OPERATION_ADD = "add";
+
+	private static final String _OPERATION_COMPLETE = "complete";
+
+	private static final String _OPERATION_DELETE = "delete";
+
+	private static final String _OPERATION_UPDATE = "update";
+
+	private static final Log _log = LogFactoryUtil.getLog(
+		TaskBatchProcessor.class);
+
+	private static final TransactionConfig _transactionConfig =
+		TransactionConfig.Factory.create(
+			Propagation.REQUIRED, new Class<?>[] {Exception.class});
+
+	private final boolean _atomic;
+	private final int _chunkSize;
+	private final TaskService _taskService;
+
+}
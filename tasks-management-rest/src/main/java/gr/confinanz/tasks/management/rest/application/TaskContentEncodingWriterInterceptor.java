@@ -0,0 +1,163 @@
+package gr.confinanz.tasks.management.rest.application;
+
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Validator;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+/**
+ * Compresses the entities of responses that were given a
+ * <code>Content-Encoding</code> of <code>gzip</code> or
+ * <code>deflate</code>.
+ *
+ * <p>
+ * The resource picks the encoding with {@link #getContentEncoding(String)}
+ * while it still runs on the request thread, since the entity may be written
+ * on another thread.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+@Provider
+public class TaskContentEncodingWriterInterceptor implements WriterInterceptor {
+
+	public static final String DEFLATE = "deflate";
+
+	public static final String GZIP = "gzip";
+
+	/**
+	 * Returns the encoding to use for the <code>Accept-Encoding</code> header,
+	 * preferring <code>gzip</code>, or <code>null</code> if the response
+	 * should not be compressed.
+	 */
+	public static String getContentEncoding(String acceptEncoding) {
+		if (Validator.isNull(acceptEncoding)) {
+			return null;
+		}
+
+		boolean deflate = false;
+
+		for (String coding : StringUtil.split(acceptEncoding)) {
+			String[] parts = StringUtil.split(coding, ';');
+
+			if (parts.length == 0) {
+				continue;
+			}
+
+			String name = StringUtil.toLowerCase(parts[0].trim());
+
+			double quality = 1;
+
+			for (int i = 1; i < parts.length; i++) {
+				String parameter = parts[i].trim();
+
+				if (parameter.startsWith("q=")) {
+					quality = GetterUtil.getDouble(parameter.substring(2));
+				}
+			}
+
+			if (quality <= 0) {
+				continue;
+			}
+
+			if (name.equals(GZIP)) {
+				return GZIP;
+			}
+
+			if (name.equals(DEFLATE)) {
+				deflate = true;
+			}
+		}
+
+		if (deflate) {
+			return DEFLATE;
+		}
+
+		return null;
+	}
+
+	@Override
+	public void aroundWriteTo(WriterInterceptorContext writerInterceptorContext)
+		throws IOException, WebApplicationException {
+
+		Object contentEncoding = writerInterceptorContext.getHeaders().getFirst(
+			HttpHeaders.CONTENT_ENCODING);
+
+		if (!GZIP.equals(contentEncoding) &&
+			!DEFLATE.equals(contentEncoding)) {
+
+			writerInterceptorContext.proceed();
+
+			return;
+		}
+
+		// Closing the compressing stream releases its native memory, so it is
+		// given a stream that only flushes the response on close
+
+		OutputStream outputStream = new FilterOutputStream(
+			writerInterceptorContext.getOutputStream()) {
+
+			@Override
+			public void close() throws IOException {
+				flush();
+			}
+
+			@Override
+			public void write(byte[] bytes, int offset, int length)
+				throws IOException {
+
+				out.write(bytes, offset, length);
+			}
+
+		};
+
+		DeflaterOutputStream deflaterOutputStream = null;
+
+		if (GZIP.equals(contentEncoding)) {
+			deflaterOutputStream = new GZIPOutputStream(
+				outputStream, _BUFFER_SIZE);
+		}
+		else {
+			deflaterOutputStream = new DeflaterOutputStream(
+				outputStream, new Deflater(), _BUFFER_SIZE) {
+
+				@Override
+				public void close() throws IOException {
+					try {
+						super.close();
+					}
+					finally {
+						def.end();
+					}
+				}
+
+			};
+		}
+
+		writerInterceptorContext.setOutputStream(deflaterOutputStream);
+
+		try {
+			writerInterceptorContext.proceed();
+		}
+		finally {
+			deflaterOutputStream.close();
+		}
+	}
+
+	private static final int _BUFFER_SIZE = 8192;
+
+}
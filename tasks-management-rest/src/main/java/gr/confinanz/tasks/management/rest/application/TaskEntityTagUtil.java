@@ -0,0 +1,145 @@
+package gr.confinanz.tasks.management.rest.application;
+
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+
+import java.util.Arrays;
+import java.util.Date;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.MediaType;
+
+import gr.confinanz.tasks.management.model.Task;
+
+/**
+ * Computes the weak entity tags of the task resources. A tag covers
+ * everything the representation depends on: the task versions, the projected
+ * fields and, for responses filtered by permissions, the user and a hash of
+ * the roles and memberships of the user. The tag of a task covers the name
+ * of the user it is assigned to as well, since a renamed user does not move
+ * the modified date of its tasks.
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskEntityTagUtil {
+
+	public static EntityTag getCompanyEntityTag(
+		long companyId, long version, long userId, long permissionsHash,
+		int fields) {
+
+		StringBundler sb = new StringBundler(10);
+
+		sb.append("c");
+		sb.append(companyId);
+		sb.append(StringPool.DASH);
+		sb.append(Long.toHexString(version));
+		sb.append("-u");
+		sb.append(userId);
+		sb.append("-p");
+		sb.append(Long.toHexString(permissionsHash));
+		sb.append("-f");
+		sb.append(Integer.toHexString(fields));
+
+		return new EntityTag(sb.toString(), true);
+	}
+
+	public static EntityTag getEntityTag(Task task, int fields) {
+		StringBundler sb = new StringBundler(7);
+
+		sb.append(task.getTaskId());
+		sb.append(StringPool.DASH);
+		sb.append(Long.toHexString(_getTime(task.getModifiedDate())));
+		sb.append("-n");
+		sb.append(Integer.toHexString(_getHashCode(task.getTaskUserName())));
+		sb.append("-f");
+		sb.append(Integer.toHexString(fields));
+
+		return new EntityTag(sb.toString(), true);
+	}
+
+	public static EntityTag getEntityTag(
+		long[] taskIds, Task[] tasks, long userId, int fields) {
+
+		long hash = 17;
+
+		for (int i = 0; i < tasks.length; i++) {
+			hash = (31 * hash) + taskIds[i];
+
+			if (tasks[i] != null) {
+				hash = (31 * hash) + _getTime(tasks[i].getModifiedDate());
+				hash = (31 * hash) + _getHashCode(tasks[i].getTaskUserName());
+			}
+			else {
+				hash = 31 * hash;
+			}
+		}
+
+		StringBundler sb = new StringBundler(6);
+
+		sb.append("m");
+		sb.append(Long.toHexString(hash));
+		sb.append("-u");
+		sb.append(userId);
+		sb.append("-f");
+		sb.append(Integer.toHexString(fields));
+
+		return new EntityTag(sb.toString(), true);
+	}
+
+	/**
+	 * Returns a hash of the arrays of primary keys that does not depend on
+	 * the order of the primary keys within an array.
+	 */
+	public static long getPermissionsHash(long[]... primaryKeysArray) {
+		long hash = 17;
+
+		for (long[] primaryKeys : primaryKeysArray) {
+			primaryKeys = primaryKeys.clone();
+
+			Arrays.sort(primaryKeys);
+
+			hash = (31 * hash) + primaryKeys.length;
+
+			for (long primaryKey : primaryKeys) {
+				hash = (31 * hash) + primaryKey;
+			}
+		}
+
+		return hash;
+	}
+
+	/**
+	 * Returns the tag of the representation in the media type. JSON keeps the
+	 * tag as is, other formats get their subtype appended so that a cached
+	 * JSON response never validates a CBOR one.
+	 */
+	public static EntityTag getVariantEntityTag(
+		EntityTag entityTag, MediaType mediaType) {
+
+		if (MediaType.APPLICATION_JSON_TYPE.isCompatible(mediaType)) {
+			return entityTag;
+		}
+
+		return new EntityTag(
+			entityTag.getValue() + StringPool.DASH + mediaType.getSubtype(),
+			entityTag.isWeak());
+	}
+
+	private static int _getHashCode(String s) {
+		if (s == null) {
+			return 0;
+		}
+
+		return s.hashCode();
+	}
+
+	private static long _getTime(Date date) {
+		if (date == null) {
+			return 0;
+		}
+
+		return date.getTime();
+	}
+
+}
@@ -0,0 +1,253 @@
+package gr.confinanz.tasks.management.rest.application;
+
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.security.permission.ActionKeys;
+import com.liferay.portal.kernel.security.permission.PermissionChecker;
+import com.liferay.portal.kernel.util.ArrayUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletResponse;
+
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import gr.confinanz.tasks.management.constants.TaskChangeConstants;
+import gr.confinanz.tasks.management.model.Task;
+import gr.confinanz.tasks.management.service.permission.TaskPermissionChecker;
+import gr.confinanz.tasks.management.util.TaskEvent;
+import gr.confinanz.tasks.management.util.TaskEventSubscription;
+
+/**
+ * Writes the events of a task event subscription to a suspended response as
+ * a <code>text/event-stream</code>.
+ *
+ * <p>
+ * Every event is named after its type (<code>add</code>,
+ * <code>update</code> or <code>delete</code>) and carries the
+ * <code>taskId</code>, <code>groupId</code> and <code>modifiedDate</code> of
+ * the task. When the subscription overflowed a <code>resync</code> event is
+ * sent instead, after which the client should reload the tasks of the group.
+ * A comment is sent when the stream has been idle for the heartbeat
+ * interval, which is also how a closed connection is detected. The stream
+ * ends after <code>maxDuration</code> and the client reconnects.
+ * </p>
+ *
+ * <p>
+ * The request stays suspended while the stream is open, so the stream holds
+ * no thread of the container. A {@link TaskEventStreamer} calls {@link
+ * #write()} on one of its threads to send what arrived since the last call.
+ * Only the events of the tasks the subscriber may view are sent, so the
+ * permission checker of the request is given to the stream.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskEventStream {
+
+	public TaskEventStream(
+		AsyncResponse asyncResponse, HttpServletResponse httpServletResponse,
+		TaskEventSubscription subscription,
+		PermissionChecker permissionChecker, long heartbeatInterval,
+		long maxDuration) {
+
+		_asyncResponse = asyncResponse;
+		_httpServletResponse = httpServletResponse;
+		_subscription = subscription;
+		_permissionChecker = permissionChecker;
+		_heartbeatInterval = heartbeatInterval;
+
+		_endTime = System.currentTimeMillis() + maxDuration;
+	}
+
+	/**
+	 * Closes the subscription and resumes the request, which completes the
+	 * response that was written so far.
+	 */
+	public void close() {
+		_subscription.close();
+
+		if (!_asyncResponse.isDone()) {
+			_asyncResponse.resume(Response.ok().build());
+		}
+	}
+
+	/**
+	 * Writes the events that arrived since the last call, or a heartbeat if
+	 * the stream has been idle for the heartbeat interval. The first call
+	 * writes the headers of the response.
+	 *
+	 * @return <code>false</code> if the stream has ended or the client is
+	 *         gone, <code>true</code> otherwise
+	 */
+	public boolean write() {
+		long now = System.currentTimeMillis();
+
+		if (_asyncResponse.isDone() || (now >= _endTime)) {
+			return false;
+		}
+
+		try {
+			if (_outputStream == null) {
+				_httpServletResponse.setContentType(_CONTENT_TYPE);
+				_httpServletResponse.setHeader(
+					HttpHeaders.CACHE_CONTROL, "no-cache, private");
+				_httpServletResponse.setHeader("X-Accel-Buffering", "no");
+
+				_outputStream = _httpServletResponse.getOutputStream();
+
+				_outputStream.write(_RETRY);
+				_outputStream.flush();
+
+				_lastWriteTime = now;
+			}
+
+			boolean written = false;
+
+			if (_subscription.resetOverflowed()) {
+				_outputStream.write(_RESYNC);
+
+				written = true;
+			}
+
+			// Write every buffered event before flushing once
+
+			TaskEvent taskEvent = _subscription.poll(0, TimeUnit.MILLISECONDS);
+
+			while (taskEvent != null) {
+				if (_isVisible(taskEvent)) {
+					_outputStream.write(_toBytes(taskEvent));
+
+					written = true;
+				}
+
+				taskEvent = _subscription.poll(0, TimeUnit.MILLISECONDS);
+			}
+
+			if (!written && ((now - _lastWriteTime) >= _heartbeatInterval)) {
+				_outputStream.write(_HEARTBEAT);
+
+				written = true;
+			}
+
+			if (written) {
+				_outputStream.flush();
+
+				_lastWriteTime = now;
+			}
+
+			return true;
+		}
+		catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+
+			return false;
+		}
+		catch (IOException ioe) {
+			if (_log.isDebugEnabled()) {
+				_log.debug("Unable to write task events", ioe);
+			}
+
+			return false;
+		}
+	}
+
+	private boolean _isVisible(TaskEvent taskEvent) {
+		if (taskEvent.getType() != TaskChangeConstants.TYPE_DELETE) {
+			try {
+				return TaskPermissionChecker.contains(
+					_permissionChecker, taskEvent.getTaskId(),
+					ActionKeys.VIEW);
+			}
+			catch (PortalException pe) {
+
+				// The task was deleted since, its delete event follows
+
+				return false;
+			}
+		}
+
+		// The permissions of the task itself were deleted with it, so they
+		// are read from the event
+
+		long groupId = taskEvent.getGroupId();
+
+		if (_permissionChecker.isGroupAdmin(groupId) ||
+			(_permissionChecker.getUserId() == taskEvent.getUserId()) ||
+			_permissionChecker.hasPermission(
+				groupId, Task.class.getName(), taskEvent.getTaskId(),
+				ActionKeys.VIEW)) {
+
+			return true;
+		}
+
+		long[] viewRoleIds = taskEvent.getViewRoleIds();
+
+		if (viewRoleIds == null) {
+			return false;
+		}
+
+		for (long roleId : _permissionChecker.getRoleIds(
+				_permissionChecker.getUserId(), groupId)) {
+
+			if (ArrayUtil.contains(viewRoleIds, roleId)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private byte[] _toBytes(TaskEvent taskEvent) {
+		StringBundler sb = new StringBundler(8);
+
+		sb.append("event: ");
+		sb.append(TaskChangeConstants.getTypeLabel(taskEvent.getType()));
+		sb.append("\ndata: {\"taskId\":");
+		sb.append(taskEvent.getTaskId());
+		sb.append(",\"groupId\":");
+		sb.append(taskEvent.getGroupId());
+		sb.append(",\"modifiedDate\":");
+		sb.append(taskEvent.getModifiedTime());
+		sb.append("}\n\n");
+
+		String s = sb.toString();
+
+		return s.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static final String _CONTENT_TYPE =
+		"text/event-stream;charset=UTF-8";
+
+	private static final byte[] _HEARTBEAT = ": heartbeat\n\n".getBytes(
+		StandardCharsets.US_ASCII);
+
+	private static final byte[] _RESYNC =
+		"event: resync\ndata: {}\n\n".getBytes(StandardCharsets.US_ASCII);
+
+	private static final byte[] _RETRY = "retry: 5000\n\n".getBytes(
+		StandardCharsets.US_ASCII);
+
+	private static final Log _log = LogFactoryUtil.getLog(
+		TaskEventStream.class);
+
+	private final AsyncResponse _asyncResponse;
+	private final long _endTime;
+	private final long _heartbeatInterval;
+	private final HttpServletResponse _httpServletResponse;
+	private long _lastWriteTime;
+	private OutputStream _outputStream;
+	private final PermissionChecker _permissionChecker;
+	private final TaskEventSubscription _subscription;
+
+}
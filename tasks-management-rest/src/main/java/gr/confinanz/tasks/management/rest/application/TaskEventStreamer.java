@@ -0,0 +1,92 @@
+package gr.confinanz.tasks.management.rest.application;
+
+import com.liferay.portal.kernel.util.NamedThreadFactory;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the open task event streams on a small pool of threads, so that an
+ * open stream holds no thread of the servlet container.
+ *
+ * <p>
+ * Every stream is written again a fixed interval after its last write ended,
+ * so it is never written by two threads at once, and a client that stops
+ * reading only holds up the thread that writes to it.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskEventStreamer {
+
+	public TaskEventStreamer(String name, int threads, long interval) {
+		_interval = interval;
+
+		_scheduledThreadPoolExecutor = new ScheduledThreadPoolExecutor(
+			Math.max(1, threads),
+			new NamedThreadFactory(
+				name, Thread.NORM_PRIORITY,
+				TaskEventStreamer.class.getClassLoader()));
+	}
+
+	public void open(final TaskEventStream taskEventStream) {
+		_taskEventStreams.add(taskEventStream);
+
+		_schedule(
+			new Runnable() {
+
+				@Override
+				public void run() {
+					if (taskEventStream.write()) {
+						_schedule(this, taskEventStream);
+					}
+					else {
+						_close(taskEventStream);
+					}
+				}
+
+			},
+			taskEventStream);
+	}
+
+	/**
+	 * Stops writing and closes the open streams, whose clients reconnect.
+	 */
+	public void shutdown() {
+		_scheduledThreadPoolExecutor.shutdownNow();
+
+		for (TaskEventStream taskEventStream : _taskEventStreams) {
+			_close(taskEventStream);
+		}
+	}
+
+	private void _close(TaskEventStream taskEventStream) {
+		if (_taskEventStreams.remove(taskEventStream)) {
+			taskEventStream.close();
+		}
+	}
+
+	private void _schedule(
+		Runnable runnable, TaskEventStream taskEventStream) {
+
+		try {
+			_scheduledThreadPoolExecutor.schedule(
+				runnable, _interval, TimeUnit.MILLISECONDS);
+		}
+		catch (RejectedExecutionException ree) {
+			_close(taskEventStream);
+		}
+	}
+
+	private final long _interval;
+	private final ScheduledThreadPoolExecutor _scheduledThreadPoolExecutor;
+	private final Set<TaskEventStream> _taskEventStreams =
+		Collections.newSetFromMap(
+			new ConcurrentHashMap<TaskEventStream, Boolean>());
+
+}
@@ -0,0 +1,150 @@
+package gr.confinanz.tasks.management.rest.application;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the rate of requests per client with token buckets.
+ *
+ * <p>
+ * A client may spend <code>permitsPerSecond</code> permits per second and up
+ * to <code>burst</code> permits at once. Each bucket is a single
+ * <code>AtomicLong</code> holding the time at which the bucket is full again,
+ * so taking permits is one compare-and-set without locks or allocation.
+ * Clients are hashed onto a fixed array of buckets; with enough stripes two
+ * clients rarely share one.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskRateLimiter {
+
+	public static final String CLIENT_KEY_OTHER = "other";
+
+	public TaskRateLimiter(int stripes, double permitsPerSecond, int burst) {
+		if (!(permitsPerSecond > 0)) {
+			throw new IllegalArgumentException(
+				"Permits per second must be positive: " + permitsPerSecond);
+		}
+
+		int size = 1;
+
+		while (size < stripes) {
+			size <<= 1;
+		}
+
+		_buckets = new AtomicLong[size];
+
+		for (int i = 0; i < size; i++) {
+			_buckets[i] = new AtomicLong(Long.MIN_VALUE);
+		}
+
+		_burst = Math.max(1, burst);
+
+		// Keep the tolerance of a full bucket within a long
+
+		_interval = Math.max(
+			1,
+			Math.min(
+				(long)(TimeUnit.SECONDS.toNanos(1) / permitsPerSecond),
+				Long.MAX_VALUE / 4 / _burst));
+		_tolerance = _interval * _burst;
+	}
+
+	/**
+	 * Takes permits from the bucket of the client.
+	 *
+	 * @return <code>0</code> if the permits were taken, or the number of
+	 *         seconds after which the client may try again
+	 */
+	public long acquire(String clientKey, int cost) {
+		AtomicLong bucket = _buckets[_getStripe(clientKey)];
+
+		long increment = _interval * Math.min(cost, _burst);
+
+		while (true) {
+			long now = System.nanoTime();
+
+			long fullTime = bucket.get();
+
+			long nextFullTime = Math.max(fullTime, now) + increment;
+
+			long wait = nextFullTime - now - _tolerance;
+
+			if (wait > 0) {
+				_countThrottled(clientKey);
+
+				return Math.max(
+					1, TimeUnit.NANOSECONDS.toSeconds(
+						wait + TimeUnit.SECONDS.toNanos(1) - 1));
+			}
+
+			if (bucket.compareAndSet(fullTime, nextFullTime)) {
+				return 0;
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of throttled requests per client. Once a thousand
+	 * clients were throttled, further clients are counted under
+	 * {@link #CLIENT_KEY_OTHER}.
+	 */
+	public Map<String, Long> getThrottledCounts() {
+		Map<String, Long> throttledCounts = new HashMap<>();
+
+		for (Map.Entry<String, AtomicLong> entry :
+				_throttledCounts.entrySet()) {
+
+			AtomicLong throttledCount = entry.getValue();
+
+			throttledCounts.put(entry.getKey(), throttledCount.get());
+		}
+
+		return throttledCounts;
+	}
+
+	private void _countThrottled(String clientKey) {
+		AtomicLong throttledCount = _throttledCounts.get(clientKey);
+
+		if (throttledCount == null) {
+			if (_throttledCounts.size() >= _MAX_CLIENTS) {
+				clientKey = CLIENT_KEY_OTHER;
+			}
+
+			throttledCount = new AtomicLong();
+
+			AtomicLong previousThrottledCount = _throttledCounts.putIfAbsent(
+				clientKey, throttledCount);
+
+			if (previousThrottledCount != null) {
+				throttledCount = previousThrottledCount;
+			}
+		}
+
+		throttledCount.incrementAndGet();
+	}
+
+	private int _getStripe(String clientKey) {
+		int hash = clientKey.hashCode();
+
+		hash ^= hash >>> 16;
+
+		return hash & (_buckets.length - 1);
+	}
+
+	private static final int _MAX_CLIENTS = 1000;
+
+	private final AtomicLong[] _buckets;
+	private final int _burst;
+	private final long _interval;
+	private final ConcurrentMap<String, AtomicLong> _throttledCounts =
+		new ConcurrentHashMap<>();
+	private final long _tolerance;
+
+}
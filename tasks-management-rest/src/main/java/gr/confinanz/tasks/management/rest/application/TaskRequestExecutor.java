@@ -0,0 +1,170 @@
+package gr.confinanz.tasks.management.rest.application;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.security.auth.CompanyThreadLocal;
+import com.liferay.portal.kernel.security.auth.PrincipalThreadLocal;
+import com.liferay.portal.kernel.security.permission.PermissionChecker;
+import com.liferay.portal.kernel.security.permission.PermissionThreadLocal;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.TimeoutHandler;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+/**
+ * Runs suspended JAX-RS requests on a bounded pool of threads, so that slow
+ * requests do not hold on to the threads of the servlet container.
+ *
+ * <p>
+ * A request that finds the pool and its queue full, or that has not been
+ * resumed within the timeout, is answered with <code>503</code> and a
+ * <code>Retry-After</code> header, and a request that times out is
+ * cancelled, interrupting its thread if it already runs. The company, the
+ * principal and the permission checker of the calling thread are carried
+ * over to the thread that runs the request. A request whose callable
+ * returns <code>null</code> is left suspended, to be resumed by whoever took
+ * it over.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskRequestExecutor {
+
+	public TaskRequestExecutor(
+		String name, int threads, int queueDepth, long timeout,
+		int retryAfter) {
+
+		_timeout = timeout;
+		_retryAfter = retryAfter;
+
+		_threadPoolExecutor = new ThreadPoolExecutor(
+			threads, threads, 60, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<Runnable>(Math.max(1, queueDepth)),
+			new NamedThreadFactory(
+				name, Thread.NORM_PRIORITY,
+				TaskRequestExecutor.class.getClassLoader()));
+
+		_threadPoolExecutor.allowCoreThreadTimeOut(true);
+	}
+
+	public void execute(
+		final AsyncResponse asyncResponse, final Callable<Response> callable) {
+
+		final AtomicReference<Future<?>> futureReference =
+			new AtomicReference<>();
+
+		if (_timeout > 0) {
+			asyncResponse.setTimeoutHandler(
+				new TimeoutHandler() {
+
+					@Override
+					public void handleTimeout(
+						AsyncResponse timedOutAsyncResponse) {
+
+						timedOutAsyncResponse.resume(
+							createServiceUnavailableResponse());
+
+						Future<?> future = futureReference.get();
+
+						if (future != null) {
+							future.cancel(true);
+						}
+					}
+
+				});
+
+			asyncResponse.setTimeout(_timeout, TimeUnit.MILLISECONDS);
+		}
+
+		final long companyId = CompanyThreadLocal.getCompanyId();
+		final String name = PrincipalThreadLocal.getName();
+		final String password = PrincipalThreadLocal.getPassword();
+		final PermissionChecker permissionChecker =
+			PermissionThreadLocal.getPermissionChecker();
+
+		Runnable runnable = new Runnable() {
+
+			@Override
+			public void run() {
+				if (asyncResponse.isDone()) {
+					return;
+				}
+
+				CompanyThreadLocal.setCompanyId(companyId);
+				PrincipalThreadLocal.setName(name);
+				PrincipalThreadLocal.setPassword(password);
+				PermissionThreadLocal.setPermissionChecker(permissionChecker);
+
+				try {
+					Response response = callable.call();
+
+					if (response != null) {
+						asyncResponse.resume(response);
+					}
+				}
+				catch (Throwable t) {
+					asyncResponse.resume(t);
+				}
+				finally {
+					CompanyThreadLocal.setCompanyId(null);
+					PrincipalThreadLocal.setName(null);
+					PrincipalThreadLocal.setPassword(null);
+					PermissionThreadLocal.setPermissionChecker(null);
+				}
+			}
+
+		};
+
+		try {
+			futureReference.set(_threadPoolExecutor.submit(runnable));
+
+			// The request may have timed out before its future was set
+
+			if (asyncResponse.isDone()) {
+				futureReference.get().cancel(true);
+			}
+		}
+		catch (RejectedExecutionException ree) {
+			if (_log.isDebugEnabled()) {
+				_log.debug("Rejected request", ree);
+			}
+
+			asyncResponse.resume(createServiceUnavailableResponse());
+		}
+	}
+
+	/**
+	 * Stops accepting requests. Requests that were already accepted are still
+	 * run.
+	 */
+	public void shutdown() {
+		_threadPoolExecutor.shutdown();
+	}
+
+	protected Response createServiceUnavailableResponse() {
+		return Response.status(
+			Response.Status.SERVICE_UNAVAILABLE
+		).header(
+			HttpHeaders.RETRY_AFTER, _retryAfter
+		).build();
+	}
+
+	private static final Log _log = LogFactoryUtil.getLog(
+		TaskRequestExecutor.class);
+
+	private final int _retryAfter;
+	private final ThreadPoolExecutor _threadPoolExecutor;
+	private final long _timeout;
+
+}
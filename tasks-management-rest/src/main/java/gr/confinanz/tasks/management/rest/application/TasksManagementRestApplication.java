@@ -2,35 +2,101 @@ package gr.confinanz.tasks.management.rest.application;
 
 import com.liferay.portal.kernel.dao.orm.QueryUtil;
 import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.json.JSONArray;
+import com.liferay.portal.kernel.json.JSONException;
 import com.liferay.portal.kernel.json.JSONFactoryUtil;
+import com.liferay.portal.kernel.json.JSONObject;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.model.Company;
 import com.liferay.portal.kernel.model.Group;
+import com.liferay.portal.kernel.model.UserGroupRole;
+import com.liferay.portal.kernel.search.Document;
+import com.liferay.portal.kernel.search.Field;
+import com.liferay.portal.kernel.search.Hits;
+import com.liferay.portal.kernel.search.Indexer;
+import com.liferay.portal.kernel.search.IndexerRegistryUtil;
+import com.liferay.portal.kernel.search.QueryConfig;
+import com.liferay.portal.kernel.search.SearchContext;
+import com.liferay.portal.kernel.search.SearchException;
+import com.liferay.portal.kernel.search.Sort;
+import com.liferay.portal.kernel.search.facet.Facet;
+import com.liferay.portal.kernel.search.facet.SimpleFacet;
+import com.liferay.portal.kernel.search.facet.collector.FacetCollector;
+import com.liferay.portal.kernel.search.facet.collector.TermCollector;
+import com.liferay.portal.kernel.search.facet.config.FacetConfiguration;
+import com.liferay.portal.kernel.security.auth.PrincipalException;
+import com.liferay.portal.kernel.security.auth.PrincipalThreadLocal;
+import com.liferay.portal.kernel.security.permission.PermissionChecker;
+import com.liferay.portal.kernel.security.permission.PermissionThreadLocal;
 import com.liferay.portal.kernel.service.CompanyService;
 import com.liferay.portal.kernel.service.GroupService;
+import com.liferay.portal.kernel.service.UserGroupRoleLocalService;
+import com.liferay.portal.kernel.service.UserLocalService;
+import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.PortalUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Time;
+import com.liferay.portal.kernel.util.Validator;
+
+import java.io.IOException;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import javax.ws.rs.ApplicationPath;
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.ForbiddenException;
 import javax.ws.rs.GET;
+import javax.ws.rs.InternalServerErrorException;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Application;
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferencePolicyOption;
 
+import aQute.bnd.annotation.metatype.Configurable;
+import gr.confinanz.tasks.management.constants.TaskChangeConstants;
+import gr.confinanz.tasks.management.constants.TaskSearchConstants;
 import gr.confinanz.tasks.management.model.Task;
+import gr.confinanz.tasks.management.model.TaskChange;
+import gr.confinanz.tasks.management.rest.configuration.TasksManagementRestConfiguration;
+import gr.confinanz.tasks.management.rest.json.TaskStreamingOutput;
+import gr.confinanz.tasks.management.rest.json.TaskWriter;
 import gr.confinanz.tasks.management.service.TaskService;
+import gr.confinanz.tasks.management.util.TaskEventBus;
+import gr.confinanz.tasks.management.util.TaskEventSubscription;
+import gr.confinanz.tasks.management.util.TaskVersionUtil;
 
 
 /**
@@ -38,38 +104,559 @@ import gr.confinanz.tasks.management.service.TaskService;
  * 
  */
 @ApplicationPath("/tasks-management")
-@Component(immediate = true, 	service = Application.class
+@Component(
+	configurationPid = "gr.confinanz.tasks.management.rest.configuration.TasksManagementRestConfiguration",
+	immediate = true, service = Application.class
 )
 public class TasksManagementRestApplication extends Application {
 
 	public Set<Object> getSingletons() {
-		return Collections.<Object>singleton(this);
+		Set<Object> singletons = new HashSet<>();
+
+		singletons.add(this);
+		singletons.add(new TaskContentEncodingWriterInterceptor());
+
+		return singletons;
 	}
 	
 	@GET
 	@Path("/task/{taskId}")
+	@Produces(
+		{MediaType.APPLICATION_JSON, TaskStreamingOutput.APPLICATION_CBOR}
+	)
+	public void getTask(
+		@PathParam("taskId") final long taskId,
+		@QueryParam("fields") final String fields,
+		@Context final Request request, @Context HttpHeaders httpHeaders,
+		@Suspended AsyncResponse asyncResponse) {
+
+		final MediaType mediaType = getMediaType(httpHeaders);
+		final String contentEncoding = getContentEncoding(httpHeaders);
+
+		execute(
+			asyncResponse, _requestExecutor, _COST_GET_TASK,
+			new Callable<Response>() {
+
+				@Override
+				public Response call() {
+					return doGetTask(
+						taskId, fields, request, mediaType, contentEncoding);
+				}
+
+			});
+	}
+
+	@GET
+	@Path("/tasks")
+	@Produces(
+		{MediaType.APPLICATION_JSON, TaskStreamingOutput.APPLICATION_CBOR}
+	)
+	public void getTasks(
+		@QueryParam("ids") final String ids,
+		@QueryParam("fields") final String fields,
+		@Context final Request request, @Context HttpHeaders httpHeaders,
+		@Suspended AsyncResponse asyncResponse) {
+
+		final MediaType mediaType = getMediaType(httpHeaders);
+		final String contentEncoding = getContentEncoding(httpHeaders);
+
+		int cost = _COST_GET_TASKS;
+
+		if (Validator.isNotNull(ids)) {
+			cost = _COST_GET_TASKS_BY_IDS;
+		}
+
+		execute(
+			asyncResponse, _requestExecutor, cost,
+			new Callable<Response>() {
+
+				@Override
+				public Response call() {
+					return doGetTasks(
+						ids, fields, request, mediaType, contentEncoding);
+				}
+
+			});
+	}
+
+	/**
+	 * Returns the task changes after the sequence. A client stores the
+	 * returned <code>sequence</code> and passes it as <code>since</code> on
+	 * the next call. Changes are kept for a limited time, so a client that
+	 * falls further behind has to load <code>/tasks</code> again.
+	 */
+	@GET
+	@Path("/tasks/changes")
+	@Produces(MediaType.APPLICATION_JSON)
+	public void getChanges(
+		@DefaultValue("0") @QueryParam("since") final long since,
+		@DefaultValue("100") @QueryParam("limit") final int limit,
+		@Suspended AsyncResponse asyncResponse) {
+
+		execute(
+			asyncResponse, _requestExecutor, _COST_GET_CHANGES,
+			new Callable<Response>() {
+
+				@Override
+				public Response call() {
+					return doGetChanges(since, limit);
+				}
+
+			});
+	}
+
+	/**
+	 * Returns the number of requests that were throttled per client since
+	 * the rate limits were last configured. Only company administrators can
+	 * read them.
+	 */
+	@GET
+	@Path("/tasks/limits")
+	@Produces(MediaType.APPLICATION_JSON)
+	public void getLimits(@Suspended AsyncResponse asyncResponse) {
+		execute(
+			asyncResponse, _requestExecutor, _COST_GET_LIMITS,
+			new Callable<Response>() {
+
+				@Override
+				public Response call() {
+					return doGetLimits();
+				}
+
+			});
+	}
+
+	/**
+	 * Returns the tasks of the group that are likely duplicates of a task
+	 * with the title and description, the most similar first, so a client
+	 * can warn before adding it. The tasks are compared by MinHash signature
+	 * in memory, without the search engine.
+	 */
+	@GET
+	@Path("/tasks/similar")
+	@Produces(MediaType.APPLICATION_JSON)
+	public void getSimilarTasks(
+		@QueryParam("groupId") final long groupId,
+		@QueryParam("title") final String title,
+		@QueryParam("description") final String description,
+		@DefaultValue("5") @QueryParam("limit") final int limit,
+		@Suspended AsyncResponse asyncResponse) {
+
+		execute(
+			asyncResponse, _requestExecutor, _COST_GET_SIMILAR_TASKS,
+			new Callable<Response>() {
+
+				@Override
+				public Response call() {
+					return doGetSimilarTasks(
+						groupId, title, description, limit);
+				}
+
+			});
+	}
+
+	/**
+	 * Searches the tasks through the search index. The keywords are matched
+	 * against the title and description, and the other parameters filter on
+	 * the indexed fields, so filtered searches never reach the database.
+	 * Results are paged with <code>start</code> and <code>size</code> and
+	 * come with the counts of the matching tasks per completion state,
+	 * assignee and status.
+	 */
+	@GET
+	@Path("/tasks/search")
+	@Produces(MediaType.APPLICATION_JSON)
+	public void searchTasks(
+		@QueryParam("q") final String keywords,
+		@QueryParam("groupId") final long groupId,
+		@QueryParam("completed") final String completed,
+		@QueryParam("taskUserId") final long taskUserId,
+		@QueryParam("dueBefore") final long dueBefore,
+		@QueryParam("sort") final String sort,
+		@DefaultValue("0") @QueryParam("start") final int start,
+		@DefaultValue("20") @QueryParam("size") final int size,
+		@Suspended AsyncResponse asyncResponse) {
+
+		execute(
+			asyncResponse, _requestExecutor, _COST_SEARCH_TASKS,
+			new Callable<Response>() {
+
+				@Override
+				public Response call() {
+					return doSearchTasks(
+						keywords, groupId, completed, taskUserId, dueBefore,
+						sort, start, size);
+				}
+
+			});
+	}
+
+	/**
+	 * Streams the add, update and delete events of the tasks of the group as
+	 * server-sent events, so that task boards do not have to poll. Events are
+	 * buffered per connection; a client that cannot keep up receives a
+	 * <code>resync</code> event and should reload the tasks. Once the
+	 * configured maximum of streams is open, the request is answered with
+	 * <code>503</code>.
+	 */
+	@GET
+	@Path("/tasks/stream")
+	@Produces(_MEDIA_TYPE_EVENT_STREAM)
+	public void streamTasks(
+		@QueryParam("groupId") final long groupId,
+		@Context final HttpServletResponse httpServletResponse,
+		@Suspended final AsyncResponse asyncResponse) {
+
+		execute(
+			asyncResponse, _requestExecutor, _COST_STREAM_TASKS,
+			new Callable<Response>() {
+
+				@Override
+				public Response call() {
+					return doStreamTasks(
+						groupId, asyncResponse, httpServletResponse);
+				}
+
+			});
+	}
+
+	/**
+	 * Returns the tasks of the group whose title words start with the words
+	 * of the query, for type-ahead. The titles are matched against an
+	 * in-memory index, so the call is cheap enough to make per keystroke.
+	 */
+	@GET
+	@Path("/tasks/suggest")
 	@Produces(MediaType.APPLICATION_JSON)
-	public String getTask(@PathParam("taskId") long taskId) {
+	public void suggestTasks(
+		@QueryParam("groupId") final long groupId,
+		@QueryParam("q") final String query,
+		@DefaultValue("10") @QueryParam("limit") final int limit,
+		@Suspended AsyncResponse asyncResponse) {
+
+		execute(
+			asyncResponse, _requestExecutor, _COST_SUGGEST_TASKS,
+			new Callable<Response>() {
+
+				@Override
+				public Response call() {
+					return doSuggestTasks(groupId, query, limit);
+				}
+
+			});
+	}
+
+	@POST
+	@Path("/tasks/batch")
+	@Consumes(MediaType.APPLICATION_JSON)
+	@Produces(MediaType.APPLICATION_JSON)
+	public void updateTasks(
+		final String operations, @QueryParam("atomic") final boolean atomic,
+		@DefaultValue("50") @QueryParam("chunkSize") final int chunkSize,
+		@Suspended AsyncResponse asyncResponse) {
+
+		execute(
+			asyncResponse, _requestExecutor, _COST_UPDATE_TASKS,
+			new Callable<Response>() {
+
+				@Override
+				public Response call() {
+					return doUpdateTasks(operations, atomic, chunkSize);
+				}
+
+			});
+	}
+
+	/**
+	 * Adds a facet counting the matching tasks per term of the field. A
+	 * filter on the field is read from the search context attribute of the
+	 * same name.
+	 */
+	protected Facet addFacet(SearchContext searchContext, String fieldName) {
+		Facet facet = new SimpleFacet(searchContext);
+
+		FacetConfiguration facetConfiguration = new FacetConfiguration();
+
+		JSONObject dataJSONObject = JSONFactoryUtil.createJSONObject();
+
+		dataJSONObject.put("frequencyThreshold", 1);
+		dataJSONObject.put("maxTerms", _MAX_FACET_TERMS);
+
+		facetConfiguration.setDataJSONObject(dataJSONObject);
+		facetConfiguration.setFieldName(fieldName);
+		facetConfiguration.setOrder("OrderHitsDesc");
+		facetConfiguration.setStatic(false);
+
+		facet.setFacetConfiguration(facetConfiguration);
+		facet.setFieldName(fieldName);
+		facet.setStatic(false);
+
+		searchContext.addFacet(facet);
+
+		return facet;
+	}
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		TasksManagementRestConfiguration tasksManagementRestConfiguration =
+			Configurable.createConfigurable(
+				TasksManagementRestConfiguration.class, properties);
+
+		double rateLimitPermitsPerSecond =
+			tasksManagementRestConfiguration.rateLimitPermitsPerSecond();
+
+		if (!tasksManagementRestConfiguration.rateLimitEnabled()) {
+			_rateLimiter = null;
+		}
+		else if (!(rateLimitPermitsPerSecond > 0)) {
+			_log.error(
+				"Rate limiting is disabled because the permits per second " +
+					"are not positive: " + rateLimitPermitsPerSecond);
+
+			_rateLimiter = null;
+		}
+		else {
+			_rateLimiter = new TaskRateLimiter(
+				_RATE_LIMITER_STRIPES, rateLimitPermitsPerSecond,
+				tasksManagementRestConfiguration.rateLimitBurst());
+		}
+
+		TaskRequestExecutor requestExecutor = _requestExecutor;
+
+		_requestExecutor = new TaskRequestExecutor(
+			"TasksManagementRestRequest",
+			tasksManagementRestConfiguration.requestThreads(),
+			tasksManagementRestConfiguration.requestQueueDepth(),
+			tasksManagementRestConfiguration.requestTimeout(),
+			tasksManagementRestConfiguration.retryAfter());
+
+		TaskEventStreamer streamer = _streamer;
+
+		_streamer = new TaskEventStreamer(
+			"TasksManagementRestStream",
+			tasksManagementRestConfiguration.streamThreads(),
+			_STREAM_WRITE_INTERVAL);
+
+		_maxStreams = tasksManagementRestConfiguration.maxStreams();
+		_retryAfter = tasksManagementRestConfiguration.retryAfter();
+
+		if (requestExecutor != null) {
+			requestExecutor.shutdown();
+		}
+
+		if (streamer != null) {
+			streamer.shutdown();
+		}
+	}
+
+	@Deactivate
+	protected void deactivate() {
+		_requestExecutor.shutdown();
+		_streamer.shutdown();
+	}
+
+	protected Response doGetLimits() {
+		PermissionChecker permissionChecker =
+			PermissionThreadLocal.getPermissionChecker();
+
+		if ((permissionChecker == null) ||
+			!permissionChecker.isCompanyAdmin(
+				PortalUtil.getDefaultCompanyId())) {
+
+			throw new ForbiddenException();
+		}
+
+		JSONObject clientsJSONObject = JSONFactoryUtil.createJSONObject();
+
+		long throttledCount = 0;
+
+		TaskRateLimiter rateLimiter = _rateLimiter;
+
+		if (rateLimiter != null) {
+			Map<String, Long> throttledCounts =
+				rateLimiter.getThrottledCounts();
+
+			for (Map.Entry<String, Long> entry : throttledCounts.entrySet()) {
+				clientsJSONObject.put(entry.getKey(), entry.getValue());
+
+				throttledCount += entry.getValue();
+			}
+		}
+
+		JSONObject jsonObject = JSONFactoryUtil.createJSONObject();
+
+		jsonObject.put("enabled", rateLimiter != null);
+		jsonObject.put("throttled", throttledCount);
+		jsonObject.put("clients", clientsJSONObject);
+
+		return Response.ok(jsonObject.toString()).build();
+	}
+
+	protected Response doGetChanges(long since, int limit) {
+		limit = Math.max(1, Math.min(limit, _MAX_CHANGES));
+
+		List<TaskChange> taskChanges = null;
+
+		try {
+			taskChanges = _taskService.getChangesSince(
+				PortalUtil.getDefaultCompanyId(), since, limit);
+		}
+		catch (PrincipalException pe) {
+			throw new ForbiddenException(pe);
+		}
+		catch (PortalException pe) {
+			_log.error(pe, pe);
+
+			throw new InternalServerErrorException(pe);
+		}
+
+		JSONArray changesJSONArray = JSONFactoryUtil.createJSONArray();
+
+		long sequence = since;
+
+		for (TaskChange taskChange : taskChanges) {
+			JSONObject changeJSONObject = JSONFactoryUtil.createJSONObject();
+
+			changeJSONObject.put("sequence", taskChange.getTaskChangeId());
+			changeJSONObject.put("taskId", taskChange.getTaskId());
+			changeJSONObject.put("groupId", taskChange.getGroupId());
+			changeJSONObject.put(
+				"operation",
+				TaskChangeConstants.getTypeLabel(taskChange.getChangeType()));
+			changeJSONObject.put(
+				"fields",
+				JSONFactoryUtil.createJSONArray(
+					TaskChangeConstants.getFieldNames(
+						taskChange.getFieldMask())));
+			changeJSONObject.put(
+				"createDate", taskChange.getCreateDate().getTime());
+
+			changesJSONArray.put(changeJSONObject);
+
+			sequence = taskChange.getTaskChangeId();
+		}
+
+		JSONObject jsonObject = JSONFactoryUtil.createJSONObject();
+
+		jsonObject.put("changes", changesJSONArray);
+		jsonObject.put("sequence", sequence);
+
+		return Response.ok(jsonObject.toString()).build();
+	}
+
+	protected Response doGetSimilarTasks(
+		long groupId, String title, String description, int limit) {
+
+		List<Task> tasks = null;
+
 		try {
-			return JSONFactoryUtil.serialize(_taskService.getTask(taskId));
+			tasks = _taskService.getSimilarTasks(
+				groupId, title, description,
+				Math.max(1, Math.min(limit, _MAX_SUGGESTIONS)));
+		}
+		catch (PortalException pe) {
+			_log.error(pe, pe);
+
+			throw new InternalServerErrorException(pe);
+		}
+
+		return Response.ok(getTitlesJSONArray(tasks).toString()).build();
+	}
+
+	protected Response doGetTask(
+		long taskId, String fields, Request request, MediaType mediaType,
+		String contentEncoding) {
+
+		try {
+			final Task task = _taskService.getTask(taskId);
+
+			int fieldsMask = TaskWriter.getFields(fields);
+
+			EntityTag entityTag = TaskEntityTagUtil.getVariantEntityTag(
+				TaskEntityTagUtil.getEntityTag(task, fieldsMask), mediaType);
+
+			// The modified date does not move when the user of the task is
+			// renamed, so only the entity tag is evaluated and no
+			// Last-Modified header is sent
+
+			ResponseBuilder responseBuilder = request.evaluatePreconditions(
+				entityTag);
+
+			if (responseBuilder != null) {
+				return responseBuilder.cacheControl(_cacheControl).build();
+			}
+
+			TaskStreamingOutput taskStreamingOutput = new TaskStreamingOutput(
+				fieldsMask, mediaType) {
+
+				@Override
+				protected void write(TaskWriter taskWriter)
+					throws IOException {
+
+					taskWriter.writeTask(task);
+				}
+
+			};
+
+			return Response.ok(
+				taskStreamingOutput.toByteArray(), mediaType
+			).header(
+				HttpHeaders.CONTENT_ENCODING, contentEncoding
+			).header(
+				HttpHeaders.VARY, _VARY
+			).cacheControl(
+				_cacheControl
+			).tag(
+				entityTag
+			).build();
 		}
 		catch (Exception e) {
 			_log.error(e, e);
 
-			return "{}";
+			return Response.ok(
+				TaskStreamingOutput.of("{}"), MediaType.APPLICATION_JSON_TYPE
+			).build();
 		}
 	}
 
-	@GET
-	@Path("/tasks")
-	@Produces(MediaType.APPLICATION_JSON)
-	public String getTasks() {
+	protected Response doGetTasks(
+		String ids, String fields, Request request, MediaType mediaType,
+		String contentEncoding) {
+
+		int fieldsMask = TaskWriter.getFields(fields);
+
+		if (Validator.isNotNull(ids)) {
+			return getTasks(
+				StringUtil.split(ids, 0L), fieldsMask, request, mediaType,
+				contentEncoding);
+		}
+
+		long companyId = PortalUtil.getDefaultCompanyId();
+
+		// The company version changes on every task write, so an unchanged
+		// list is answered before any group or task is loaded
+
+		long userId = PrincipalThreadLocal.getUserId();
+
+		EntityTag entityTag = TaskEntityTagUtil.getVariantEntityTag(
+			TaskEntityTagUtil.getCompanyEntityTag(
+				companyId, TaskVersionUtil.getCompanyVersion(companyId), userId,
+				getPermissionsHash(userId), fieldsMask),
+			mediaType);
+
+		ResponseBuilder responseBuilder = request.evaluatePreconditions(
+			entityTag);
+
+		if (responseBuilder != null) {
+			return responseBuilder.cacheControl(_cacheControl).build();
+		}
+
 		Company company;
-		List<Task> tasks = new ArrayList<>();
+		final List<Task> tasks = new ArrayList<>();
 
 		try {
-			company = _companyService.getCompanyById(
-				PortalUtil.getDefaultCompanyId());
+			company = _companyService.getCompanyById(companyId);
 
 			List<Group> groups = _groupService.getGroups(
 				company.getCompanyId(), 0, true);
@@ -81,25 +668,562 @@ public class TasksManagementRestApplication extends Application {
 						QueryUtil.ALL_POS, QueryUtil.ALL_POS));
 			}
 
-			return JSONFactoryUtil.serialize(tasks);
+			TaskStreamingOutput taskStreamingOutput = new TaskStreamingOutput(
+				fieldsMask, mediaType) {
+
+				@Override
+				protected void write(TaskWriter taskWriter)
+					throws IOException {
+
+					taskWriter.writeTasks(tasks);
+				}
+
+			};
+
+			return Response.ok(
+				taskStreamingOutput.toByteArray(), mediaType
+			).header(
+				HttpHeaders.CONTENT_ENCODING, contentEncoding
+			).header(
+				HttpHeaders.VARY, _VARY
+			).cacheControl(
+				_cacheControl
+			).tag(
+				entityTag
+			).build();
+		}
+		catch (IOException ioe) {
+			throw new InternalServerErrorException(ioe);
+		}
+		catch (PortalException pe) {
+			_log.error(pe, pe);
+
+			return Response.ok(
+				TaskStreamingOutput.of("[{}]"), MediaType.APPLICATION_JSON_TYPE
+			).build();
+		}
+	}
+
+	protected Response doSearchTasks(
+		String keywords, long groupId, String completed, long taskUserId,
+		long dueBefore, String sort, int start, int size) {
+
+		start = Math.max(0, start);
+		size = Math.max(1, Math.min(size, _MAX_SEARCH_SIZE));
+
+		SearchContext searchContext = new SearchContext();
+
+		if (Validator.isNotNull(completed)) {
+			searchContext.setAttribute(
+				TaskSearchConstants.COMPLETED,
+				String.valueOf(GetterUtil.getBoolean(completed)));
+		}
+
+		if (dueBefore > 0) {
+			searchContext.setAttribute(
+				TaskSearchConstants.DUE_BEFORE, dueBefore);
+		}
+
+		if (taskUserId > 0) {
+			searchContext.setAttribute(
+				TaskSearchConstants.TASK_USER_ID, String.valueOf(taskUserId));
+		}
+
+		searchContext.setCompanyId(PortalUtil.getDefaultCompanyId());
+		searchContext.setEnd(start + size);
+
+		if (groupId > 0) {
+			searchContext.setGroupIds(new long[] {groupId});
+		}
+
+		if (Validator.isNotNull(keywords)) {
+			searchContext.setKeywords(keywords);
+		}
+
+		if (Validator.isNotNull(sort)) {
+			searchContext.setSorts(getSort(sort));
+		}
+
+		searchContext.setStart(start);
+		searchContext.setUserId(PrincipalThreadLocal.getUserId());
+
+		QueryConfig queryConfig = searchContext.getQueryConfig();
+
+		queryConfig.setHighlightEnabled(false);
+
+		Facet[] facets = {
+			addFacet(searchContext, TaskSearchConstants.COMPLETED),
+			addFacet(searchContext, TaskSearchConstants.TASK_USER_ID),
+			addFacet(searchContext, Field.STATUS)
+		};
+
+		Indexer<Task> indexer = IndexerRegistryUtil.nullSafeGetIndexer(
+			Task.class);
+
+		Hits hits = null;
+
+		try {
+			hits = indexer.search(searchContext);
+		}
+		catch (SearchException se) {
+			_log.error(se, se);
+
+			throw new InternalServerErrorException(se);
+		}
+
+		JSONArray hitsJSONArray = JSONFactoryUtil.createJSONArray();
+
+		for (Document document : hits.getDocs()) {
+			JSONObject hitJSONObject = JSONFactoryUtil.createJSONObject();
+
+			hitJSONObject.put(
+				"taskId",
+				GetterUtil.getLong(document.get(Field.ENTRY_CLASS_PK)));
+			hitJSONObject.put(
+				"groupId", GetterUtil.getLong(document.get(Field.GROUP_ID)));
+			hitJSONObject.put(
+				"title", document.get(TaskSearchConstants.TASK_TITLE));
+			hitJSONObject.put(
+				"excerpt",
+				document.get(TaskSearchConstants.DESCRIPTION_EXCERPT));
+
+			long expirationDate = GetterUtil.getLong(
+				document.get(
+					Field.getSortableFieldName(
+						TaskSearchConstants.EXPIRATION_DATE)));
+
+			if (expirationDate > 0) {
+				hitJSONObject.put("expirationDate", expirationDate);
+			}
+
+			hitJSONObject.put(
+				"taskUserId",
+				GetterUtil.getLong(
+					document.get(TaskSearchConstants.TASK_USER_ID)));
+			hitJSONObject.put(
+				"completed",
+				GetterUtil.getBoolean(
+					document.get(TaskSearchConstants.COMPLETED)));
+			hitJSONObject.put(
+				"status", GetterUtil.getInteger(document.get(Field.STATUS)));
+
+			hitsJSONArray.put(hitJSONObject);
+		}
+
+		JSONObject facetsJSONObject = JSONFactoryUtil.createJSONObject();
+
+		for (Facet facet : facets) {
+			JSONArray termsJSONArray = JSONFactoryUtil.createJSONArray();
+
+			FacetCollector facetCollector = facet.getFacetCollector();
+
+			if (facetCollector != null) {
+				for (TermCollector termCollector :
+						facetCollector.getTermCollectors()) {
+
+					JSONObject termJSONObject =
+						JSONFactoryUtil.createJSONObject();
+
+					termJSONObject.put("term", termCollector.getTerm());
+					termJSONObject.put(
+						"frequency", termCollector.getFrequency());
+
+					termsJSONArray.put(termJSONObject);
+				}
+			}
+
+			facetsJSONObject.put(facet.getFieldName(), termsJSONArray);
+		}
+
+		JSONObject jsonObject = JSONFactoryUtil.createJSONObject();
+
+		jsonObject.put("total", hits.getLength());
+		jsonObject.put("start", start);
+		jsonObject.put("size", size);
+		jsonObject.put("hits", hitsJSONArray);
+		jsonObject.put("facets", facetsJSONObject);
+
+		return Response.ok(jsonObject.toString()).build();
+	}
+
+	/**
+	 * Opens a stream of the events of the group on the streamer and returns
+	 * <code>null</code>, which leaves the request suspended until the stream
+	 * ends.
+	 */
+	protected Response doStreamTasks(
+		long groupId, AsyncResponse asyncResponse,
+		HttpServletResponse httpServletResponse) {
+
+		try {
+			_groupService.getGroup(groupId);
+		}
+		catch (PrincipalException pe) {
+			throw new ForbiddenException(pe);
+		}
+		catch (PortalException pe) {
+			throw new NotFoundException(pe);
+		}
+
+		TaskEventSubscription subscription = TaskEventBus.subscribe(
+			groupId, _STREAM_BUFFER_SIZE, _maxStreams);
+
+		if (subscription == null) {
+			return Response.status(
+				Response.Status.SERVICE_UNAVAILABLE
+			).header(
+				HttpHeaders.RETRY_AFTER, _retryAfter
+			).build();
+		}
+
+		// The stream ends on its own after its maximum duration, so the
+		// timeout of the request executor no longer applies
+
+		asyncResponse.setTimeout(0, TimeUnit.MILLISECONDS);
+
+		_streamer.open(
+			new TaskEventStream(
+				asyncResponse, httpServletResponse, subscription,
+				PermissionThreadLocal.getPermissionChecker(),
+				_STREAM_HEARTBEAT_INTERVAL, _STREAM_MAX_DURATION));
+
+		return null;
+	}
+
+	protected Response doSuggestTasks(long groupId, String query, int limit) {
+		List<Task> tasks = null;
+
+		try {
+			tasks = _taskService.suggestTasks(
+				groupId, query, Math.max(1, Math.min(limit, _MAX_SUGGESTIONS)));
 		}
 		catch (PortalException pe) {
 			_log.error(pe, pe);
 
-			return "[{}]";
+			throw new InternalServerErrorException(pe);
+		}
+
+		return Response.ok(getTitlesJSONArray(tasks).toString()).build();
+	}
+
+	protected Response doUpdateTasks(
+		String operations, boolean atomic, int chunkSize) {
+
+		JSONArray operationsJSONArray = null;
+
+		try {
+			operationsJSONArray = JSONFactoryUtil.createJSONArray(operations);
+		}
+		catch (JSONException jsone) {
+			throw new BadRequestException("Unable to parse operations", jsone);
 		}
+
+		if (operationsJSONArray.length() > _MAX_BATCH_OPERATIONS) {
+			throw new BadRequestException(
+				"Unable to run more than " + _MAX_BATCH_OPERATIONS +
+					" operations at once");
+		}
+
+		chunkSize = Math.max(1, Math.min(chunkSize, _MAX_BATCH_CHUNK_SIZE));
+
+		TaskBatchProcessor taskBatchProcessor = new TaskBatchProcessor(
+			_taskService, chunkSize, atomic);
+
+		JSONArray resultsJSONArray = taskBatchProcessor.process(
+			operationsJSONArray);
+
+		return Response.ok(resultsJSONArray.toString()).build();
+	}
+
+	/**
+	 * Runs the request on the executor if the client has enough permits left
+	 * for the cost of the request, or answers it with <code>429</code>
+	 * otherwise.
+	 */
+	protected void execute(
+		AsyncResponse asyncResponse, TaskRequestExecutor requestExecutor,
+		int cost, Callable<Response> callable) {
+
+		TaskRateLimiter rateLimiter = _rateLimiter;
+
+		if (rateLimiter != null) {
+			long retryAfter = rateLimiter.acquire(getClientKey(), cost);
+
+			if (retryAfter > 0) {
+				asyncResponse.resume(
+					Response.status(
+						_STATUS_TOO_MANY_REQUESTS
+					).header(
+						HttpHeaders.RETRY_AFTER, retryAfter
+					).build());
+
+				return;
+			}
+		}
+
+		requestExecutor.execute(asyncResponse, callable);
+	}
+
+	/**
+	 * Returns the key of the authenticated user, or of the remote address for
+	 * requests without a user.
+	 */
+	protected String getClientKey() {
+		long userId = PrincipalThreadLocal.getUserId();
+
+		if (userId > 0) {
+			return "user:" + userId;
+		}
+
+		return "address:" + _httpServletRequest.getRemoteAddr();
 	}
 
+	protected String getContentEncoding(HttpHeaders httpHeaders) {
+		return TaskContentEncodingWriterInterceptor.getContentEncoding(
+			httpHeaders.getHeaderString(HttpHeaders.ACCEPT_ENCODING));
+	}
+
+	/**
+	 * Returns CBOR if the client prefers it to JSON, or JSON otherwise.
+	 */
+	protected MediaType getMediaType(HttpHeaders httpHeaders) {
+		for (MediaType mediaType : httpHeaders.getAcceptableMediaTypes()) {
+			if (mediaType.isWildcardType() || mediaType.isWildcardSubtype()) {
+				break;
+			}
+
+			if (mediaType.isCompatible(
+					TaskStreamingOutput.APPLICATION_CBOR_TYPE)) {
+
+				return TaskStreamingOutput.APPLICATION_CBOR_TYPE;
+			}
+
+			if (mediaType.isCompatible(MediaType.APPLICATION_JSON_TYPE)) {
+				break;
+			}
+		}
+
+		return MediaType.APPLICATION_JSON_TYPE;
+	}
+
+	/**
+	 * Returns a hash of the roles and memberships of the user. They decide
+	 * which sites and tasks the user gets without changing any task, so the
+	 * company version alone does not cover them.
+	 */
+	protected long getPermissionsHash(long userId) {
+		List<UserGroupRole> userGroupRoles =
+			_userGroupRoleLocalService.getUserGroupRoles(userId);
+
+		long[] userGroupRoleKeys = new long[userGroupRoles.size()];
+
+		for (int i = 0; i < userGroupRoles.size(); i++) {
+			UserGroupRole userGroupRole = userGroupRoles.get(i);
+
+			userGroupRoleKeys[i] =
+				(31 * userGroupRole.getGroupId()) + userGroupRole.getRoleId();
+		}
+
+		return TaskEntityTagUtil.getPermissionsHash(
+			_userLocalService.getRolePrimaryKeys(userId),
+			_userLocalService.getGroupPrimaryKeys(userId),
+			_userLocalService.getOrganizationPrimaryKeys(userId),
+			_userLocalService.getUserGroupPrimaryKeys(userId),
+			userGroupRoleKeys);
+	}
+
+	/**
+	 * Returns the sort for the <code>sort</code> parameter: the name of a date
+	 * field, prefixed with <code>-</code> for descending order.
+	 */
+	protected Sort getSort(String sort) {
+		boolean reverse = sort.startsWith(StringPool.DASH);
+
+		String fieldName = sort;
+
+		if (reverse) {
+			fieldName = sort.substring(1);
+		}
+
+		if (!fieldName.equals(Field.MODIFIED_DATE) &&
+			!fieldName.equals(TaskSearchConstants.EXPIRATION_DATE)) {
+
+			throw new BadRequestException("Unable to sort by " + fieldName);
+		}
+
+		return new Sort(fieldName, Sort.LONG_TYPE, reverse);
+	}
+
+	/**
+	 * Returns the tasks with the primary keys as one JSON array, in the order
+	 * of the primary keys. The tasks are loaded and permission checked in
+	 * bulk. A task that could not be found or viewed is returned as an error
+	 * slot holding its <code>taskId</code>.
+	 */
+	protected Response getTasks(
+		final long[] taskIds, int fields, Request request, MediaType mediaType,
+		String contentEncoding) {
+
+		if (taskIds.length > _MAX_TASK_IDS) {
+			throw new BadRequestException(
+				"Unable to get more than " + _MAX_TASK_IDS + " tasks at once");
+		}
+
+		try {
+			final Task[] tasks = _taskService.fetchTasks(taskIds);
+
+			EntityTag entityTag = TaskEntityTagUtil.getVariantEntityTag(
+				TaskEntityTagUtil.getEntityTag(
+					taskIds, tasks, PrincipalThreadLocal.getUserId(), fields),
+				mediaType);
+
+			ResponseBuilder responseBuilder = request.evaluatePreconditions(
+				entityTag);
+
+			if (responseBuilder != null) {
+				return responseBuilder.cacheControl(_cacheControl).build();
+			}
+
+			TaskStreamingOutput taskStreamingOutput = new TaskStreamingOutput(
+				fields, mediaType) {
+
+				@Override
+				protected void write(TaskWriter taskWriter)
+					throws IOException {
+
+					taskWriter.writeTasks(taskIds, tasks, "not-found");
+				}
+
+			};
+
+			return Response.ok(
+				taskStreamingOutput.toByteArray(), mediaType
+			).header(
+				HttpHeaders.CONTENT_ENCODING, contentEncoding
+			).header(
+				HttpHeaders.VARY, _VARY
+			).cacheControl(
+				_cacheControl
+			).tag(
+				entityTag
+			).build();
+		}
+		catch (IOException ioe) {
+			throw new InternalServerErrorException(ioe);
+		}
+		catch (PortalException pe) {
+			_log.error(pe, pe);
+
+			return Response.ok(
+				TaskStreamingOutput.of("[{}]"), MediaType.APPLICATION_JSON_TYPE
+			).build();
+		}
+	}
+
+	/**
+	 * Returns the primary keys and titles of the tasks, which is all a
+	 * suggestion list needs.
+	 */
+	protected JSONArray getTitlesJSONArray(List<Task> tasks) {
+		JSONArray jsonArray = JSONFactoryUtil.createJSONArray();
+
+		for (Task task : tasks) {
+			JSONObject jsonObject = JSONFactoryUtil.createJSONObject();
+
+			jsonObject.put("taskId", task.getTaskId());
+			jsonObject.put("title", task.getTitle());
+
+			jsonArray.put(jsonObject);
+		}
+
+		return jsonArray;
+	}
+
+	private static final int _COST_GET_CHANGES = 2;
+
+	private static final int _COST_GET_LIMITS = 1;
+
+	private static final int _COST_GET_SIMILAR_TASKS = 2;
+
+	private static final int _COST_GET_TASK = 1;
+
+	private static final int _COST_GET_TASKS = 50;
+
+	private static final int _COST_GET_TASKS_BY_IDS = 5;
+
+	private static final int _COST_SEARCH_TASKS = 10;
+
+	private static final int _COST_STREAM_TASKS = 10;
+
+	private static final int _COST_SUGGEST_TASKS = 1;
+
+	private static final int _COST_UPDATE_TASKS = 10;
+
+	private static final int _MAX_BATCH_CHUNK_SIZE = 500;
+
+	private static final int _MAX_BATCH_OPERATIONS = 1000;
+
+	private static final int _MAX_CHANGES = 1000;
+
+	private static final int _MAX_FACET_TERMS = 50;
+
+	private static final int _MAX_SEARCH_SIZE = 100;
+
+	private static final int _MAX_SUGGESTIONS = 20;
+
+	private static final int _MAX_TASK_IDS = 100;
+
+	private static final String _MEDIA_TYPE_EVENT_STREAM = "text/event-stream";
+
+	private static final int _RATE_LIMITER_STRIPES = 4096;
+
+	private static final int _STATUS_TOO_MANY_REQUESTS = 429;
+
+	private static final int _STREAM_BUFFER_SIZE = 256;
+
+	private static final long _STREAM_HEARTBEAT_INTERVAL = 15 * Time.SECOND;
+
+	private static final long _STREAM_MAX_DURATION = 30 * Time.MINUTE;
+
+	private static final long _STREAM_WRITE_INTERVAL = 250;
+
+	private static final String _VARY =
+		HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
 	private static Log _log = LogFactoryUtil.getLog(TasksManagementRestApplication.class);
 
+	private static final CacheControl _cacheControl;
+
+	static {
+		_cacheControl = new CacheControl();
+
+		_cacheControl.setNoCache(true);
+		_cacheControl.setPrivate(true);
+	}
+
 	@Reference(policyOption = ReferencePolicyOption.GREEDY)
 	private CompanyService _companyService;
 
 	@Reference(policyOption = ReferencePolicyOption.GREEDY)
 	private GroupService _groupService;
 
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+	private volatile int _maxStreams;
+	private volatile TaskRateLimiter _rateLimiter;
+	private volatile TaskRequestExecutor _requestExecutor;
+	private volatile int _retryAfter;
+	private volatile TaskEventStreamer _streamer;
+
 	@Reference(policyOption = ReferencePolicyOption.GREEDY)
 	private TaskService _taskService;
+
+	@Reference(policyOption = ReferencePolicyOption.GREEDY)
+	private UserGroupRoleLocalService _userGroupRoleLocalService;
+
+	@Reference(policyOption = ReferencePolicyOption.GREEDY)
+	private UserLocalService _userLocalService;
 	
 	// Generated example
 //	@GET
@@ -0,0 +1,81 @@
+package gr.confinanz.tasks.management.rest.configuration;
+
+import aQute.bnd.annotation.metatype.Meta;
+
+/**
+ * Limits of the executors that run the requests of the tasks management REST
+ * application.
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+@Meta.OCD(
+	id = "gr.confinanz.tasks.management.rest.configuration.TasksManagementRestConfiguration",
+	name = "Tasks Management REST"
+)
+public interface TasksManagementRestConfiguration {
+
+	@Meta.AD(
+		deflt = "16",
+		description = "The number of threads that run requests.",
+		required = false
+	)
+	public int requestThreads();
+
+	@Meta.AD(
+		deflt = "100",
+		description = "The number of requests that can wait for a thread. Requests beyond it are answered with 503.",
+		required = false
+	)
+	public int requestQueueDepth();
+
+	@Meta.AD(
+		deflt = "30000",
+		description = "The number of milliseconds after which a request that has not started responding is answered with 503.",
+		required = false
+	)
+	public long requestTimeout();
+
+	@Meta.AD(
+		deflt = "30",
+		description = "The number of seconds sent in the Retry-After header of a 503 response.",
+		required = false
+	)
+	public int retryAfter();
+
+	@Meta.AD(
+		deflt = "500",
+		description = "The maximum number of open task event streams.",
+		required = false
+	)
+	public int maxStreams();
+
+	@Meta.AD(
+		deflt = "2",
+		description = "The number of threads that write the events of the open task event streams.",
+		required = false
+	)
+	public int streamThreads();
+
+	@Meta.AD(
+		deflt = "true",
+		description = "Whether the requests of every client are rate limited.",
+		required = false
+	)
+	public boolean rateLimitEnabled();
+
+	@Meta.AD(
+		deflt = "20",
+		description = "The number of permits a client gains per second. A single task costs 1 permit and a full task list 50.",
+		required = false
+	)
+	public double rateLimitPermitsPerSecond();
+
+	@Meta.AD(
+		deflt = "200",
+		description = "The number of permits a client can spend at once.",
+		required = false
+	)
+	public int rateLimitBurst();
+
+}
@@ -0,0 +1,245 @@
+package gr.confinanz.tasks.management.rest.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes tasks as CBOR (RFC 7049) straight to an output stream.
+ *
+ * <p>
+ * Arrays and tasks are written as indefinite length arrays and maps, so the
+ * number of tasks does not have to be known up front. Field names are text
+ * strings encoded once, integers use the shortest encoding that fits and
+ * strings are written as definite length UTF-8 text.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskCBORWriter extends TaskWriter {
+
+	public TaskCBORWriter(OutputStream outputStream, int fields) {
+		super(outputStream, fields);
+	}
+
+	@Override
+	protected void writeBoolean(boolean value) throws IOException {
+		writeByte(value ? _TRUE : _FALSE);
+	}
+
+	@Override
+	protected void writeEndArray() throws IOException {
+		writeByte(_BREAK);
+	}
+
+	@Override
+	protected void writeEndObject() throws IOException {
+		writeByte(_BREAK);
+	}
+
+	@Override
+	protected void writeErrorName() throws IOException {
+		writeBytes(_ERROR_NAME);
+	}
+
+	@Override
+	protected void writeLong(long value) throws IOException {
+		if (value < 0) {
+			_writeTypeAndValue(_MAJOR_TYPE_NEGATIVE_INTEGER, -1 - value);
+		}
+		else {
+			_writeTypeAndValue(_MAJOR_TYPE_UNSIGNED_INTEGER, value);
+		}
+	}
+
+	@Override
+	protected void writeName(int field) throws IOException {
+		writeBytes(_FIELD_NAME_BYTES[field]);
+	}
+
+	@Override
+	protected void writeNull() throws IOException {
+		writeByte(_NULL);
+	}
+
+	@Override
+	protected void writeSeparator() {
+	}
+
+	@Override
+	protected void writeStartArray() throws IOException {
+		writeByte(_START_INDEFINITE_ARRAY);
+	}
+
+	@Override
+	protected void writeStartObject() throws IOException {
+		writeByte(_START_INDEFINITE_MAP);
+	}
+
+	@Override
+	protected void writeString(String s) throws IOException {
+		if (s == null) {
+			writeNull();
+
+			return;
+		}
+
+		_writeTypeAndValue(_MAJOR_TYPE_TEXT_STRING, _getUTF8Length(s));
+
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+
+			if (c < 0x80) {
+				ensureCapacity(1);
+
+				buffer[position++] = (byte)c;
+			}
+			else if (c < 0x800) {
+				ensureCapacity(2);
+
+				buffer[position++] = (byte)(0xC0 | (c >> 6));
+				buffer[position++] = (byte)(0x80 | (c & 0x3F));
+			}
+			else if (Character.isHighSurrogate(c) && ((i + 1) < s.length()) &&
+					 Character.isLowSurrogate(s.charAt(i + 1))) {
+
+				int codePoint = Character.toCodePoint(c, s.charAt(++i));
+
+				ensureCapacity(4);
+
+				buffer[position++] = (byte)(0xF0 | (codePoint >> 18));
+				buffer[position++] = (byte)(0x80 | ((codePoint >> 12) & 0x3F));
+				buffer[position++] = (byte)(0x80 | ((codePoint >> 6) & 0x3F));
+				buffer[position++] = (byte)(0x80 | (codePoint & 0x3F));
+			}
+			else if (Character.isSurrogate(c)) {
+
+				// Unpaired surrogates cannot be encoded as UTF-8
+
+				ensureCapacity(1);
+
+				buffer[position++] = '?';
+			}
+			else {
+				ensureCapacity(3);
+
+				buffer[position++] = (byte)(0xE0 | (c >> 12));
+				buffer[position++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+				buffer[position++] = (byte)(0x80 | (c & 0x3F));
+			}
+		}
+	}
+
+	private static byte[] _encodeName(String name) {
+		byte[] bytes = name.getBytes(StandardCharsets.US_ASCII);
+
+		byte[] nameBytes = new byte[bytes.length + 1];
+
+		nameBytes[0] = (byte)((_MAJOR_TYPE_TEXT_STRING << 5) | bytes.length);
+
+		System.arraycopy(bytes, 0, nameBytes, 1, bytes.length);
+
+		return nameBytes;
+	}
+
+	/**
+	 * Returns the number of bytes the string takes as UTF-8, counting an
+	 * unpaired surrogate as the one byte it is replaced with.
+	 */
+	private long _getUTF8Length(String s) {
+		long length = 0;
+
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+
+			if (c < 0x80) {
+				length += 1;
+			}
+			else if (c < 0x800) {
+				length += 2;
+			}
+			else if (Character.isHighSurrogate(c) && ((i + 1) < s.length()) &&
+					 Character.isLowSurrogate(s.charAt(i + 1))) {
+
+				i++;
+
+				length += 4;
+			}
+			else if (Character.isSurrogate(c)) {
+				length += 1;
+			}
+			else {
+				length += 3;
+			}
+		}
+
+		return length;
+	}
+
+	private void _writeTypeAndValue(int majorType, long value)
+		throws IOException {
+
+		int initialByte = majorType << 5;
+
+		ensureCapacity(9);
+
+		if (value < 24) {
+			buffer[position++] = (byte)(initialByte | (int)value);
+		}
+		else if (value < 0x100) {
+			buffer[position++] = (byte)(initialByte | 24);
+			buffer[position++] = (byte)value;
+		}
+		else if (value < 0x10000) {
+			buffer[position++] = (byte)(initialByte | 25);
+			buffer[position++] = (byte)(value >> 8);
+			buffer[position++] = (byte)value;
+		}
+		else if (value < 0x100000000L) {
+			buffer[position++] = (byte)(initialByte | 26);
+
+			for (int shift = 24; shift >= 0; shift -= 8) {
+				buffer[position++] = (byte)(value >> shift);
+			}
+		}
+		else {
+			buffer[position++] = (byte)(initialByte | 27);
+
+			for (int shift = 56; shift >= 0; shift -= 8) {
+				buffer[position++] = (byte)(value >> shift);
+			}
+		}
+	}
+
+	private static final int _BREAK = 0xFF;
+
+	private static final byte[] _ERROR_NAME = _encodeName("error");
+
+	private static final int _FALSE = 0xF4;
+
+	private static final byte[][] _FIELD_NAME_BYTES =
+		new byte[FIELD_NAMES.length][];
+
+	private static final int _MAJOR_TYPE_NEGATIVE_INTEGER = 1;
+
+	private static final int _MAJOR_TYPE_TEXT_STRING = 3;
+
+	private static final int _MAJOR_TYPE_UNSIGNED_INTEGER = 0;
+
+	private static final int _NULL = 0xF6;
+
+	private static final int _START_INDEFINITE_ARRAY = 0x9F;
+
+	private static final int _START_INDEFINITE_MAP = 0xBF;
+
+	private static final int _TRUE = 0xF5;
+
+	static {
+		for (int i = 0; i < FIELD_NAMES.length; i++) {
+			_FIELD_NAME_BYTES[i] = _encodeName(FIELD_NAMES[i]);
+		}
+	}
+
+}
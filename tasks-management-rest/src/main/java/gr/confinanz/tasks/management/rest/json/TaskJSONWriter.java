@@ -0,0 +1,197 @@
+package gr.confinanz.tasks.management.rest.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes tasks as UTF-8 JSON straight to an output stream. Writing a task
+ * allocates no intermediate strings.
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskJSONWriter extends TaskWriter {
+
+	public TaskJSONWriter(OutputStream outputStream, int fields) {
+		super(outputStream, fields);
+	}
+
+	@Override
+	protected void writeBoolean(boolean value) throws IOException {
+		writeBytes(value ? _TRUE : _FALSE);
+	}
+
+	@Override
+	protected void writeEndArray() throws IOException {
+		writeByte(']');
+	}
+
+	@Override
+	protected void writeEndObject() throws IOException {
+		writeByte('}');
+	}
+
+	@Override
+	protected void writeErrorName() throws IOException {
+		writeBytes(_ERROR_NAME);
+	}
+
+	@Override
+	protected void writeLong(long value) throws IOException {
+		if (value == Long.MIN_VALUE) {
+			writeBytes(
+				String.valueOf(value).getBytes(StandardCharsets.US_ASCII));
+
+			return;
+		}
+
+		ensureCapacity(20);
+
+		if (value < 0) {
+			buffer[position++] = '-';
+
+			value = -value;
+		}
+
+		int start = position;
+
+		do {
+			buffer[position++] = (byte)('0' + (value % 10));
+
+			value /= 10;
+		}
+		while (value > 0);
+
+		for (int i = start, j = position - 1; i < j; i++, j--) {
+			byte b = buffer[i];
+
+			buffer[i] = buffer[j];
+			buffer[j] = b;
+		}
+	}
+
+	@Override
+	protected void writeName(int field) throws IOException {
+		writeBytes(_FIELD_NAME_BYTES[field]);
+	}
+
+	@Override
+	protected void writeNull() throws IOException {
+		writeBytes(_NULL);
+	}
+
+	@Override
+	protected void writeSeparator() throws IOException {
+		writeByte(',');
+	}
+
+	@Override
+	protected void writeStartArray() throws IOException {
+		writeByte('[');
+	}
+
+	@Override
+	protected void writeStartObject() throws IOException {
+		writeByte('{');
+	}
+
+	@Override
+	protected void writeString(String s) throws IOException {
+		if (s == null) {
+			writeNull();
+
+			return;
+		}
+
+		writeByte('"');
+
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+
+			if ((c == '"') || (c == '\\')) {
+				ensureCapacity(2);
+
+				buffer[position++] = '\\';
+				buffer[position++] = (byte)c;
+			}
+			else if (c < 0x20) {
+				ensureCapacity(6);
+
+				buffer[position++] = '\\';
+				buffer[position++] = 'u';
+				buffer[position++] = '0';
+				buffer[position++] = '0';
+				buffer[position++] = _HEX_DIGITS[c >> 4];
+				buffer[position++] = _HEX_DIGITS[c & 0xF];
+			}
+			else if (c < 0x80) {
+				ensureCapacity(1);
+
+				buffer[position++] = (byte)c;
+			}
+			else if (c < 0x800) {
+				ensureCapacity(2);
+
+				buffer[position++] = (byte)(0xC0 | (c >> 6));
+				buffer[position++] = (byte)(0x80 | (c & 0x3F));
+			}
+			else if (Character.isHighSurrogate(c) && ((i + 1) < s.length()) &&
+					 Character.isLowSurrogate(s.charAt(i + 1))) {
+
+				int codePoint = Character.toCodePoint(c, s.charAt(++i));
+
+				ensureCapacity(4);
+
+				buffer[position++] = (byte)(0xF0 | (codePoint >> 18));
+				buffer[position++] = (byte)(0x80 | ((codePoint >> 12) & 0x3F));
+				buffer[position++] = (byte)(0x80 | ((codePoint >> 6) & 0x3F));
+				buffer[position++] = (byte)(0x80 | (codePoint & 0x3F));
+			}
+			else if (Character.isSurrogate(c)) {
+
+				// Unpaired surrogates cannot be encoded as UTF-8
+
+				ensureCapacity(1);
+
+				buffer[position++] = '?';
+			}
+			else {
+				ensureCapacity(3);
+
+				buffer[position++] = (byte)(0xE0 | (c >> 12));
+				buffer[position++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+				buffer[position++] = (byte)(0x80 | (c & 0x3F));
+			}
+		}
+
+		writeByte('"');
+	}
+
+	private static final byte[] _ERROR_NAME = "\"error\":".getBytes(
+		StandardCharsets.US_ASCII);
+
+	private static final byte[] _FALSE = "false".getBytes(
+		StandardCharsets.US_ASCII);
+
+	private static final byte[][] _FIELD_NAME_BYTES =
+		new byte[FIELD_NAMES.length][];
+
+	private static final byte[] _HEX_DIGITS = "0123456789abcdef".getBytes(
+		StandardCharsets.US_ASCII);
+
+	private static final byte[] _NULL = "null".getBytes(
+		StandardCharsets.US_ASCII);
+
+	private static final byte[] _TRUE = "true".getBytes(
+		StandardCharsets.US_ASCII);
+
+	static {
+		for (int i = 0; i < FIELD_NAMES.length; i++) {
+			_FIELD_NAME_BYTES[i] = ("\"" + FIELD_NAMES[i] + "\":").getBytes(
+				StandardCharsets.US_ASCII);
+		}
+	}
+
+}
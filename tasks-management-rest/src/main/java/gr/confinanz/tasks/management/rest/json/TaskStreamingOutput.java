@@ -0,0 +1,81 @@
+package gr.confinanz.tasks.management.rest.json;
+
+import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Streams tasks to the response through a {@link TaskWriter} for the
+ * negotiated media type, limited to the fields requested with
+ * <code>?fields=</code>.
+ *
+ * <p>
+ * A resumed response is written on a thread of the container, so resources
+ * that run on an executor serialize the tasks there with {@link
+ * #toByteArray()} and only hand the bytes to the container.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public abstract class TaskStreamingOutput implements StreamingOutput {
+
+	public static final String APPLICATION_CBOR = "application/cbor";
+
+	public static final MediaType APPLICATION_CBOR_TYPE = MediaType.valueOf(
+		APPLICATION_CBOR);
+
+	public static StreamingOutput of(final String json) {
+		final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+		return new StreamingOutput() {
+
+			@Override
+			public void write(OutputStream outputStream) throws IOException {
+				outputStream.write(bytes);
+			}
+
+		};
+	}
+
+	public TaskStreamingOutput(int fields, MediaType mediaType) {
+		_fields = fields;
+		_mediaType = mediaType;
+	}
+
+	@Override
+	public void write(OutputStream outputStream) throws IOException {
+		try (TaskWriter taskWriter = createTaskWriter(outputStream)) {
+			write(taskWriter);
+		}
+	}
+
+	public byte[] toByteArray() throws IOException {
+		UnsyncByteArrayOutputStream unsyncByteArrayOutputStream =
+			new UnsyncByteArrayOutputStream();
+
+		write(unsyncByteArrayOutputStream);
+
+		return unsyncByteArrayOutputStream.toByteArray();
+	}
+
+	protected TaskWriter createTaskWriter(OutputStream outputStream) {
+		if (APPLICATION_CBOR_TYPE.isCompatible(_mediaType)) {
+			return new TaskCBORWriter(outputStream, _fields);
+		}
+
+		return new TaskJSONWriter(outputStream, _fields);
+	}
+
+	protected abstract void write(TaskWriter taskWriter) throws IOException;
+
+	private final int _fields;
+	private final MediaType _mediaType;
+
+}
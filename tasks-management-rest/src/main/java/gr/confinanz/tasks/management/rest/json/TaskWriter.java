@@ -0,0 +1,400 @@
+package gr.confinanz.tasks.management.rest.json;
+
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Validator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import gr.confinanz.tasks.management.model.Task;
+import gr.confinanz.tasks.management.util.TaskUserNameUtil;
+
+/**
+ * Writes tasks straight to an output stream in one of the formats of the
+ * REST API.
+ *
+ * <p>
+ * Every format writes the same fields of a task, in this order:
+ * <code>taskId</code>, <code>uuid</code>, <code>groupId</code>,
+ * <code>companyId</code>, <code>userId</code>, <code>userName</code>,
+ * <code>createDate</code>, <code>modifiedDate</code>, <code>title</code>,
+ * <code>description</code>, <code>expirationDate</code>,
+ * <code>taskUserId</code>, <code>completed</code>, <code>status</code> and
+ * <code>taskUserName</code>. Dates are written as milliseconds since the
+ * epoch, or <code>null</code>. A subset of the fields can be selected with
+ * {@link #getFields(String)}.
+ * </p>
+ *
+ * <p>
+ * The writer encodes into a buffer borrowed from a small pool and only
+ * touches the output stream when the buffer is full or the writer is closed.
+ * Subclasses encode the values of the format into {@link #buffer}.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public abstract class TaskWriter implements Closeable {
+
+	public static final int ALL_FIELDS;
+
+	public static final String[] FIELD_NAMES = {
+		"taskId", "uuid", "groupId", "companyId", "userId", "userName",
+		"createDate", "modifiedDate", "title", "description",
+		"expirationDate", "taskUserId", "completed", "status", "taskUserName"
+	};
+
+	static {
+		ALL_FIELDS = (1 << FIELD_NAMES.length) - 1;
+	}
+
+	/**
+	 * Returns the bit mask of the comma delimited field names, or all the
+	 * fields if no field name is given. Unknown field names are ignored, but
+	 * <code>taskId</code> is always written.
+	 */
+	public static int getFields(String fieldNames) {
+		if (Validator.isNull(fieldNames)) {
+			return ALL_FIELDS;
+		}
+
+		int fields = 1 << TASK_ID;
+
+		for (String fieldName : StringUtil.split(fieldNames)) {
+			for (int i = 0; i < FIELD_NAMES.length; i++) {
+				if (FIELD_NAMES[i].equals(fieldName)) {
+					fields |= 1 << i;
+
+					break;
+				}
+			}
+		}
+
+		return fields;
+	}
+
+	public TaskWriter(OutputStream outputStream, int fields) {
+		_outputStream = outputStream;
+		_fields = fields;
+
+		byte[] buffer = _buffers.poll();
+
+		if (buffer == null) {
+			buffer = new byte[_BUFFER_SIZE];
+		}
+
+		this.buffer = buffer;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (buffer == null) {
+			return;
+		}
+
+		try {
+			flush();
+		}
+		finally {
+			_buffers.offer(buffer);
+
+			buffer = null;
+		}
+	}
+
+	public void flush() throws IOException {
+		if (position > 0) {
+			_outputStream.write(buffer, 0, position);
+
+			position = 0;
+		}
+
+		_outputStream.flush();
+	}
+
+	/**
+	 * Writes an error object with the primary key of a task that could not be
+	 * returned.
+	 */
+	public void writeError(long taskId, String error) throws IOException {
+		writeStartObject();
+		writeName(TASK_ID);
+		writeLong(taskId);
+		writeSeparator();
+		writeErrorName();
+		writeString(error);
+		writeEndObject();
+	}
+
+	public void writeTask(Task task) throws IOException {
+		writeStartObject();
+
+		boolean first = true;
+
+		for (int i = 0; i < FIELD_NAMES.length; i++) {
+			if ((_fields & (1 << i)) == 0) {
+				continue;
+			}
+
+			if (!first) {
+				writeSeparator();
+			}
+
+			first = false;
+
+			writeName(i);
+			writeField(task, i);
+		}
+
+		writeEndObject();
+	}
+
+	public void writeTasks(List<Task> tasks) throws IOException {
+		resolveTaskUserNames(tasks);
+
+		writeStartArray();
+
+		for (int i = 0; i < tasks.size(); i++) {
+			if (i > 0) {
+				writeSeparator();
+			}
+
+			writeTask(tasks.get(i));
+		}
+
+		writeEndArray();
+	}
+
+	/**
+	 * Writes the tasks as one array in the order of the primary keys, with an
+	 * error object for every <code>null</code> task.
+	 */
+	public void writeTasks(long[] taskIds, Task[] tasks, String error)
+		throws IOException {
+
+		List<Task> tasksList = new ArrayList<>(tasks.length);
+
+		for (Task task : tasks) {
+			if (task != null) {
+				tasksList.add(task);
+			}
+		}
+
+		resolveTaskUserNames(tasksList);
+
+		writeStartArray();
+
+		for (int i = 0; i < tasks.length; i++) {
+			if (i > 0) {
+				writeSeparator();
+			}
+
+			if (tasks[i] == null) {
+				writeError(taskIds[i], error);
+			}
+			else {
+				writeTask(tasks[i]);
+			}
+		}
+
+		writeEndArray();
+	}
+
+	/**
+	 * Makes room for <code>length</code> more bytes in the buffer, writing the
+	 * buffer to the output stream if needed.
+	 */
+	protected void ensureCapacity(int length) throws IOException {
+		if ((position + length) > buffer.length) {
+			_outputStream.write(buffer, 0, position);
+
+			position = 0;
+		}
+	}
+
+	/**
+	 * Resolves the blank names of the users the tasks are assigned to with
+	 * one query, if the name is one of the written fields, instead of one
+	 * query per task.
+	 */
+	protected void resolveTaskUserNames(List<Task> tasks) {
+		if ((_fields & (1 << TASK_USER_NAME)) != 0) {
+			_taskUserNames = TaskUserNameUtil.getTaskUserNames(tasks);
+		}
+	}
+
+	protected abstract void writeBoolean(boolean value) throws IOException;
+
+	protected void writeByte(int b) throws IOException {
+		ensureCapacity(1);
+
+		buffer[position++] = (byte)b;
+	}
+
+	protected void writeBytes(byte[] bytes) throws IOException {
+		if (bytes.length > buffer.length) {
+			flush();
+
+			_outputStream.write(bytes);
+
+			return;
+		}
+
+		ensureCapacity(bytes.length);
+
+		System.arraycopy(bytes, 0, buffer, position, bytes.length);
+
+		position += bytes.length;
+	}
+
+	protected void writeDate(Date date) throws IOException {
+		if (date == null) {
+			writeNull();
+		}
+		else {
+			writeLong(date.getTime());
+		}
+	}
+
+	protected abstract void writeEndArray() throws IOException;
+
+	protected abstract void writeEndObject() throws IOException;
+
+	protected abstract void writeErrorName() throws IOException;
+
+	protected void writeField(Task task, int field) throws IOException {
+		switch (field) {
+			case TASK_ID:
+				writeLong(task.getTaskId());
+
+				break;
+			case UUID:
+				writeString(task.getUuid());
+
+				break;
+			case GROUP_ID:
+				writeLong(task.getGroupId());
+
+				break;
+			case COMPANY_ID:
+				writeLong(task.getCompanyId());
+
+				break;
+			case USER_ID:
+				writeLong(task.getUserId());
+
+				break;
+			case USER_NAME:
+				writeString(task.getUserName());
+
+				break;
+			case CREATE_DATE:
+				writeDate(task.getCreateDate());
+
+				break;
+			case MODIFIED_DATE:
+				writeDate(task.getModifiedDate());
+
+				break;
+			case TITLE:
+				writeString(task.getTitle());
+
+				break;
+			case DESCRIPTION:
+				writeString(task.getDescription());
+
+				break;
+			case EXPIRATION_DATE:
+				writeDate(task.getExpirationDate());
+
+				break;
+			case TASK_USER_ID:
+				writeLong(task.getTaskUserId());
+
+				break;
+			case COMPLETED:
+				writeBoolean(task.isCompleted());
+
+				break;
+			case STATUS:
+				writeLong(task.getStatus());
+
+				break;
+			case TASK_USER_NAME:
+				writeString(
+					TaskUserNameUtil.getTaskUserName(task, _taskUserNames));
+
+				break;
+		}
+	}
+
+	protected abstract void writeLong(long value) throws IOException;
+
+	protected abstract void writeName(int field) throws IOException;
+
+	protected abstract void writeNull() throws IOException;
+
+	/**
+	 * Writes what separates two values of an array or two fields of an
+	 * object, if the format needs anything.
+	 */
+	protected abstract void writeSeparator() throws IOException;
+
+	protected abstract void writeStartArray() throws IOException;
+
+	protected abstract void writeStartObject() throws IOException;
+
+	protected abstract void writeString(String s) throws IOException;
+
+	protected static final int COMPANY_ID = 3;
+
+	protected static final int COMPLETED = 12;
+
+	protected static final int CREATE_DATE = 6;
+
+	protected static final int DESCRIPTION = 9;
+
+	protected static final int EXPIRATION_DATE = 10;
+
+	protected static final int GROUP_ID = 2;
+
+	protected static final int MODIFIED_DATE = 7;
+
+	protected static final int STATUS = 13;
+
+	protected static final int TASK_ID = 0;
+
+	protected static final int TASK_USER_ID = 11;
+
+	protected static final int TASK_USER_NAME = 14;
+
+	protected static final int TITLE = 8;
+
+	protected static final int USER_ID = 4;
+
+	protected static final int USER_NAME = 5;
+
+	protected static final int UUID = 1;
+
+	protected byte[] buffer;
+	protected int position;
+
+	private static final int _BUFFER_SIZE = 8192;
+
+	private static final BlockingQueue<byte[]> _buffers =
+		new ArrayBlockingQueue<>(32);
+
+	private final int _fields;
+	private final OutputStream _outputStream;
+	private Map<Long, String> _taskUserNames = Collections.emptyMap();
+
+}
@@ -0,0 +1,164 @@
+package gr.confinanz.tasks.management.jmx;
+
+import com.liferay.portal.kernel.util.ArrayUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.DynamicMBean;
+import javax.management.NotCompliantMBeanException;
+import javax.management.StandardMBean;
+
+import org.osgi.service.component.annotations.Component;
+
+import gr.confinanz.tasks.management.util.TaskReindexStatus;
+import gr.confinanz.tasks.management.util.TaskReindexStatusUtil;
+
+/**
+ * @author Abdessamad Ben Taleb
+ *
+ */
+@Component(
+	immediate = true,
+	property = {
+		"jmx.objectname=gr.confinanz.tasks.management:classification=search,name=TaskReindexManager",
+		"jmx.objectname.cache.key=TaskReindexManager"
+	},
+	service = DynamicMBean.class
+)
+public class TaskReindexManager
+	extends StandardMBean implements TaskReindexManagerMBean {
+
+	public TaskReindexManager() throws NotCompliantMBeanException {
+		super(TaskReindexManagerMBean.class);
+	}
+
+	@Override
+	public double getDocumentsPerSecond() {
+		double documentsPerSecond = 0;
+
+		for (TaskReindexStatus status : _getRunningStatuses()) {
+			documentsPerSecond += status.getDocumentsPerSecond();
+		}
+
+		return documentsPerSecond;
+	}
+
+	@Override
+	public long getErrorCount() {
+		long errorCount = 0;
+
+		for (TaskReindexStatus status : _getRunningStatuses()) {
+			errorCount += status.getErrorCount();
+		}
+
+		return errorCount;
+	}
+
+	@Override
+	public long getEstimatedTimeRemaining() {
+		long estimatedTimeRemaining = 0;
+
+		for (TaskReindexStatus status : _getRunningStatuses()) {
+			long time = status.getEstimatedTimeRemaining();
+
+			if (time < 0) {
+				return -1;
+			}
+
+			estimatedTimeRemaining = Math.max(estimatedTimeRemaining, time);
+		}
+
+		return estimatedTimeRemaining;
+	}
+
+	@Override
+	public long getIndexedCount() {
+		long indexedCount = 0;
+
+		for (TaskReindexStatus status : _getRunningStatuses()) {
+			indexedCount += status.getIndexedCount();
+		}
+
+		return indexedCount;
+	}
+
+	@Override
+	public double getPercentComplete() {
+		long totalCount = getTotalCount();
+
+		if (totalCount <= 0) {
+			return 100;
+		}
+
+		return Math.min(100, getIndexedCount() * 100.0 / totalCount);
+	}
+
+	@Override
+	public long[] getRunningCompanyIds() {
+		List<Long> companyIds = new ArrayList<>();
+
+		for (TaskReindexStatus status : _getRunningStatuses()) {
+			companyIds.add(status.getCompanyId());
+		}
+
+		return ArrayUtil.toLongArray(companyIds);
+	}
+
+	@Override
+	public String[] getStatuses() {
+		List<TaskReindexStatus> statuses = TaskReindexStatusUtil.getStatuses();
+
+		String[] lines = new String[statuses.size()];
+
+		for (int i = 0; i < lines.length; i++) {
+			TaskReindexStatus status = statuses.get(i);
+
+			StringBundler sb = new StringBundler(14);
+
+			sb.append("companyId=");
+			sb.append(status.getCompanyId());
+			sb.append(", running=");
+			sb.append(status.isRunning());
+			sb.append(", indexed=");
+			sb.append(status.getIndexedCount());
+			sb.append("/");
+			sb.append(status.getTotalCount());
+			sb.append(", errors=");
+			sb.append(status.getErrorCount());
+			sb.append(", estimatedTimeRemaining=");
+			sb.append(status.getEstimatedTimeRemaining());
+			sb.append(", checkpoint=");
+			sb.append(status.getCheckpoint());
+
+			lines[i] = sb.toString();
+		}
+
+		return lines;
+	}
+
+	@Override
+	public long getTotalCount() {
+		long totalCount = 0;
+
+		for (TaskReindexStatus status : _getRunningStatuses()) {
+			totalCount += status.getTotalCount();
+		}
+
+		return totalCount;
+	}
+
+	private List<TaskReindexStatus> _getRunningStatuses() {
+		List<TaskReindexStatus> runningStatuses = new ArrayList<>();
+
+		for (TaskReindexStatus status : TaskReindexStatusUtil.getStatuses()) {
+			if (status.isRunning()) {
+				runningStatuses.add(status);
+			}
+		}
+
+		return runningStatuses;
+	}
+
+}
@@ -0,0 +1,35 @@
+package gr.confinanz.tasks.management.jmx;
+
+/**
+ * The progress of the task reindexes, summed over the companies whose tasks
+ * are being reindexed.
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public interface TaskReindexManagerMBean {
+
+	public double getDocumentsPerSecond();
+
+	public long getErrorCount();
+
+	/**
+	 * Returns the estimated number of milliseconds until the slowest running
+	 * reindex completes, or <code>-1</code> if it cannot be estimated yet.
+	 */
+	public long getEstimatedTimeRemaining();
+
+	public long getIndexedCount();
+
+	public double getPercentComplete();
+
+	public long[] getRunningCompanyIds();
+
+	/**
+	 * Returns a line per company with the progress of its last reindex.
+	 */
+	public String[] getStatuses();
+
+	public long getTotalCount();
+
+}
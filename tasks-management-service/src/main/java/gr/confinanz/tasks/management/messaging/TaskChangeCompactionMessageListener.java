@@ -0,0 +1,118 @@
+package gr.confinanz.tasks.management.messaging;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.messaging.BaseSchedulerEntryMessageListener;
+import com.liferay.portal.kernel.messaging.DestinationNames;
+import com.liferay.portal.kernel.messaging.Message;
+import com.liferay.portal.kernel.module.framework.ModuleServiceLifecycle;
+import com.liferay.portal.kernel.scheduler.SchedulerEngineHelper;
+import com.liferay.portal.kernel.scheduler.TimeUnit;
+import com.liferay.portal.kernel.scheduler.TriggerFactory;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.Time;
+
+import java.util.Date;
+import java.util.Map;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+import gr.confinanz.tasks.management.service.TaskChangeLocalService;
+
+/**
+ * Deletes the task changes older than <code>retention.days</code> every hour.
+ * The changes are deleted in small transactions so the journal stays
+ * writable while it is compacted.
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+@Component(
+	immediate = true, property = "retention.days=7",
+	service = TaskChangeCompactionMessageListener.class
+)
+public class TaskChangeCompactionMessageListener
+	extends BaseSchedulerEntryMessageListener {
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		_retentionDays = Math.max(
+			1, GetterUtil.getInteger(properties.get("retention.days"), 7));
+
+		schedulerEntryImpl.setTrigger(
+			_triggerFactory.createTrigger(
+				getEventListenerClass(), getEventListenerClass(), null, null,
+				1, TimeUnit.HOUR));
+
+		_schedulerEngineHelper.register(
+			this, schedulerEntryImpl, DestinationNames.SCHEDULER_DISPATCH);
+	}
+
+	@Deactivate
+	protected void deactivate() {
+		_schedulerEngineHelper.unregister(this);
+	}
+
+	@Override
+	protected void doReceive(Message message) throws Exception {
+		Date createDate = new Date(
+			System.currentTimeMillis() - (_retentionDays * Time.DAY));
+
+		int count = 0;
+
+		while (true) {
+			int deleted = _taskChangeLocalService.deleteTaskChanges(
+				createDate, _BATCH_SIZE);
+
+			count += deleted;
+
+			if (deleted < _BATCH_SIZE) {
+				break;
+			}
+		}
+
+		if (_log.isInfoEnabled() && (count > 0)) {
+			_log.info("Deleted " + count + " task changes");
+		}
+	}
+
+	@Reference(target = ModuleServiceLifecycle.PORTAL_INITIALIZED, unbind = "-")
+	protected void setModuleServiceLifecycle(
+		ModuleServiceLifecycle moduleServiceLifecycle) {
+	}
+
+	@Reference(unbind = "-")
+	protected void setSchedulerEngineHelper(
+		SchedulerEngineHelper schedulerEngineHelper) {
+
+		_schedulerEngineHelper = schedulerEngineHelper;
+	}
+
+	@Reference(unbind = "-")
+	protected void setTaskChangeLocalService(
+		TaskChangeLocalService taskChangeLocalService) {
+
+		_taskChangeLocalService = taskChangeLocalService;
+	}
+
+	@Reference(unbind = "-")
+	protected void setTriggerFactory(TriggerFactory triggerFactory) {
+		_triggerFactory = triggerFactory;
+	}
+
+	private static final int _BATCH_SIZE = 500;
+
+	private static final Log _log = LogFactoryUtil.getLog(
+		TaskChangeCompactionMessageListener.class);
+
+	private volatile int _retentionDays;
+	private SchedulerEngineHelper _schedulerEngineHelper;
+	private TaskChangeLocalService _taskChangeLocalService;
+	private TriggerFactory _triggerFactory;
+
+}
@@ -0,0 +1,165 @@
+package gr.confinanz.tasks.management.messaging;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.messaging.BaseSchedulerEntryMessageListener;
+import com.liferay.portal.kernel.messaging.DestinationNames;
+import com.liferay.portal.kernel.messaging.Message;
+import com.liferay.portal.kernel.model.Company;
+import com.liferay.portal.kernel.module.framework.ModuleServiceLifecycle;
+import com.liferay.portal.kernel.scheduler.SchedulerEngineHelper;
+import com.liferay.portal.kernel.scheduler.TimeUnit;
+import com.liferay.portal.kernel.scheduler.TriggerFactory;
+import com.liferay.portal.kernel.search.Indexer;
+import com.liferay.portal.kernel.search.IndexerRegistryUtil;
+import com.liferay.portal.kernel.service.CompanyLocalService;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+
+import java.util.Map;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+import gr.confinanz.tasks.management.model.Task;
+import gr.confinanz.tasks.management.search.TaskIndexConsistencyChecker;
+import gr.confinanz.tasks.management.service.TaskLocalService;
+
+/**
+ * Checks the task documents of the search index against the database every
+ * <code>interval.hours</code> and repairs the ones that differ, logging how
+ * many were missing, stale or orphaned.
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+@Component(
+	immediate = true,
+	property = {"interval.hours=24", "parallelism=4", "range.size=10000"},
+	service = TaskIndexConsistencyMessageListener.class
+)
+public class TaskIndexConsistencyMessageListener
+	extends BaseSchedulerEntryMessageListener {
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		int intervalHours = Math.max(
+			1, GetterUtil.getInteger(properties.get("interval.hours"), 24));
+
+		_parallelism = GetterUtil.getInteger(properties.get("parallelism"), 4);
+		_rangeSize = GetterUtil.getLong(properties.get("range.size"), 10000);
+
+		schedulerEntryImpl.setTrigger(
+			_triggerFactory.createTrigger(
+				getEventListenerClass(), getEventListenerClass(), null, null,
+				intervalHours, TimeUnit.HOUR));
+
+		_schedulerEngineHelper.register(
+			this, schedulerEntryImpl, DestinationNames.SCHEDULER_DISPATCH);
+	}
+
+	@Deactivate
+	protected void deactivate() {
+		_schedulerEngineHelper.unregister(this);
+	}
+
+	@Override
+	protected void doReceive(Message message) throws Exception {
+		Indexer<Task> indexer = IndexerRegistryUtil.nullSafeGetIndexer(
+			Task.class);
+
+		for (Company company : _companyLocalService.getCompanies(false)) {
+			long startTime = System.currentTimeMillis();
+
+			TaskIndexConsistencyChecker taskIndexConsistencyChecker =
+				new TaskIndexConsistencyChecker(
+					indexer, _taskLocalService, _parallelism, _rangeSize);
+
+			try {
+				taskIndexConsistencyChecker.check(company.getCompanyId());
+			}
+			catch (Exception e) {
+				_log.error(
+					"Unable to check the task index of company " +
+						company.getCompanyId(),
+					e);
+
+				continue;
+			}
+
+			long drift =
+				taskIndexConsistencyChecker.getMissingCount() +
+					taskIndexConsistencyChecker.getStaleCount() +
+						taskIndexConsistencyChecker.getOrphanedCount();
+
+			StringBundler sb = new StringBundler(13);
+
+			sb.append("Checked ");
+			sb.append(taskIndexConsistencyChecker.getCheckedCount());
+			sb.append(" tasks of company ");
+			sb.append(company.getCompanyId());
+			sb.append(" in ");
+			sb.append(System.currentTimeMillis() - startTime);
+			sb.append(" ms: reindexed ");
+			sb.append(taskIndexConsistencyChecker.getMissingCount());
+			sb.append(" missing and ");
+			sb.append(taskIndexConsistencyChecker.getStaleCount());
+			sb.append(" stale, deleted ");
+			sb.append(taskIndexConsistencyChecker.getOrphanedCount());
+			sb.append(" orphaned");
+
+			String report = sb.toString();
+
+			if ((drift > 0) && _log.isWarnEnabled()) {
+				_log.warn(report);
+			}
+			else if (_log.isInfoEnabled()) {
+				_log.info(report);
+			}
+		}
+	}
+
+	@Reference(unbind = "-")
+	protected void setCompanyLocalService(
+		CompanyLocalService companyLocalService) {
+
+		_companyLocalService = companyLocalService;
+	}
+
+	@Reference(target = ModuleServiceLifecycle.PORTAL_INITIALIZED, unbind = "-")
+	protected void setModuleServiceLifecycle(
+		ModuleServiceLifecycle moduleServiceLifecycle) {
+	}
+
+	@Reference(unbind = "-")
+	protected void setSchedulerEngineHelper(
+		SchedulerEngineHelper schedulerEngineHelper) {
+
+		_schedulerEngineHelper = schedulerEngineHelper;
+	}
+
+	@Reference(unbind = "-")
+	protected void setTaskLocalService(TaskLocalService taskLocalService) {
+		_taskLocalService = taskLocalService;
+	}
+
+	@Reference(unbind = "-")
+	protected void setTriggerFactory(TriggerFactory triggerFactory) {
+		_triggerFactory = triggerFactory;
+	}
+
+	private static final Log _log = LogFactoryUtil.getLog(
+		TaskIndexConsistencyMessageListener.class);
+
+	private CompanyLocalService _companyLocalService;
+	private volatile int _parallelism;
+	private volatile long _rangeSize;
+	private SchedulerEngineHelper _schedulerEngineHelper;
+	private TaskLocalService _taskLocalService;
+	private TriggerFactory _triggerFactory;
+
+}
@@ -65,7 +65,7 @@ public class TaskCacheModel implements CacheModel<Task>, Externalizable {
 
 	@Override
 	public String toString() {
-		StringBundler sb = new StringBundler(35);
+		StringBundler sb = new StringBundler(37);
 
 		sb.append("{uuid=");
 		sb.append(uuid);
@@ -91,6 +91,8 @@ public class TaskCacheModel implements CacheModel<Task>, Externalizable {
 		sb.append(expirationDate);
 		sb.append(", taskUserId=");
 		sb.append(taskUserId);
+		sb.append(", taskUserName=");
+		sb.append(taskUserName);
 		sb.append(", completed=");
 		sb.append(completed);
 		sb.append(", status=");
@@ -165,6 +167,14 @@ public class TaskCacheModel implements CacheModel<Task>, Externalizable {
 		}
 
 		taskImpl.setTaskUserId(taskUserId);
+
+		if (taskUserName == null) {
+			taskImpl.setTaskUserName(StringPool.BLANK);
+		}
+		else {
+			taskImpl.setTaskUserName(taskUserName);
+		}
+
 		taskImpl.setCompleted(completed);
 		taskImpl.setStatus(status);
 		taskImpl.setStatusByUserId(statusByUserId);
@@ -207,6 +217,7 @@ public class TaskCacheModel implements CacheModel<Task>, Externalizable {
 		expirationDate = objectInput.readLong();
 
 		taskUserId = objectInput.readLong();
+		taskUserName = objectInput.readUTF();
 
 		completed = objectInput.readBoolean();
 
@@ -263,6 +274,13 @@ public class TaskCacheModel implements CacheModel<Task>, Externalizable {
 
 		objectOutput.writeLong(taskUserId);
 
+		if (taskUserName == null) {
+			objectOutput.writeUTF(StringPool.BLANK);
+		}
+		else {
+			objectOutput.writeUTF(taskUserName);
+		}
+
 		objectOutput.writeBoolean(completed);
 
 		objectOutput.writeInt(status);
@@ -291,6 +309,7 @@ public class TaskCacheModel implements CacheModel<Task>, Externalizable {
 	public String description;
 	public long expirationDate;
 	public long taskUserId;
+	public String taskUserName;
 	public boolean completed;
 	public int status;
 	public long statusByUserId;
@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package gr.confinanz.tasks.management.model.impl;
+
+import aQute.bnd.annotation.ProviderType;
+
+import gr.confinanz.tasks.management.model.TaskChange;
+import gr.confinanz.tasks.management.service.TaskChangeLocalServiceUtil;
+
+/**
+ * The extended model base implementation for the TaskChange service. Represents a row in the &quot;ABT_TaskChange&quot; database table, with each column mapped to a property of this class.
+ *
+ * <p>
+ * This class exists only as a container for the default extended model level methods generated by ServiceBuilder. Helper methods and all application logic should be put in {@link TaskChangeImpl}.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ * @see TaskChangeImpl
+ * @see TaskChange
+ * @generated
+ */
+@ProviderType
+public abstract class TaskChangeBaseImpl extends TaskChangeModelImpl implements TaskChange {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. All methods that expect a task change model instance should use the {@link TaskChange} interface instead.
+	 */
+	@Override
+	public void persist() {
+		if (this.isNew()) {
+			TaskChangeLocalServiceUtil.addTaskChange(this);
+		}
+		else {
+			TaskChangeLocalServiceUtil.updateTaskChange(this);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package gr.confinanz.tasks.management.model.impl;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.model.CacheModel;
+import com.liferay.portal.kernel.util.HashUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+
+import gr.confinanz.tasks.management.model.TaskChange;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import java.util.Date;
+
+/**
+ * The cache model class for representing TaskChange in entity cache.
+ *
+ * @author Abdessamad Ben Taleb
+ * @see TaskChange
+ * @generated
+ */
+@ProviderType
+public class TaskChangeCacheModel implements CacheModel<TaskChange>,
+	Externalizable {
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof TaskChangeCacheModel)) {
+			return false;
+		}
+
+		TaskChangeCacheModel taskChangeCacheModel = (TaskChangeCacheModel)obj;
+
+		if (taskChangeId == taskChangeCacheModel.taskChangeId) {
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return HashUtil.hash(0, taskChangeId);
+	}
+
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler(15);
+
+		sb.append("{taskChangeId=");
+		sb.append(taskChangeId);
+		sb.append(", groupId=");
+		sb.append(groupId);
+		sb.append(", companyId=");
+		sb.append(companyId);
+		sb.append(", taskId=");
+		sb.append(taskId);
+		sb.append(", changeType=");
+		sb.append(changeType);
+		sb.append(", fieldMask=");
+		sb.append(fieldMask);
+		sb.append(", createDate=");
+		sb.append(createDate);
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	@Override
+	public TaskChange toEntityModel() {
+		TaskChangeImpl taskChangeImpl = new TaskChangeImpl();
+
+		taskChangeImpl.setTaskChangeId(taskChangeId);
+		taskChangeImpl.setGroupId(groupId);
+		taskChangeImpl.setCompanyId(companyId);
+		taskChangeImpl.setTaskId(taskId);
+		taskChangeImpl.setChangeType(changeType);
+		taskChangeImpl.setFieldMask(fieldMask);
+		if (createDate == Long.MIN_VALUE) {
+			taskChangeImpl.setCreateDate(null);
+		}
+		else {
+			taskChangeImpl.setCreateDate(new Date(createDate));
+		}
+
+		taskChangeImpl.resetOriginalValues();
+
+		return taskChangeImpl;
+	}
+
+	@Override
+	public void readExternal(ObjectInput objectInput) throws IOException {
+		taskChangeId = objectInput.readLong();
+
+		groupId = objectInput.readLong();
+
+		companyId = objectInput.readLong();
+
+		taskId = objectInput.readLong();
+
+		changeType = objectInput.readInt();
+
+		fieldMask = objectInput.readLong();
+		createDate = objectInput.readLong();
+	}
+
+	@Override
+	public void writeExternal(ObjectOutput objectOutput)
+		throws IOException {
+		objectOutput.writeLong(taskChangeId);
+
+		objectOutput.writeLong(groupId);
+
+		objectOutput.writeLong(companyId);
+
+		objectOutput.writeLong(taskId);
+
+		objectOutput.writeInt(changeType);
+
+		objectOutput.writeLong(fieldMask);
+		objectOutput.writeLong(createDate);
+	}
+
+	public long taskChangeId;
+	public long groupId;
+	public long companyId;
+	public long taskId;
+	public int changeType;
+	public long fieldMask;
+	public long createDate;
+}
\ No newline at end of file
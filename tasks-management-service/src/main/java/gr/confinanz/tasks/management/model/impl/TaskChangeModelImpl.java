@@ -0,0 +1,529 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package gr.confinanz.tasks.management.model.impl;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.expando.kernel.model.ExpandoBridge;
+import com.liferay.expando.kernel.util.ExpandoBridgeFactoryUtil;
+
+import com.liferay.portal.kernel.bean.AutoEscapeBeanHandler;
+import com.liferay.portal.kernel.json.JSON;
+import com.liferay.portal.kernel.model.CacheModel;
+import com.liferay.portal.kernel.model.impl.BaseModelImpl;
+import com.liferay.portal.kernel.service.ServiceContext;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.ProxyUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+
+import gr.confinanz.tasks.management.model.TaskChange;
+import gr.confinanz.tasks.management.model.TaskChangeModel;
+
+import java.io.Serializable;
+
+import java.sql.Types;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The base model implementation for the TaskChange service. Represents a row in the &quot;ABT_TaskChange&quot; database table, with each column mapped to a property of this class.
+ *
+ * <p>
+ * This implementation and its corresponding interface {@link TaskChangeModel} exist only as a container for the default property accessors generated by ServiceBuilder. Helper methods and all application logic should be put in {@link TaskChangeImpl}.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ * @see TaskChangeImpl
+ * @see TaskChange
+ * @see TaskChangeModel
+ * @generated
+ */
+@JSON(strict = true)
+@ProviderType
+public class TaskChangeModelImpl extends BaseModelImpl<TaskChange>
+	implements TaskChangeModel {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. All methods that expect a task change model instance should use the {@link TaskChange} interface instead.
+	 */
+	public static final String TABLE_NAME = "ABT_TaskChange";
+	public static final Object[][] TABLE_COLUMNS = {
+			{ "taskChangeId", Types.BIGINT },
+			{ "groupId", Types.BIGINT },
+			{ "companyId", Types.BIGINT },
+			{ "taskId", Types.BIGINT },
+			{ "changeType", Types.INTEGER },
+			{ "fieldMask", Types.BIGINT },
+			{ "createDate", Types.TIMESTAMP }
+		};
+	public static final Map<String, Integer> TABLE_COLUMNS_MAP = new HashMap<String, Integer>();
+
+	static {
+		TABLE_COLUMNS_MAP.put("taskChangeId", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("groupId", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("companyId", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("taskId", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("changeType", Types.INTEGER);
+		TABLE_COLUMNS_MAP.put("fieldMask", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("createDate", Types.TIMESTAMP);
+	}
+
+	public static final String TABLE_SQL_CREATE = "create table ABT_TaskChange (taskChangeId LONG not null primary key,groupId LONG,companyId LONG,taskId LONG,changeType INTEGER,fieldMask LONG,createDate DATE null)";
+	public static final String TABLE_SQL_DROP = "drop table ABT_TaskChange";
+	public static final String ORDER_BY_JPQL = " ORDER BY taskChange.taskChangeId ASC";
+	public static final String ORDER_BY_SQL = " ORDER BY ABT_TaskChange.taskChangeId ASC";
+	public static final String DATA_SOURCE = "liferayDataSource";
+	public static final String SESSION_FACTORY = "liferaySessionFactory";
+	public static final String TX_MANAGER = "liferayTransactionManager";
+	public static final boolean ENTITY_CACHE_ENABLED = GetterUtil.getBoolean(gr.confinanz.tasks.management.service.util.ServiceProps.get(
+				"value.object.entity.cache.enabled.gr.confinanz.tasks.management.model.TaskChange"),
+			false);
+	public static final boolean FINDER_CACHE_ENABLED = GetterUtil.getBoolean(gr.confinanz.tasks.management.service.util.ServiceProps.get(
+				"value.object.finder.cache.enabled.gr.confinanz.tasks.management.model.TaskChange"),
+			false);
+	public static final boolean COLUMN_BITMASK_ENABLED = GetterUtil.getBoolean(gr.confinanz.tasks.management.service.util.ServiceProps.get(
+				"value.object.column.bitmask.enabled.gr.confinanz.tasks.management.model.TaskChange"),
+			true);
+	public static final long COMPANYID_COLUMN_BITMASK = 1L;
+	public static final long CREATEDATE_COLUMN_BITMASK = 2L;
+	public static final long TASKCHANGEID_COLUMN_BITMASK = 4L;
+	public static final long LOCK_EXPIRATION_TIME = GetterUtil.getLong(gr.confinanz.tasks.management.service.util.ServiceProps.get(
+				"lock.expiration.time.gr.confinanz.tasks.management.model.TaskChange"));
+
+	public TaskChangeModelImpl() {
+	}
+
+	@Override
+	public long getPrimaryKey() {
+		return _taskChangeId;
+	}
+
+	@Override
+	public void setPrimaryKey(long primaryKey) {
+		setTaskChangeId(primaryKey);
+	}
+
+	@Override
+	public Serializable getPrimaryKeyObj() {
+		return _taskChangeId;
+	}
+
+	@Override
+	public void setPrimaryKeyObj(Serializable primaryKeyObj) {
+		setPrimaryKey(((Long)primaryKeyObj).longValue());
+	}
+
+	@Override
+	public Class<?> getModelClass() {
+		return TaskChange.class;
+	}
+
+	@Override
+	public String getModelClassName() {
+		return TaskChange.class.getName();
+	}
+
+	@Override
+	public Map<String, Object> getModelAttributes() {
+		Map<String, Object> attributes = new HashMap<String, Object>();
+
+		attributes.put("taskChangeId", getTaskChangeId());
+		attributes.put("groupId", getGroupId());
+		attributes.put("companyId", getCompanyId());
+		attributes.put("taskId", getTaskId());
+		attributes.put("changeType", getChangeType());
+		attributes.put("fieldMask", getFieldMask());
+		attributes.put("createDate", getCreateDate());
+
+		attributes.put("entityCacheEnabled", isEntityCacheEnabled());
+		attributes.put("finderCacheEnabled", isFinderCacheEnabled());
+
+		return attributes;
+	}
+
+	@Override
+	public void setModelAttributes(Map<String, Object> attributes) {
+		Long taskChangeId = (Long)attributes.get("taskChangeId");
+
+		if (taskChangeId != null) {
+			setTaskChangeId(taskChangeId);
+		}
+
+		Long groupId = (Long)attributes.get("groupId");
+
+		if (groupId != null) {
+			setGroupId(groupId);
+		}
+
+		Long companyId = (Long)attributes.get("companyId");
+
+		if (companyId != null) {
+			setCompanyId(companyId);
+		}
+
+		Long taskId = (Long)attributes.get("taskId");
+
+		if (taskId != null) {
+			setTaskId(taskId);
+		}
+
+		Integer changeType = (Integer)attributes.get("changeType");
+
+		if (changeType != null) {
+			setChangeType(changeType);
+		}
+
+		Long fieldMask = (Long)attributes.get("fieldMask");
+
+		if (fieldMask != null) {
+			setFieldMask(fieldMask);
+		}
+
+		Date createDate = (Date)attributes.get("createDate");
+
+		if (createDate != null) {
+			setCreateDate(createDate);
+		}
+	}
+
+	@JSON
+	@Override
+	public long getTaskChangeId() {
+		return _taskChangeId;
+	}
+
+	@Override
+	public void setTaskChangeId(long taskChangeId) {
+		_columnBitmask = -1L;
+
+		_taskChangeId = taskChangeId;
+	}
+
+	@JSON
+	@Override
+	public long getGroupId() {
+		return _groupId;
+	}
+
+	@Override
+	public void setGroupId(long groupId) {
+		_groupId = groupId;
+	}
+
+	@JSON
+	@Override
+	public long getCompanyId() {
+		return _companyId;
+	}
+
+	@Override
+	public void setCompanyId(long companyId) {
+		_columnBitmask |= COMPANYID_COLUMN_BITMASK;
+
+		if (!_setOriginalCompanyId) {
+			_setOriginalCompanyId = true;
+
+			_originalCompanyId = _companyId;
+		}
+
+		_companyId = companyId;
+	}
+
+	public long getOriginalCompanyId() {
+		return _originalCompanyId;
+	}
+
+	@JSON
+	@Override
+	public long getTaskId() {
+		return _taskId;
+	}
+
+	@Override
+	public void setTaskId(long taskId) {
+		_taskId = taskId;
+	}
+
+	@JSON
+	@Override
+	public int getChangeType() {
+		return _changeType;
+	}
+
+	@Override
+	public void setChangeType(int changeType) {
+		_changeType = changeType;
+	}
+
+	@JSON
+	@Override
+	public long getFieldMask() {
+		return _fieldMask;
+	}
+
+	@Override
+	public void setFieldMask(long fieldMask) {
+		_fieldMask = fieldMask;
+	}
+
+	@JSON
+	@Override
+	public Date getCreateDate() {
+		return _createDate;
+	}
+
+	@Override
+	public void setCreateDate(Date createDate) {
+		_columnBitmask |= CREATEDATE_COLUMN_BITMASK;
+
+		if (_originalCreateDate == null) {
+			_originalCreateDate = _createDate;
+		}
+
+		_createDate = createDate;
+	}
+
+	public Date getOriginalCreateDate() {
+		return _originalCreateDate;
+	}
+
+	public long getColumnBitmask() {
+		return _columnBitmask;
+	}
+
+	@Override
+	public ExpandoBridge getExpandoBridge() {
+		return ExpandoBridgeFactoryUtil.getExpandoBridge(getCompanyId(),
+			TaskChange.class.getName(), getPrimaryKey());
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(ServiceContext serviceContext) {
+		ExpandoBridge expandoBridge = getExpandoBridge();
+
+		expandoBridge.setAttributes(serviceContext);
+	}
+
+	@Override
+	public TaskChange toEscapedModel() {
+		if (_escapedModel == null) {
+			_escapedModel = (TaskChange)ProxyUtil.newProxyInstance(_classLoader,
+					_escapedModelInterfaces, new AutoEscapeBeanHandler(this));
+		}
+
+		return _escapedModel;
+	}
+
+	@Override
+	public Object clone() {
+		TaskChangeImpl taskChangeImpl = new TaskChangeImpl();
+
+		taskChangeImpl.setTaskChangeId(getTaskChangeId());
+		taskChangeImpl.setGroupId(getGroupId());
+		taskChangeImpl.setCompanyId(getCompanyId());
+		taskChangeImpl.setTaskId(getTaskId());
+		taskChangeImpl.setChangeType(getChangeType());
+		taskChangeImpl.setFieldMask(getFieldMask());
+		taskChangeImpl.setCreateDate(getCreateDate());
+
+		taskChangeImpl.resetOriginalValues();
+
+		return taskChangeImpl;
+	}
+
+	@Override
+	public int compareTo(TaskChange taskChange) {
+		int value = 0;
+
+		if (getTaskChangeId() < taskChange.getTaskChangeId()) {
+			value = -1;
+		}
+		else if (getTaskChangeId() > taskChange.getTaskChangeId()) {
+			value = 1;
+		}
+		else {
+			value = 0;
+		}
+
+		if (value != 0) {
+			return value;
+		}
+
+		return 0;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof TaskChange)) {
+			return false;
+		}
+
+		TaskChange taskChange = (TaskChange)obj;
+
+		long primaryKey = taskChange.getPrimaryKey();
+
+		if (getPrimaryKey() == primaryKey) {
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return (int)getPrimaryKey();
+	}
+
+	@Override
+	public boolean isEntityCacheEnabled() {
+		return ENTITY_CACHE_ENABLED;
+	}
+
+	@Override
+	public boolean isFinderCacheEnabled() {
+		return FINDER_CACHE_ENABLED;
+	}
+
+	@Override
+	public void resetOriginalValues() {
+		TaskChangeModelImpl taskChangeModelImpl = this;
+
+		taskChangeModelImpl._originalCompanyId = taskChangeModelImpl._companyId;
+
+		taskChangeModelImpl._setOriginalCompanyId = false;
+
+		taskChangeModelImpl._originalCreateDate = taskChangeModelImpl._createDate;
+
+		taskChangeModelImpl._columnBitmask = 0;
+	}
+
+	@Override
+	public CacheModel<TaskChange> toCacheModel() {
+		TaskChangeCacheModel taskChangeCacheModel = new TaskChangeCacheModel();
+
+		taskChangeCacheModel.taskChangeId = getTaskChangeId();
+
+		taskChangeCacheModel.groupId = getGroupId();
+
+		taskChangeCacheModel.companyId = getCompanyId();
+
+		taskChangeCacheModel.taskId = getTaskId();
+
+		taskChangeCacheModel.changeType = getChangeType();
+
+		taskChangeCacheModel.fieldMask = getFieldMask();
+
+		Date createDate = getCreateDate();
+
+		if (createDate != null) {
+			taskChangeCacheModel.createDate = createDate.getTime();
+		}
+		else {
+			taskChangeCacheModel.createDate = Long.MIN_VALUE;
+		}
+
+		return taskChangeCacheModel;
+	}
+
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler(15);
+
+		sb.append("{taskChangeId=");
+		sb.append(getTaskChangeId());
+		sb.append(", groupId=");
+		sb.append(getGroupId());
+		sb.append(", companyId=");
+		sb.append(getCompanyId());
+		sb.append(", taskId=");
+		sb.append(getTaskId());
+		sb.append(", changeType=");
+		sb.append(getChangeType());
+		sb.append(", fieldMask=");
+		sb.append(getFieldMask());
+		sb.append(", createDate=");
+		sb.append(getCreateDate());
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	@Override
+	public String toXmlString() {
+		StringBundler sb = new StringBundler(25);
+
+		sb.append("<model><model-name>");
+		sb.append("gr.confinanz.tasks.management.model.TaskChange");
+		sb.append("</model-name>");
+
+		sb.append(
+			"<column><column-name>taskChangeId</column-name><column-value><![CDATA[");
+		sb.append(getTaskChangeId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>groupId</column-name><column-value><![CDATA[");
+		sb.append(getGroupId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>companyId</column-name><column-value><![CDATA[");
+		sb.append(getCompanyId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>taskId</column-name><column-value><![CDATA[");
+		sb.append(getTaskId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>changeType</column-name><column-value><![CDATA[");
+		sb.append(getChangeType());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>fieldMask</column-name><column-value><![CDATA[");
+		sb.append(getFieldMask());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>createDate</column-name><column-value><![CDATA[");
+		sb.append(getCreateDate());
+		sb.append("]]></column-value></column>");
+
+		sb.append("</model>");
+
+		return sb.toString();
+	}
+
+	private static final ClassLoader _classLoader = TaskChange.class.getClassLoader();
+	private static final Class<?>[] _escapedModelInterfaces = new Class[] {
+			TaskChange.class
+		};
+	private long _taskChangeId;
+	private long _groupId;
+	private long _companyId;
+	private long _originalCompanyId;
+	private boolean _setOriginalCompanyId;
+	private long _taskId;
+	private int _changeType;
+	private long _fieldMask;
+	private Date _createDate;
+	private Date _originalCreateDate;
+	private long _columnBitmask;
+	private TaskChange _escapedModel;
+}
\ No newline at end of file
@@ -86,6 +86,7 @@ public class TaskModelImpl extends BaseModelImpl<Task> implements TaskModel {
 			{ "description", Types.VARCHAR },
 			{ "expirationDate", Types.TIMESTAMP },
 			{ "taskUserId", Types.BIGINT },
+			{ "taskUserName", Types.VARCHAR },
 			{ "completed", Types.BOOLEAN },
 			{ "status", Types.INTEGER },
 			{ "statusByUserId", Types.BIGINT },
@@ -107,6 +108,7 @@ public class TaskModelImpl extends BaseModelImpl<Task> implements TaskModel {
 		TABLE_COLUMNS_MAP.put("description", Types.VARCHAR);
 		TABLE_COLUMNS_MAP.put("expirationDate", Types.TIMESTAMP);
 		TABLE_COLUMNS_MAP.put("taskUserId", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("taskUserName", Types.VARCHAR);
 		TABLE_COLUMNS_MAP.put("completed", Types.BOOLEAN);
 		TABLE_COLUMNS_MAP.put("status", Types.INTEGER);
 		TABLE_COLUMNS_MAP.put("statusByUserId", Types.BIGINT);
@@ -114,7 +116,7 @@ public class TaskModelImpl extends BaseModelImpl<Task> implements TaskModel {
 		TABLE_COLUMNS_MAP.put("statusDate", Types.TIMESTAMP);
 	}
 
-	public static final String TABLE_SQL_CREATE = "create table ABT_Task (uuid_ VARCHAR(75) null,taskId LONG not null primary key,groupId LONG,companyId LONG,userId LONG,userName VARCHAR(75) null,createDate DATE null,modifiedDate DATE null,title VARCHAR(75) null,description STRING null,expirationDate DATE null,taskUserId LONG,completed BOOLEAN,status INTEGER,statusByUserId LONG,statusByUserName VARCHAR(75) null,statusDate DATE null)";
+	public static final String TABLE_SQL_CREATE = "create table ABT_Task (uuid_ VARCHAR(75) null,taskId LONG not null primary key,groupId LONG,companyId LONG,userId LONG,userName VARCHAR(75) null,createDate DATE null,modifiedDate DATE null,title VARCHAR(75) null,description STRING null,expirationDate DATE null,taskUserId LONG,taskUserName VARCHAR(75) null,completed BOOLEAN,status INTEGER,statusByUserId LONG,statusByUserName VARCHAR(75) null,statusDate DATE null)";
 	public static final String TABLE_SQL_DROP = "drop table ABT_Task";
 	public static final String ORDER_BY_JPQL = " ORDER BY task.expirationDate ASC, task.title ASC";
 	public static final String ORDER_BY_SQL = " ORDER BY ABT_Task.expirationDate ASC, ABT_Task.title ASC";
@@ -164,6 +166,7 @@ public class TaskModelImpl extends BaseModelImpl<Task> implements TaskModel {
 		model.setDescription(soapModel.getDescription());
 		model.setExpirationDate(soapModel.getExpirationDate());
 		model.setTaskUserId(soapModel.getTaskUserId());
+		model.setTaskUserName(soapModel.getTaskUserName());
 		model.setCompleted(soapModel.getCompleted());
 		model.setStatus(soapModel.getStatus());
 		model.setStatusByUserId(soapModel.getStatusByUserId());
@@ -245,6 +248,7 @@ public class TaskModelImpl extends BaseModelImpl<Task> implements TaskModel {
 		attributes.put("description", getDescription());
 		attributes.put("expirationDate", getExpirationDate());
 		attributes.put("taskUserId", getTaskUserId());
+		attributes.put("taskUserName", getTaskUserName());
 		attributes.put("completed", getCompleted());
 		attributes.put("status", getStatus());
 		attributes.put("statusByUserId", getStatusByUserId());
@@ -331,6 +335,12 @@ public class TaskModelImpl extends BaseModelImpl<Task> implements TaskModel {
 			setTaskUserId(taskUserId);
 		}
 
+		String taskUserName = (String)attributes.get("taskUserName");
+
+		if (taskUserName != null) {
+			setTaskUserName(taskUserName);
+		}
+
 		Boolean completed = (Boolean)attributes.get("completed");
 
 		if (completed != null) {
@@ -612,6 +622,22 @@ public class TaskModelImpl extends BaseModelImpl<Task> implements TaskModel {
 		return _originalTaskUserId;
 	}
 
+	@JSON
+	@Override
+	public String getTaskUserName() {
+		if (_taskUserName == null) {
+			return StringPool.BLANK;
+		}
+		else {
+			return _taskUserName;
+		}
+	}
+
+	@Override
+	public void setTaskUserName(String taskUserName) {
+		_taskUserName = taskUserName;
+	}
+
 	@JSON
 	@Override
 	public boolean getCompleted() {
@@ -835,6 +861,7 @@ public class TaskModelImpl extends BaseModelImpl<Task> implements TaskModel {
 		taskImpl.setDescription(getDescription());
 		taskImpl.setExpirationDate(getExpirationDate());
 		taskImpl.setTaskUserId(getTaskUserId());
+		taskImpl.setTaskUserName(getTaskUserName());
 		taskImpl.setCompleted(getCompleted());
 		taskImpl.setStatus(getStatus());
 		taskImpl.setStatusByUserId(getStatusByUserId());
@@ -1006,6 +1033,14 @@ public class TaskModelImpl extends BaseModelImpl<Task> implements TaskModel {
 
 		taskCacheModel.taskUserId = getTaskUserId();
 
+		taskCacheModel.taskUserName = getTaskUserName();
+
+		String taskUserName = taskCacheModel.taskUserName;
+
+		if ((taskUserName != null) && (taskUserName.length() == 0)) {
+			taskCacheModel.taskUserName = null;
+		}
+
 		taskCacheModel.completed = getCompleted();
 
 		taskCacheModel.status = getStatus();
@@ -1034,7 +1069,7 @@ public class TaskModelImpl extends BaseModelImpl<Task> implements TaskModel {
 
 	@Override
 	public String toString() {
-		StringBundler sb = new StringBundler(35);
+		StringBundler sb = new StringBundler(37);
 
 		sb.append("{uuid=");
 		sb.append(getUuid());
@@ -1060,6 +1095,8 @@ public class TaskModelImpl extends BaseModelImpl<Task> implements TaskModel {
 		sb.append(getExpirationDate());
 		sb.append(", taskUserId=");
 		sb.append(getTaskUserId());
+		sb.append(", taskUserName=");
+		sb.append(getTaskUserName());
 		sb.append(", completed=");
 		sb.append(getCompleted());
 		sb.append(", status=");
@@ -1077,7 +1114,7 @@ public class TaskModelImpl extends BaseModelImpl<Task> implements TaskModel {
 
 	@Override
 	public String toXmlString() {
-		StringBundler sb = new StringBundler(55);
+		StringBundler sb = new StringBundler(58);
 
 		sb.append("<model><model-name>");
 		sb.append("gr.confinanz.tasks.management.model.Task");
@@ -1131,6 +1168,10 @@ public class TaskModelImpl extends BaseModelImpl<Task> implements TaskModel {
 			"<column><column-name>taskUserId</column-name><column-value><![CDATA[");
 		sb.append(getTaskUserId());
 		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>taskUserName</column-name><column-value><![CDATA[");
+		sb.append(getTaskUserName());
+		sb.append("]]></column-value></column>");
 		sb.append(
 			"<column><column-name>completed</column-name><column-value><![CDATA[");
 		sb.append(getCompleted());
@@ -1183,6 +1224,7 @@ public class TaskModelImpl extends BaseModelImpl<Task> implements TaskModel {
 	private long _taskUserId;
 	private long _originalTaskUserId;
 	private boolean _setOriginalTaskUserId;
+	private String _taskUserName;
 	private boolean _completed;
 	private int _status;
 	private int _originalStatus;
@@ -0,0 +1,195 @@
+package gr.confinanz.tasks.management.model.listener;
+
+import com.liferay.portal.kernel.exception.ModelListenerException;
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.model.BaseModelListener;
+import com.liferay.portal.kernel.model.ModelListener;
+import com.liferay.portal.kernel.model.ResourceConstants;
+import com.liferay.portal.kernel.model.Role;
+import com.liferay.portal.kernel.security.permission.ActionKeys;
+import com.liferay.portal.kernel.service.ResourcePermissionLocalService;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import gr.confinanz.tasks.management.constants.TaskChangeConstants;
+import gr.confinanz.tasks.management.model.Task;
+import gr.confinanz.tasks.management.search.TaskSimilarityIndexUtil;
+import gr.confinanz.tasks.management.search.TaskTitleIndexUtil;
+import gr.confinanz.tasks.management.util.TaskEvent;
+import gr.confinanz.tasks.management.util.TaskEventBus;
+import gr.confinanz.tasks.management.util.TaskFragmentCacheUtil;
+import gr.confinanz.tasks.management.util.TaskVersionUtil;
+
+/**
+ * @author Abdessamad Ben Taleb
+ *
+ */
+@Component(immediate = true, service = ModelListener.class)
+public class TaskModelListener extends BaseModelListener<Task> {
+
+	@Override
+	public void onAfterCreate(Task task) throws ModelListenerException {
+		long groupVersion = TaskVersionUtil.getGroupVersion(task.getGroupId());
+
+		invalidateVersions(task);
+
+		publish(task, TaskChangeConstants.TYPE_ADD);
+
+		updateIndexes(task, TaskChangeConstants.TYPE_ADD, groupVersion);
+	}
+
+	@Override
+	public void onAfterRemove(Task task) throws ModelListenerException {
+		long groupVersion = TaskVersionUtil.getGroupVersion(task.getGroupId());
+
+		invalidateVersions(task);
+
+		publish(task, TaskChangeConstants.TYPE_DELETE);
+
+		updateIndexes(task, TaskChangeConstants.TYPE_DELETE, groupVersion);
+	}
+
+	@Override
+	public void onAfterUpdate(Task task) throws ModelListenerException {
+		long groupVersion = TaskVersionUtil.getGroupVersion(task.getGroupId());
+
+		invalidateVersions(task);
+
+		publish(task, TaskChangeConstants.TYPE_UPDATE);
+
+		updateIndexes(task, TaskChangeConstants.TYPE_UPDATE, groupVersion);
+	}
+
+	/**
+	 * Returns the primary keys of the roles with the view permission of the
+	 * task itself. The individual permissions are deleted with the task, so
+	 * they are read while the task is being removed and sent with the event.
+	 */
+	protected long[] getViewRoleIds(Task task) throws ModelListenerException {
+		List<Role> roles = null;
+
+		try {
+			roles = _resourcePermissionLocalService.getRoles(
+				task.getCompanyId(), Task.class.getName(),
+				ResourceConstants.SCOPE_INDIVIDUAL,
+				String.valueOf(task.getTaskId()), ActionKeys.VIEW);
+		}
+		catch (PortalException pe) {
+			throw new ModelListenerException(pe);
+		}
+
+		long[] roleIds = new long[roles.size()];
+
+		for (int i = 0; i < roles.size(); i++) {
+			Role role = roles.get(i);
+
+			roleIds[i] = role.getRoleId();
+		}
+
+		return roleIds;
+	}
+
+	/**
+	 * Removes the versions of the group and company of the task now and again
+	 * once the current transaction commits. A read between the two removals
+	 * hands out a version for data that does not have the write yet, and
+	 * the second removal keeps that version from outliving the commit, on
+	 * this node and on the others. The callback is registered before the
+	 * ones of the event and the indexes, so they see the new version.
+	 */
+	protected void invalidateVersions(Task task) {
+		final long companyId = task.getCompanyId();
+		final long groupId = task.getGroupId();
+
+		TaskVersionUtil.invalidate(companyId, groupId);
+
+		TransactionCommitCallbackUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					TaskVersionUtil.invalidate(companyId, groupId);
+
+					return null;
+				}
+
+			});
+	}
+
+	/**
+	 * Publishes the event once the current transaction commits, or right
+	 * away if there is none. Nothing is published for a rolled back write.
+	 */
+	protected void publish(Task task, int type) throws ModelListenerException {
+		long[] viewRoleIds = null;
+
+		if (type == TaskChangeConstants.TYPE_DELETE) {
+			viewRoleIds = getViewRoleIds(task);
+		}
+
+		final TaskEvent taskEvent = new TaskEvent(task, type, viewRoleIds);
+
+		TransactionCommitCallbackUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					TaskEventBus.publish(taskEvent);
+
+					return null;
+				}
+
+			});
+	}
+
+	/**
+	 * Applies the write to the title suggestion and similarity indexes of the
+	 * group, and drops the rendered fragments of the task, once the current
+	 * transaction commits.
+	 */
+	protected void updateIndexes(
+		Task task, final int type, final long groupVersion) {
+
+		final long groupId = task.getGroupId();
+		final long taskId = task.getTaskId();
+		final String title = task.getTitle();
+		final String description = task.getDescription();
+
+		TransactionCommitCallbackUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					if (type != TaskChangeConstants.TYPE_ADD) {
+						TaskFragmentCacheUtil.remove(taskId);
+					}
+
+					if (type == TaskChangeConstants.TYPE_DELETE) {
+						TaskTitleIndexUtil.remove(
+							groupId, taskId, groupVersion);
+						TaskSimilarityIndexUtil.remove(
+							groupId, taskId, groupVersion);
+					}
+					else {
+						TaskTitleIndexUtil.put(
+							groupId, taskId, title, groupVersion);
+						TaskSimilarityIndexUtil.put(
+							groupId, taskId, title, description,
+							groupVersion);
+					}
+
+					return null;
+				}
+
+			});
+	}
+
+	@Reference
+	private ResourcePermissionLocalService _resourcePermissionLocalService;
+
+}
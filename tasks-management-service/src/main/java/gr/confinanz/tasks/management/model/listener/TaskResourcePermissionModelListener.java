@@ -0,0 +1,123 @@
+package gr.confinanz.tasks.management.model.listener;
+
+import com.liferay.portal.kernel.exception.ModelListenerException;
+import com.liferay.portal.kernel.model.BaseModelListener;
+import com.liferay.portal.kernel.model.ModelListener;
+import com.liferay.portal.kernel.model.ResourceConstants;
+import com.liferay.portal.kernel.model.ResourcePermission;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+
+import java.util.concurrent.Callable;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferencePolicyOption;
+
+import gr.confinanz.tasks.management.model.Task;
+import gr.confinanz.tasks.management.service.TaskLocalService;
+import gr.confinanz.tasks.management.util.TaskVersionUtil;
+
+/**
+ * Removes the versions of the tasks of a group when the permissions on its
+ * tasks change, such as through the Permissions action of a task or the
+ * roles administration, since the cached task lists and the entity tags of
+ * the task collections depend on them.
+ *
+ * <p>
+ * A permission on a single task removes the versions of its group, and a
+ * permission on the tasks of every site removes the versions of all of them.
+ * As for the tasks themselves, the versions are removed now and again once
+ * the transaction commits.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+@Component(immediate = true, service = ModelListener.class)
+public class TaskResourcePermissionModelListener
+	extends BaseModelListener<ResourcePermission> {
+
+	@Override
+	public void onAfterCreate(ResourcePermission resourcePermission)
+		throws ModelListenerException {
+
+		invalidateVersions(resourcePermission);
+	}
+
+	@Override
+	public void onAfterRemove(ResourcePermission resourcePermission)
+		throws ModelListenerException {
+
+		invalidateVersions(resourcePermission);
+	}
+
+	@Override
+	public void onAfterUpdate(ResourcePermission resourcePermission)
+		throws ModelListenerException {
+
+		invalidateVersions(resourcePermission);
+	}
+
+	protected void invalidateVersions(ResourcePermission resourcePermission) {
+		if (!_CLASS_NAME.equals(resourcePermission.getName())) {
+			return;
+		}
+
+		final long companyId = resourcePermission.getCompanyId();
+		final long groupId;
+
+		int scope = resourcePermission.getScope();
+
+		if (scope == ResourceConstants.SCOPE_INDIVIDUAL) {
+			Task task = _taskLocalService.fetchTask(
+				GetterUtil.getLong(resourcePermission.getPrimKey()));
+
+			// The permissions of a deleted task go with it, and those of a
+			// new task are added before it is stored. The task model
+			// listener removes the versions for both, and removing them
+			// here as well would make the indexes of the group load again.
+
+			if (task == null) {
+				return;
+			}
+
+			groupId = task.getGroupId();
+		}
+		else if (scope == ResourceConstants.SCOPE_GROUP) {
+			groupId = GetterUtil.getLong(resourcePermission.getPrimKey());
+		}
+		else {
+			groupId = 0;
+		}
+
+		_invalidate(companyId, groupId);
+
+		TransactionCommitCallbackUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					_invalidate(companyId, groupId);
+
+					return null;
+				}
+
+			});
+	}
+
+	private void _invalidate(long companyId, long groupId) {
+		if (groupId > 0) {
+			TaskVersionUtil.invalidate(companyId, groupId);
+		}
+		else {
+			TaskVersionUtil.invalidateAll();
+		}
+	}
+
+	private static final String _CLASS_NAME = Task.class.getName();
+
+	@Reference(policyOption = ReferencePolicyOption.GREEDY)
+	private TaskLocalService _taskLocalService;
+
+}
@@ -0,0 +1,101 @@
+package gr.confinanz.tasks.management.model.listener;
+
+import com.liferay.portal.kernel.exception.ModelListenerException;
+import com.liferay.portal.kernel.model.BaseModelListener;
+import com.liferay.portal.kernel.model.ModelListener;
+import com.liferay.portal.kernel.model.User;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
+import com.liferay.portal.kernel.util.AutoResetThreadLocal;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferencePolicyOption;
+
+import gr.confinanz.tasks.management.service.TaskLocalService;
+import gr.confinanz.tasks.management.util.TaskUserNameUtil;
+
+/**
+ * Keeps the denormalized <code>taskUserName</code> of the tasks in sync when
+ * users are renamed.
+ *
+ * <p>
+ * A rename only marks the user in the batch of the current thread. Once the
+ * transaction commits, the marked users are written to their tasks in one
+ * batch, so a transaction that renames many users, such as an LDAP import,
+ * updates the tasks once at the end. Every rename registers a callback for
+ * the batch it was added to; the first one to run writes the batch and the
+ * others find it empty. The users of a rolled back transaction may be
+ * written with a later batch of the thread, which does no harm, since the
+ * names are read back from the database.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+@Component(immediate = true, service = ModelListener.class)
+public class TaskUserModelListener extends BaseModelListener<User> {
+
+	@Override
+	public void onAfterUpdate(User user) throws ModelListenerException {
+		TaskUserNameUtil.clearStoredNames(user.getUserId());
+	}
+
+	@Override
+	public void onBeforeUpdate(User user) throws ModelListenerException {
+		if (!TaskUserNameUtil.isFullNameChanged(user)) {
+			return;
+		}
+
+		final Set<Long> userIds = _renamedUserIds.get();
+
+		userIds.add(user.getUserId());
+
+		TransactionCommitCallbackUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					updateTaskUserNames(userIds);
+
+					return null;
+				}
+
+			});
+	}
+
+	/**
+	 * Writes the names of the users of the batch and empties it.
+	 */
+	protected void updateTaskUserNames(Set<Long> userIds) throws Exception {
+		if (userIds.isEmpty()) {
+			return;
+		}
+
+		long[] taskUserIds = new long[userIds.size()];
+
+		int i = 0;
+
+		for (long userId : userIds) {
+			taskUserIds[i++] = userId;
+
+			TaskUserNameUtil.remove(userId);
+		}
+
+		userIds.clear();
+
+		_taskLocalService.updateTaskUserNames(taskUserIds);
+	}
+
+	private static final ThreadLocal<Set<Long>> _renamedUserIds =
+		new AutoResetThreadLocal<Set<Long>>(
+			TaskUserModelListener.class + "._renamedUserIds",
+			new HashSet<Long>());
+
+	@Reference(policyOption = ReferencePolicyOption.GREEDY)
+	private TaskLocalService _taskLocalService;
+
+}
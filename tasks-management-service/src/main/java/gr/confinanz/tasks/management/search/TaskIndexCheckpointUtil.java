@@ -0,0 +1,137 @@
+package gr.confinanz.tasks.management.search;
+
+import com.liferay.portal.kernel.dao.jdbc.DataAccess;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Keeps the checkpoints of the long running index jobs in rows of their own
+ * in the <code>Counter</code> table, so that a job that was interrupted
+ * continues where it left off, on whichever node runs it next.
+ *
+ * <p>
+ * Every checkpoint is one row, named after the job and the company, that is
+ * written with one statement. Saving a checkpoint neither rewrites nor
+ * clears the cache of the preferences of the company, and two jobs never
+ * overwrite each other's checkpoints. The rows are never incremented, so
+ * the counters of the portal do not see them.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskIndexCheckpointUtil {
+
+	/**
+	 * Returns the primary key the job should continue from, or
+	 * <code>0</code> if it has no checkpoint.
+	 */
+	public static long getCheckpoint(long companyId, String name) {
+		Connection con = null;
+		PreparedStatement ps = null;
+		ResultSet rs = null;
+
+		try {
+			con = DataAccess.getConnection();
+
+			ps = con.prepareStatement(
+				"select currentId from Counter where name = ?");
+
+			ps.setString(1, _getCounterName(companyId, name));
+
+			rs = ps.executeQuery();
+
+			if (rs.next()) {
+				return rs.getLong("currentId");
+			}
+
+			return 0;
+		}
+		catch (SQLException sqle) {
+			throw new SystemException(sqle);
+		}
+		finally {
+			DataAccess.cleanUp(con, ps, rs);
+		}
+	}
+
+	public static void removeCheckpoint(long companyId, String name) {
+		_update(
+			"delete from Counter where name = ?",
+			_getCounterName(companyId, name));
+	}
+
+	public static void setCheckpoint(
+		long companyId, String name, long checkpoint) {
+
+		String counterName = _getCounterName(companyId, name);
+
+		if (_update(
+				"update Counter set currentId = ? where name = ?", checkpoint,
+				counterName) > 0) {
+
+			return;
+		}
+
+		try {
+			_update(
+				"insert into Counter (currentId, name) values (?, ?)",
+				checkpoint, counterName);
+		}
+		catch (SystemException se) {
+
+			// Another node added the row in the meantime
+
+			_update(
+				"update Counter set currentId = ? where name = ?", checkpoint,
+				counterName);
+		}
+	}
+
+	private static String _getCounterName(long companyId, String name) {
+		StringBundler sb = new StringBundler(4);
+
+		sb.append(_COUNTER_NAME_PREFIX);
+		sb.append(companyId);
+		sb.append(StringPool.POUND);
+		sb.append(name);
+
+		return sb.toString();
+	}
+
+	private static int _update(String sql, Object... parameters) {
+		Connection con = null;
+		PreparedStatement ps = null;
+
+		try {
+			con = DataAccess.getConnection();
+
+			ps = con.prepareStatement(sql);
+
+			for (int i = 0; i < parameters.length; i++) {
+				ps.setObject(i + 1, parameters[i]);
+			}
+
+			return ps.executeUpdate();
+		}
+		catch (SQLException sqle) {
+			throw new SystemException(sqle);
+		}
+		finally {
+			DataAccess.cleanUp(con, ps);
+		}
+	}
+
+	/**
+	 * The prefix of the names of the rows, short enough for the name column
+	 * of the <code>Counter</code> table with any company and job name.
+	 */
+	private static final String _COUNTER_NAME_PREFIX = "ABT_TaskIndex#";
+
+}
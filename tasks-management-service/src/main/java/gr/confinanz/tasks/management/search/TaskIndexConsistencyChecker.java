@@ -0,0 +1,546 @@
+package gr.confinanz.tasks.management.search;
+
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionList;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.search.BooleanClauseOccur;
+import com.liferay.portal.kernel.search.BooleanQuery;
+import com.liferay.portal.kernel.search.Document;
+import com.liferay.portal.kernel.search.Field;
+import com.liferay.portal.kernel.search.Hits;
+import com.liferay.portal.kernel.search.IndexSearcherHelperUtil;
+import com.liferay.portal.kernel.search.Indexer;
+import com.liferay.portal.kernel.search.QueryConfig;
+import com.liferay.portal.kernel.search.SearchContext;
+import com.liferay.portal.kernel.search.Sort;
+import com.liferay.portal.kernel.search.filter.BooleanFilter;
+import com.liferay.portal.kernel.search.generic.BooleanQueryImpl;
+import com.liferay.portal.kernel.search.generic.MatchAllQuery;
+import com.liferay.portal.kernel.util.ArrayUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
+import com.liferay.portal.kernel.util.Time;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import gr.confinanz.tasks.management.constants.TaskSearchConstants;
+import gr.confinanz.tasks.management.model.Task;
+import gr.confinanz.tasks.management.service.TaskLocalService;
+
+/**
+ * Compares the task documents of the search index with the tasks of the
+ * database and repairs only the documents that differ.
+ *
+ * <p>
+ * The primary keys of the company are split in ranges that are checked in
+ * parallel. Every range streams <code>(taskId, modifiedDate)</code> pairs
+ * from the database and from the index in primary key order, a page at a
+ * time, and merges the two streams. A task without a document, or with a
+ * document of another modified date, is reindexed. A document without a
+ * task is deleted once a second lookup confirms the task is gone, so a task
+ * added during the check is left alone.
+ * </p>
+ *
+ * <p>
+ * After every range the primary key up to which all the ranges are done is
+ * saved as a checkpoint. An interrupted check continues from there, and a
+ * completed check removes the checkpoint.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskIndexConsistencyChecker {
+
+	public static final String CHECKPOINT_NAME = "consistency";
+
+	public TaskIndexConsistencyChecker(
+		Indexer<Task> indexer, TaskLocalService taskLocalService,
+		int parallelism, long rangeSize) {
+
+		_indexer = indexer;
+		_taskLocalService = taskLocalService;
+		_parallelism = Math.max(1, parallelism);
+		_rangeSize = Math.max(_PAGE_SIZE, rangeSize);
+	}
+
+	/**
+	 * Checks the tasks of the company, starting from its checkpoint if a
+	 * previous check was interrupted.
+	 */
+	public void check(final long companyId) throws Exception {
+		long[] bounds = _getTaskIdBounds(companyId);
+
+		if (bounds == null) {
+			TaskIndexCheckpointUtil.removeCheckpoint(
+				companyId, CHECKPOINT_NAME);
+
+			return;
+		}
+
+		long startTaskId = TaskIndexCheckpointUtil.getCheckpoint(
+			companyId, CHECKPOINT_NAME);
+
+		if ((startTaskId > 0) && _log.isInfoEnabled()) {
+			_log.info(
+				"Resuming the index check of company " + companyId +
+					" from task " + startTaskId);
+		}
+
+		// The first range starts at the checkpoint and the last one has no
+		// upper bound, so documents outside the primary keys of the database
+		// are found as well
+
+		List<long[]> ranges = new ArrayList<>();
+
+		long rangeStartTaskId = startTaskId;
+
+		while (true) {
+			long rangeEndTaskId = Math.max(
+				rangeStartTaskId, bounds[0]) + _rangeSize;
+
+			if (rangeEndTaskId > bounds[1]) {
+				ranges.add(new long[] {rangeStartTaskId, Long.MAX_VALUE});
+
+				break;
+			}
+
+			ranges.add(new long[] {rangeStartTaskId, rangeEndTaskId});
+
+			rangeStartTaskId = rangeEndTaskId;
+		}
+
+		ExecutorService executorService = Executors.newFixedThreadPool(
+			Math.min(_parallelism, ranges.size()),
+			new NamedThreadFactory(
+				TaskIndexConsistencyChecker.class.getSimpleName(),
+				Thread.NORM_PRIORITY,
+				TaskIndexConsistencyChecker.class.getClassLoader()));
+
+		try {
+			List<Future<Void>> futures = new ArrayList<>(ranges.size());
+
+			for (final long[] range : ranges) {
+				futures.add(
+					executorService.submit(
+						new Callable<Void>() {
+
+							@Override
+							public Void call() throws Exception {
+								checkRange(companyId, range[0], range[1]);
+
+								return null;
+							}
+
+						}));
+			}
+
+			// Waiting in range order moves the checkpoint only past ranges
+			// that are done along with all the ranges before them
+
+			for (int i = 0; i < futures.size(); i++) {
+				Future<Void> future = futures.get(i);
+
+				future.get();
+
+				long[] range = ranges.get(i);
+
+				if (range[1] != Long.MAX_VALUE) {
+					TaskIndexCheckpointUtil.setCheckpoint(
+						companyId, CHECKPOINT_NAME, range[1]);
+				}
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		TaskIndexCheckpointUtil.removeCheckpoint(companyId, CHECKPOINT_NAME);
+	}
+
+	public long getCheckedCount() {
+		return _checkedCount.get();
+	}
+
+	public long getMissingCount() {
+		return _missingCount.get();
+	}
+
+	public long getOrphanedCount() {
+		return _orphanedCount.get();
+	}
+
+	public long getStaleCount() {
+		return _staleCount.get();
+	}
+
+	/**
+	 * Checks the tasks with a primary key from <code>startTaskId</code>
+	 * up to, but not including, <code>endTaskId</code>.
+	 */
+	protected void checkRange(long companyId, long startTaskId, long endTaskId)
+		throws Exception {
+
+		Cursor databaseCursor = new DatabaseCursor(
+			companyId, startTaskId, endTaskId);
+		Cursor indexCursor = new IndexCursor(
+			companyId, startTaskId, endTaskId);
+
+		List<Long> repairTaskIds = new ArrayList<>();
+		Map<Long, String> orphanedUids = new HashMap<>();
+
+		boolean hasDatabaseTask = databaseCursor.next();
+		boolean hasIndexTask = indexCursor.next();
+
+		while (hasDatabaseTask || hasIndexTask) {
+			if (hasDatabaseTask &&
+				(!hasIndexTask ||
+				 (databaseCursor.getTaskId() < indexCursor.getTaskId()))) {
+
+				_missingCount.incrementAndGet();
+
+				repairTaskIds.add(databaseCursor.getTaskId());
+
+				hasDatabaseTask = databaseCursor.next();
+			}
+			else if (!hasDatabaseTask ||
+					 (indexCursor.getTaskId() < databaseCursor.getTaskId())) {
+
+				orphanedUids.put(
+					indexCursor.getTaskId(), indexCursor.getUid());
+
+				hasIndexTask = indexCursor.next();
+			}
+			else {
+				if (databaseCursor.getModifiedTime() !=
+						indexCursor.getModifiedTime()) {
+
+					_staleCount.incrementAndGet();
+
+					repairTaskIds.add(databaseCursor.getTaskId());
+				}
+
+				hasDatabaseTask = databaseCursor.next();
+				hasIndexTask = indexCursor.next();
+			}
+
+			if ((repairTaskIds.size() + orphanedUids.size()) >= _PAGE_SIZE) {
+				repair(companyId, repairTaskIds, orphanedUids);
+			}
+		}
+
+		repair(companyId, repairTaskIds, orphanedUids);
+
+		_checkedCount.addAndGet(databaseCursor.getCount());
+	}
+
+	/**
+	 * Reindexes the tasks and deletes the documents of the tasks that no
+	 * longer exist, then clears both collections.
+	 */
+	protected void repair(
+			long companyId, List<Long> repairTaskIds,
+			Map<Long, String> orphanedUids)
+		throws Exception {
+
+		if (!orphanedUids.isEmpty()) {
+			long[] orphanedTaskIds = ArrayUtil.toLongArray(
+				orphanedUids.keySet());
+
+			Task[] tasks = _taskLocalService.fetchTasks(orphanedTaskIds);
+
+			for (int i = 0; i < tasks.length; i++) {
+				if (tasks[i] != null) {
+					repairTaskIds.add(orphanedTaskIds[i]);
+
+					continue;
+				}
+
+				_orphanedCount.incrementAndGet();
+
+				_indexer.delete(
+					companyId, orphanedUids.get(orphanedTaskIds[i]));
+			}
+
+			orphanedUids.clear();
+		}
+
+		if (!repairTaskIds.isEmpty()) {
+			List<Task> tasks = new ArrayList<>(repairTaskIds.size());
+
+			for (Task task :
+					_taskLocalService.fetchTasks(
+						ArrayUtil.toLongArray(repairTaskIds))) {
+
+				if (task != null) {
+					tasks.add(task);
+				}
+			}
+
+			_indexer.reindex(tasks);
+
+			repairTaskIds.clear();
+		}
+	}
+
+	/**
+	 * Returns the lowest and highest primary keys of the tasks of the
+	 * company, or <code>null</code> if it has no tasks.
+	 */
+	private long[] _getTaskIdBounds(long companyId) {
+		DynamicQuery dynamicQuery = _taskLocalService.dynamicQuery();
+
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("companyId", companyId));
+
+		ProjectionList projectionList = ProjectionFactoryUtil.projectionList();
+
+		projectionList.add(ProjectionFactoryUtil.min("taskId"));
+		projectionList.add(ProjectionFactoryUtil.max("taskId"));
+
+		dynamicQuery.setProjection(projectionList);
+
+		List<Object[]> rows = _taskLocalService.dynamicQuery(dynamicQuery);
+
+		if (rows.isEmpty() || (rows.get(0)[0] == null)) {
+			return null;
+		}
+
+		Object[] row = rows.get(0);
+
+		return new long[] {(Long)row[0], (Long)row[1]};
+	}
+
+	private static final int _PAGE_SIZE = 500;
+
+	private static final Log _log = LogFactoryUtil.getLog(
+		TaskIndexConsistencyChecker.class);
+
+	private final AtomicLong _checkedCount = new AtomicLong();
+	private final Indexer<Task> _indexer;
+	private final AtomicLong _missingCount = new AtomicLong();
+	private final AtomicLong _orphanedCount = new AtomicLong();
+	private final int _parallelism;
+	private final long _rangeSize;
+	private final AtomicLong _staleCount = new AtomicLong();
+	private final TaskLocalService _taskLocalService;
+
+	/**
+	 * Iterates over the tasks of a range in primary key order, loading a page
+	 * after the last primary key seen whenever the previous page runs out.
+	 */
+	private abstract static class Cursor {
+
+		public Cursor(long startTaskId, long endTaskId) {
+			_nextTaskId = startTaskId;
+			_endTaskId = endTaskId;
+		}
+
+		public long getCount() {
+			return _count;
+		}
+
+		/**
+		 * Returns the modified date in seconds, since the database may not
+		 * keep the milliseconds the document was indexed with.
+		 */
+		public long getModifiedTime() {
+			return modifiedTimes[_index];
+		}
+
+		public long getTaskId() {
+			return taskIds[_index];
+		}
+
+		public String getUid() {
+			return uids[_index];
+		}
+
+		public boolean next() throws Exception {
+			_index++;
+
+			if (_index < size) {
+				_count++;
+
+				return true;
+			}
+
+			if (_done) {
+				return false;
+			}
+
+			size = 0;
+
+			fetch(_nextTaskId, _endTaskId);
+
+			_index = 0;
+
+			if (size < _PAGE_SIZE) {
+				_done = true;
+			}
+
+			if (size == 0) {
+				return false;
+			}
+
+			_nextTaskId = taskIds[size - 1] + 1;
+
+			_count++;
+
+			return true;
+		}
+
+		/**
+		 * Fills the arrays with up to one page of the tasks from
+		 * <code>startTaskId</code> up to, but not including,
+		 * <code>endTaskId</code>, and sets the size.
+		 */
+		protected abstract void fetch(long startTaskId, long endTaskId)
+			throws Exception;
+
+		protected final long[] modifiedTimes = new long[_PAGE_SIZE];
+		protected int size;
+		protected final long[] taskIds = new long[_PAGE_SIZE];
+		protected final String[] uids = new String[_PAGE_SIZE];
+
+		private long _count;
+		private boolean _done;
+		private final long _endTaskId;
+		private int _index = -1;
+		private long _nextTaskId;
+
+	}
+
+	private class DatabaseCursor extends Cursor {
+
+		public DatabaseCursor(
+			long companyId, long startTaskId, long endTaskId) {
+
+			super(startTaskId, endTaskId);
+
+			_companyId = companyId;
+		}
+
+		@Override
+		protected void fetch(long startTaskId, long endTaskId) {
+			DynamicQuery dynamicQuery = _taskLocalService.dynamicQuery();
+
+			dynamicQuery.add(
+				RestrictionsFactoryUtil.eq("companyId", _companyId));
+			dynamicQuery.add(
+				RestrictionsFactoryUtil.ge("taskId", startTaskId));
+			dynamicQuery.add(RestrictionsFactoryUtil.lt("taskId", endTaskId));
+
+			ProjectionList projectionList =
+				ProjectionFactoryUtil.projectionList();
+
+			projectionList.add(ProjectionFactoryUtil.property("taskId"));
+			projectionList.add(ProjectionFactoryUtil.property("modifiedDate"));
+
+			dynamicQuery.setProjection(projectionList);
+
+			dynamicQuery.addOrder(OrderFactoryUtil.asc("taskId"));
+
+			List<Object[]> rows = _taskLocalService.dynamicQuery(
+				dynamicQuery, 0, _PAGE_SIZE);
+
+			for (Object[] row : rows) {
+				Date modifiedDate = (Date)row[1];
+
+				taskIds[size] = (Long)row[0];
+
+				if (modifiedDate != null) {
+					modifiedTimes[size] = modifiedDate.getTime() / Time.SECOND;
+				}
+				else {
+					modifiedTimes[size] = 0;
+				}
+
+				size++;
+			}
+		}
+
+		private final long _companyId;
+
+	}
+
+	private class IndexCursor extends Cursor {
+
+		public IndexCursor(long companyId, long startTaskId, long endTaskId) {
+			super(startTaskId, endTaskId);
+
+			_companyId = companyId;
+		}
+
+		@Override
+		protected void fetch(long startTaskId, long endTaskId)
+			throws Exception {
+
+			SearchContext searchContext = new SearchContext();
+
+			searchContext.setCompanyId(_companyId);
+			searchContext.setEnd(_PAGE_SIZE);
+			searchContext.setSearchEngineId(_indexer.getSearchEngineId());
+			searchContext.setSorts(
+				new Sort(TaskSearchConstants.TASK_ID, Sort.LONG_TYPE, false));
+			searchContext.setStart(0);
+
+			QueryConfig queryConfig = searchContext.getQueryConfig();
+
+			queryConfig.setHighlightEnabled(false);
+			queryConfig.setScoreEnabled(false);
+			queryConfig.setSelectedFieldNames(
+				Field.UID,
+				Field.getSortableFieldName(Field.MODIFIED_DATE),
+				Field.getSortableFieldName(TaskSearchConstants.TASK_ID));
+
+			BooleanFilter booleanFilter = new BooleanFilter();
+
+			booleanFilter.addRequiredTerm(Field.COMPANY_ID, _companyId);
+			booleanFilter.addRequiredTerm(
+				Field.ENTRY_CLASS_NAME, TaskIndexer.CLASS_NAME);
+			booleanFilter.addRangeTerm(
+				Field.getSortableFieldName(TaskSearchConstants.TASK_ID),
+				startTaskId, endTaskId - 1);
+
+			BooleanQuery booleanQuery = new BooleanQueryImpl();
+
+			booleanQuery.add(new MatchAllQuery(), BooleanClauseOccur.MUST);
+			booleanQuery.setPreBooleanFilter(booleanFilter);
+
+			Hits hits = IndexSearcherHelperUtil.search(
+				searchContext, booleanQuery);
+
+			for (Document document : hits.getDocs()) {
+				taskIds[size] = GetterUtil.getLong(
+					document.get(
+						Field.getSortableFieldName(
+							TaskSearchConstants.TASK_ID)));
+				modifiedTimes[size] =
+					GetterUtil.getLong(
+						document.get(
+							Field.getSortableFieldName(Field.MODIFIED_DATE))) /
+								Time.SECOND;
+				uids[size] = document.get(Field.UID);
+
+				size++;
+			}
+		}
+
+		private final long _companyId;
+
+	}
+
+}
@@ -0,0 +1,74 @@
+package gr.confinanz.tasks.management.search;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.module.framework.ModuleServiceLifecycle;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import gr.confinanz.tasks.management.service.TaskLocalService;
+
+/**
+ * Loads the in-memory title and similarity indexes of all the groups once the
+ * portal has started, so that the first lookups do not have to. The indexes
+ * are loaded on a thread of their own to keep the startup fast.
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+@Component(immediate = true, service = TaskIndexWarmer.class)
+public class TaskIndexWarmer {
+
+	@Activate
+	protected void activate() {
+		Thread thread = new Thread(
+			new Runnable() {
+
+				@Override
+				public void run() {
+					long startTime = System.currentTimeMillis();
+
+					try {
+						TaskTitleIndexUtil.warm(_taskLocalService);
+						TaskSimilarityIndexUtil.warm(_taskLocalService);
+					}
+					catch (Exception e) {
+						_log.error("Unable to load the task indexes", e);
+
+						return;
+					}
+
+					if (_log.isInfoEnabled()) {
+						_log.info(
+							"Loaded the task indexes in " +
+								(System.currentTimeMillis() - startTime) +
+									" ms");
+					}
+				}
+
+			},
+			TaskIndexWarmer.class.getSimpleName());
+
+		thread.setDaemon(true);
+
+		thread.start();
+	}
+
+	@Reference(target = ModuleServiceLifecycle.PORTAL_INITIALIZED, unbind = "-")
+	protected void setModuleServiceLifecycle(
+		ModuleServiceLifecycle moduleServiceLifecycle) {
+	}
+
+	@Reference(unbind = "-")
+	protected void setTaskLocalService(TaskLocalService taskLocalService) {
+		_taskLocalService = taskLocalService;
+	}
+
+	private static final Log _log = LogFactoryUtil.getLog(
+		TaskIndexWarmer.class);
+
+	private TaskLocalService _taskLocalService;
+
+}
@@ -1,51 +1,90 @@
 
 package gr.confinanz.tasks.management.search;
 
-import com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery;
-import com.liferay.portal.kernel.dao.orm.IndexableActionableDynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.search.BaseIndexer;
+import com.liferay.portal.kernel.search.BooleanClauseOccur;
 import com.liferay.portal.kernel.search.BooleanQuery;
 import com.liferay.portal.kernel.search.Document;
 import com.liferay.portal.kernel.search.Field;
+import com.liferay.portal.kernel.search.IndexSearcherHelperUtil;
 import com.liferay.portal.kernel.search.IndexWriterHelperUtil;
 import com.liferay.portal.kernel.search.Indexer;
 import com.liferay.portal.kernel.search.QueryConfig;
 import com.liferay.portal.kernel.search.SearchContext;
 import com.liferay.portal.kernel.search.Summary;
 import com.liferay.portal.kernel.search.filter.BooleanFilter;
+import com.liferay.portal.kernel.search.generic.BooleanQueryImpl;
+import com.liferay.portal.kernel.search.generic.MatchAllQuery;
 import com.liferay.portal.kernel.security.permission.PermissionChecker;
+import com.liferay.portal.kernel.util.ArrayUtil;
+import com.liferay.portal.kernel.util.AutoResetThreadLocal;
 import com.liferay.portal.kernel.util.GetterUtil;
-
+import com.liferay.portal.kernel.util.HtmlUtil;
+import com.liferay.portal.kernel.util.SetUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Time;
+import com.liferay.portal.kernel.util.Validator;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import javax.portlet.PortletRequest;
 import javax.portlet.PortletResponse;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferencePolicyOption;
 
 import gr.confinanz.tasks.management.constants.ActionKeys;
+import gr.confinanz.tasks.management.constants.TaskSearchConstants;
 import gr.confinanz.tasks.management.model.Task;
 import gr.confinanz.tasks.management.service.TaskLocalService;
 import gr.confinanz.tasks.management.service.permission.TaskPermissionChecker;
+import gr.confinanz.tasks.management.util.TaskReindexStatus;
+import gr.confinanz.tasks.management.util.TaskReindexStatusUtil;
+import gr.confinanz.tasks.management.util.TaskUserNameUtil;
 
 /**
  * @author Abdessamad Ben Taleb
  * 
  */
-@Component(immediate = true, service = Indexer.class)
+@Component(
+	immediate = true,
+	property = {
+		"reindex.batch.size=100", "reindex.documents.per.second=500"
+	},
+	service = Indexer.class
+)
 public class TaskIndexer extends BaseIndexer<Task> {
 
 	public static final String CLASS_NAME = Task.class.getName();
 
+	public static final String REINDEX_CHECKPOINT_NAME = "reindex";
+
 	public TaskIndexer() {
 		setDefaultSelectedFieldNames(
 			Field.COMPANY_ID, Field.ENTRY_CLASS_NAME, Field.ENTRY_CLASS_PK,
-			Field.UID, _TASK_TITLE, Field.DESCRIPTION);
+			Field.UID, TaskSearchConstants.TASK_TITLE,
+			TaskSearchConstants.DESCRIPTION_EXCERPT, Field.GROUP_ID,
+			Field.STATUS, TaskSearchConstants.COMPLETED,
+			Field.getSortableFieldName(TaskSearchConstants.EXPIRATION_DATE),
+			TaskSearchConstants.TASK_USER_ID);
 
 		setFilterSearch(true);
 		setPermissionAware(true);
@@ -72,6 +111,32 @@ public class TaskIndexer extends BaseIndexer<Task> {
 		throws Exception {
 
 		addStatus(contextBooleanFilter, searchContext);
+
+		Serializable completed = searchContext.getAttribute(
+			TaskSearchConstants.COMPLETED);
+
+		if (Validator.isNotNull(completed)) {
+			contextBooleanFilter.addRequiredTerm(
+				TaskSearchConstants.COMPLETED,
+				GetterUtil.getBoolean(completed));
+		}
+
+		long taskUserId = GetterUtil.getLong(
+			searchContext.getAttribute(TaskSearchConstants.TASK_USER_ID));
+
+		if (taskUserId > 0) {
+			contextBooleanFilter.addRequiredTerm(
+				TaskSearchConstants.TASK_USER_ID, taskUserId);
+		}
+
+		long dueBefore = GetterUtil.getLong(
+			searchContext.getAttribute(TaskSearchConstants.DUE_BEFORE));
+
+		if (dueBefore > 0) {
+			contextBooleanFilter.addRangeTerm(
+				Field.getSortableFieldName(TaskSearchConstants.EXPIRATION_DATE),
+				0, dueBefore - 1);
+		}
 	}
 
 	@Override
@@ -81,7 +146,50 @@ public class TaskIndexer extends BaseIndexer<Task> {
 		throws Exception {
 
 		addSearchTerm(searchQuery, searchContext, Field.DESCRIPTION, true);
-		addSearchTerm(searchQuery, searchContext, _TASK_TITLE, true);
+		addSearchTerm(
+			searchQuery, searchContext, TaskSearchConstants.TASK_TITLE, true);
+	}
+
+	/**
+	 * Reads the size of the reindex batches and the rate at which reindexed
+	 * documents are sent from the properties of the component.
+	 */
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		_reindexBatchSize = Math.max(
+			1,
+			GetterUtil.getInteger(properties.get("reindex.batch.size"), 100));
+		_reindexDocumentsPerSecond = GetterUtil.getInteger(
+			properties.get("reindex.documents.per.second"), 500);
+	}
+
+	/**
+	 * Selects the default fields only if the caller did not choose its own,
+	 * so a search that reads just the primary keys does not load the rest.
+	 * The fields that permission filtering reads are always selected.
+	 */
+	@Override
+	protected void addDefaultSelectedFieldNames(SearchContext searchContext) {
+		QueryConfig queryConfig = searchContext.getQueryConfig();
+
+		String[] selectedFieldNames = queryConfig.getSelectedFieldNames();
+
+		if (ArrayUtil.isEmpty(selectedFieldNames)) {
+			queryConfig.setSelectedFieldNames(getDefaultSelectedFieldNames());
+
+			return;
+		}
+
+		Set<String> selectedFieldNamesSet = SetUtil.fromArray(
+			selectedFieldNames);
+
+		Collections.addAll(
+			selectedFieldNamesSet, _PERMISSION_SELECTED_FIELD_NAMES);
+
+		queryConfig.setSelectedFieldNames(
+			selectedFieldNamesSet.toArray(
+				new String[selectedFieldNamesSet.size()]));
 	}
 
 	protected void addDefaultHighlightFieldNames(QueryConfig queryConfig) {
@@ -89,7 +197,8 @@ public class TaskIndexer extends BaseIndexer<Task> {
 
 		if (queryConfig.isHighlightEnabled()) {
 			queryConfig.addHighlightFieldNames(
-				Field.CONTENT, Field.DESCRIPTION, _TASK_TITLE);
+				Field.CONTENT, Field.DESCRIPTION,
+				TaskSearchConstants.TASK_TITLE);
 		}
 	}
 
@@ -102,9 +211,41 @@ public class TaskIndexer extends BaseIndexer<Task> {
 	protected Document doGetDocument(Task task) throws Exception {
 		Document document = getBaseModelDocument(CLASS_NAME, task);
 
-		document.addText(_TASK_TITLE, task.getTitle());
-		document.addKeyword(_TASK_ID, task.getTaskId());
-		document.addText(Field.DESCRIPTION, task.getDescription());
+		document.addTextSortable(
+			TaskSearchConstants.TASK_TITLE, task.getTitle());
+		document.addNumberSortable(
+			TaskSearchConstants.TASK_ID, task.getTaskId());
+
+		// The description is indexed in full for matching, but only a short
+		// plain text excerpt is read back for summaries and search results
+
+		String description = HtmlUtil.extractText(task.getDescription());
+
+		document.addText(Field.DESCRIPTION, description);
+		document.addKeyword(
+			TaskSearchConstants.DESCRIPTION_EXCERPT,
+			StringUtil.shorten(description, _EXCERPT_LENGTH));
+
+		// Filterable and sortable, so that filtered searches are answered by
+		// the index alone
+
+		document.addKeywordSortable(
+			TaskSearchConstants.COMPLETED, String.valueOf(task.isCompleted()));
+		document.addKeyword(
+			TaskSearchConstants.TASK_USER_ID, task.getTaskUserId());
+
+		String taskUserName = TaskUserNameUtil.getTaskUserName(
+			task, _taskUserNames.get());
+
+		if (taskUserName != null) {
+			document.addKeywordSortable(
+				TaskSearchConstants.TASK_USER_NAME, taskUserName);
+		}
+
+		if (task.getExpirationDate() != null) {
+			document.addDate(
+				TaskSearchConstants.EXPIRATION_DATE, task.getExpirationDate());
+		}
 
 		return document;
 	}
@@ -115,10 +256,18 @@ public class TaskIndexer extends BaseIndexer<Task> {
 			PortletRequest portletRequest, PortletResponse portletResponse)
 		throws Exception {
 
-		Summary summary = createSummary(
-			document, _TASK_TITLE, Field.DESCRIPTION);
+		String prefix = Field.SNIPPET + StringPool.UNDERLINE;
 
-		summary.setMaxContentLength(200);
+		String title = document.get(
+			prefix + TaskSearchConstants.TASK_TITLE,
+			TaskSearchConstants.TASK_TITLE);
+		String content = document.get(
+			prefix + Field.DESCRIPTION,
+			TaskSearchConstants.DESCRIPTION_EXCERPT);
+
+		Summary summary = new Summary(title, content);
+
+		summary.setMaxContentLength(_EXCERPT_LENGTH);
 
 		return summary;
 	}
@@ -146,50 +295,254 @@ public class TaskIndexer extends BaseIndexer<Task> {
 			isCommitImmediately());
 	}
 
+	/**
+	 * Reindexes the tasks of the company in primary key order, a batch at a
+	 * time and at most <code>reindex.documents.per.second</code> documents
+	 * per second.
+	 *
+	 * <p>
+	 * The primary key after every batch is saved as a checkpoint, so a
+	 * reindex that is interrupted continues from there, unless the index was
+	 * cleared in the meantime. The progress is published through {@link
+	 * TaskReindexStatusUtil}.
+	 * </p>
+	 */
 	protected void reindexTasks(long companyId) throws PortalException {
-		if (_log.isDebugEnabled()) {
-			_log.debug("Start reindexTasks() for companyId " + companyId);
+		long checkpoint = TaskIndexCheckpointUtil.getCheckpoint(
+			companyId, REINDEX_CHECKPOINT_NAME);
+
+		if ((checkpoint > 0) && !_hasDocuments(companyId, checkpoint)) {
+			checkpoint = 0;
 		}
 
-		final IndexableActionableDynamicQuery indexableActionableDynamicQuery =
-			_taskLocalService.getIndexableActionableDynamicQuery();
+		if (_log.isInfoEnabled()) {
+			if (checkpoint > 0) {
+				_log.info(
+					"Resuming the task reindex of company " + companyId +
+						" from task " + checkpoint);
+			}
+			else {
+				_log.info("Starting the task reindex of company " + companyId);
+			}
+		}
+
+		long startTime = System.currentTimeMillis();
+
+		long totalCount = _getTasksCount(companyId, 0);
+		long resumedCount = 0;
+
+		if (checkpoint > 0) {
+			resumedCount = totalCount - _getTasksCount(companyId, checkpoint);
+		}
+
+		long indexedCount = resumedCount;
+		long errorCount = 0;
 
-		indexableActionableDynamicQuery.setCompanyId(companyId);
-		indexableActionableDynamicQuery.setPerformActionMethod(
-			new ActionableDynamicQuery.PerformActionMethod<Task>() {
+		TaskReindexStatusUtil.setStatus(
+			new TaskReindexStatus(
+				companyId, true, startTime, startTime, totalCount,
+				indexedCount, resumedCount, errorCount, checkpoint));
 
-				@Override
-				public void performAction(Task task) {
-					try {
-						Document document = getDocument(task);
+		boolean completed = false;
 
-						indexableActionableDynamicQuery.addDocuments(document);
+		try {
+			while (true) {
+				List<Long> taskIds = _getTaskIds(
+					companyId, checkpoint, _reindexBatchSize);
+
+				if (taskIds.isEmpty()) {
+					break;
+				}
+
+				List<Task> tasks = new ArrayList<>(taskIds.size());
+
+				for (Task task :
+						_taskLocalService.fetchTasks(
+							ArrayUtil.toLongArray(taskIds))) {
+
+					if (task != null) {
+						tasks.add(task);
 					}
-					catch (PortalException pe) {
-						if (_log.isWarnEnabled()) {
-							_log.warn(
-								"Unable to index task " + task.getTaskId(), pe);
+				}
+
+				// The blank names of the users the tasks are assigned to are
+				// resolved once per batch instead of once per document
+
+				_taskUserNames.set(TaskUserNameUtil.getTaskUserNames(tasks));
+
+				List<Document> documents = new ArrayList<>(tasks.size());
+
+				try {
+					for (Task task : tasks) {
+						try {
+							documents.add(getDocument(task));
+						}
+						catch (PortalException pe) {
+							errorCount++;
+
+							if (_log.isWarnEnabled()) {
+								_log.warn(
+									"Unable to index task " +
+										task.getTaskId(),
+									pe);
+							}
 						}
 					}
 				}
+				finally {
+					_taskUserNames.remove();
+				}
+
+				IndexWriterHelperUtil.updateDocuments(
+					getSearchEngineId(), companyId, documents,
+					isCommitImmediately());
+
+				indexedCount += documents.size();
+
+				checkpoint = taskIds.get(taskIds.size() - 1) + 1;
+
+				TaskIndexCheckpointUtil.setCheckpoint(
+					companyId, REINDEX_CHECKPOINT_NAME, checkpoint);
+
+				TaskReindexStatusUtil.setStatus(
+					new TaskReindexStatus(
+						companyId, true, startTime, System.currentTimeMillis(),
+						totalCount, indexedCount, resumedCount, errorCount,
+						checkpoint));
+
+				_throttle(startTime, indexedCount - resumedCount);
+			}
+
+			completed = true;
+		}
+		finally {
+			if (completed) {
+				TaskIndexCheckpointUtil.removeCheckpoint(
+					companyId, REINDEX_CHECKPOINT_NAME);
+
+				checkpoint = 0;
+			}
+
+			TaskReindexStatusUtil.setStatus(
+				new TaskReindexStatus(
+					companyId, false, startTime, System.currentTimeMillis(),
+					totalCount, indexedCount, resumedCount, errorCount,
+					checkpoint));
+		}
+
+		if (_log.isInfoEnabled()) {
+			_log.info(
+				"Reindexed " + indexedCount + " tasks of company " +
+					companyId + " in " +
+						(System.currentTimeMillis() - startTime) + " ms");
+		}
+	}
+
+	private List<Long> _getTaskIds(
+		long companyId, long startTaskId, int size) {
+
+		DynamicQuery dynamicQuery = _taskLocalService.dynamicQuery();
+
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("companyId", companyId));
+		dynamicQuery.add(RestrictionsFactoryUtil.ge("taskId", startTaskId));
+
+		dynamicQuery.setProjection(ProjectionFactoryUtil.property("taskId"));
+
+		dynamicQuery.addOrder(OrderFactoryUtil.asc("taskId"));
+
+		return _taskLocalService.dynamicQuery(dynamicQuery, 0, size);
+	}
+
+	private long _getTasksCount(long companyId, long startTaskId) {
+		DynamicQuery dynamicQuery = _taskLocalService.dynamicQuery();
+
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("companyId", companyId));
+		dynamicQuery.add(RestrictionsFactoryUtil.ge("taskId", startTaskId));
+
+		return _taskLocalService.dynamicQueryCount(dynamicQuery);
+	}
+
+	/**
+	 * Returns <code>true</code> if the index has documents of the tasks of
+	 * the company before the checkpoint. A full reindex clears the index
+	 * first, and then the tasks before the checkpoint must be indexed again.
+	 */
+	private boolean _hasDocuments(long companyId, long checkpoint)
+		throws PortalException {
+
+		SearchContext searchContext = new SearchContext();
+
+		searchContext.setCompanyId(companyId);
+		searchContext.setSearchEngineId(getSearchEngineId());
+
+		BooleanFilter booleanFilter = new BooleanFilter();
+
+		booleanFilter.addRequiredTerm(Field.COMPANY_ID, companyId);
+		booleanFilter.addRequiredTerm(Field.ENTRY_CLASS_NAME, CLASS_NAME);
+		booleanFilter.addRangeTerm(
+			Field.getSortableFieldName(TaskSearchConstants.TASK_ID), 0,
+			checkpoint - 1);
+
+		BooleanQuery booleanQuery = new BooleanQueryImpl();
+
+		booleanQuery.add(new MatchAllQuery(), BooleanClauseOccur.MUST);
+		booleanQuery.setPreBooleanFilter(booleanFilter);
 
-			});
+		if (IndexSearcherHelperUtil.searchCount(searchContext, booleanQuery) >
+				0) {
 
-		indexableActionableDynamicQuery.setSearchEngineId(getSearchEngineId());
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Waits as long as it takes to keep the reindex at the configured number
+	 * of documents per second, counted from the start of the reindex.
+	 */
+	private void _throttle(long startTime, long count) throws PortalException {
+		int documentsPerSecond = _reindexDocumentsPerSecond;
+
+		if (documentsPerSecond <= 0) {
+			return;
+		}
 
-		indexableActionableDynamicQuery.performActions();
+		long delay =
+			startTime + (count * Time.SECOND / documentsPerSecond) -
+				System.currentTimeMillis();
 
-		if (_log.isDebugEnabled()) {
-			_log.debug("End reindexTasks() for companyId " + companyId);
+		if (delay <= 0) {
+			return;
+		}
+
+		try {
+			Thread.sleep(delay);
+		}
+		catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+
+			throw new PortalException(ie);
 		}
 	}
 
-	private static final String _TASK_ID = "taskId";
+	private static final int _EXCERPT_LENGTH = 200;
 
-	private static final String _TASK_TITLE = "taskTitle";
+	private static final String[] _PERMISSION_SELECTED_FIELD_NAMES = {
+		Field.COMPANY_ID, Field.ENTRY_CLASS_NAME, Field.ENTRY_CLASS_PK,
+		Field.UID
+	};
 
 	private static final Log _log = LogFactoryUtil.getLog(TaskIndexer.class);
 
+	private static final ThreadLocal<Map<Long, String>> _taskUserNames =
+		new AutoResetThreadLocal<Map<Long, String>>(
+			TaskIndexer.class + "._taskUserNames",
+			Collections.<Long, String>emptyMap());
+
+	private volatile int _reindexBatchSize;
+	private volatile int _reindexDocumentsPerSecond;
+
 	@Reference(policyOption = ReferencePolicyOption.GREEDY)
 	private TaskLocalService _taskLocalService;
 
@@ -0,0 +1,307 @@
+package gr.confinanz.tasks.management.search;
+
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.HtmlUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * MinHash signatures of the titles and descriptions of the tasks of one
+ * group, banded for locality sensitive hashing.
+ *
+ * <p>
+ * The text of a task is reduced to the set of its words and word pairs, and
+ * the set to 64 minimum hash values. The share of equal values between two
+ * signatures estimates the Jaccard similarity of the two sets. Every band of
+ * 4 values is hashed to a bucket, and only the tasks sharing a bucket with a
+ * text are compared with it. Two texts with a similarity of 0.5 share a
+ * bucket with a probability of about 0.64, and texts with a similarity of 0.8
+ * almost always do.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskSimilarityIndex {
+
+	/**
+	 * Returns the MinHash signature of the title and description of a task,
+	 * or <code>null</code> if they have no words.
+	 */
+	public static int[] getSignature(String title, String description) {
+		String text = GetterUtil.getString(title);
+
+		if (description != null) {
+			text = text + " " + HtmlUtil.extractText(description);
+		}
+
+		String[] words = TaskTitleIndex.getWords(text);
+
+		if (words.length == 0) {
+			return null;
+		}
+
+		int[] signature = new int[_HASHES_COUNT];
+
+		Arrays.fill(signature, Integer.MAX_VALUE);
+
+		for (int i = 0; i < words.length; i++) {
+			long wordHash = _hash(words[i]);
+
+			_addShingle(signature, wordHash);
+
+			if (i > 0) {
+				_addShingle(
+					signature,
+					_mix(Long.rotateLeft(_hash(words[i - 1]), 1) ^ wordHash));
+			}
+		}
+
+		return signature;
+	}
+
+	public TaskSimilarityIndex(Map<Long, int[]> signatures, long version) {
+		for (Map.Entry<Long, int[]> entry : signatures.entrySet()) {
+			_put(entry.getKey(), entry.getValue());
+		}
+
+		_version = version;
+	}
+
+	/**
+	 * Returns the primary keys of up to <code>limit</code> tasks whose
+	 * estimated similarity with the signature is at least 0.5, the most
+	 * similar first.
+	 */
+	public synchronized long[] getSimilarTaskIds(int[] signature, int limit) {
+		if ((signature == null) || (limit <= 0)) {
+			return new long[0];
+		}
+
+		Set<Long> candidateTaskIds = new HashSet<>();
+
+		for (int band = 0; band < _BANDS_COUNT; band++) {
+			Set<Long> taskIds = _buckets.get(_getBucketKey(signature, band));
+
+			if (taskIds != null) {
+				candidateTaskIds.addAll(taskIds);
+			}
+		}
+
+		final Map<Long, Integer> matchesMap = new HashMap<>();
+
+		for (long taskId : candidateTaskIds) {
+			int[] taskSignature = _signatures.get(taskId);
+
+			int matches = 0;
+
+			for (int i = 0; i < _HASHES_COUNT; i++) {
+				if (signature[i] == taskSignature[i]) {
+					matches++;
+				}
+			}
+
+			if (matches >= _MIN_MATCHES) {
+				matchesMap.put(taskId, matches);
+			}
+		}
+
+		List<Long> taskIds = new ArrayList<>(matchesMap.keySet());
+
+		Collections.sort(
+			taskIds,
+			new Comparator<Long>() {
+
+				@Override
+				public int compare(Long taskId1, Long taskId2) {
+					return Integer.compare(
+						matchesMap.get(taskId2), matchesMap.get(taskId1));
+				}
+
+			});
+
+		long[] similarTaskIds = new long[Math.min(limit, taskIds.size())];
+
+		for (int i = 0; i < similarTaskIds.length; i++) {
+			similarTaskIds[i] = taskIds.get(i);
+		}
+
+		return similarTaskIds;
+	}
+
+	/**
+	 * Returns the version of the group that the index was last brought up to
+	 * date with.
+	 */
+	public long getVersion() {
+		return _version;
+	}
+
+	/**
+	 * Sets the signature of the task if the index is still at the group
+	 * version the write was made on, and moves the index to the new version.
+	 *
+	 * @return <code>true</code> if the signature was set, or
+	 *         <code>false</code> if the index missed other writes and has to be
+	 *         loaded again
+	 */
+	public synchronized boolean put(
+		long taskId, int[] signature, long previousVersion, long version) {
+
+		if (_version != previousVersion) {
+			return false;
+		}
+
+		_remove(taskId);
+		_put(taskId, signature);
+
+		_version = version;
+
+		return true;
+	}
+
+	/**
+	 * Removes the task if the index is still at the group version the write
+	 * was made on, and moves the index to the new version.
+	 *
+	 * @return <code>true</code> if the task was removed, or
+	 *         <code>false</code> if the index missed other writes and has to be
+	 *         loaded again
+	 */
+	public synchronized boolean remove(
+		long taskId, long previousVersion, long version) {
+
+		if (_version != previousVersion) {
+			return false;
+		}
+
+		_remove(taskId);
+
+		_version = version;
+
+		return true;
+	}
+
+	private static void _addShingle(int[] signature, long shingleHash) {
+		for (int i = 0; i < _HASHES_COUNT; i++) {
+			int value = (int)(_mix(shingleHash ^ _SEEDS[i]) >>> 32);
+
+			if (value < signature[i]) {
+				signature[i] = value;
+			}
+		}
+	}
+
+	private static long _getBucketKey(int[] signature, int band) {
+		long key = band;
+
+		for (int i = band * _ROWS_COUNT; i < ((band + 1) * _ROWS_COUNT); i++) {
+			key = (key * 0x9E3779B97F4A7C15L) + signature[i];
+		}
+
+		return _mix(key);
+	}
+
+	/**
+	 * Returns the 64-bit FNV-1a hash of the word.
+	 */
+	private static long _hash(String word) {
+		long hash = 0xCBF29CE484222325L;
+
+		for (int i = 0; i < word.length(); i++) {
+			hash ^= word.charAt(i);
+			hash *= 0x100000001B3L;
+		}
+
+		return hash;
+	}
+
+	/**
+	 * Returns the value scrambled with the finalizer of SplitMix64.
+	 */
+	private static long _mix(long value) {
+		value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+		value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+
+		return value ^ (value >>> 31);
+	}
+
+	private void _put(long taskId, int[] signature) {
+		if (signature == null) {
+			return;
+		}
+
+		_signatures.put(taskId, signature);
+
+		for (int band = 0; band < _BANDS_COUNT; band++) {
+			long bucketKey = _getBucketKey(signature, band);
+
+			Set<Long> taskIds = _buckets.get(bucketKey);
+
+			if (taskIds == null) {
+				taskIds = new HashSet<>(2);
+
+				_buckets.put(bucketKey, taskIds);
+			}
+
+			taskIds.add(taskId);
+		}
+	}
+
+	private void _remove(long taskId) {
+		int[] signature = _signatures.remove(taskId);
+
+		if (signature == null) {
+			return;
+		}
+
+		for (int band = 0; band < _BANDS_COUNT; band++) {
+			long bucketKey = _getBucketKey(signature, band);
+
+			Set<Long> taskIds = _buckets.get(bucketKey);
+
+			if (taskIds == null) {
+				continue;
+			}
+
+			taskIds.remove(taskId);
+
+			if (taskIds.isEmpty()) {
+				_buckets.remove(bucketKey);
+			}
+		}
+	}
+
+	private static final int _BANDS_COUNT = 16;
+
+	private static final int _HASHES_COUNT = 64;
+
+	private static final int _MIN_MATCHES = _HASHES_COUNT / 2;
+
+	private static final int _ROWS_COUNT = _HASHES_COUNT / _BANDS_COUNT;
+
+	private static final long[] _SEEDS = new long[_HASHES_COUNT];
+
+	static {
+		long seed = 0;
+
+		for (int i = 0; i < _HASHES_COUNT; i++) {
+			seed += 0x9E3779B97F4A7C15L;
+
+			_SEEDS[i] = _mix(seed);
+		}
+	}
+
+	private final Map<Long, Set<Long>> _buckets = new HashMap<>();
+	private final Map<Long, int[]> _signatures = new HashMap<>();
+	private volatile long _version;
+
+}
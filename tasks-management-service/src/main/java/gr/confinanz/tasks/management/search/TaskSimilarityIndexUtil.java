@@ -0,0 +1,160 @@
+package gr.confinanz.tasks.management.search;
+
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionList;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import gr.confinanz.tasks.management.service.TaskLocalService;
+import gr.confinanz.tasks.management.util.TaskVersionUtil;
+
+/**
+ * Holds a {@link TaskSimilarityIndex} per group for the detection of likely
+ * duplicate tasks.
+ *
+ * <p>
+ * The indexes are kept current the same way as in {@link
+ * TaskTitleIndexUtil}: local writes are applied once they commit, and a
+ * change of the group version made on another node loads the index of the
+ * group again on the next lookup.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskSimilarityIndexUtil {
+
+	public static long[] getSimilarTaskIds(
+		TaskLocalService taskLocalService, long groupId, String title,
+		String description, int limit) {
+
+		int[] signature = TaskSimilarityIndex.getSignature(title, description);
+
+		if (signature == null) {
+			return new long[0];
+		}
+
+		long version = TaskVersionUtil.getGroupVersion(groupId);
+
+		TaskSimilarityIndex taskSimilarityIndex = _taskSimilarityIndexes.get(
+			groupId);
+
+		if ((taskSimilarityIndex == null) ||
+			(taskSimilarityIndex.getVersion() != version)) {
+
+			taskSimilarityIndex = _load(taskLocalService, groupId, version);
+		}
+
+		return taskSimilarityIndex.getSimilarTaskIds(signature, limit);
+	}
+
+	/**
+	 * Sets the title and description of a task that was added or updated on
+	 * the group version <code>previousVersion</code>.
+	 */
+	public static void put(
+		long groupId, long taskId, String title, String description,
+		long previousVersion) {
+
+		TaskSimilarityIndex taskSimilarityIndex = _taskSimilarityIndexes.get(
+			groupId);
+
+		if (taskSimilarityIndex == null) {
+			return;
+		}
+
+		int[] signature = TaskSimilarityIndex.getSignature(title, description);
+
+		if (!taskSimilarityIndex.put(
+				taskId, signature, previousVersion,
+				TaskVersionUtil.getGroupVersion(groupId))) {
+
+			_taskSimilarityIndexes.remove(groupId, taskSimilarityIndex);
+		}
+	}
+
+	/**
+	 * Removes a task that was deleted on the group version
+	 * <code>previousVersion</code>.
+	 */
+	public static void remove(long groupId, long taskId, long previousVersion) {
+		TaskSimilarityIndex taskSimilarityIndex = _taskSimilarityIndexes.get(
+			groupId);
+
+		if ((taskSimilarityIndex != null) &&
+			!taskSimilarityIndex.remove(
+				taskId, previousVersion,
+				TaskVersionUtil.getGroupVersion(groupId))) {
+
+			_taskSimilarityIndexes.remove(groupId, taskSimilarityIndex);
+		}
+	}
+
+	/**
+	 * Loads the indexes of all the groups with tasks.
+	 */
+	public static void warm(TaskLocalService taskLocalService) {
+		DynamicQuery dynamicQuery = taskLocalService.dynamicQuery();
+
+		dynamicQuery.setProjection(
+			ProjectionFactoryUtil.distinct(
+				ProjectionFactoryUtil.property("groupId")));
+
+		List<Long> groupIds = taskLocalService.dynamicQuery(dynamicQuery);
+
+		for (long groupId : groupIds) {
+			_load(
+				taskLocalService, groupId,
+				TaskVersionUtil.getGroupVersion(groupId));
+		}
+	}
+
+	/**
+	 * Loads the signatures of the tasks of the group. The version is read
+	 * before the tasks, so a write that commits in between makes the index
+	 * stale rather than lost.
+	 */
+	private static TaskSimilarityIndex _load(
+		TaskLocalService taskLocalService, long groupId, long version) {
+
+		DynamicQuery dynamicQuery = taskLocalService.dynamicQuery();
+
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("groupId", groupId));
+
+		ProjectionList projectionList = ProjectionFactoryUtil.projectionList();
+
+		projectionList.add(ProjectionFactoryUtil.property("taskId"));
+		projectionList.add(ProjectionFactoryUtil.property("title"));
+		projectionList.add(ProjectionFactoryUtil.property("description"));
+
+		dynamicQuery.setProjection(projectionList);
+
+		List<Object[]> rows = taskLocalService.dynamicQuery(dynamicQuery);
+
+		Map<Long, int[]> signatures = new HashMap<>();
+
+		for (Object[] row : rows) {
+			signatures.put(
+				(Long)row[0],
+				TaskSimilarityIndex.getSignature(
+					(String)row[1], (String)row[2]));
+		}
+
+		TaskSimilarityIndex taskSimilarityIndex = new TaskSimilarityIndex(
+			signatures, version);
+
+		_taskSimilarityIndexes.put(groupId, taskSimilarityIndex);
+
+		return taskSimilarityIndex;
+	}
+
+	private static final ConcurrentMap<Long, TaskSimilarityIndex>
+		_taskSimilarityIndexes = new ConcurrentHashMap<>();
+
+}
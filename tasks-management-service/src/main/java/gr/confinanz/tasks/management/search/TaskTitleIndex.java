@@ -0,0 +1,262 @@
+package gr.confinanz.tasks.management.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Prefix index of the title words of the tasks of one group.
+ *
+ * <p>
+ * The distinct title words are kept in a sorted concurrent map, each with
+ * the set of the tasks that have it, next to the words of every task. The
+ * words starting with a prefix are found by scanning the map from the
+ * prefix, which answers every edge n-gram of a word without storing them.
+ * A write patches the sets of the old and new words of its task under a
+ * lock, so it costs a few map operations instead of a rebuild, and lookups
+ * never wait for it. A lookup that runs next to a write may miss the task of
+ * the write, but every task it returns matches.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskTitleIndex {
+
+	public TaskTitleIndex(Map<Long, String> titles, long version) {
+		for (Map.Entry<Long, String> entry : titles.entrySet()) {
+			_put(entry.getKey(), entry.getValue());
+		}
+
+		_version = version;
+	}
+
+	/**
+	 * Returns the version of the group that the index was last brought up to
+	 * date with.
+	 */
+	public long getVersion() {
+		return _version;
+	}
+
+	/**
+	 * Sets the title of the task if the index is still at the group version
+	 * the write was made on, and moves the index to the new version.
+	 *
+	 * @return <code>true</code> if the title was set, or <code>false</code>
+	 *         if the index missed other writes and has to be loaded again
+	 */
+	public synchronized boolean put(
+		long taskId, String title, long previousVersion, long version) {
+
+		if (_version != previousVersion) {
+			return false;
+		}
+
+		_remove(taskId);
+		_put(taskId, title);
+
+		_version = version;
+
+		return true;
+	}
+
+	/**
+	 * Removes the task if the index is still at the group version the write
+	 * was made on, and moves the index to the new version.
+	 *
+	 * @return <code>true</code> if the task was removed, or
+	 *         <code>false</code> if the index missed other writes and has to be
+	 *         loaded again
+	 */
+	public synchronized boolean remove(
+		long taskId, long previousVersion, long version) {
+
+		if (_version != previousVersion) {
+			return false;
+		}
+
+		_remove(taskId);
+
+		_version = version;
+
+		return true;
+	}
+
+	/**
+	 * Returns the primary keys of up to <code>limit</code> tasks with a title
+	 * word starting with every word of the query.
+	 */
+	public long[] suggest(String query, int limit) {
+		String[] queryWords = getWords(query);
+
+		if ((queryWords.length == 0) || (limit <= 0)) {
+			return new long[0];
+		}
+
+		// Scan the words of the longest query word, which match the fewest
+		// tasks, and check the other query words per task
+
+		String prefix = queryWords[0];
+
+		for (String queryWord : queryWords) {
+			if (queryWord.length() > prefix.length()) {
+				prefix = queryWord;
+			}
+		}
+
+		long[] taskIds = new long[Math.min(limit, _taskWords.size())];
+
+		if (taskIds.length == 0) {
+			return taskIds;
+		}
+
+		int count = 0;
+
+		ConcurrentNavigableMap<String, Set<Long>> postings =
+			_postings.tailMap(prefix);
+
+		for (Map.Entry<String, Set<Long>> entry : postings.entrySet()) {
+			if (!entry.getKey().startsWith(prefix)) {
+				break;
+			}
+
+			for (long taskId : entry.getValue()) {
+				if (_contains(taskIds, count, taskId) ||
+					!_matches(taskId, queryWords)) {
+
+					continue;
+				}
+
+				taskIds[count++] = taskId;
+
+				if (count == taskIds.length) {
+					return taskIds;
+				}
+			}
+		}
+
+		return Arrays.copyOf(taskIds, count);
+	}
+
+	/**
+	 * Returns the lower case words of the text, split on everything that is
+	 * not a letter or a digit.
+	 */
+	protected static String[] getWords(String text) {
+		if (text == null) {
+			return new String[0];
+		}
+
+		List<String> words = new ArrayList<>();
+
+		int start = -1;
+
+		for (int i = 0; i <= text.length(); i++) {
+			if ((i < text.length()) &&
+				Character.isLetterOrDigit(text.charAt(i))) {
+
+				if (start < 0) {
+					start = i;
+				}
+			}
+			else if (start >= 0) {
+				words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+
+				start = -1;
+			}
+		}
+
+		return words.toArray(new String[words.size()]);
+	}
+
+	private boolean _contains(long[] taskIds, int count, long taskId) {
+		for (int i = 0; i < count; i++) {
+			if (taskIds[i] == taskId) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean _matches(long taskId, String[] queryWords) {
+		String[] words = _taskWords.get(taskId);
+
+		if (words == null) {
+			return false;
+		}
+
+		for (String queryWord : queryWords) {
+			boolean matches = false;
+
+			for (String word : words) {
+				if (word.startsWith(queryWord)) {
+					matches = true;
+
+					break;
+				}
+			}
+
+			if (!matches) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private void _put(long taskId, String title) {
+		String[] words = getWords(title);
+
+		_taskWords.put(taskId, words);
+
+		for (String word : words) {
+			Set<Long> taskIds = _postings.get(word);
+
+			if (taskIds == null) {
+				taskIds = Collections.newSetFromMap(
+					new ConcurrentHashMap<Long, Boolean>());
+
+				_postings.put(word, taskIds);
+			}
+
+			taskIds.add(taskId);
+		}
+	}
+
+	private void _remove(long taskId) {
+		String[] words = _taskWords.remove(taskId);
+
+		if (words == null) {
+			return;
+		}
+
+		for (String word : words) {
+			Set<Long> taskIds = _postings.get(word);
+
+			if (taskIds == null) {
+				continue;
+			}
+
+			taskIds.remove(taskId);
+
+			if (taskIds.isEmpty()) {
+				_postings.remove(word);
+			}
+		}
+	}
+
+	private final ConcurrentSkipListMap<String, Set<Long>> _postings =
+		new ConcurrentSkipListMap<>();
+	private final Map<Long, String[]> _taskWords = new ConcurrentHashMap<>();
+	private volatile long _version;
+
+}
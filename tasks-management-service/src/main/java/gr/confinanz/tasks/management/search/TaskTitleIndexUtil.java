@@ -0,0 +1,141 @@
+package gr.confinanz.tasks.management.search;
+
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionList;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import gr.confinanz.tasks.management.service.TaskLocalService;
+import gr.confinanz.tasks.management.util.TaskVersionUtil;
+
+/**
+ * Holds a {@link TaskTitleIndex} per group for the title suggestions.
+ *
+ * <p>
+ * The task model listener applies the writes of this node to the indexes
+ * once they commit. Every index remembers the group version it is current
+ * with. A write made on another node of the cluster shows up as a version
+ * change, and the index of the group is loaded again on the next lookup. A
+ * local write is only applied to an index that was current when the write
+ * was made; otherwise the index is dropped.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskTitleIndexUtil {
+
+	/**
+	 * Sets the title of a task that was added or updated on the group version
+	 * <code>previousVersion</code>.
+	 */
+	public static void put(
+		long groupId, long taskId, String title, long previousVersion) {
+
+		TaskTitleIndex taskTitleIndex = _taskTitleIndexes.get(groupId);
+
+		if ((taskTitleIndex != null) &&
+			!taskTitleIndex.put(
+				taskId, title, previousVersion,
+				TaskVersionUtil.getGroupVersion(groupId))) {
+
+			_taskTitleIndexes.remove(groupId, taskTitleIndex);
+		}
+	}
+
+	/**
+	 * Removes a task that was deleted on the group version
+	 * <code>previousVersion</code>.
+	 */
+	public static void remove(long groupId, long taskId, long previousVersion) {
+		TaskTitleIndex taskTitleIndex = _taskTitleIndexes.get(groupId);
+
+		if ((taskTitleIndex != null) &&
+			!taskTitleIndex.remove(
+				taskId, previousVersion,
+				TaskVersionUtil.getGroupVersion(groupId))) {
+
+			_taskTitleIndexes.remove(groupId, taskTitleIndex);
+		}
+	}
+
+	public static long[] suggest(
+		TaskLocalService taskLocalService, long groupId, String query,
+		int limit) {
+
+		long version = TaskVersionUtil.getGroupVersion(groupId);
+
+		TaskTitleIndex taskTitleIndex = _taskTitleIndexes.get(groupId);
+
+		if ((taskTitleIndex == null) ||
+			(taskTitleIndex.getVersion() != version)) {
+
+			taskTitleIndex = _load(taskLocalService, groupId, version);
+		}
+
+		return taskTitleIndex.suggest(query, limit);
+	}
+
+	/**
+	 * Loads the indexes of all the groups with tasks.
+	 */
+	public static void warm(TaskLocalService taskLocalService) {
+		DynamicQuery dynamicQuery = taskLocalService.dynamicQuery();
+
+		dynamicQuery.setProjection(
+			ProjectionFactoryUtil.distinct(
+				ProjectionFactoryUtil.property("groupId")));
+
+		List<Long> groupIds = taskLocalService.dynamicQuery(dynamicQuery);
+
+		for (long groupId : groupIds) {
+			_load(
+				taskLocalService, groupId,
+				TaskVersionUtil.getGroupVersion(groupId));
+		}
+	}
+
+	/**
+	 * Loads the titles of the group. The version is read before the titles,
+	 * so a write that commits in between makes the index stale rather than
+	 * lost.
+	 */
+	private static TaskTitleIndex _load(
+		TaskLocalService taskLocalService, long groupId, long version) {
+
+		DynamicQuery dynamicQuery = taskLocalService.dynamicQuery();
+
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("groupId", groupId));
+
+		ProjectionList projectionList = ProjectionFactoryUtil.projectionList();
+
+		projectionList.add(ProjectionFactoryUtil.property("taskId"));
+		projectionList.add(ProjectionFactoryUtil.property("title"));
+
+		dynamicQuery.setProjection(projectionList);
+
+		List<Object[]> rows = taskLocalService.dynamicQuery(dynamicQuery);
+
+		Map<Long, String> titles = new HashMap<>();
+
+		for (Object[] row : rows) {
+			titles.put((Long)row[0], (String)row[1]);
+		}
+
+		TaskTitleIndex taskTitleIndex = new TaskTitleIndex(titles, version);
+
+		_taskTitleIndexes.put(groupId, taskTitleIndex);
+
+		return taskTitleIndex;
+	}
+
+	private static final ConcurrentMap<Long, TaskTitleIndex>
+		_taskTitleIndexes = new ConcurrentHashMap<>();
+
+}
@@ -61,6 +61,8 @@ import com.liferay.portal.spring.extender.service.ServiceReference;
 
 import gr.confinanz.tasks.management.model.Task;
 import gr.confinanz.tasks.management.service.TaskLocalService;
+import gr.confinanz.tasks.management.service.persistence.TaskChangePersistence;
+import gr.confinanz.tasks.management.service.persistence.TaskFinder;
 import gr.confinanz.tasks.management.service.persistence.TaskPersistence;
 
 import java.io.Serializable;
@@ -495,6 +497,62 @@ public abstract class TaskLocalServiceBaseImpl extends BaseLocalServiceImpl
 		this.taskPersistence = taskPersistence;
 	}
 
+	/**
+	 * Returns the task finder.
+	 *
+	 * @return the task finder
+	 */
+	public TaskFinder getTaskFinder() {
+		return taskFinder;
+	}
+
+	/**
+	 * Sets the task finder.
+	 *
+	 * @param taskFinder the task finder
+	 */
+	public void setTaskFinder(TaskFinder taskFinder) {
+		this.taskFinder = taskFinder;
+	}
+
+	/**
+	 * Returns the task change local service.
+	 *
+	 * @return the task change local service
+	 */
+	public gr.confinanz.tasks.management.service.TaskChangeLocalService getTaskChangeLocalService() {
+		return taskChangeLocalService;
+	}
+
+	/**
+	 * Sets the task change local service.
+	 *
+	 * @param taskChangeLocalService the task change local service
+	 */
+	public void setTaskChangeLocalService(
+		gr.confinanz.tasks.management.service.TaskChangeLocalService taskChangeLocalService) {
+		this.taskChangeLocalService = taskChangeLocalService;
+	}
+
+	/**
+	 * Returns the task change persistence.
+	 *
+	 * @return the task change persistence
+	 */
+	public TaskChangePersistence getTaskChangePersistence() {
+		return taskChangePersistence;
+	}
+
+	/**
+	 * Sets the task change persistence.
+	 *
+	 * @param taskChangePersistence the task change persistence
+	 */
+	public void setTaskChangePersistence(
+		TaskChangePersistence taskChangePersistence) {
+		this.taskChangePersistence = taskChangePersistence;
+	}
+
 	/**
 	 * Returns the counter local service.
 	 *
@@ -740,6 +798,12 @@ public abstract class TaskLocalServiceBaseImpl extends BaseLocalServiceImpl
 	protected TaskLocalService taskLocalService;
 	@BeanReference(type = TaskPersistence.class)
 	protected TaskPersistence taskPersistence;
+	@BeanReference(type = TaskFinder.class)
+	protected TaskFinder taskFinder;
+	@BeanReference(type = gr.confinanz.tasks.management.service.TaskChangeLocalService.class)
+	protected gr.confinanz.tasks.management.service.TaskChangeLocalService taskChangeLocalService;
+	@BeanReference(type = TaskChangePersistence.class)
+	protected TaskChangePersistence taskChangePersistence;
 	@ServiceReference(type = com.liferay.counter.kernel.service.CounterLocalService.class)
 	protected com.liferay.counter.kernel.service.CounterLocalService counterLocalService;
 	@ServiceReference(type = com.liferay.portal.kernel.service.ClassNameLocalService.class)
@@ -123,12 +123,108 @@ public class TaskServiceHttp {
 		}
 	}
 
+	public static gr.confinanz.tasks.management.model.Task[] fetchTasks(
+		HttpPrincipal httpPrincipal, long[] taskIds)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		try {
+			MethodKey methodKey = new MethodKey(TaskServiceUtil.class,
+					"fetchTasks", _fetchTasksParameterTypes2);
+
+			MethodHandler methodHandler = new MethodHandler(methodKey, taskIds);
+
+			Object returnObj = null;
+
+			try {
+				returnObj = TunnelUtil.invoke(httpPrincipal, methodHandler);
+			}
+			catch (Exception e) {
+				if (e instanceof com.liferay.portal.kernel.exception.PortalException) {
+					throw (com.liferay.portal.kernel.exception.PortalException)e;
+				}
+
+				throw new com.liferay.portal.kernel.exception.SystemException(e);
+			}
+
+			return (gr.confinanz.tasks.management.model.Task[])returnObj;
+		}
+		catch (com.liferay.portal.kernel.exception.SystemException se) {
+			_log.error(se, se);
+
+			throw se;
+		}
+	}
+
+	public static java.util.List<gr.confinanz.tasks.management.model.TaskChange> getChangesSince(
+		HttpPrincipal httpPrincipal, long companyId, long sequence, int limit)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		try {
+			MethodKey methodKey = new MethodKey(TaskServiceUtil.class,
+					"getChangesSince", _getChangesSinceParameterTypes3);
+
+			MethodHandler methodHandler = new MethodHandler(methodKey,
+					companyId, sequence, limit);
+
+			Object returnObj = null;
+
+			try {
+				returnObj = TunnelUtil.invoke(httpPrincipal, methodHandler);
+			}
+			catch (Exception e) {
+				if (e instanceof com.liferay.portal.kernel.exception.PortalException) {
+					throw (com.liferay.portal.kernel.exception.PortalException)e;
+				}
+
+				throw new com.liferay.portal.kernel.exception.SystemException(e);
+			}
+
+			return (java.util.List<gr.confinanz.tasks.management.model.TaskChange>)returnObj;
+		}
+		catch (com.liferay.portal.kernel.exception.SystemException se) {
+			_log.error(se, se);
+
+			throw se;
+		}
+	}
+
+	public static java.util.List<gr.confinanz.tasks.management.model.Task> getSimilarTasks(
+		HttpPrincipal httpPrincipal, long groupId, java.lang.String title,
+		java.lang.String description, int limit)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		try {
+			MethodKey methodKey = new MethodKey(TaskServiceUtil.class,
+					"getSimilarTasks", _getSimilarTasksParameterTypes4);
+
+			MethodHandler methodHandler = new MethodHandler(methodKey,
+					groupId, title, description, limit);
+
+			Object returnObj = null;
+
+			try {
+				returnObj = TunnelUtil.invoke(httpPrincipal, methodHandler);
+			}
+			catch (Exception e) {
+				if (e instanceof com.liferay.portal.kernel.exception.PortalException) {
+					throw (com.liferay.portal.kernel.exception.PortalException)e;
+				}
+
+				throw new com.liferay.portal.kernel.exception.SystemException(e);
+			}
+
+			return (java.util.List<gr.confinanz.tasks.management.model.Task>)returnObj;
+		}
+		catch (com.liferay.portal.kernel.exception.SystemException se) {
+			_log.error(se, se);
+
+			throw se;
+		}
+	}
+
 	public static gr.confinanz.tasks.management.model.Task getTask(
 		HttpPrincipal httpPrincipal, long taskId)
 		throws com.liferay.portal.kernel.exception.PortalException {
 		try {
 			MethodKey methodKey = new MethodKey(TaskServiceUtil.class,
-					"getTask", _getTaskParameterTypes2);
+					"getTask", _getTaskParameterTypes5);
 
 			MethodHandler methodHandler = new MethodHandler(methodKey, taskId);
 
@@ -159,7 +255,7 @@ public class TaskServiceHttp {
 		int end) {
 		try {
 			MethodKey methodKey = new MethodKey(TaskServiceUtil.class,
-					"getTasks", _getTasksParameterTypes3);
+					"getTasks", _getTasksParameterTypes6);
 
 			MethodHandler methodHandler = new MethodHandler(methodKey,
 					companyId, groupId, start, end);
@@ -187,7 +283,7 @@ public class TaskServiceHttp {
 		int start, int end) {
 		try {
 			MethodKey methodKey = new MethodKey(TaskServiceUtil.class,
-					"getTasks", _getTasksParameterTypes4);
+					"getTasks", _getTasksParameterTypes7);
 
 			MethodHandler methodHandler = new MethodHandler(methodKey,
 					companyId, groupId, status, start, end);
@@ -214,7 +310,7 @@ public class TaskServiceHttp {
 		long companyId, long groupId) {
 		try {
 			MethodKey methodKey = new MethodKey(TaskServiceUtil.class,
-					"getTasksCount", _getTasksCountParameterTypes5);
+					"getTasksCount", _getTasksCountParameterTypes8);
 
 			MethodHandler methodHandler = new MethodHandler(methodKey,
 					companyId, groupId);
@@ -241,7 +337,7 @@ public class TaskServiceHttp {
 		long companyId, long groupId, int status) {
 		try {
 			MethodKey methodKey = new MethodKey(TaskServiceUtil.class,
-					"getTasksCount", _getTasksCountParameterTypes6);
+					"getTasksCount", _getTasksCountParameterTypes9);
 
 			MethodHandler methodHandler = new MethodHandler(methodKey,
 					companyId, groupId, status);
@@ -264,6 +360,70 @@ public class TaskServiceHttp {
 		}
 	}
 
+	public static java.util.List<gr.confinanz.tasks.management.model.Task> suggestTasks(
+		HttpPrincipal httpPrincipal, long groupId, java.lang.String query,
+		int limit)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		try {
+			MethodKey methodKey = new MethodKey(TaskServiceUtil.class,
+					"suggestTasks", _suggestTasksParameterTypes10);
+
+			MethodHandler methodHandler = new MethodHandler(methodKey,
+					groupId, query, limit);
+
+			Object returnObj = null;
+
+			try {
+				returnObj = TunnelUtil.invoke(httpPrincipal, methodHandler);
+			}
+			catch (Exception e) {
+				if (e instanceof com.liferay.portal.kernel.exception.PortalException) {
+					throw (com.liferay.portal.kernel.exception.PortalException)e;
+				}
+
+				throw new com.liferay.portal.kernel.exception.SystemException(e);
+			}
+
+			return (java.util.List<gr.confinanz.tasks.management.model.Task>)returnObj;
+		}
+		catch (com.liferay.portal.kernel.exception.SystemException se) {
+			_log.error(se, se);
+
+			throw se;
+		}
+	}
+
+	public static gr.confinanz.tasks.management.model.Task updateCompleted(
+		HttpPrincipal httpPrincipal, long taskId, boolean completed)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		try {
+			MethodKey methodKey = new MethodKey(TaskServiceUtil.class,
+					"updateCompleted", _updateCompletedParameterTypes11);
+
+			MethodHandler methodHandler = new MethodHandler(methodKey, taskId, completed);
+
+			Object returnObj = null;
+
+			try {
+				returnObj = TunnelUtil.invoke(httpPrincipal, methodHandler);
+			}
+			catch (Exception e) {
+				if (e instanceof com.liferay.portal.kernel.exception.PortalException) {
+					throw (com.liferay.portal.kernel.exception.PortalException)e;
+				}
+
+				throw new com.liferay.portal.kernel.exception.SystemException(e);
+			}
+
+			return (gr.confinanz.tasks.management.model.Task)returnObj;
+		}
+		catch (com.liferay.portal.kernel.exception.SystemException se) {
+			_log.error(se, se);
+
+			throw se;
+		}
+	}
+
 	public static gr.confinanz.tasks.management.model.Task updateTask(
 		HttpPrincipal httpPrincipal, long taskId, java.lang.String title,
 		java.lang.String description, int expirationDateMonth,
@@ -273,7 +433,7 @@ public class TaskServiceHttp {
 		throws com.liferay.portal.kernel.exception.PortalException {
 		try {
 			MethodKey methodKey = new MethodKey(TaskServiceUtil.class,
-					"updateTask", _updateTaskParameterTypes7);
+					"updateTask", _updateTaskParameterTypes12);
 
 			MethodHandler methodHandler = new MethodHandler(methodKey, taskId,
 					title, description, expirationDateMonth, expirationDateDay,
@@ -301,6 +461,109 @@ public class TaskServiceHttp {
 		}
 	}
 
+	public static java.util.List<gr.confinanz.tasks.management.model.Task> getTasksAfter(
+		HttpPrincipal httpPrincipal, long groupId, java.lang.Boolean completed,
+		boolean ascending, java.util.Date cursorExpirationDate,
+		long cursorTaskId, int limit)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		try {
+			MethodKey methodKey = new MethodKey(TaskServiceUtil.class,
+					"getTasksAfter", _getTasksAfterParameterTypes13);
+
+			MethodHandler methodHandler = new MethodHandler(methodKey,
+					groupId, completed, ascending, cursorExpirationDate,
+					cursorTaskId, limit);
+
+			Object returnObj = null;
+
+			try {
+				returnObj = TunnelUtil.invoke(httpPrincipal, methodHandler);
+			}
+			catch (Exception e) {
+				if (e instanceof com.liferay.portal.kernel.exception.PortalException) {
+					throw (com.liferay.portal.kernel.exception.PortalException)e;
+				}
+
+				throw new com.liferay.portal.kernel.exception.SystemException(e);
+			}
+
+			return (java.util.List<gr.confinanz.tasks.management.model.Task>)returnObj;
+		}
+		catch (com.liferay.portal.kernel.exception.SystemException se) {
+			_log.error(se, se);
+
+			throw se;
+		}
+	}
+
+	public static java.util.List<gr.confinanz.tasks.management.model.Task> getTasksAfter(
+		HttpPrincipal httpPrincipal, long groupId, int status,
+		boolean completed, boolean ascending,
+		java.util.Date cursorExpirationDate, long cursorTaskId, int limit)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		try {
+			MethodKey methodKey = new MethodKey(TaskServiceUtil.class,
+					"getTasksAfter", _getTasksAfterParameterTypes14);
+
+			MethodHandler methodHandler = new MethodHandler(methodKey,
+					groupId, status, completed, ascending,
+					cursorExpirationDate, cursorTaskId, limit);
+
+			Object returnObj = null;
+
+			try {
+				returnObj = TunnelUtil.invoke(httpPrincipal, methodHandler);
+			}
+			catch (Exception e) {
+				if (e instanceof com.liferay.portal.kernel.exception.PortalException) {
+					throw (com.liferay.portal.kernel.exception.PortalException)e;
+				}
+
+				throw new com.liferay.portal.kernel.exception.SystemException(e);
+			}
+
+			return (java.util.List<gr.confinanz.tasks.management.model.Task>)returnObj;
+		}
+		catch (com.liferay.portal.kernel.exception.SystemException se) {
+			_log.error(se, se);
+
+			throw se;
+		}
+	}
+
+	public static java.util.List<gr.confinanz.tasks.management.util.TaskBoardColumn> getTaskBoardColumns(
+		HttpPrincipal httpPrincipal, long groupId, int cardsCount)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		try {
+			MethodKey methodKey = new MethodKey(TaskServiceUtil.class,
+					"getTaskBoardColumns",
+					_getTaskBoardColumnsParameterTypes15);
+
+			MethodHandler methodHandler = new MethodHandler(methodKey,
+					groupId, cardsCount);
+
+			Object returnObj = null;
+
+			try {
+				returnObj = TunnelUtil.invoke(httpPrincipal, methodHandler);
+			}
+			catch (Exception e) {
+				if (e instanceof com.liferay.portal.kernel.exception.PortalException) {
+					throw (com.liferay.portal.kernel.exception.PortalException)e;
+				}
+
+				throw new com.liferay.portal.kernel.exception.SystemException(e);
+			}
+
+			return (java.util.List<gr.confinanz.tasks.management.util.TaskBoardColumn>)returnObj;
+		}
+		catch (com.liferay.portal.kernel.exception.SystemException se) {
+			_log.error(se, se);
+
+			throw se;
+		}
+	}
+
 	private static Log _log = LogFactoryUtil.getLog(TaskServiceHttp.class);
 	private static final Class<?>[] _addTaskParameterTypes0 = new Class[] {
 			java.lang.String.class, java.lang.String.class, int.class, int.class,
@@ -310,24 +573,51 @@ public class TaskServiceHttp {
 	private static final Class<?>[] _deleteTaskParameterTypes1 = new Class[] {
 			long.class
 		};
-	private static final Class<?>[] _getTaskParameterTypes2 = new Class[] {
+	private static final Class<?>[] _fetchTasksParameterTypes2 = new Class[] {
+			long[].class
+		};
+	private static final Class<?>[] _getChangesSinceParameterTypes3 = new Class[] {
+			long.class, long.class, int.class
+		};
+	private static final Class<?>[] _getSimilarTasksParameterTypes4 = new Class[] {
+			long.class, java.lang.String.class, java.lang.String.class,
+			int.class
+		};
+	private static final Class<?>[] _getTaskParameterTypes5 = new Class[] {
 			long.class
 		};
-	private static final Class<?>[] _getTasksParameterTypes3 = new Class[] {
+	private static final Class<?>[] _getTasksParameterTypes6 = new Class[] {
 			long.class, long.class, int.class, int.class
 		};
-	private static final Class<?>[] _getTasksParameterTypes4 = new Class[] {
+	private static final Class<?>[] _getTasksParameterTypes7 = new Class[] {
 			long.class, long.class, int.class, int.class, int.class
 		};
-	private static final Class<?>[] _getTasksCountParameterTypes5 = new Class[] {
+	private static final Class<?>[] _getTasksCountParameterTypes8 = new Class[] {
 			long.class, long.class
 		};
-	private static final Class<?>[] _getTasksCountParameterTypes6 = new Class[] {
+	private static final Class<?>[] _getTasksCountParameterTypes9 = new Class[] {
 			long.class, long.class, int.class
 		};
-	private static final Class<?>[] _updateTaskParameterTypes7 = new Class[] {
+	private static final Class<?>[] _suggestTasksParameterTypes10 = new Class[] {
+			long.class, java.lang.String.class, int.class
+		};
+	private static final Class<?>[] _updateCompletedParameterTypes11 = new Class[] {
+			long.class, boolean.class
+		};
+	private static final Class<?>[] _updateTaskParameterTypes12 = new Class[] {
 			long.class, java.lang.String.class, java.lang.String.class,
 			int.class, int.class, int.class, long.class, boolean.class,
 			com.liferay.portal.kernel.service.ServiceContext.class
 		};
+	private static final Class<?>[] _getTasksAfterParameterTypes13 = new Class[] {
+			long.class, java.lang.Boolean.class, boolean.class,
+			java.util.Date.class, long.class, int.class
+		};
+	private static final Class<?>[] _getTasksAfterParameterTypes14 = new Class[] {
+			long.class, int.class, boolean.class, boolean.class,
+			java.util.Date.class, long.class, int.class
+		};
+	private static final Class<?>[] _getTaskBoardColumnsParameterTypes15 = new Class[] {
+			long.class, int.class
+		};
 }
\ No newline at end of file
@@ -174,6 +174,21 @@ public class TaskServiceSoap {
 		}
 	}
 
+	public static gr.confinanz.tasks.management.model.TaskSoap updateCompleted(
+		long taskId, boolean completed) throws RemoteException {
+		try {
+			gr.confinanz.tasks.management.model.Task returnValue = TaskServiceUtil.updateCompleted(taskId,
+					completed);
+
+			return gr.confinanz.tasks.management.model.TaskSoap.toSoapModel(returnValue);
+		}
+		catch (Exception e) {
+			_log.error(e, e);
+
+			throw new RemoteException(e.getMessage());
+		}
+	}
+
 	public static gr.confinanz.tasks.management.model.TaskSoap updateTask(
 		long taskId, java.lang.String title, java.lang.String description,
 		int expirationDateMonth, int expirationDateDay, int expirationDateYear,
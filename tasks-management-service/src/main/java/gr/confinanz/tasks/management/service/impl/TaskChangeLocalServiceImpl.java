@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package gr.confinanz.tasks.management.service.impl;
+
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.QueryPos;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.SQLQuery;
+import com.liferay.portal.kernel.dao.orm.Session;
+import com.liferay.portal.kernel.dao.orm.Type;
+import com.liferay.portal.kernel.exception.SystemException;
+
+import java.util.Date;
+import java.util.List;
+
+import aQute.bnd.annotation.ProviderType;
+import gr.confinanz.tasks.management.model.Task;
+import gr.confinanz.tasks.management.model.TaskChange;
+import gr.confinanz.tasks.management.service.base.TaskChangeLocalServiceBaseImpl;
+
+/**
+ * The implementation of the task change local service.
+ *
+ * <p>
+ * The primary key of a task change is its sequence in the journal. The
+ * sequence is the counter row of the {@link TaskChange} class, incremented in
+ * the transaction that writes the task, so it is handed out in commit order
+ * on every node of a cluster.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ * @see TaskChangeLocalServiceBaseImpl
+ * @see gr.confinanz.tasks.management.service.TaskChangeLocalServiceUtil
+ */
+@ProviderType
+public class TaskChangeLocalServiceImpl extends TaskChangeLocalServiceBaseImpl {
+
+	/**
+	 * Records a change of the task in the journal, in the transaction of the
+	 * caller. The change is committed or rolled back with the write of the
+	 * task.
+	 *
+	 * <p>
+	 * The row of the sequence stays locked until the transaction ends, so a
+	 * transaction that takes a sequence after another one commits after it,
+	 * and a consumer never reads past a sequence that is not yet visible.
+	 * Callers record the change as the last write of their transaction, to
+	 * hold the lock as briefly as possible.
+	 * </p>
+	 *
+	 * @param task the task that was changed
+	 * @param changeType the type of the change
+	 * @param fieldMask the bit mask of the fields that were changed
+	 */
+	@Override
+	public void addTaskChange(Task task, int changeType, long fieldMask) {
+		long taskChangeId = incrementSequence();
+
+		TaskChange taskChange = taskChangePersistence.create(taskChangeId);
+
+		taskChange.setGroupId(task.getGroupId());
+		taskChange.setCompanyId(task.getCompanyId());
+		taskChange.setTaskId(task.getTaskId());
+		taskChange.setChangeType(changeType);
+		taskChange.setFieldMask(fieldMask);
+		taskChange.setCreateDate(new Date());
+
+		taskChangePersistence.update(taskChange);
+	}
+
+	@Override
+	public int deleteTaskChanges(Date createDate, int limit) {
+		List<TaskChange> taskChanges = taskChangePersistence.findByLtCreateDate(
+			createDate, 0, limit);
+
+		for (TaskChange taskChange : taskChanges) {
+			taskChangePersistence.remove(taskChange);
+		}
+
+		return taskChanges.size();
+	}
+
+	/**
+	 * Returns the changes of the company with a sequence greater than the
+	 * given sequence, in the order of the sequence. Sequences are handed out
+	 * in commit order, so a caller never skips past a change that is not yet
+	 * visible.
+	 *
+	 * @param  companyId the primary key of the company
+	 * @param  sequence the sequence of the last change the caller has seen
+	 * @param  limit the maximum number of changes to return
+	 * @return the changes after the sequence
+	 */
+	@Override
+	public List<TaskChange> getChangesSince(
+		long companyId, long sequence, int limit) {
+
+		DynamicQuery dynamicQuery = dynamicQuery();
+
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("companyId", companyId));
+		dynamicQuery.add(RestrictionsFactoryUtil.gt("taskChangeId", sequence));
+		dynamicQuery.addOrder(OrderFactoryUtil.asc("taskChangeId"));
+
+		return dynamicQuery(dynamicQuery, 0, limit);
+	}
+
+	/**
+	 * Increments the sequence of the journal in the current transaction and
+	 * returns it. The counter row is created through the counter service the
+	 * first time, and is only updated here afterwards.
+	 */
+	protected long incrementSequence() {
+		Session session = taskChangePersistence.getCurrentSession();
+
+		for (int i = 0; i < 2; i++) {
+			SQLQuery sqlQuery = session.createSQLQuery(_UPDATE_SEQUENCE_SQL);
+
+			QueryPos qPos = QueryPos.getInstance(sqlQuery);
+
+			qPos.add(_SEQUENCE_NAME);
+
+			if (sqlQuery.executeUpdate() > 0) {
+				sqlQuery = session.createSQLQuery(_SELECT_SEQUENCE_SQL);
+
+				sqlQuery.addScalar("currentId", Type.LONG);
+
+				qPos = QueryPos.getInstance(sqlQuery);
+
+				qPos.add(_SEQUENCE_NAME);
+
+				return (Long)sqlQuery.uniqueResult();
+			}
+
+			counterLocalService.increment(_SEQUENCE_NAME);
+		}
+
+		throw new SystemException("Unable to increment " + _SEQUENCE_NAME);
+	}
+
+	private static final String _SELECT_SEQUENCE_SQL =
+		"SELECT currentId FROM Counter WHERE name = ?";
+
+	private static final String _SEQUENCE_NAME = TaskChange.class.getName();
+
+	private static final String _UPDATE_SEQUENCE_SQL =
+		"UPDATE Counter SET currentId = currentId + 1 WHERE name = ?";
+
+}
@@ -16,27 +16,57 @@ package gr.confinanz.tasks.management.service.impl;
 
 import com.liferay.asset.kernel.model.AssetEntry;
 import com.liferay.asset.kernel.model.AssetLinkConstants;
+import com.liferay.portal.kernel.dao.jdbc.SqlUpdate;
+import com.liferay.portal.kernel.dao.jdbc.SqlUpdateFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.Criterion;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.Junction;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionList;
+import com.liferay.portal.kernel.dao.orm.Property;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.model.ResourceConstants;
 import com.liferay.portal.kernel.model.User;
 import com.liferay.portal.kernel.search.Indexable;
 import com.liferay.portal.kernel.search.IndexableType;
+import com.liferay.portal.kernel.search.Indexer;
+import com.liferay.portal.kernel.search.IndexerRegistryUtil;
 import com.liferay.portal.kernel.service.ServiceContext;
 import com.liferay.portal.kernel.util.CalendarFactoryUtil;
 import com.liferay.portal.kernel.util.ContentTypes;
+import com.liferay.portal.kernel.util.DateUtil;
 import com.liferay.portal.kernel.util.HtmlUtil;
 import com.liferay.portal.kernel.util.PortalUtil;
+import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.Validator;
 
+import java.io.Serializable;
+
+import java.sql.Types;
+
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import aQute.bnd.annotation.ProviderType;
+import gr.confinanz.tasks.management.constants.TaskChangeConstants;
 import gr.confinanz.tasks.management.exception.TaskTitleException;
 import gr.confinanz.tasks.management.model.Task;
+import gr.confinanz.tasks.management.search.TaskSimilarityIndexUtil;
+import gr.confinanz.tasks.management.search.TaskTitleIndexUtil;
 import gr.confinanz.tasks.management.service.base.TaskLocalServiceBaseImpl;
+import gr.confinanz.tasks.management.util.TaskBoardColumn;
+import gr.confinanz.tasks.management.util.TaskVersionUtil;
 
 /**
  * The implementation of the task local service.
@@ -65,7 +95,7 @@ public class TaskLocalServiceImpl extends TaskLocalServiceBaseImpl {
 		throws PortalException {
 
 		User user = userPersistence.findByPrimaryKey(userId);
-		userPersistence.findByPrimaryKey(taskUserId);
+		User taskUser = userPersistence.findByPrimaryKey(taskUserId);
 
 		long groupId = serviceContext.getScopeGroupId();
 
@@ -97,16 +127,23 @@ public class TaskLocalServiceImpl extends TaskLocalServiceBaseImpl {
 		task.setDescription(description);
 		task.setExpirationDate(expirationDate);
 		task.setTaskUserId(taskUserId);
+		task.setTaskUserName(taskUser.getFullName());
 		task.setCompleted(completed);
 
-		task = taskPersistence.update(task);
-
 		// Resources
 
+		// The resources are added before the task is stored, so the resource
+		// permission listener does not find the task and leaves the versions
+		// to the task model listener. Removing them once more after the
+		// commit would drop the group version that the title and similarity
+		// indexes have just been moved to, and make them load again.
+
 		resourceLocalService.addResources(
 			task.getCompanyId(), task.getGroupId(), userId,
 			Task.class.getName(), task.getTaskId(), false, true, true);
 
+		task = taskPersistence.update(task);
+
 		// Asset
 
 		updateAsset(
@@ -115,6 +152,11 @@ public class TaskLocalServiceImpl extends TaskLocalServiceBaseImpl {
 			serviceContext.getAssetLinkEntryIds(),
 			serviceContext.getAssetPriority());
 
+		// Change journal
+
+		taskChangeLocalService.addTaskChange(
+			task, TaskChangeConstants.TYPE_ADD, TaskChangeConstants.FIELD_ALL);
+
 		return task;
 	}
 
@@ -154,6 +196,11 @@ public class TaskLocalServiceImpl extends TaskLocalServiceBaseImpl {
 		assetEntryLocalService.deleteEntry(
 			Task.class.getName(), task.getTaskId());
 
+		// Change journal
+
+		taskChangeLocalService.addTaskChange(
+			task, TaskChangeConstants.TYPE_DELETE, 0);
+
 		return task;
 	}
 
@@ -174,11 +221,191 @@ public class TaskLocalServiceImpl extends TaskLocalServiceBaseImpl {
 		}
 	}
 
+	/**
+	 * Returns the tasks with the primary keys, in the order of the primary
+	 * keys. The tasks that are not in the entity cache are loaded with a few
+	 * parameterized <code>IN</code> queries of fixed sizes instead of one
+	 * query per task.
+	 *
+	 * @param  taskIds the primary keys of the tasks
+	 * @return the tasks, with a <code>null</code> slot for every primary key
+	 *         whose task could not be found
+	 */
+	@Override
+	public Task[] fetchTasks(long[] taskIds) {
+		return taskFinder.fetchByPrimaryKeys(taskIds);
+	}
+
+	/**
+	 * Returns the primary keys of the tasks of the group with a title word
+	 * starting with every word of the query. The lookup runs on the in-memory
+	 * title index of the group, which is loaded on first use and whenever a
+	 * task of the group changes on another node.
+	 *
+	 * @param  groupId the primary key of the group
+	 * @param  query the words the titles are matched against
+	 * @param  limit the maximum number of primary keys to return
+	 * @return the primary keys of the matching tasks
+	 */
+	@Override
+	public long[] suggestTaskIds(long groupId, String query, int limit) {
+		return TaskTitleIndexUtil.suggest(
+			taskLocalService, groupId, query, limit);
+	}
+
+	/**
+	 * Returns the primary keys of the tasks of the group that are likely
+	 * duplicates of a task with the title and description, the most similar
+	 * first. The lookup compares MinHash signatures of the words and word
+	 * pairs on the in-memory similarity index of the group, so only the tasks
+	 * sharing a band of the signature are compared at all.
+	 *
+	 * @param  groupId the primary key of the group
+	 * @param  title the title of the task
+	 * @param  description the description of the task
+	 * @param  limit the maximum number of primary keys to return
+	 * @return the primary keys of the likely duplicates
+	 */
+	@Override
+	public long[] getSimilarTaskIds(
+		long groupId, String title, String description, int limit) {
+
+		return TaskSimilarityIndexUtil.getSimilarTaskIds(
+			taskLocalService, groupId, title, description, limit);
+	}
+
 	@Override
 	public Task getTask(long taskId) throws PortalException {
 		return taskPersistence.findByPrimaryKey(taskId);
 	}
 
+	/**
+	 * Returns the columns of the task board of the group, one for each
+	 * workflow status and completed flag that tasks of the group have, in the
+	 * order of the statuses, with the first cards of each column.
+	 *
+	 * <p>
+	 * The counts of all the columns come from one query grouped by the status
+	 * and completed flag. A column with no more tasks than cards is shown
+	 * whole, so all such columns are read with one more query. Each of the
+	 * other columns is read with a keyset query limited to one more than the
+	 * cards, the first page of {@link #getTasksAfter(long, int, boolean,
+	 * boolean, Date, long, int)}, since dynamic queries cannot number rows
+	 * over a partition and not every supported database can either. The
+	 * extra card tells whether the column has more.
+	 * </p>
+	 *
+	 * @param  groupId the primary key of the group
+	 * @param  cardsCount the maximum number of cards of each column
+	 * @return the columns of the task board
+	 */
+	@Override
+	public List<TaskBoardColumn> getTaskBoardColumns(
+		long groupId, int cardsCount) {
+
+		DynamicQuery countsDynamicQuery = dynamicQuery();
+
+		countsDynamicQuery.add(
+			RestrictionsFactoryUtil.eq("groupId", groupId));
+
+		ProjectionList projectionList = ProjectionFactoryUtil.projectionList();
+
+		projectionList.add(ProjectionFactoryUtil.groupProperty("status"));
+		projectionList.add(ProjectionFactoryUtil.groupProperty("completed"));
+		projectionList.add(ProjectionFactoryUtil.rowCount());
+
+		countsDynamicQuery.setProjection(projectionList);
+
+		countsDynamicQuery.addOrder(OrderFactoryUtil.asc("status"));
+		countsDynamicQuery.addOrder(OrderFactoryUtil.asc("completed"));
+
+		List<Object[]> rows = dynamicQuery(countsDynamicQuery);
+
+		Junction wholeColumnsJunction = RestrictionsFactoryUtil.disjunction();
+		int wholeColumnsCount = 0;
+		Set<String> wholeColumnsOverflowKeys = new HashSet<>();
+		Map<String, List<Task>> wholeColumnsTasks = new HashMap<>();
+
+		for (Object[] row : rows) {
+			int count = ((Number)row[2]).intValue();
+
+			if (count > cardsCount) {
+				continue;
+			}
+
+			wholeColumnsJunction.add(
+				RestrictionsFactoryUtil.and(
+					RestrictionsFactoryUtil.eq("status", row[0]),
+					RestrictionsFactoryUtil.eq("completed", row[1])));
+
+			wholeColumnsCount += count;
+
+			wholeColumnsTasks.put(
+				_getColumnKey((Integer)row[0], (Boolean)row[1]),
+				new ArrayList<Task>(count));
+		}
+
+		if (!wholeColumnsTasks.isEmpty()) {
+
+			// Read a few more than counted, since tasks may have moved into
+			// the columns since the counts were read
+
+			List<Task> tasks = getTasksAfter(
+				RestrictionsFactoryUtil.and(
+					RestrictionsFactoryUtil.eq("groupId", groupId),
+					wholeColumnsJunction),
+				true, null, 0, wholeColumnsCount + cardsCount);
+
+			for (Task task : tasks) {
+				String columnKey = _getColumnKey(
+					task.getStatus(), task.isCompleted());
+
+				List<Task> columnTasks = wholeColumnsTasks.get(columnKey);
+
+				// The task may have moved since the counts were read
+
+				if (columnTasks == null) {
+					continue;
+				}
+
+				if (columnTasks.size() < cardsCount) {
+					columnTasks.add(task);
+				}
+				else {
+					wholeColumnsOverflowKeys.add(columnKey);
+				}
+			}
+		}
+
+		List<TaskBoardColumn> columns = new ArrayList<>(rows.size());
+
+		for (Object[] row : rows) {
+			int status = (Integer)row[0];
+			boolean completed = (Boolean)row[1];
+			int count = ((Number)row[2]).intValue();
+
+			String columnKey = _getColumnKey(status, completed);
+
+			boolean hasMore = wholeColumnsOverflowKeys.contains(columnKey);
+			List<Task> tasks = wholeColumnsTasks.get(columnKey);
+
+			if (tasks == null) {
+				tasks = getTasksAfter(
+					groupId, status, completed, true, null, 0, cardsCount + 1);
+
+				if (tasks.size() > cardsCount) {
+					hasMore = true;
+					tasks = new ArrayList<>(tasks.subList(0, cardsCount));
+				}
+			}
+
+			columns.add(
+				new TaskBoardColumn(status, completed, count, tasks, hasMore));
+		}
+
+		return columns;
+	}
+
 	@Override
 	public List<Task> getTasks(
 		long companyId, long groupId, int start, int end) {
@@ -194,6 +421,76 @@ public class TaskLocalServiceImpl extends TaskLocalServiceBaseImpl {
 			companyId, groupId, status, start, end);
 	}
 
+	/**
+	 * Returns a page of the tasks of the group in the order of their
+	 * expiration dates and primary keys, starting after the cursor. Unlike an
+	 * offset, the cursor is found through the index on the group, expiration
+	 * date and primary key, so a page deep into a large group costs as much
+	 * as the first one, and tasks added or deleted before the cursor do not
+	 * shift the page. The tasks without an expiration date come after the
+	 * others in ascending order and before them in descending order.
+	 *
+	 * @param  groupId the primary key of the group
+	 * @param  completed whether the tasks are completed, or <code>null</code>
+	 *         for all the tasks
+	 * @param  ascending whether the earliest expiration date comes first
+	 * @param  cursorExpirationDate the expiration date of the last task of
+	 *         the previous page, or <code>null</code> for the first page or
+	 *         if that task has none
+	 * @param  cursorTaskId the primary key of the last task of the previous
+	 *         page, or <code>0</code> for the first page
+	 * @param  limit the maximum number of tasks to return
+	 * @return the tasks of the page
+	 */
+	@Override
+	public List<Task> getTasksAfter(
+		long groupId, Boolean completed, boolean ascending,
+		Date cursorExpirationDate, long cursorTaskId, int limit) {
+
+		Criterion criterion = RestrictionsFactoryUtil.eq("groupId", groupId);
+
+		if (completed != null) {
+			criterion = RestrictionsFactoryUtil.and(
+				criterion, RestrictionsFactoryUtil.eq("completed", completed));
+		}
+
+		return getTasksAfter(
+			criterion, ascending, cursorExpirationDate, cursorTaskId, limit);
+	}
+
+	/**
+	 * Returns a page of the tasks of a column of the task board of the group,
+	 * in the order of their expiration dates and primary keys, starting after
+	 * the cursor. The page is found through the index on the group, status,
+	 * completed flag, expiration date and primary key.
+	 *
+	 * @param  groupId the primary key of the group
+	 * @param  status the workflow status of the tasks
+	 * @param  completed whether the tasks are completed
+	 * @param  ascending whether the earliest expiration date comes first
+	 * @param  cursorExpirationDate the expiration date of the last task of
+	 *         the previous page, or <code>null</code> for the first page or
+	 *         if that task has none
+	 * @param  cursorTaskId the primary key of the last task of the previous
+	 *         page, or <code>0</code> for the first page
+	 * @param  limit the maximum number of tasks to return
+	 * @return the tasks of the page
+	 */
+	@Override
+	public List<Task> getTasksAfter(
+		long groupId, int status, boolean completed, boolean ascending,
+		Date cursorExpirationDate, long cursorTaskId, int limit) {
+
+		Junction junction = RestrictionsFactoryUtil.conjunction();
+
+		junction.add(RestrictionsFactoryUtil.eq("groupId", groupId));
+		junction.add(RestrictionsFactoryUtil.eq("status", status));
+		junction.add(RestrictionsFactoryUtil.eq("completed", completed));
+
+		return getTasksAfter(
+			junction, ascending, cursorExpirationDate, cursorTaskId, limit);
+	}
+
 	@Override
 	public int getTasksCount(long companyId, long groupId) {
 		return taskPersistence.countByC_G(companyId, groupId);
@@ -231,6 +528,29 @@ public class TaskLocalServiceImpl extends TaskLocalServiceBaseImpl {
 			AssetLinkConstants.TYPE_RELATED);
 	}
 
+	@Indexable(type = IndexableType.REINDEX)
+	@Override
+	public Task updateCompleted(long taskId, boolean completed)
+		throws PortalException {
+
+		Task task = taskPersistence.findByPrimaryKey(taskId);
+
+		boolean changed = task.isCompleted() != completed;
+
+		task.setModifiedDate(new Date());
+		task.setCompleted(completed);
+
+		task = taskPersistence.update(task);
+
+		if (changed) {
+			taskChangeLocalService.addTaskChange(
+				task, TaskChangeConstants.TYPE_UPDATE,
+				TaskChangeConstants.FIELD_COMPLETED);
+		}
+
+		return task;
+	}
+
 	@Indexable(type = IndexableType.REINDEX)
 	@Override
 	public Task updateTask(
@@ -243,6 +563,7 @@ public class TaskLocalServiceImpl extends TaskLocalServiceBaseImpl {
 		// Task
 
 		userPersistence.findByPrimaryKey(userId);
+		User taskUser = userPersistence.findByPrimaryKey(taskUserId);
 		Task task = taskPersistence.findByPrimaryKey(taskId);
 
 		validate(title);
@@ -265,10 +586,15 @@ public class TaskLocalServiceImpl extends TaskLocalServiceBaseImpl {
 		expirationDate.set(Calendar.SECOND, 0);
 		expirationDate.set(Calendar.MILLISECOND, 0);
 
+		long fieldMask = getFieldMask(
+			task, title, description, expirationDate.getTime(), taskUserId,
+			completed);
+
 		task.setTitle(title);
 		task.setDescription(description);
 		task.setExpirationDate(expirationDate.getTime());
 		task.setTaskUserId(taskUserId);
+		task.setTaskUserName(taskUser.getFullName());
 		task.setCompleted(completed);
 
 		task = taskPersistence.update(task);
@@ -281,14 +607,269 @@ public class TaskLocalServiceImpl extends TaskLocalServiceBaseImpl {
 			serviceContext.getAssetLinkEntryIds(),
 			serviceContext.getAssetPriority());
 
+		// Change journal
+
+		if (fieldMask != 0) {
+			taskChangeLocalService.addTaskChange(
+				task, TaskChangeConstants.TYPE_UPDATE, fieldMask);
+		}
+
 		return task;
 	}
 
+	/**
+	 * Copies the current full names of the users to the tasks assigned to
+	 * them. The users are loaded with one query and every user costs one
+	 * update statement, whatever the number of its tasks. The modified date
+	 * of the tasks is left alone, since the tasks themselves did not change,
+	 * and the entity tags and rendered fragments of a task cover its user
+	 * name instead. The tasks are then dropped from the caches one by one,
+	 * journaled as updates and reindexed.
+	 *
+	 * @param taskUserIds the primary keys of the renamed users
+	 */
+	@Override
+	public void updateTaskUserNames(long[] taskUserIds)
+		throws PortalException {
+
+		Set<Serializable> primaryKeys = new HashSet<>();
+
+		for (long taskUserId : taskUserIds) {
+			primaryKeys.add(taskUserId);
+		}
+
+		Map<Serializable, User> users = userPersistence.fetchByPrimaryKeys(
+			primaryKeys);
+
+		if (users.isEmpty()) {
+			return;
+		}
+
+		SqlUpdate sqlUpdate = SqlUpdateFactoryUtil.getSqlUpdate(
+			taskPersistence.getDataSource(), _UPDATE_TASK_USER_NAME_SQL,
+			new int[] {Types.VARCHAR, Types.BIGINT});
+
+		for (User user : users.values()) {
+			sqlUpdate.update(user.getFullName(), user.getUserId());
+		}
+
+		Indexer<Task> indexer = IndexerRegistryUtil.nullSafeGetIndexer(
+			Task.class);
+
+		for (User user : users.values()) {
+			int count = taskPersistence.countByC_T(
+				user.getCompanyId(), user.getUserId());
+
+			for (int start = 0; start < count; start += _REINDEX_BATCH_SIZE) {
+				List<Task> tasks = taskPersistence.findByC_T(
+					user.getCompanyId(), user.getUserId(), start,
+					start + _REINDEX_BATCH_SIZE);
+
+				// The cached tasks still hold the old name, so they are
+				// dropped and read again
+
+				long[] taskIds = new long[tasks.size()];
+
+				for (int i = 0; i < tasks.size(); i++) {
+					Task task = tasks.get(i);
+
+					taskPersistence.clearCache(task);
+
+					taskIds[i] = task.getTaskId();
+				}
+
+				tasks = new ArrayList<>(taskIds.length);
+
+				for (Task task : taskFinder.fetchByPrimaryKeys(taskIds)) {
+					if (task != null) {
+						tasks.add(task);
+					}
+				}
+
+				for (Task task : tasks) {
+					TaskVersionUtil.invalidate(
+						task.getCompanyId(), task.getGroupId());
+
+					taskChangeLocalService.addTaskChange(
+						task, TaskChangeConstants.TYPE_UPDATE,
+						TaskChangeConstants.FIELD_TASK_USER_NAME);
+				}
+
+				indexer.reindex(tasks);
+			}
+		}
+	}
+
+	/**
+	 * Returns the bit mask of the {@link TaskChangeConstants} fields whose
+	 * values differ from the values of the task.
+	 */
+	protected long getFieldMask(
+		Task task, String title, String description, Date expirationDate,
+		long taskUserId, boolean completed) {
+
+		long fieldMask = 0;
+
+		if (!Objects.equals(task.getTitle(), title)) {
+			fieldMask |= TaskChangeConstants.FIELD_TITLE;
+		}
+
+		if (!Objects.equals(task.getDescription(), description)) {
+			fieldMask |= TaskChangeConstants.FIELD_DESCRIPTION;
+		}
+
+		if (!DateUtil.equals(task.getExpirationDate(), expirationDate)) {
+			fieldMask |= TaskChangeConstants.FIELD_EXPIRATION_DATE;
+		}
+
+		if (task.getTaskUserId() != taskUserId) {
+			fieldMask |= TaskChangeConstants.FIELD_TASK_USER_ID;
+		}
+
+		if (task.isCompleted() != completed) {
+			fieldMask |= TaskChangeConstants.FIELD_COMPLETED;
+		}
+
+		return fieldMask;
+	}
+
+	/**
+	 * Returns a page of the tasks that match the criterion in the order of
+	 * their expiration dates and primary keys, starting after the cursor.
+	 *
+	 * <p>
+	 * The tasks without an expiration date come after all the others in
+	 * ascending order and before them in descending order, in the order of
+	 * their primary keys. Databases do not agree on where nulls sort, so the
+	 * two segments are read with separate keyset queries, and a cursor with a
+	 * primary key but no expiration date is in the segment of the tasks
+	 * without one.
+	 * </p>
+	 */
+	protected List<Task> getTasksAfter(
+		Criterion criterion, boolean ascending, Date cursorExpirationDate,
+		long cursorTaskId, int limit) {
+
+		List<Task> tasks = new ArrayList<>();
+
+		boolean undatedCursor =
+			(cursorExpirationDate == null) && (cursorTaskId > 0);
+
+		if (ascending) {
+			if (!undatedCursor) {
+				tasks.addAll(
+					_getTasksAfter(
+						criterion, true, true, cursorExpirationDate,
+						cursorTaskId, limit));
+
+				cursorTaskId = 0;
+			}
+
+			if (tasks.size() < limit) {
+				tasks.addAll(
+					_getTasksAfter(
+						criterion, false, true, null, cursorTaskId,
+						limit - tasks.size()));
+			}
+		}
+		else {
+			if (cursorExpirationDate == null) {
+				tasks.addAll(
+					_getTasksAfter(
+						criterion, false, false, null, cursorTaskId, limit));
+			}
+
+			if (tasks.size() < limit) {
+				tasks.addAll(
+					_getTasksAfter(
+						criterion, true, false, cursorExpirationDate,
+						cursorTaskId, limit - tasks.size()));
+			}
+		}
+
+		return tasks;
+	}
+
 	protected void validate(String title) throws PortalException {
 		if (Validator.isNull(title)) {
 			throw new TaskTitleException();
 		}
 	}
 
+	private String _getColumnKey(int status, boolean completed) {
+		return status + StringPool.UNDERLINE + completed;
+	}
+
+	/**
+	 * Returns a page of one segment of {@link #getTasksAfter(Criterion,
+	 * boolean, Date, long, int)}: the tasks with an expiration date, after
+	 * the cursor if it has one, or the tasks without one, after the cursor's
+	 * primary key if it is set.
+	 */
+	private List<Task> _getTasksAfter(
+		Criterion criterion, boolean dated, boolean ascending,
+		Date cursorExpirationDate, long cursorTaskId, int limit) {
+
+		DynamicQuery dynamicQuery = dynamicQuery();
+
+		dynamicQuery.add(criterion);
+
+		Property expirationDateProperty = PropertyFactoryUtil.forName(
+			"expirationDate");
+		Property taskIdProperty = PropertyFactoryUtil.forName("taskId");
+
+		if (dated) {
+			dynamicQuery.add(expirationDateProperty.isNotNull());
+
+			if ((cursorExpirationDate != null) && ascending) {
+				dynamicQuery.add(
+					RestrictionsFactoryUtil.or(
+						expirationDateProperty.gt(cursorExpirationDate),
+						RestrictionsFactoryUtil.and(
+							expirationDateProperty.eq(cursorExpirationDate),
+							taskIdProperty.gt(cursorTaskId))));
+			}
+			else if (cursorExpirationDate != null) {
+				dynamicQuery.add(
+					RestrictionsFactoryUtil.or(
+						expirationDateProperty.lt(cursorExpirationDate),
+						RestrictionsFactoryUtil.and(
+							expirationDateProperty.eq(cursorExpirationDate),
+							taskIdProperty.lt(cursorTaskId))));
+			}
+
+			if (ascending) {
+				dynamicQuery.addOrder(expirationDateProperty.asc());
+			}
+			else {
+				dynamicQuery.addOrder(expirationDateProperty.desc());
+			}
+		}
+		else {
+			dynamicQuery.add(expirationDateProperty.isNull());
+
+			if ((cursorTaskId > 0) && ascending) {
+				dynamicQuery.add(taskIdProperty.gt(cursorTaskId));
+			}
+			else if (cursorTaskId > 0) {
+				dynamicQuery.add(taskIdProperty.lt(cursorTaskId));
+			}
+		}
+
+		if (ascending) {
+			dynamicQuery.addOrder(taskIdProperty.asc());
+		}
+		else {
+			dynamicQuery.addOrder(taskIdProperty.desc());
+		}
+
+		return dynamicQuery(dynamicQuery, 0, limit);
+	}
+
+	private static final int _REINDEX_BATCH_SIZE = 500;
+
+	private static final String _UPDATE_TASK_USER_NAME_SQL =
+		"UPDATE ABT_Task SET taskUserName = ? WHERE taskUserId = ?";
+
 
 }
\ No newline at end of file
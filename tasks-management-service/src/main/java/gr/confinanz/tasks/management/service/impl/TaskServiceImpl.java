@@ -15,16 +15,22 @@
 package gr.confinanz.tasks.management.service.impl;
 
 import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.security.auth.PrincipalException;
+import com.liferay.portal.kernel.security.permission.PermissionChecker;
 import com.liferay.portal.kernel.service.ServiceContext;
 
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 import aQute.bnd.annotation.ProviderType;
 import gr.confinanz.tasks.management.constants.ActionKeys;
 import gr.confinanz.tasks.management.model.Task;
+import gr.confinanz.tasks.management.model.TaskChange;
 import gr.confinanz.tasks.management.service.base.TaskServiceBaseImpl;
 import gr.confinanz.tasks.management.service.permission.TaskPermissionChecker;
 import gr.confinanz.tasks.management.service.permission.TaskResourcePermissionChecker;
+import gr.confinanz.tasks.management.util.TaskBoardColumn;
 
 /**
  * The implementation of the task remote service.
@@ -66,12 +72,109 @@ public class TaskServiceImpl extends TaskServiceBaseImpl {
 		return taskLocalService.deleteTask(taskId);
 	}
 
+	public Task[] fetchTasks(long[] taskIds) throws PortalException {
+		Task[] tasks = taskLocalService.fetchTasks(taskIds);
+
+		TaskPermissionChecker.filter(
+			getPermissionChecker(), tasks, ActionKeys.VIEW);
+
+		return tasks;
+	}
+
+	public List<TaskChange> getChangesSince(
+			long companyId, long sequence, int limit)
+		throws PortalException {
+
+		PermissionChecker permissionChecker = getPermissionChecker();
+
+		if (!permissionChecker.isCompanyAdmin(companyId)) {
+			throw new PrincipalException.MustBeCompanyAdmin(permissionChecker);
+		}
+
+		return taskChangeLocalService.getChangesSince(
+			companyId, sequence, limit);
+	}
+
+	public List<Task> getSimilarTasks(
+			long groupId, String title, String description, int limit)
+		throws PortalException {
+
+		limit = Math.max(0, Math.min(limit, _MAX_SUGGESTIONS));
+
+		// Ask for more primary keys than needed, since some of the tasks
+		// may not be viewable
+
+		long[] taskIds = taskLocalService.getSimilarTaskIds(
+			groupId, title, description, limit * 2);
+
+		return _filterTasks(taskIds, limit);
+	}
+
 	public Task getTask(long taskId) throws PortalException {
 		TaskPermissionChecker.check(
 				getPermissionChecker(), taskId, ActionKeys.VIEW);
 		return taskLocalService.getTask(taskId);
 	}
 
+	public List<TaskBoardColumn> getTaskBoardColumns(
+			long groupId, int cardsCount)
+		throws PortalException {
+
+		cardsCount = Math.max(0, Math.min(cardsCount, _MAX_PAGE_SIZE));
+
+		PermissionChecker permissionChecker = getPermissionChecker();
+
+		// The counts include the tasks the user cannot view, so only the
+		// group administrators get them
+
+		boolean groupAdmin = permissionChecker.isGroupAdmin(groupId);
+
+		List<TaskBoardColumn> columns = new ArrayList<>();
+
+		for (TaskBoardColumn column :
+				taskLocalService.getTaskBoardColumns(groupId, cardsCount)) {
+
+			List<Task> columnTasks = column.getTasks();
+
+			List<Task> tasks = _getViewableTasks(
+				permissionChecker, columnTasks, cardsCount);
+
+			boolean hasMore = column.isHasMore();
+
+			// Fill the column with the cards after the ones the user cannot
+			// view, and one more card to tell whether the column has more
+
+			if (hasMore && !columnTasks.isEmpty()) {
+				Task lastTask = columnTasks.get(columnTasks.size() - 1);
+
+				tasks.addAll(
+					_getTasksAfter(
+						groupId, column.getStatus(), column.isCompleted(),
+						true, lastTask.getExpirationDate(),
+						lastTask.getTaskId(), cardsCount + 1 - tasks.size()));
+
+				hasMore = tasks.size() > cardsCount;
+
+				if (hasMore) {
+					tasks = tasks.subList(0, cardsCount);
+				}
+			}
+
+			int count = -1;
+
+			if (groupAdmin) {
+				count = column.getCount();
+			}
+
+			columns.add(
+				new TaskBoardColumn(
+					column.getStatus(), column.isCompleted(), count,
+					new ArrayList<>(tasks), hasMore));
+		}
+
+		return columns;
+	}
+
 	public List<Task> getTasks(
 		long companyId, long groupId, int start, int end) {
 
@@ -85,6 +188,30 @@ public class TaskServiceImpl extends TaskServiceBaseImpl {
 			companyId, groupId, status, start, end);
 	}
 
+	public List<Task> getTasksAfter(
+			long groupId, Boolean completed, boolean ascending,
+			Date cursorExpirationDate, long cursorTaskId, int limit)
+		throws PortalException {
+
+		limit = Math.max(0, Math.min(limit, _MAX_PAGE_SIZE));
+
+		return _getTasksAfter(
+			groupId, null, completed, ascending, cursorExpirationDate,
+			cursorTaskId, limit);
+	}
+
+	public List<Task> getTasksAfter(
+			long groupId, int status, boolean completed, boolean ascending,
+			Date cursorExpirationDate, long cursorTaskId, int limit)
+		throws PortalException {
+
+		limit = Math.max(0, Math.min(limit, _MAX_PAGE_SIZE));
+
+		return _getTasksAfter(
+			groupId, status, completed, ascending, cursorExpirationDate,
+			cursorTaskId, limit);
+	}
+
 	public int getTasksCount(long companyId, long groupId) {
 		return taskPersistence.countByC_G(companyId, groupId);
 	}
@@ -93,6 +220,29 @@ public class TaskServiceImpl extends TaskServiceBaseImpl {
 		return taskPersistence.countByC_G_S(companyId, groupId, status);
 	}
 
+	public List<Task> suggestTasks(long groupId, String query, int limit)
+		throws PortalException {
+
+		limit = Math.max(0, Math.min(limit, _MAX_SUGGESTIONS));
+
+		// Ask for more primary keys than needed, since some of the tasks
+		// may not be viewable
+
+		long[] taskIds = taskLocalService.suggestTaskIds(
+			groupId, query, limit * 2);
+
+		return _filterTasks(taskIds, limit);
+	}
+
+	public Task updateCompleted(long taskId, boolean completed)
+		throws PortalException {
+
+		TaskPermissionChecker.check(
+			getPermissionChecker(), taskId, ActionKeys.UPDATE);
+
+		return taskLocalService.updateCompleted(taskId, completed);
+	}
+
 	public Task updateTask(
 			long taskId, String title, String description,
 			int expirationDateMonth, int expirationDateDay,
@@ -109,4 +259,101 @@ public class TaskServiceImpl extends TaskServiceBaseImpl {
 			expirationDateDay, expirationDateYear, taskUserId, completed,
 			serviceContext);
 	}
+
+	/**
+	 * Returns up to <code>limit</code> of the tasks that the current user can
+	 * view, in the order of the primary keys.
+	 */
+	private List<Task> _filterTasks(long[] taskIds, int limit)
+		throws PortalException {
+
+		List<Task> tasks = new ArrayList<>(limit);
+
+		for (Task task : fetchTasks(taskIds)) {
+			if (task == null) {
+				continue;
+			}
+
+			tasks.add(task);
+
+			if (tasks.size() == limit) {
+				break;
+			}
+		}
+
+		return tasks;
+	}
+
+	private List<Task> _getTasksAfter(
+			long groupId, Integer status, Boolean completed, boolean ascending,
+			Date cursorExpirationDate, long cursorTaskId, int limit)
+		throws PortalException {
+
+		PermissionChecker permissionChecker = getPermissionChecker();
+
+		List<Task> tasks = new ArrayList<>(limit);
+
+		// The tasks the user cannot view are skipped, so pages are read until
+		// this one is full or the group has no more tasks
+
+		while (tasks.size() < limit) {
+			List<Task> pageTasks = null;
+
+			if (status == null) {
+				pageTasks = taskLocalService.getTasksAfter(
+					groupId, completed, ascending, cursorExpirationDate,
+					cursorTaskId, limit);
+			}
+			else {
+				pageTasks = taskLocalService.getTasksAfter(
+					groupId, status, completed, ascending, cursorExpirationDate,
+					cursorTaskId, limit);
+			}
+
+			tasks.addAll(
+				_getViewableTasks(
+					permissionChecker, pageTasks, limit - tasks.size()));
+
+			if (pageTasks.size() < limit) {
+				break;
+			}
+
+			Task lastTask = pageTasks.get(pageTasks.size() - 1);
+
+			cursorExpirationDate = lastTask.getExpirationDate();
+			cursorTaskId = lastTask.getTaskId();
+		}
+
+		return tasks;
+	}
+
+	/**
+	 * Returns up to <code>limit</code> of the tasks that the user can view,
+	 * in their order.
+	 */
+	private List<Task> _getViewableTasks(
+		PermissionChecker permissionChecker, List<Task> tasks, int limit) {
+
+		List<Task> viewableTasks = new ArrayList<>(
+			Math.min(limit, tasks.size()));
+
+		for (Task task : tasks) {
+			if (viewableTasks.size() == limit) {
+				break;
+			}
+
+			if (TaskPermissionChecker.contains(
+					permissionChecker, task, ActionKeys.VIEW)) {
+
+				viewableTasks.add(task);
+			}
+		}
+
+		return viewableTasks;
+	}
+
+	private static final int _MAX_PAGE_SIZE = 500;
+
+	private static final int _MAX_SUGGESTIONS = 100;
+
 }
\ No newline at end of file
@@ -60,6 +60,23 @@ public class TaskPermissionChecker implements BaseModelPermissionChecker {
 				actionId);
 		}
 
+		/**
+		 * Clears every slot of the array whose task the user does not have the
+		 * permission for. The permissions are evaluated against the given
+		 * models, so no task is loaded again.
+		 */
+		public static void filter(
+			PermissionChecker permissionChecker, Task[] tasks, String actionId) {
+
+			for (int i = 0; i < tasks.length; i++) {
+				if ((tasks[i] != null) &&
+					!contains(permissionChecker, tasks[i], actionId)) {
+
+					tasks[i] = null;
+				}
+			}
+		}
+
 		@Override
 		public void checkBaseModel(
 				PermissionChecker permissionChecker, long groupId, long primaryKey,
@@ -0,0 +1,1795 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package gr.confinanz.tasks.management.service.persistence.impl;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.dao.orm.EntityCache;
+import com.liferay.portal.kernel.dao.orm.FinderCache;
+import com.liferay.portal.kernel.dao.orm.FinderPath;
+import com.liferay.portal.kernel.dao.orm.Query;
+import com.liferay.portal.kernel.dao.orm.QueryPos;
+import com.liferay.portal.kernel.dao.orm.QueryUtil;
+import com.liferay.portal.kernel.dao.orm.Session;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.service.persistence.CompanyProvider;
+import com.liferay.portal.kernel.service.persistence.CompanyProviderWrapper;
+import com.liferay.portal.kernel.service.persistence.impl.BasePersistenceImpl;
+import com.liferay.portal.kernel.util.OrderByComparator;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.spring.extender.service.ServiceReference;
+
+import gr.confinanz.tasks.management.exception.NoSuchTaskChangeException;
+import gr.confinanz.tasks.management.model.TaskChange;
+import gr.confinanz.tasks.management.model.impl.TaskChangeImpl;
+import gr.confinanz.tasks.management.model.impl.TaskChangeModelImpl;
+import gr.confinanz.tasks.management.service.persistence.TaskChangePersistence;
+
+import java.io.Serializable;
+
+import java.sql.Timestamp;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The persistence implementation for the task change service.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ * @see TaskChangePersistence
+ * @see gr.confinanz.tasks.management.service.persistence.TaskChangeUtil
+ * @generated
+ */
+@ProviderType
+public class TaskChangePersistenceImpl extends BasePersistenceImpl<TaskChange>
+	implements TaskChangePersistence {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. Always use {@link TaskChangeUtil} to access the task change persistence. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this class.
+	 */
+	public static final String FINDER_CLASS_NAME_ENTITY = TaskChangeImpl.class.getName();
+	public static final String FINDER_CLASS_NAME_LIST_WITH_PAGINATION = FINDER_CLASS_NAME_ENTITY +
+		".List1";
+	public static final String FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION = FINDER_CLASS_NAME_ENTITY +
+		".List2";
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_ALL = new FinderPath(TaskChangeModelImpl.ENTITY_CACHE_ENABLED,
+			TaskChangeModelImpl.FINDER_CACHE_ENABLED, TaskChangeImpl.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findAll", new String[0]);
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_ALL = new FinderPath(TaskChangeModelImpl.ENTITY_CACHE_ENABLED,
+			TaskChangeModelImpl.FINDER_CACHE_ENABLED, TaskChangeImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findAll", new String[0]);
+	public static final FinderPath FINDER_PATH_COUNT_ALL = new FinderPath(TaskChangeModelImpl.ENTITY_CACHE_ENABLED,
+			TaskChangeModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countAll", new String[0]);
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_COMPANYID = new FinderPath(TaskChangeModelImpl.ENTITY_CACHE_ENABLED,
+			TaskChangeModelImpl.FINDER_CACHE_ENABLED, TaskChangeImpl.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByCompanyId",
+			new String[] {
+				Long.class.getName(),
+				
+			Integer.class.getName(), Integer.class.getName(),
+				OrderByComparator.class.getName()
+			});
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID = new FinderPath(TaskChangeModelImpl.ENTITY_CACHE_ENABLED,
+			TaskChangeModelImpl.FINDER_CACHE_ENABLED, TaskChangeImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByCompanyId",
+			new String[] { Long.class.getName() },
+			TaskChangeModelImpl.COMPANYID_COLUMN_BITMASK |
+			TaskChangeModelImpl.TASKCHANGEID_COLUMN_BITMASK);
+	public static final FinderPath FINDER_PATH_COUNT_BY_COMPANYID = new FinderPath(TaskChangeModelImpl.ENTITY_CACHE_ENABLED,
+			TaskChangeModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByCompanyId",
+			new String[] { Long.class.getName() });
+
+	/**
+	 * Returns all the task changes where companyId = &#63;.
+	 *
+	 * @param companyId the company ID
+	 * @return the matching task changes
+	 */
+	@Override
+	public List<TaskChange> findByCompanyId(long companyId) {
+		return findByCompanyId(companyId, QueryUtil.ALL_POS,
+			QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the task changes where companyId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param companyId the company ID
+	 * @param start the lower bound of the range of task changes
+	 * @param end the upper bound of the range of task changes (not inclusive)
+	 * @return the range of matching task changes
+	 */
+	@Override
+	public List<TaskChange> findByCompanyId(long companyId, int start,
+		int end) {
+		return findByCompanyId(companyId, start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the task changes where companyId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param companyId the company ID
+	 * @param start the lower bound of the range of task changes
+	 * @param end the upper bound of the range of task changes (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching task changes
+	 */
+	@Override
+	public List<TaskChange> findByCompanyId(long companyId, int start,
+		int end, OrderByComparator<TaskChange> orderByComparator) {
+		return findByCompanyId(companyId, start, end, orderByComparator,
+			true);
+	}
+
+	/**
+	 * Returns an ordered range of all the task changes where companyId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param companyId the company ID
+	 * @param start the lower bound of the range of task changes
+	 * @param end the upper bound of the range of task changes (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @param retrieveFromCache whether to retrieve from the finder cache
+	 * @return the ordered range of matching task changes
+	 */
+	@Override
+	public List<TaskChange> findByCompanyId(long companyId, int start,
+		int end, OrderByComparator<TaskChange> orderByComparator,
+		boolean retrieveFromCache) {
+		boolean pagination = true;
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			pagination = false;
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID;
+			finderArgs = new Object[] { companyId };
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_BY_COMPANYID;
+			finderArgs = new Object[] {
+					companyId,
+					
+					start, end, orderByComparator
+				};
+		}
+
+		List<TaskChange> list = null;
+
+		if (retrieveFromCache) {
+			list = (List<TaskChange>)finderCache.getResult(finderPath, finderArgs,
+					this);
+
+			if ((list != null) && !list.isEmpty()) {
+				for (TaskChange taskChange : list) {
+					if ((companyId != taskChange.getCompanyId())) {
+						list = null;
+
+						break;
+					}
+				}
+			}
+		}
+
+		if (list == null) {
+			StringBundler query = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(3 +
+						(orderByComparator.getOrderByFields().length * 2));
+			}
+			else {
+				query = new StringBundler(3);
+			}
+
+			query.append(_SQL_SELECT_TASKCHANGE_WHERE);
+
+			query.append(_FINDER_COLUMN_COMPANYID_COMPANYID_2);
+
+			if (orderByComparator != null) {
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+			}
+			else
+			 if (pagination) {
+				query.append(TaskChangeModelImpl.ORDER_BY_JPQL);
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(companyId);
+
+				if (!pagination) {
+					list = (List<TaskChange>)QueryUtil.list(q, getDialect(), start,
+							end, false);
+
+					Collections.sort(list);
+
+					list = Collections.unmodifiableList(list);
+				}
+				else {
+					list = (List<TaskChange>)QueryUtil.list(q, getDialect(), start,
+							end);
+				}
+
+				cacheResult(list);
+
+				finderCache.putResult(finderPath, finderArgs, list);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns the first task change in the ordered set where companyId = &#63;.
+	 *
+	 * @param companyId the company ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching task change
+	 * @throws NoSuchTaskChangeException if a matching task change could not be found
+	 */
+	@Override
+	public TaskChange findByCompanyId_First(long companyId,
+		OrderByComparator<TaskChange> orderByComparator) throws NoSuchTaskChangeException {
+		TaskChange taskChange = fetchByCompanyId_First(companyId, orderByComparator);
+
+		if (taskChange != null) {
+			return taskChange;
+		}
+
+		StringBundler msg = new StringBundler(4);
+
+		msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+		msg.append("companyId=");
+		msg.append(companyId);
+
+		msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+		throw new NoSuchTaskChangeException(msg.toString());
+	}
+
+	/**
+	 * Returns the first task change in the ordered set where companyId = &#63;.
+	 *
+	 * @param companyId the company ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching task change, or <code>null</code> if a matching task change could not be found
+	 */
+	@Override
+	public TaskChange fetchByCompanyId_First(long companyId,
+		OrderByComparator<TaskChange> orderByComparator) {
+		List<TaskChange> list = findByCompanyId(companyId, 0, 1,
+				orderByComparator);
+
+		if (!list.isEmpty()) {
+			return list.get(0);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the last task change in the ordered set where companyId = &#63;.
+	 *
+	 * @param companyId the company ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching task change
+	 * @throws NoSuchTaskChangeException if a matching task change could not be found
+	 */
+	@Override
+	public TaskChange findByCompanyId_Last(long companyId,
+		OrderByComparator<TaskChange> orderByComparator) throws NoSuchTaskChangeException {
+		TaskChange taskChange = fetchByCompanyId_Last(companyId, orderByComparator);
+
+		if (taskChange != null) {
+			return taskChange;
+		}
+
+		StringBundler msg = new StringBundler(4);
+
+		msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+		msg.append("companyId=");
+		msg.append(companyId);
+
+		msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+		throw new NoSuchTaskChangeException(msg.toString());
+	}
+
+	/**
+	 * Returns the last task change in the ordered set where companyId = &#63;.
+	 *
+	 * @param companyId the company ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching task change, or <code>null</code> if a matching task change could not be found
+	 */
+	@Override
+	public TaskChange fetchByCompanyId_Last(long companyId,
+		OrderByComparator<TaskChange> orderByComparator) {
+		int count = countByCompanyId(companyId);
+
+		if (count == 0) {
+			return null;
+		}
+
+		List<TaskChange> list = findByCompanyId(companyId, count - 1, count,
+				orderByComparator);
+
+		if (!list.isEmpty()) {
+			return list.get(0);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the task changes before and after the current task change in the ordered set where companyId = &#63;.
+	 *
+	 * @param taskChangeId the primary key of the current task change
+	 * @param companyId the company ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the previous, current, and next task change
+	 * @throws NoSuchTaskChangeException if a task change with the primary key could not be found
+	 */
+	@Override
+	public TaskChange[] findByCompanyId_PrevAndNext(long taskChangeId,
+		long companyId, OrderByComparator<TaskChange> orderByComparator)
+		throws NoSuchTaskChangeException {
+		TaskChange taskChange = findByPrimaryKey(taskChangeId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			TaskChange[] array = new TaskChangeImpl[3];
+
+			array[0] = getByCompanyId_PrevAndNext(session, taskChange, companyId, orderByComparator, true);
+
+			array[1] = taskChange;
+
+			array[2] = getByCompanyId_PrevAndNext(session, taskChange, companyId, orderByComparator, false);
+
+			return array;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected TaskChange getByCompanyId_PrevAndNext(Session session, TaskChange taskChange,
+		long companyId,
+		OrderByComparator<TaskChange> orderByComparator, boolean previous) {
+		StringBundler query = null;
+
+		if (orderByComparator != null) {
+			query = new StringBundler(4 +
+					(orderByComparator.getOrderByConditionFields().length * 3) +
+					(orderByComparator.getOrderByFields().length * 3));
+		}
+		else {
+			query = new StringBundler(3);
+		}
+
+		query.append(_SQL_SELECT_TASKCHANGE_WHERE);
+
+		query.append(_FINDER_COLUMN_COMPANYID_COMPANYID_2);
+
+		if (orderByComparator != null) {
+			String[] orderByConditionFields = orderByComparator.getOrderByConditionFields();
+
+			if (orderByConditionFields.length > 0) {
+				query.append(WHERE_AND);
+			}
+
+			for (int i = 0; i < orderByConditionFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByConditionFields[i]);
+
+				if ((i + 1) < orderByConditionFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN_HAS_NEXT);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN);
+					}
+				}
+			}
+
+			query.append(ORDER_BY_CLAUSE);
+
+			String[] orderByFields = orderByComparator.getOrderByFields();
+
+			for (int i = 0; i < orderByFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByFields[i]);
+
+				if ((i + 1) < orderByFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC_HAS_NEXT);
+					}
+					else {
+						query.append(ORDER_BY_DESC_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC);
+					}
+					else {
+						query.append(ORDER_BY_DESC);
+					}
+				}
+			}
+		}
+		else {
+			query.append(TaskChangeModelImpl.ORDER_BY_JPQL);
+		}
+
+		String sql = query.toString();
+
+		Query q = session.createQuery(sql);
+
+		q.setFirstResult(0);
+		q.setMaxResults(2);
+
+		QueryPos qPos = QueryPos.getInstance(q);
+
+		qPos.add(companyId);
+
+		if (orderByComparator != null) {
+			Object[] values = orderByComparator.getOrderByConditionValues(taskChange);
+
+			for (Object value : values) {
+				qPos.add(value);
+			}
+		}
+
+		List<TaskChange> list = q.list();
+
+		if (list.size() == 2) {
+			return list.get(1);
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Removes all the task changes where companyId = &#63; from the database.
+	 *
+	 * @param companyId the company ID
+	 */
+	@Override
+	public void removeByCompanyId(long companyId) {
+		for (TaskChange taskChange : findByCompanyId(companyId, QueryUtil.ALL_POS,
+				QueryUtil.ALL_POS, null)) {
+			remove(taskChange);
+		}
+	}
+
+	/**
+	 * Returns the number of task changes where companyId = &#63;.
+	 *
+	 * @param companyId the company ID
+	 * @return the number of matching task changes
+	 */
+	@Override
+	public int countByCompanyId(long companyId) {
+		FinderPath finderPath = FINDER_PATH_COUNT_BY_COMPANYID;
+
+		Object[] finderArgs = new Object[] { companyId };
+
+		Long count = (Long)finderCache.getResult(finderPath, finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(2);
+
+			query.append(_SQL_COUNT_TASKCHANGE_WHERE);
+
+			query.append(_FINDER_COLUMN_COMPANYID_COMPANYID_2);
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(companyId);
+
+				count = (Long)q.uniqueResult();
+
+				finderCache.putResult(finderPath, finderArgs, count);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	private static final String _FINDER_COLUMN_COMPANYID_COMPANYID_2 = "taskChange.companyId = ?";
+
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_LTCREATEDATE = new FinderPath(TaskChangeModelImpl.ENTITY_CACHE_ENABLED,
+			TaskChangeModelImpl.FINDER_CACHE_ENABLED, TaskChangeImpl.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByLtCreateDate",
+			new String[] {
+				Date.class.getName(),
+				
+			Integer.class.getName(), Integer.class.getName(),
+				OrderByComparator.class.getName()
+			});
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_COUNT_BY_LTCREATEDATE =
+		new FinderPath(TaskChangeModelImpl.ENTITY_CACHE_ENABLED,
+			TaskChangeModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "countByLtCreateDate",
+			new String[] { Date.class.getName() });
+
+	/**
+	 * Returns all the task changes where createDate &lt; &#63;.
+	 *
+	 * @param createDate the create date
+	 * @return the matching task changes
+	 */
+	@Override
+	public List<TaskChange> findByLtCreateDate(Date createDate) {
+		return findByLtCreateDate(createDate, QueryUtil.ALL_POS,
+			QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the task changes where createDate &lt; &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param createDate the create date
+	 * @param start the lower bound of the range of task changes
+	 * @param end the upper bound of the range of task changes (not inclusive)
+	 * @return the range of matching task changes
+	 */
+	@Override
+	public List<TaskChange> findByLtCreateDate(Date createDate, int start,
+		int end) {
+		return findByLtCreateDate(createDate, start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the task changes where createDate &lt; &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param createDate the create date
+	 * @param start the lower bound of the range of task changes
+	 * @param end the upper bound of the range of task changes (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching task changes
+	 */
+	@Override
+	public List<TaskChange> findByLtCreateDate(Date createDate, int start,
+		int end, OrderByComparator<TaskChange> orderByComparator) {
+		return findByLtCreateDate(createDate, start, end, orderByComparator,
+			true);
+	}
+
+	/**
+	 * Returns an ordered range of all the task changes where createDate &lt; &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param createDate the create date
+	 * @param start the lower bound of the range of task changes
+	 * @param end the upper bound of the range of task changes (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @param retrieveFromCache whether to retrieve from the finder cache
+	 * @return the ordered range of matching task changes
+	 */
+	@Override
+	public List<TaskChange> findByLtCreateDate(Date createDate, int start,
+		int end, OrderByComparator<TaskChange> orderByComparator,
+		boolean retrieveFromCache) {
+		boolean pagination = true;
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
+
+		finderPath = FINDER_PATH_WITH_PAGINATION_FIND_BY_LTCREATEDATE;
+		finderArgs = new Object[] {
+				_getTime(createDate),
+				
+				start, end, orderByComparator
+			};
+
+		List<TaskChange> list = null;
+
+		if (retrieveFromCache) {
+			list = (List<TaskChange>)finderCache.getResult(finderPath, finderArgs,
+					this);
+
+			if ((list != null) && !list.isEmpty()) {
+				for (TaskChange taskChange : list) {
+					if ((createDate.getTime() <= taskChange.getCreateDate()
+									.getTime())) {
+						list = null;
+
+						break;
+					}
+				}
+			}
+		}
+
+		if (list == null) {
+			StringBundler query = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(3 +
+						(orderByComparator.getOrderByFields().length * 2));
+			}
+			else {
+				query = new StringBundler(3);
+			}
+
+			query.append(_SQL_SELECT_TASKCHANGE_WHERE);
+
+			boolean bindCreateDate = false;
+
+			if (createDate == null) {
+				query.append(_FINDER_COLUMN_LTCREATEDATE_CREATEDATE_1);
+			}
+			else {
+				bindCreateDate = true;
+
+				query.append(_FINDER_COLUMN_LTCREATEDATE_CREATEDATE_2);
+			}
+
+			if (orderByComparator != null) {
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+			}
+			else
+			 if (pagination) {
+				query.append(TaskChangeModelImpl.ORDER_BY_JPQL);
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				if (bindCreateDate) {
+					qPos.add(new Timestamp(createDate.getTime()));
+				}
+
+				if (!pagination) {
+					list = (List<TaskChange>)QueryUtil.list(q, getDialect(), start,
+							end, false);
+
+					Collections.sort(list);
+
+					list = Collections.unmodifiableList(list);
+				}
+				else {
+					list = (List<TaskChange>)QueryUtil.list(q, getDialect(), start,
+							end);
+				}
+
+				cacheResult(list);
+
+				finderCache.putResult(finderPath, finderArgs, list);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns the first task change in the ordered set where createDate &lt; &#63;.
+	 *
+	 * @param createDate the create date
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching task change
+	 * @throws NoSuchTaskChangeException if a matching task change could not be found
+	 */
+	@Override
+	public TaskChange findByLtCreateDate_First(Date createDate,
+		OrderByComparator<TaskChange> orderByComparator) throws NoSuchTaskChangeException {
+		TaskChange taskChange = fetchByLtCreateDate_First(createDate, orderByComparator);
+
+		if (taskChange != null) {
+			return taskChange;
+		}
+
+		StringBundler msg = new StringBundler(4);
+
+		msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+		msg.append("createDate=");
+		msg.append(createDate);
+
+		msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+		throw new NoSuchTaskChangeException(msg.toString());
+	}
+
+	/**
+	 * Returns the first task change in the ordered set where createDate &lt; &#63;.
+	 *
+	 * @param createDate the create date
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching task change, or <code>null</code> if a matching task change could not be found
+	 */
+	@Override
+	public TaskChange fetchByLtCreateDate_First(Date createDate,
+		OrderByComparator<TaskChange> orderByComparator) {
+		List<TaskChange> list = findByLtCreateDate(createDate, 0, 1,
+				orderByComparator);
+
+		if (!list.isEmpty()) {
+			return list.get(0);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the last task change in the ordered set where createDate &lt; &#63;.
+	 *
+	 * @param createDate the create date
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching task change
+	 * @throws NoSuchTaskChangeException if a matching task change could not be found
+	 */
+	@Override
+	public TaskChange findByLtCreateDate_Last(Date createDate,
+		OrderByComparator<TaskChange> orderByComparator) throws NoSuchTaskChangeException {
+		TaskChange taskChange = fetchByLtCreateDate_Last(createDate, orderByComparator);
+
+		if (taskChange != null) {
+			return taskChange;
+		}
+
+		StringBundler msg = new StringBundler(4);
+
+		msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+		msg.append("createDate=");
+		msg.append(createDate);
+
+		msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+		throw new NoSuchTaskChangeException(msg.toString());
+	}
+
+	/**
+	 * Returns the last task change in the ordered set where createDate &lt; &#63;.
+	 *
+	 * @param createDate the create date
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching task change, or <code>null</code> if a matching task change could not be found
+	 */
+	@Override
+	public TaskChange fetchByLtCreateDate_Last(Date createDate,
+		OrderByComparator<TaskChange> orderByComparator) {
+		int count = countByLtCreateDate(createDate);
+
+		if (count == 0) {
+			return null;
+		}
+
+		List<TaskChange> list = findByLtCreateDate(createDate, count - 1, count,
+				orderByComparator);
+
+		if (!list.isEmpty()) {
+			return list.get(0);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the task changes before and after the current task change in the ordered set where createDate &lt; &#63;.
+	 *
+	 * @param taskChangeId the primary key of the current task change
+	 * @param createDate the create date
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the previous, current, and next task change
+	 * @throws NoSuchTaskChangeException if a task change with the primary key could not be found
+	 */
+	@Override
+	public TaskChange[] findByLtCreateDate_PrevAndNext(long taskChangeId,
+		Date createDate, OrderByComparator<TaskChange> orderByComparator)
+		throws NoSuchTaskChangeException {
+		TaskChange taskChange = findByPrimaryKey(taskChangeId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			TaskChange[] array = new TaskChangeImpl[3];
+
+			array[0] = getByLtCreateDate_PrevAndNext(session, taskChange, createDate, orderByComparator, true);
+
+			array[1] = taskChange;
+
+			array[2] = getByLtCreateDate_PrevAndNext(session, taskChange, createDate, orderByComparator, false);
+
+			return array;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected TaskChange getByLtCreateDate_PrevAndNext(Session session, TaskChange taskChange,
+		Date createDate,
+		OrderByComparator<TaskChange> orderByComparator, boolean previous) {
+		StringBundler query = null;
+
+		if (orderByComparator != null) {
+			query = new StringBundler(4 +
+					(orderByComparator.getOrderByConditionFields().length * 3) +
+					(orderByComparator.getOrderByFields().length * 3));
+		}
+		else {
+			query = new StringBundler(3);
+		}
+
+		query.append(_SQL_SELECT_TASKCHANGE_WHERE);
+
+		boolean bindCreateDate = false;
+
+		if (createDate == null) {
+			query.append(_FINDER_COLUMN_LTCREATEDATE_CREATEDATE_1);
+		}
+		else {
+			bindCreateDate = true;
+
+			query.append(_FINDER_COLUMN_LTCREATEDATE_CREATEDATE_2);
+		}
+
+		if (orderByComparator != null) {
+			String[] orderByConditionFields = orderByComparator.getOrderByConditionFields();
+
+			if (orderByConditionFields.length > 0) {
+				query.append(WHERE_AND);
+			}
+
+			for (int i = 0; i < orderByConditionFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByConditionFields[i]);
+
+				if ((i + 1) < orderByConditionFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN_HAS_NEXT);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN);
+					}
+				}
+			}
+
+			query.append(ORDER_BY_CLAUSE);
+
+			String[] orderByFields = orderByComparator.getOrderByFields();
+
+			for (int i = 0; i < orderByFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByFields[i]);
+
+				if ((i + 1) < orderByFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC_HAS_NEXT);
+					}
+					else {
+						query.append(ORDER_BY_DESC_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC);
+					}
+					else {
+						query.append(ORDER_BY_DESC);
+					}
+				}
+			}
+		}
+		else {
+			query.append(TaskChangeModelImpl.ORDER_BY_JPQL);
+		}
+
+		String sql = query.toString();
+
+		Query q = session.createQuery(sql);
+
+		q.setFirstResult(0);
+		q.setMaxResults(2);
+
+		QueryPos qPos = QueryPos.getInstance(q);
+
+		if (bindCreateDate) {
+			qPos.add(new Timestamp(createDate.getTime()));
+		}
+
+		if (orderByComparator != null) {
+			Object[] values = orderByComparator.getOrderByConditionValues(taskChange);
+
+			for (Object value : values) {
+				qPos.add(value);
+			}
+		}
+
+		List<TaskChange> list = q.list();
+
+		if (list.size() == 2) {
+			return list.get(1);
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Removes all the task changes where createDate &lt; &#63; from the database.
+	 *
+	 * @param createDate the create date
+	 */
+	@Override
+	public void removeByLtCreateDate(Date createDate) {
+		for (TaskChange taskChange : findByLtCreateDate(createDate, QueryUtil.ALL_POS,
+				QueryUtil.ALL_POS, null)) {
+			remove(taskChange);
+		}
+	}
+
+	/**
+	 * Returns the number of task changes where createDate &lt; &#63;.
+	 *
+	 * @param createDate the create date
+	 * @return the number of matching task changes
+	 */
+	@Override
+	public int countByLtCreateDate(Date createDate) {
+		FinderPath finderPath = FINDER_PATH_WITH_PAGINATION_COUNT_BY_LTCREATEDATE;
+
+		Object[] finderArgs = new Object[] { _getTime(createDate) };
+
+		Long count = (Long)finderCache.getResult(finderPath, finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(2);
+
+			query.append(_SQL_COUNT_TASKCHANGE_WHERE);
+
+			query.append(_FINDER_COLUMN_LTCREATEDATE_CREATEDATE);
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				if (bindCreateDate) {
+					qPos.add(new Timestamp(createDate.getTime()));
+				}
+
+				count = (Long)q.uniqueResult();
+
+				finderCache.putResult(finderPath, finderArgs, count);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	private static final String _FINDER_COLUMN_LTCREATEDATE_CREATEDATE_1 = "taskChange.createDate IS NULL";
+	private static final String _FINDER_COLUMN_LTCREATEDATE_CREATEDATE_2 = "taskChange.createDate < ?";
+
+
+	public TaskPersistenceImpl() {
+		setModelClass(TaskChange.class);
+	}
+
+	/**
+	 * Caches the task change in the entity cache if it is enabled.
+	 *
+	 * @param task change the task change
+	 */
+	@Override
+	public void cacheResult(TaskChange taskChange) {
+		entityCache.putResult(TaskChangeModelImpl.ENTITY_CACHE_ENABLED,
+			TaskChangeImpl.class, taskChange.getPrimaryKey(), taskChange);
+
+		taskChange.resetOriginalValues();
+	}
+
+	/**
+	 * Caches the task changes in the entity cache if it is enabled.
+	 *
+	 * @param task changes the task changes
+	 */
+	@Override
+	public void cacheResult(List<TaskChange> taskChanges) {
+		for (TaskChange taskChange : taskChanges) {
+			if (entityCache.getResult(TaskChangeModelImpl.ENTITY_CACHE_ENABLED,
+						TaskChangeImpl.class, taskChange.getPrimaryKey()) == null) {
+				cacheResult(taskChange);
+			}
+			else {
+				taskChange.resetOriginalValues();
+			}
+		}
+	}
+
+	/**
+	 * Clears the cache for all task changes.
+	 *
+	 * <p>
+	 * The {@link EntityCache} and {@link FinderCache} are both cleared by this method.
+	 * </p>
+	 */
+	@Override
+	public void clearCache() {
+		entityCache.clearCache(TaskChangeImpl.class);
+
+		finderCache.clearCache(FINDER_CLASS_NAME_ENTITY);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+	}
+
+	/**
+	 * Clears the cache for the task change.
+	 *
+	 * <p>
+	 * The {@link EntityCache} and {@link FinderCache} are both cleared by this method.
+	 * </p>
+	 */
+	@Override
+	public void clearCache(TaskChange taskChange) {
+		entityCache.removeResult(TaskChangeModelImpl.ENTITY_CACHE_ENABLED,
+			TaskChangeImpl.class, taskChange.getPrimaryKey());
+
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+	}
+
+	@Override
+	public void clearCache(List<TaskChange> taskChanges) {
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+		for (TaskChange taskChange : taskChanges) {
+			entityCache.removeResult(TaskChangeModelImpl.ENTITY_CACHE_ENABLED,
+				TaskChangeImpl.class, taskChange.getPrimaryKey());
+		}
+	}
+
+	/**
+	 * Creates a new task change with the primary key. Does not add the task change to the database.
+	 *
+	 * @param taskChangeId the primary key for the new task change
+	 * @return the new task change
+	 */
+	@Override
+	public TaskChange create(long taskChangeId) {
+		TaskChange taskChange = new TaskChangeImpl();
+
+		taskChange.setNew(true);
+		taskChange.setPrimaryKey(taskChangeId);
+
+		taskChange.setCompanyId(companyProvider.getCompanyId());
+
+		return taskChange;
+	}
+
+	/**
+	 * Removes the task change with the primary key from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param taskChangeId the primary key of the task change
+	 * @return the task change that was removed
+	 * @throws NoSuchTaskChangeException if a task change with the primary key could not be found
+	 */
+	@Override
+	public TaskChange remove(long taskChangeId)
+		throws NoSuchTaskChangeException {
+		return remove((Serializable)taskChangeId);
+	}
+
+	/**
+	 * Removes the task change with the primary key from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param primaryKey the primary key of the task change
+	 * @return the task change that was removed
+	 * @throws NoSuchTaskChangeException if a task change with the primary key could not be found
+	 */
+	@Override
+	public TaskChange remove(Serializable primaryKey)
+		throws NoSuchTaskChangeException {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			TaskChange taskChange = (TaskChange)session.get(TaskChangeImpl.class, primaryKey);
+
+			if (taskChange == null) {
+				if (_log.isDebugEnabled()) {
+					_log.debug(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY + primaryKey);
+				}
+
+				throw new NoSuchTaskChangeException(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY +
+					primaryKey);
+			}
+
+			return remove(taskChange);
+		}
+		catch (NoSuchTaskChangeException nsee) {
+			throw nsee;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	protected TaskChange removeImpl(TaskChange taskChange) {
+		taskChange = toUnwrappedModel(taskChange);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			if (!session.contains(taskChange)) {
+				taskChange = (TaskChange)session.get(TaskChangeImpl.class, taskChange.getPrimaryKeyObj());
+			}
+
+			if (taskChange != null) {
+				session.delete(taskChange);
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		if (taskChange != null) {
+			clearCache(taskChange);
+		}
+
+		return taskChange;
+	}
+
+	@Override
+	public TaskChange updateImpl(TaskChange taskChange) {
+		taskChange = toUnwrappedModel(taskChange);
+
+		boolean isNew = taskChange.isNew();
+
+		TaskChangeModelImpl taskChangeModelImpl = (TaskChangeModelImpl)taskChange;
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			if (taskChange.isNew()) {
+				session.save(taskChange);
+
+				taskChange.setNew(false);
+			}
+			else {
+				taskChange = (TaskChange)session.merge(taskChange);
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+
+		if (isNew || !TaskChangeModelImpl.COLUMN_BITMASK_ENABLED) {
+			finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		}
+
+		else {
+			if ((taskChangeModelImpl.getColumnBitmask() &
+					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID.getColumnBitmask()) != 0) {
+				Object[] args = new Object[] {
+						taskChangeModelImpl.getOriginalCompanyId()
+					};
+
+				finderCache.removeResult(FINDER_PATH_COUNT_BY_COMPANYID, args);
+				finderCache.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID,
+					args);
+
+				args = new Object[] { taskChangeModelImpl.getCompanyId() };
+
+				finderCache.removeResult(FINDER_PATH_COUNT_BY_COMPANYID, args);
+				finderCache.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID,
+					args);
+			}
+		}
+
+		entityCache.putResult(TaskChangeModelImpl.ENTITY_CACHE_ENABLED,
+			TaskChangeImpl.class, taskChange.getPrimaryKey(), taskChange, false);
+
+		taskChange.resetOriginalValues();
+
+		return taskChange;
+	}
+
+	protected TaskChange toUnwrappedModel(TaskChange taskChange) {
+		if (taskChange instanceof TaskChangeImpl) {
+			return taskChange;
+		}
+
+		TaskChangeImpl taskChangeImpl = new TaskChangeImpl();
+
+		taskChangeImpl.setNew(taskChange.isNew());
+		taskChangeImpl.setPrimaryKey(taskChange.getPrimaryKey());
+
+		taskChangeImpl.setTaskChangeId(taskChange.getTaskChangeId());
+		taskChangeImpl.setGroupId(taskChange.getGroupId());
+		taskChangeImpl.setCompanyId(taskChange.getCompanyId());
+		taskChangeImpl.setTaskId(taskChange.getTaskId());
+		taskChangeImpl.setChangeType(taskChange.getChangeType());
+		taskChangeImpl.setFieldMask(taskChange.getFieldMask());
+		taskChangeImpl.setCreateDate(taskChange.getCreateDate());
+
+		return taskChangeImpl;
+	}
+
+	/**
+	 * Returns the task change with the primary key or throws a {@link com.liferay.portal.kernel.exception.NoSuchModelException} if it could not be found.
+	 *
+	 * @param primaryKey the primary key of the task change
+	 * @return the task change
+	 * @throws NoSuchTaskChangeException if a task change with the primary key could not be found
+	 */
+	@Override
+	public TaskChange findByPrimaryKey(Serializable primaryKey)
+		throws NoSuchTaskChangeException {
+		TaskChange taskChange = fetchByPrimaryKey(primaryKey);
+
+		if (taskChange == null) {
+			if (_log.isDebugEnabled()) {
+				_log.debug(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY + primaryKey);
+			}
+
+			throw new NoSuchTaskChangeException(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY +
+				primaryKey);
+		}
+
+		return taskChange;
+	}
+
+	/**
+	 * Returns the task change with the primary key or throws a {@link NoSuchTaskChangeException} if it could not be found.
+	 *
+	 * @param taskChangeId the primary key of the task change
+	 * @return the task change
+	 * @throws NoSuchTaskChangeException if a task change with the primary key could not be found
+	 */
+	@Override
+	public TaskChange findByPrimaryKey(long taskChangeId)
+		throws NoSuchTaskChangeException {
+		return findByPrimaryKey((Serializable)taskChangeId);
+	}
+
+	/**
+	 * Returns the task change with the primary key or returns <code>null</code> if it could not be found.
+	 *
+	 * @param primaryKey the primary key of the task change
+	 * @return the task change, or <code>null</code> if a task change with the primary key could not be found
+	 */
+	@Override
+	public TaskChange fetchByPrimaryKey(Serializable primaryKey) {
+		Serializable serializable = entityCache.getResult(TaskChangeModelImpl.ENTITY_CACHE_ENABLED,
+				TaskChangeImpl.class, primaryKey);
+
+		if (serializable == nullModel) {
+			return null;
+		}
+
+		TaskChange taskChange = (TaskChange)serializable;
+
+		if (taskChange == null) {
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				taskChange = (TaskChange)session.get(TaskChangeImpl.class, primaryKey);
+
+				if (taskChange != null) {
+					cacheResult(taskChange);
+				}
+				else {
+					entityCache.putResult(TaskChangeModelImpl.ENTITY_CACHE_ENABLED,
+						TaskChangeImpl.class, primaryKey, nullModel);
+				}
+			}
+			catch (Exception e) {
+				entityCache.removeResult(TaskChangeModelImpl.ENTITY_CACHE_ENABLED,
+					TaskChangeImpl.class, primaryKey);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return taskChange;
+	}
+
+	/**
+	 * Returns the task change with the primary key or returns <code>null</code> if it could not be found.
+	 *
+	 * @param taskChangeId the primary key of the task change
+	 * @return the task change, or <code>null</code> if a task change with the primary key could not be found
+	 */
+	@Override
+	public TaskChange fetchByPrimaryKey(long taskChangeId) {
+		return fetchByPrimaryKey((Serializable)taskChangeId);
+	}
+
+	@Override
+	public Map<Serializable, TaskChange> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, TaskChange> map = new HashMap<Serializable, TaskChange>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			TaskChange taskChange = fetchByPrimaryKey(primaryKey);
+
+			if (taskChange != null) {
+				map.put(primaryKey, taskChange);
+			}
+
+			return map;
+		}
+
+		Set<Serializable> uncachedPrimaryKeys = null;
+
+		for (Serializable primaryKey : primaryKeys) {
+			Serializable serializable = entityCache.getResult(TaskChangeModelImpl.ENTITY_CACHE_ENABLED,
+					TaskChangeImpl.class, primaryKey);
+
+			if (serializable != nullModel) {
+				if (serializable == null) {
+					if (uncachedPrimaryKeys == null) {
+						uncachedPrimaryKeys = new HashSet<Serializable>();
+					}
+
+					uncachedPrimaryKeys.add(primaryKey);
+				}
+				else {
+					map.put(primaryKey, (TaskChange)serializable);
+				}
+			}
+		}
+
+		if (uncachedPrimaryKeys == null) {
+			return map;
+		}
+
+		StringBundler query = new StringBundler((uncachedPrimaryKeys.size() * 2) +
+				1);
+
+		query.append(_SQL_SELECT_TASKCHANGE_WHERE_PKS_IN);
+
+		for (Serializable primaryKey : uncachedPrimaryKeys) {
+			query.append(String.valueOf(primaryKey));
+
+			query.append(StringPool.COMMA);
+		}
+
+		query.setIndex(query.index() - 1);
+
+		query.append(StringPool.CLOSE_PARENTHESIS);
+
+		String sql = query.toString();
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			Query q = session.createQuery(sql);
+
+			for (TaskChange taskChange : (List<TaskChange>)q.list()) {
+				map.put(taskChange.getPrimaryKeyObj(), taskChange);
+
+				cacheResult(taskChange);
+
+				uncachedPrimaryKeys.remove(taskChange.getPrimaryKeyObj());
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				entityCache.putResult(TaskChangeModelImpl.ENTITY_CACHE_ENABLED,
+					TaskChangeImpl.class, primaryKey, nullModel);
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
+	/**
+	 * Returns all the task changes.
+	 *
+	 * @return the task changes
+	 */
+	@Override
+	public List<TaskChange> findAll() {
+		return findAll(QueryUtil.ALL_POS, QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the task changes.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of task changes
+	 * @param end the upper bound of the range of task changes (not inclusive)
+	 * @return the range of task changes
+	 */
+	@Override
+	public List<TaskChange> findAll(int start, int end) {
+		return findAll(start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the task changes.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of task changes
+	 * @param end the upper bound of the range of task changes (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of task changes
+	 */
+	@Override
+	public List<TaskChange> findAll(int start, int end,
+		OrderByComparator<TaskChange> orderByComparator) {
+		return findAll(start, end, orderByComparator, true);
+	}
+
+	/**
+	 * Returns an ordered range of all the task changes.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link TaskChangeModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of task changes
+	 * @param end the upper bound of the range of task changes (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @param retrieveFromCache whether to retrieve from the finder cache
+	 * @return the ordered range of task changes
+	 */
+	@Override
+	public List<TaskChange> findAll(int start, int end,
+		OrderByComparator<TaskChange> orderByComparator, boolean retrieveFromCache) {
+		boolean pagination = true;
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			pagination = false;
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_ALL;
+			finderArgs = FINDER_ARGS_EMPTY;
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_ALL;
+			finderArgs = new Object[] { start, end, orderByComparator };
+		}
+
+		List<TaskChange> list = null;
+
+		if (retrieveFromCache) {
+			list = (List<TaskChange>)finderCache.getResult(finderPath, finderArgs,
+					this);
+		}
+
+		if (list == null) {
+			StringBundler query = null;
+			String sql = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(2 +
+						(orderByComparator.getOrderByFields().length * 2));
+
+				query.append(_SQL_SELECT_TASKCHANGE);
+
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+
+				sql = query.toString();
+			}
+			else {
+				sql = _SQL_SELECT_TASKCHANGE;
+
+				if (pagination) {
+					sql = sql.concat(TaskChangeModelImpl.ORDER_BY_JPQL);
+				}
+			}
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				if (!pagination) {
+					list = (List<TaskChange>)QueryUtil.list(q, getDialect(), start,
+							end, false);
+
+					Collections.sort(list);
+
+					list = Collections.unmodifiableList(list);
+				}
+				else {
+					list = (List<TaskChange>)QueryUtil.list(q, getDialect(), start,
+							end);
+				}
+
+				cacheResult(list);
+
+				finderCache.putResult(finderPath, finderArgs, list);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Removes all the task changes from the database.
+	 *
+	 */
+	@Override
+	public void removeAll() {
+		for (TaskChange taskChange : findAll()) {
+			remove(taskChange);
+		}
+	}
+
+	/**
+	 * Returns the number of task changes.
+	 *
+	 * @return the number of task changes
+	 */
+	@Override
+	public int countAll() {
+		Long count = (Long)finderCache.getResult(FINDER_PATH_COUNT_ALL,
+				FINDER_ARGS_EMPTY, this);
+
+		if (count == null) {
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(_SQL_COUNT_TASKCHANGE);
+
+				count = (Long)q.uniqueResult();
+
+				finderCache.putResult(FINDER_PATH_COUNT_ALL, FINDER_ARGS_EMPTY,
+					count);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(FINDER_PATH_COUNT_ALL,
+					FINDER_ARGS_EMPTY);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	@Override
+	protected Map<String, Integer> getTableColumnsMap() {
+		return TaskChangeModelImpl.TABLE_COLUMNS_MAP;
+	}
+
+	/**
+	 * Initializes the task change persistence.
+	 */
+	public void afterPropertiesSet() {
+	}
+
+	public void destroy() {
+		entityCache.removeCache(TaskChangeImpl.class.getName());
+		finderCache.removeCache(FINDER_CLASS_NAME_ENTITY);
+		finderCache.removeCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		finderCache.removeCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+	}
+
+	private Long _getTime(Date date) {
+		if (date == null) {
+			return null;
+		}
+
+		return date.getTime();
+	}
+
+	@ServiceReference(type = CompanyProviderWrapper.class)
+	protected CompanyProvider companyProvider;
+	@ServiceReference(type = EntityCache.class)
+	protected EntityCache entityCache;
+	@ServiceReference(type = FinderCache.class)
+	protected FinderCache finderCache;
+	private static final String _SQL_SELECT_TASKCHANGE = "SELECT taskChange FROM TaskChange taskChange";
+	private static final String _SQL_SELECT_TASKCHANGE_WHERE_PKS_IN = "SELECT taskChange FROM TaskChange taskChange WHERE taskChangeId IN (";
+	private static final String _SQL_SELECT_TASKCHANGE_WHERE = "SELECT taskChange FROM TaskChange taskChange WHERE ";
+	private static final String _SQL_COUNT_TASKCHANGE = "SELECT COUNT(taskChange) FROM TaskChange taskChange";
+	private static final String _SQL_COUNT_TASKCHANGE_WHERE = "SELECT COUNT(taskChange) FROM TaskChange taskChange WHERE ";
+	private static final String _ORDER_BY_ENTITY_ALIAS = "taskChange.";
+	private static final String _NO_SUCH_ENTITY_WITH_PRIMARY_KEY = "No TaskChange exists with the primary key ";
+	private static final String _NO_SUCH_ENTITY_WITH_KEY = "No TaskChange exists with the key {";
+	private static final Log _log = LogFactoryUtil.getLog(TaskPersistenceImpl.class);
+}
\ No newline at end of file
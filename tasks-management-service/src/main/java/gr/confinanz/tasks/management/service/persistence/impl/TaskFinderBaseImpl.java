@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package gr.confinanz.tasks.management.service.persistence.impl;
+
+import com.liferay.portal.kernel.bean.BeanReference;
+import com.liferay.portal.kernel.service.persistence.impl.BasePersistenceImpl;
+
+import gr.confinanz.tasks.management.model.Task;
+import gr.confinanz.tasks.management.service.persistence.TaskPersistence;
+
+import java.util.Set;
+
+/**
+ * @author Abdessamad Ben Taleb
+ * @generated
+ */
+public class TaskFinderBaseImpl extends BasePersistenceImpl<Task> {
+	@Override
+	public Set<String> getBadColumnNames() {
+		return getTaskPersistence().getBadColumnNames();
+	}
+
+	/**
+	 * Returns the task persistence.
+	 *
+	 * @return the task persistence
+	 */
+	public TaskPersistence getTaskPersistence() {
+		return taskPersistence;
+	}
+
+	/**
+	 * Sets the task persistence.
+	 *
+	 * @param taskPersistence the task persistence
+	 */
+	public void setTaskPersistence(TaskPersistence taskPersistence) {
+		this.taskPersistence = taskPersistence;
+	}
+
+	@BeanReference(type = TaskPersistence.class)
+	protected TaskPersistence taskPersistence;
+}
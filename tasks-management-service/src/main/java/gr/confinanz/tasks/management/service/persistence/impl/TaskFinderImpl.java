@@ -0,0 +1,208 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package gr.confinanz.tasks.management.service.persistence.impl;
+
+import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
+import com.liferay.portal.kernel.dao.orm.QueryPos;
+import com.liferay.portal.kernel.dao.orm.SQLQuery;
+import com.liferay.portal.kernel.dao.orm.Session;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.util.dao.orm.CustomSQLUtil;
+
+import java.io.Serializable;
+
+import java.util.Arrays;
+import java.util.List;
+
+import gr.confinanz.tasks.management.model.Task;
+import gr.confinanz.tasks.management.model.impl.TaskImpl;
+import gr.confinanz.tasks.management.model.impl.TaskModelImpl;
+import gr.confinanz.tasks.management.service.persistence.TaskFinder;
+
+/**
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskFinderImpl extends TaskFinderBaseImpl implements TaskFinder {
+
+	public static final String FETCH_BY_PRIMARY_KEYS =
+		TaskFinder.class.getName() + ".fetchByPrimaryKeys";
+
+	/**
+	 * Returns the tasks with the primary keys, in the order of the primary
+	 * keys.
+	 *
+	 * <p>
+	 * The tasks that are not in the entity cache are loaded with
+	 * parameterized <code>IN</code> queries of 16, 64 or 256 placeholders, so
+	 * the same three statements are reused however many tasks are asked for.
+	 * The unused placeholders of a query repeat its last primary key, and
+	 * duplicate primary keys are loaded once.
+	 * </p>
+	 *
+	 * @param  taskIds the primary keys of the tasks
+	 * @return the tasks, with a <code>null</code> slot for every primary key
+	 *         whose task could not be found
+	 */
+	@Override
+	public Task[] fetchByPrimaryKeys(long[] taskIds) {
+		Task[] tasks = new Task[taskIds.length];
+
+		long[] uncachedTaskIds = new long[taskIds.length];
+		int uncachedCount = 0;
+
+		for (int i = 0; i < taskIds.length; i++) {
+			Serializable serializable = EntityCacheUtil.getResult(
+				TaskModelImpl.ENTITY_CACHE_ENABLED, TaskImpl.class, taskIds[i]);
+
+			if (serializable == null) {
+				uncachedTaskIds[uncachedCount++] = taskIds[i];
+			}
+			else if (serializable != nullModel) {
+				tasks[i] = (Task)serializable;
+			}
+		}
+
+		if (uncachedCount == 0) {
+			return tasks;
+		}
+
+		Arrays.sort(uncachedTaskIds, 0, uncachedCount);
+
+		int uniqueCount = 1;
+
+		for (int i = 1; i < uncachedCount; i++) {
+			if (uncachedTaskIds[i] != uncachedTaskIds[uniqueCount - 1]) {
+				uncachedTaskIds[uniqueCount++] = uncachedTaskIds[i];
+			}
+		}
+
+		Task[] uncachedTasks = _fetchByPrimaryKeys(
+			uncachedTaskIds, uniqueCount);
+
+		for (int i = 0; i < taskIds.length; i++) {
+			if (tasks[i] != null) {
+				continue;
+			}
+
+			int pos = Arrays.binarySearch(
+				uncachedTaskIds, 0, uniqueCount, taskIds[i]);
+
+			if (pos >= 0) {
+				tasks[i] = uncachedTasks[pos];
+			}
+		}
+
+		return tasks;
+	}
+
+	/**
+	 * Returns the tasks with the first <code>count</code> primary keys, which
+	 * are sorted and distinct, and caches them. The primary keys whose tasks
+	 * could not be found are cached as missing.
+	 */
+	private Task[] _fetchByPrimaryKeys(long[] taskIds, int count) {
+		Task[] tasks = new Task[count];
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(getClass(), FETCH_BY_PRIMARY_KEYS);
+
+			int index = 0;
+
+			while (index < count) {
+				int size = _getChunkSize(count - index);
+
+				int chunkCount = Math.min(count - index, size);
+
+				SQLQuery q = session.createSynchronizedSQLQuery(
+					StringUtil.replace(
+						sql, "[$TASK_IDS$]", _getPlaceholders(size)));
+
+				q.addEntity("ABT_Task", TaskImpl.class);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (int i = 0; i < size; i++) {
+					qPos.add(taskIds[index + Math.min(i, chunkCount - 1)]);
+				}
+
+				for (Task task : (List<Task>)q.list()) {
+					int pos = Arrays.binarySearch(
+						taskIds, 0, count, task.getTaskId());
+
+					tasks[pos] = task;
+
+					taskPersistence.cacheResult(task);
+				}
+
+				index += chunkCount;
+			}
+
+			for (int i = 0; i < count; i++) {
+				if (tasks[i] == null) {
+					EntityCacheUtil.putResult(
+						TaskModelImpl.ENTITY_CACHE_ENABLED, TaskImpl.class,
+						taskIds[i], nullModel);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return tasks;
+	}
+
+	/**
+	 * Returns the smallest number of placeholders that holds the primary
+	 * keys, or the largest one if none does.
+	 */
+	private int _getChunkSize(int remaining) {
+		for (int chunkSize : _CHUNK_SIZES) {
+			if (remaining <= chunkSize) {
+				return chunkSize;
+			}
+		}
+
+		return _CHUNK_SIZES[_CHUNK_SIZES.length - 1];
+	}
+
+	private String _getPlaceholders(int size) {
+		StringBundler sb = new StringBundler(size * 2);
+
+		for (int i = 0; i < size; i++) {
+			if (i > 0) {
+				sb.append(StringPool.COMMA);
+			}
+
+			sb.append(StringPool.QUESTION);
+		}
+
+		return sb.toString();
+	}
+
+	private static final int[] _CHUNK_SIZES = {16, 64, 256};
+
+}
@@ -0,0 +1,38 @@
+package gr.confinanz.tasks.management.upgrade;
+
+import com.liferay.portal.kernel.upgrade.DummyUpgradeStep;
+import com.liferay.portal.upgrade.registry.UpgradeStepRegistrator;
+
+import org.osgi.service.component.annotations.Component;
+
+import gr.confinanz.tasks.management.upgrade.v1_1_0.UpgradeTask;
+
+/**
+ * Registers the upgrade steps of the schema of the tasks management service.
+ *
+ * <p>
+ * The tables of a new installation are created from the SQL scripts of the
+ * service, and the steps then take it from there like an existing one, so
+ * the indexes that Service Builder does not generate are created in one
+ * place.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+@Component(immediate = true, service = UpgradeStepRegistrator.class)
+public class TasksManagementServiceUpgrade implements UpgradeStepRegistrator {
+
+	@Override
+	public void register(Registry registry) {
+		registry.register(
+			_BUNDLE_SYMBOLIC_NAME, "0.0.1", "1.0.0", new DummyUpgradeStep());
+
+		registry.register(
+			_BUNDLE_SYMBOLIC_NAME, "1.0.0", "1.1.0", new UpgradeTask());
+	}
+
+	private static final String _BUNDLE_SYMBOLIC_NAME =
+		"gr.confinanz.tasks.management.service";
+
+}
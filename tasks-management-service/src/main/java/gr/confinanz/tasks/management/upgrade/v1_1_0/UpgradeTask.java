@@ -0,0 +1,147 @@
+package gr.confinanz.tasks.management.upgrade.v1_1_0;
+
+import com.liferay.portal.kernel.dao.jdbc.AutoBatchPreparedStatementUtil;
+import com.liferay.portal.kernel.dao.jdbc.DataAccess;
+import com.liferay.portal.kernel.upgrade.UpgradeProcess;
+import com.liferay.portal.kernel.util.ArrayUtil;
+import com.liferay.portal.kernel.util.StringUtil;
+
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import gr.confinanz.tasks.management.util.TaskUserNameUtil;
+
+/**
+ * Adds the indexes of the keyset queries on the tasks and the task change
+ * journal, which have no finder of their own, so Service Builder does not
+ * generate them. An index that already exists is left alone.
+ *
+ * <p>
+ * It also fills in the <code>taskUserName</code> of the tasks that were
+ * added before the column existed, so that lists of tasks no longer resolve
+ * the names of their users when they are read. The modified dates of the
+ * tasks are left alone.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class UpgradeTask extends UpgradeProcess {
+
+	@Override
+	protected void doUpgrade() throws Exception {
+
+		// The tasks of a group after a cursor
+
+		addIndex(
+			"ABT_Task", "IX_4E1A8C3D", "groupId, expirationDate, taskId");
+
+		// The tasks of a column of the task board after a cursor
+
+		addIndex(
+			"ABT_Task", "IX_D3B09E61",
+			"groupId, status, completed, expirationDate, taskId");
+
+		// The changes of a company after a sequence
+
+		addIndex("ABT_TaskChange", "IX_6A0F2C94", "companyId, taskChangeId");
+
+		updateTaskUserNames();
+	}
+
+	protected void addIndex(
+			String tableName, String indexName, String columnNames)
+		throws Exception {
+
+		if (hasIndex(tableName, indexName)) {
+			return;
+		}
+
+		runSQL(
+			"create index " + indexName + " on " + tableName + " (" +
+				columnNames + ")");
+	}
+
+	protected List<Long> getBlankTaskUserIds() throws Exception {
+		List<Long> taskUserIds = new ArrayList<>();
+
+		try (PreparedStatement ps = connection.prepareStatement(
+				"select distinct taskUserId from ABT_Task where " +
+					"taskUserName is null or taskUserName = ''");
+			ResultSet rs = ps.executeQuery()) {
+
+			while (rs.next()) {
+				taskUserIds.add(rs.getLong("taskUserId"));
+			}
+		}
+
+		return taskUserIds;
+	}
+
+	protected boolean hasIndex(String tableName, String indexName)
+		throws Exception {
+
+		DatabaseMetaData databaseMetaData = connection.getMetaData();
+
+		if (databaseMetaData.storesLowerCaseIdentifiers()) {
+			tableName = StringUtil.toLowerCase(tableName);
+		}
+		else if (databaseMetaData.storesUpperCaseIdentifiers()) {
+			tableName = StringUtil.toUpperCase(tableName);
+		}
+
+		ResultSet rs = null;
+
+		try {
+			rs = databaseMetaData.getIndexInfo(
+				null, null, tableName, false, false);
+
+			while (rs.next()) {
+				if (StringUtil.equalsIgnoreCase(
+						indexName, rs.getString("INDEX_NAME"))) {
+
+					return true;
+				}
+			}
+		}
+		finally {
+			DataAccess.cleanUp(rs);
+		}
+
+		return false;
+	}
+
+	protected void updateTaskUserNames() throws Exception {
+		List<Long> taskUserIds = getBlankTaskUserIds();
+
+		if (taskUserIds.isEmpty()) {
+			return;
+		}
+
+		Map<Long, String> userNames = TaskUserNameUtil.getUserNames(
+			ArrayUtil.toLongArray(taskUserIds));
+
+		try (PreparedStatement ps =
+				AutoBatchPreparedStatementUtil.autoBatch(
+					connection.prepareStatement(
+						"update ABT_Task set taskUserName = ? where " +
+							"taskUserId = ? and (taskUserName is null or " +
+								"taskUserName = '')"))) {
+
+			for (Map.Entry<Long, String> entry : userNames.entrySet()) {
+				ps.setString(1, entry.getValue());
+				ps.setLong(2, entry.getKey());
+
+				ps.addBatch();
+			}
+
+			ps.executeBatch();
+		}
+	}
+
+}
@@ -4,6 +4,9 @@ create index IX_B25D216B on ABT_Task (companyId, userId);
 create index IX_25EBCFCB on ABT_Task (uuid_[$COLUMN_LENGTH:75$], companyId);
 create unique index IX_7B2BCD0D on ABT_Task (uuid_[$COLUMN_LENGTH:75$], groupId);
 
+create index IX_5E3F1B7A on ABT_TaskChange (companyId);
+create index IX_C81D0A49 on ABT_TaskChange (createDate);
+
 create index IX_9610B423 on BTA_Task (companyId, groupId, status);
 create index IX_C6B4D16C on BTA_Task (companyId, taskUserId);
 create index IX_895B4C47 on BTA_Task (companyId, userId);
@@ -11,6 +11,7 @@ create table ABT_Task (
 	description STRING null,
 	expirationDate DATE null,
 	taskUserId LONG,
+	taskUserName VARCHAR(75) null,
 	completed BOOLEAN,
 	status INTEGER,
 	statusByUserId LONG,
@@ -18,6 +19,16 @@ create table ABT_Task (
 	statusDate DATE null
 );
 
+create table ABT_TaskChange (
+	taskChangeId LONG not null primary key,
+	groupId LONG,
+	companyId LONG,
+	taskId LONG,
+	changeType INTEGER,
+	fieldMask LONG,
+	createDate DATE null
+);
+
 create table BTA_Task (
 	uuid_ VARCHAR(75) null,
 	taskId LONG not null primary key,
@@ -9,4 +9,7 @@ public class TasksManagementPortletKeys {
 	public static final String TASKS_MANAGEMENT =
 		"gr_confinanz_tasks_management_web_portlet_TasksManagementPortlet";
 
+	public static final String TASKS_REINDEX =
+		"gr_confinanz_tasks_management_web_portlet_TasksReindexPortlet";
+
 }
\ No newline at end of file
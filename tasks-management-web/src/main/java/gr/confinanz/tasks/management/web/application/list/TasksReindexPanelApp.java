@@ -0,0 +1,41 @@
+package gr.confinanz.tasks.management.web.application.list;
+
+import com.liferay.application.list.BasePanelApp;
+import com.liferay.application.list.PanelApp;
+import com.liferay.application.list.constants.PanelCategoryKeys;
+import com.liferay.portal.kernel.model.Portlet;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import gr.confinanz.tasks.management.constants.TasksManagementPortletKeys;
+
+/**
+ * @author Abdessamad Ben Taleb
+ *
+ */
+@Component(
+	immediate = true,
+	property = {
+		"panel.app.order:Integer=800",
+		"panel.category.key=" + PanelCategoryKeys.CONTROL_PANEL_CONFIGURATION
+	},
+	service = PanelApp.class
+)
+public class TasksReindexPanelApp extends BasePanelApp {
+
+	@Override
+	public String getPortletId() {
+		return TasksManagementPortletKeys.TASKS_REINDEX;
+	}
+
+	@Override
+	@Reference(
+		target = "(javax.portlet.name=" + TasksManagementPortletKeys.TASKS_REINDEX + ")",
+		unbind = "-"
+	)
+	public void setPortlet(Portlet portlet) {
+		super.setPortlet(portlet);
+	}
+
+}
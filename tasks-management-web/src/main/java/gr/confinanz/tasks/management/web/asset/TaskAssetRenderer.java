@@ -8,8 +8,12 @@ import com.liferay.portal.kernel.portlet.LiferayPortletRequest;
 import com.liferay.portal.kernel.portlet.LiferayPortletResponse;
 import com.liferay.portal.kernel.portlet.PortletURLFactoryUtil;
 import com.liferay.portal.kernel.security.permission.PermissionChecker;
+import com.liferay.portal.kernel.servlet.BufferCacheServletResponse;
 import com.liferay.portal.kernel.util.HtmlUtil;
 import com.liferay.portal.kernel.util.PortalUtil;
+import com.liferay.portal.kernel.util.StringUtil;
+
+import java.io.PrintWriter;
 
 import java.util.Locale;
 
@@ -24,6 +28,8 @@ import gr.confinanz.tasks.management.constants.TasksManagementPortletKeys;
 import gr.confinanz.tasks.management.constants.TasksManagementWebKeys;
 import gr.confinanz.tasks.management.model.Task;
 import gr.confinanz.tasks.management.service.permission.TaskPermissionChecker;
+import gr.confinanz.tasks.management.util.TaskFragmentCacheUtil;
+import gr.confinanz.tasks.management.web.util.TaskPlidUtil;
 
 /**
  * @author Abdessamad Ben Taleb
@@ -78,12 +84,11 @@ public class TaskAssetRenderer extends BaseJSPAssetRenderer<Task> {
 			LiferayPortletResponse liferayPortletResponse)
 		throws Exception {
 
-		long plid = PortalUtil.getPlidFromPortletId(
-			_task.getGroupId(), TasksManagementPortletKeys.TASKS_MANAGEMENT);
+		long plid = TaskPlidUtil.getPlid(_task.getGroupId());
 
 		PortletURL portletURL = PortletURLFactoryUtil.create(
-			liferayPortletRequest, TasksManagementPortletKeys.TASKS_MANAGEMENT, plid,
-			PortletRequest.RENDER_PHASE);
+			liferayPortletRequest, TasksManagementPortletKeys.TASKS_MANAGEMENT,
+			plid, PortletRequest.RENDER_PHASE);
 
 		portletURL.setParameter(
 			"mvcRenderCommandName", "/tasks-management/task/edit");
@@ -100,22 +105,12 @@ public class TaskAssetRenderer extends BaseJSPAssetRenderer<Task> {
 		throws Exception {
 
 		try {
-			long plid = PortalUtil.getPlidFromPortletId(
-				_task.getGroupId(), TasksManagementPortletKeys.TASKS_MANAGEMENT);
-
-			PortletURL portletURL = PortletURLFactoryUtil.create(
-				liferayPortletRequest, TasksManagementPortletKeys.TASKS_MANAGEMENT,
-				plid, PortletRequest.RENDER_PHASE);
-
-			portletURL.setParameter("mvcPath", "/view_task.jsp");
-			portletURL.setParameter(
-				"taskId", String.valueOf(_task.getTaskId()));
+			String urlTemplate = _getViewInContextURLTemplate(
+				liferayPortletRequest);
 
-			String currentUrl = PortalUtil.getCurrentURL(liferayPortletRequest);
-
-			portletURL.setParameter("redirect", currentUrl);
-
-			return portletURL.toString();
+			return StringUtil.replace(
+				urlTemplate, _TASK_ID_PLACEHOLDER,
+				String.valueOf(_task.getTaskId()));
 		}
 		catch (Exception e) {
 			_log.error(e, e);
@@ -163,9 +158,85 @@ public class TaskAssetRenderer extends BaseJSPAssetRenderer<Task> {
 
 		request.setAttribute(TasksManagementWebKeys.TASK, _task);
 
-		return super.include(request, response, template);
+		if (!template.equals(TEMPLATE_ABSTRACT) &&
+			!template.equals(TEMPLATE_FULL_CONTENT)) {
+
+			return super.include(request, response, template);
+		}
+
+		// The abstract and full content templates render the task alone,
+		// whatever the permissions of the viewer, so their fragments are
+		// shared by every viewer. A template that shows something only to
+		// some viewers must not be cached here.
+
+		Locale locale = PortalUtil.getLocale(request);
+
+		String content = TaskFragmentCacheUtil.get(_task, template, locale);
+
+		if (content == null) {
+			BufferCacheServletResponse bufferCacheServletResponse =
+				new BufferCacheServletResponse(response);
+
+			if (!super.include(request, bufferCacheServletResponse, template)) {
+				return false;
+			}
+
+			content = bufferCacheServletResponse.getString();
+
+			TaskFragmentCacheUtil.put(_task, template, locale, content);
+		}
+
+		PrintWriter printWriter = response.getWriter();
+
+		printWriter.write(content);
+
+		return true;
+	}
+
+	/**
+	 * Returns the view in context URL of the page of the task, with a
+	 * placeholder for the primary key of the task. The URL is built once per
+	 * page and request, since it also carries the current URL as the
+	 * redirect.
+	 */
+	private String _getViewInContextURLTemplate(
+			LiferayPortletRequest liferayPortletRequest)
+		throws PortalException {
+
+		long plid = TaskPlidUtil.getPlid(_task.getGroupId());
+
+		String attributeName = _VIEW_IN_CONTEXT_URL_TEMPLATE + plid;
+
+		String urlTemplate = (String)liferayPortletRequest.getAttribute(
+			attributeName);
+
+		if (urlTemplate == null) {
+			PortletURL portletURL = PortletURLFactoryUtil.create(
+				liferayPortletRequest,
+				TasksManagementPortletKeys.TASKS_MANAGEMENT, plid,
+				PortletRequest.RENDER_PHASE);
+
+			portletURL.setParameter("mvcPath", "/view_task.jsp");
+			portletURL.setParameter("taskId", _TASK_ID_PLACEHOLDER);
+
+			String currentUrl = PortalUtil.getCurrentURL(
+				liferayPortletRequest);
+
+			portletURL.setParameter("redirect", currentUrl);
+
+			urlTemplate = portletURL.toString();
+
+			liferayPortletRequest.setAttribute(attributeName, urlTemplate);
+		}
+
+		return urlTemplate;
 	}
 
+	private static final String _TASK_ID_PLACEHOLDER = "__TASK_ID__";
+
+	private static final String _VIEW_IN_CONTEXT_URL_TEMPLATE =
+		TaskAssetRenderer.class.getName() + "#VIEW_IN_CONTEXT_URL_TEMPLATE#";
+
 	private static Log _log = LogFactoryUtil.getLog(TaskAssetRenderer.class);
 
 	private Task _task;
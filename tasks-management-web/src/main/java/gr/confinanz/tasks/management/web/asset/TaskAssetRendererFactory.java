@@ -10,8 +10,13 @@ import com.liferay.portal.kernel.portlet.LiferayPortletRequest;
 import com.liferay.portal.kernel.portlet.LiferayPortletResponse;
 import com.liferay.portal.kernel.portlet.PortletURLFactoryUtil;
 import com.liferay.portal.kernel.security.permission.PermissionChecker;
+import com.liferay.portal.kernel.security.permission.PermissionThreadLocal;
+import com.liferay.portal.kernel.util.AutoResetThreadLocal;
 import com.liferay.portal.kernel.util.PortalUtil;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import javax.portlet.PortletRequest;
 import javax.portlet.PortletURL;
 import javax.servlet.ServletContext;
@@ -24,9 +29,9 @@ import gr.confinanz.tasks.management.constants.ActionKeys;
 import gr.confinanz.tasks.management.constants.TasksManagementPortletKeys;
 import gr.confinanz.tasks.management.model.Task;
 import gr.confinanz.tasks.management.service.TaskLocalService;
-import gr.confinanz.tasks.management.service.TaskService;
 import gr.confinanz.tasks.management.service.permission.TaskPermissionChecker;
 import gr.confinanz.tasks.management.service.permission.TaskResourcePermissionChecker;
+import gr.confinanz.tasks.management.web.util.TaskPlidUtil;
 
 /**
  * @author Abdessamad Ben Taleb
@@ -54,13 +59,13 @@ public class TaskAssetRendererFactory extends BaseAssetRendererFactory<Task> {
 	public AssetRenderer<Task> getAssetRenderer(long classPK, int type)
 		throws PortalException {
 
-		Task task = _taskService.getTask(classPK);
-
-		TaskAssetRenderer taskAssetRenderer = new TaskAssetRenderer(task);
+		Task task = _getTask(classPK);
 
-		taskAssetRenderer.setAssetRendererType(type);
+		TaskPermissionChecker.check(
+			PermissionThreadLocal.getPermissionChecker(), task,
+			ActionKeys.VIEW);
 
-		return taskAssetRenderer;
+		return _createAssetRenderer(task, type);
 	}
 
 	@Override
@@ -77,8 +82,7 @@ public class TaskAssetRendererFactory extends BaseAssetRendererFactory<Task> {
 		try {
 			long groupId = PortalUtil.getScopeGroupId(liferayPortletRequest);
 			
-			long plid = PortalUtil.getPlidFromPortletId(groupId,
-				TasksManagementPortletKeys.TASKS_MANAGEMENT);
+			long plid = TaskPlidUtil.getPlid(groupId);
 
 			PortletURL portletURL = PortletURLFactoryUtil.create(
 				liferayPortletRequest, TasksManagementPortletKeys.TASKS_MANAGEMENT,
@@ -110,15 +114,50 @@ public class TaskAssetRendererFactory extends BaseAssetRendererFactory<Task> {
 			PermissionChecker permissionChecker, long classPK, String actionId)
 		throws Exception {
 
-		Task task = _taskLocalService.getTask(classPK);
+		Task task = _getTask(classPK);
 
 		return TaskPermissionChecker.contains(
 			permissionChecker, task, actionId);
 	}
 
+	private TaskAssetRenderer _createAssetRenderer(Task task, int type) {
+		TaskAssetRenderer taskAssetRenderer = new TaskAssetRenderer(task);
+
+		taskAssetRenderer.setAssetRendererType(type);
+
+		return taskAssetRenderer;
+	}
+
+	/**
+	 * Returns the task if it was loaded earlier in the request, or loads it
+	 * and keeps it for the rest of the request. The asset framework asks for
+	 * the renderer and the permissions of an entry separately, and this
+	 * keeps those calls to one load per task. It does not batch the tasks of
+	 * a page, since the Asset Publisher of this portal version asks for its
+	 * entries one at a time.
+	 */
+	private Task _getTask(long classPK) throws PortalException {
+		Map<Long, Task> requestTasks = _requestTasks.get();
+
+		Task task = requestTasks.get(classPK);
+
+		if (task == null) {
+			task = _taskLocalService.getTask(classPK);
+
+			requestTasks.put(classPK, task);
+		}
+
+		return task;
+	}
+
 	private static Log _log = LogFactoryUtil.getLog(
 		TaskAssetRendererFactory.class);
 
+	private static final ThreadLocal<Map<Long, Task>> _requestTasks =
+		new AutoResetThreadLocal<Map<Long, Task>>(
+			TaskAssetRendererFactory.class + "._requestTasks",
+			new HashMap<Long, Task>());
+
 	@Reference(
 		policyOption = ReferencePolicyOption.GREEDY,
 		target = "(osgi.web.symbolicname=gr.confinanz.tasks.management.web)"
@@ -128,7 +167,4 @@ public class TaskAssetRendererFactory extends BaseAssetRendererFactory<Task> {
 	@Reference(policyOption = ReferencePolicyOption.GREEDY)
 	private TaskLocalService _taskLocalService;
 
-	@Reference(policyOption = ReferencePolicyOption.GREEDY)
-	private TaskService _taskService;
-
 }
@@ -0,0 +1,481 @@
+package gr.confinanz.tasks.management.web.display.context;
+
+import com.liferay.portal.kernel.dao.search.SearchContainer;
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.search.Document;
+import com.liferay.portal.kernel.search.Field;
+import com.liferay.portal.kernel.search.Hits;
+import com.liferay.portal.kernel.search.Indexer;
+import com.liferay.portal.kernel.search.IndexerRegistryUtil;
+import com.liferay.portal.kernel.search.QueryConfig;
+import com.liferay.portal.kernel.search.SearchContext;
+import com.liferay.portal.kernel.search.SearchException;
+import com.liferay.portal.kernel.search.Sort;
+import com.liferay.portal.kernel.security.permission.PermissionChecker;
+import com.liferay.portal.kernel.servlet.taglib.aui.ScriptData;
+import com.liferay.portal.kernel.theme.ThemeDisplay;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.ParamUtil;
+import com.liferay.portal.kernel.util.PortalUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Time;
+import com.liferay.portal.kernel.util.WebKeys;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import javax.portlet.PortletURL;
+import javax.portlet.RenderRequest;
+import javax.portlet.RenderResponse;
+
+import javax.servlet.http.HttpServletRequest;
+
+import gr.confinanz.tasks.management.constants.TaskSearchConstants;
+import gr.confinanz.tasks.management.model.Task;
+import gr.confinanz.tasks.management.service.TaskServiceUtil;
+import gr.confinanz.tasks.management.util.TaskUserNameUtil;
+import gr.confinanz.tasks.management.util.TaskVersionUtil;
+import gr.confinanz.tasks.management.web.util.TaskListCacheUtil;
+
+/**
+ * Builds the task list of the portlet. The list is searched, sorted, filtered
+ * and counted by the search engine, and only the tasks of the current page
+ * are loaded. If the search fails, the list falls back to the database
+ * finders without sorting or filters.
+ *
+ * <p>
+ * The rendered list is cached under the version of the group, so as long as
+ * no task of the group is written, a page is shown again without a search.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TasksManagementDisplayContext {
+
+	public static final String COMPLETED_ALL = "all";
+
+	public static final String COMPLETED_NO = "no";
+
+	public static final String COMPLETED_YES = "yes";
+
+	public TasksManagementDisplayContext(
+		RenderRequest renderRequest, RenderResponse renderResponse) {
+
+		_renderRequest = renderRequest;
+		_renderResponse = renderResponse;
+
+		_request = PortalUtil.getHttpServletRequest(renderRequest);
+
+		_themeDisplay = (ThemeDisplay)renderRequest.getAttribute(
+			WebKeys.THEME_DISPLAY);
+	}
+
+	/**
+	 * Returns the markup of the task list if it was rendered before for the
+	 * same version of the group, page, sort, filters and permissions, or
+	 * <code>null</code> if it has to be rendered with
+	 * {@link #startTasksHTML()} and {@link #putTasksHTML(String)}.
+	 */
+	public String getCachedTasksHTML() {
+		return TaskListCacheUtil.get(_request, _getTasksCacheKey());
+	}
+
+	public String getCompleted() {
+		if (_completed != null) {
+			return _completed;
+		}
+
+		_completed = ParamUtil.getString(
+			_request, "completed", COMPLETED_ALL);
+
+		if (!_completed.equals(COMPLETED_NO) &&
+			!_completed.equals(COMPLETED_YES)) {
+
+			_completed = COMPLETED_ALL;
+		}
+
+		return _completed;
+	}
+
+	/**
+	 * Returns the URL of the list with the filter changed to the value, used
+	 * by the filter chips.
+	 */
+	public PortletURL getFilterURL(String name, String value) {
+		PortletURL portletURL = getPortletURL();
+
+		portletURL.setParameter(name, value);
+
+		return portletURL;
+	}
+
+	public String getOrderByCol() {
+		if (_orderByCol != null) {
+			return _orderByCol;
+		}
+
+		_orderByCol = ParamUtil.getString(
+			_request, "orderByCol", TaskSearchConstants.EXPIRATION_DATE);
+
+		if (!_orderByCol.equals(TaskSearchConstants.COMPLETED) &&
+			!_orderByCol.equals(TaskSearchConstants.EXPIRATION_DATE) &&
+			!_orderByCol.equals(TaskSearchConstants.TASK_TITLE)) {
+
+			_orderByCol = TaskSearchConstants.EXPIRATION_DATE;
+		}
+
+		return _orderByCol;
+	}
+
+	public String getOrderByType() {
+		if (_orderByType != null) {
+			return _orderByType;
+		}
+
+		_orderByType = ParamUtil.getString(_request, "orderByType", "asc");
+
+		if (!_orderByType.equals("desc")) {
+			_orderByType = "asc";
+		}
+
+		return _orderByType;
+	}
+
+	public PortletURL getPortletURL() {
+		PortletURL portletURL = _renderResponse.createRenderURL();
+
+		portletURL.setParameter("mvcPath", "/view.jsp");
+		portletURL.setParameter("completed", getCompleted());
+		portletURL.setParameter("mine", String.valueOf(isMine()));
+		portletURL.setParameter("orderByCol", getOrderByCol());
+		portletURL.setParameter("orderByType", getOrderByType());
+		portletURL.setParameter("overdue", String.valueOf(isOverdue()));
+
+		return portletURL;
+	}
+
+	public SearchContainer<Task> getSearchContainer() throws PortalException {
+		if (_searchContainer != null) {
+			return _searchContainer;
+		}
+
+		SearchContainer<Task> searchContainer = _createSearchContainer();
+
+		try {
+			search(searchContainer);
+		}
+		catch (SearchException se) {
+			_log.error("Unable to search tasks", se);
+
+			_searchFailed = true;
+
+			long companyId = _themeDisplay.getCompanyId();
+			long groupId = _themeDisplay.getScopeGroupId();
+
+			searchContainer.setTotal(
+				TaskServiceUtil.getTasksCount(companyId, groupId));
+			searchContainer.setResults(
+				TaskServiceUtil.getTasks(
+					companyId, groupId, searchContainer.getStart(),
+					searchContainer.getEnd()));
+		}
+
+		_searchContainer = searchContainer;
+
+		return _searchContainer;
+	}
+
+	/**
+	 * Returns the full name of the user the task is assigned to. The names of
+	 * all the tasks of the page are resolved together on the first call.
+	 */
+	public String getTaskUserName(Task task) throws PortalException {
+		if (_taskUserNames == null) {
+			SearchContainer<Task> searchContainer = getSearchContainer();
+
+			_taskUserNames = TaskUserNameUtil.getTaskUserNames(
+				searchContainer.getResults());
+		}
+
+		return _taskUserNames.get(task.getTaskUserId());
+	}
+
+	public boolean isMine() {
+		if (_mine == null) {
+			_mine = ParamUtil.getBoolean(_request, "mine");
+		}
+
+		return _mine;
+	}
+
+	public boolean isOverdue() {
+		if (_overdue == null) {
+			_overdue = ParamUtil.getBoolean(_request, "overdue");
+		}
+
+		return _overdue;
+	}
+
+	/**
+	 * Caches the markup of the task list, along with the scripts it
+	 * registered, and returns it.
+	 */
+	public String putTasksHTML(String tasksHTML) {
+		ScriptData scriptData = TaskListCacheUtil.restoreScripts(
+			_request, _previousScriptData);
+
+		// A list rendered right after a write may come from a search index
+		// that did not catch up with it yet, so it is not kept
+
+		long age =
+			System.currentTimeMillis() -
+				TaskVersionUtil.getVersionTime(_groupVersion);
+
+		if (!_searchFailed && (age >= _MIN_GROUP_VERSION_AGE)) {
+			TaskListCacheUtil.put(
+				_request, _getTasksCacheKey(), tasksHTML, scriptData);
+		}
+
+		return tasksHTML;
+	}
+
+	/**
+	 * Sets aside the scripts registered with the page so far, before the
+	 * task list is rendered.
+	 */
+	public void startTasksHTML() {
+		_previousScriptData = TaskListCacheUtil.captureScripts(_request);
+	}
+
+	protected Sort[] getSorts() {
+		boolean reverse = getOrderByType().equals("desc");
+
+		String orderByCol = getOrderByCol();
+
+		if (orderByCol.equals(TaskSearchConstants.EXPIRATION_DATE)) {
+			return new Sort[] {
+				new Sort(
+					TaskSearchConstants.EXPIRATION_DATE, Sort.LONG_TYPE,
+					reverse),
+				new Sort(
+					Field.getSortableFieldName(TaskSearchConstants.TASK_TITLE),
+					Sort.STRING_TYPE, reverse)
+			};
+		}
+
+		return new Sort[] {
+			new Sort(
+				Field.getSortableFieldName(orderByCol), Sort.STRING_TYPE,
+				reverse),
+			new Sort(
+				TaskSearchConstants.EXPIRATION_DATE, Sort.LONG_TYPE, false)
+		};
+	}
+
+	protected void search(SearchContainer<Task> searchContainer)
+		throws PortalException {
+
+		// The search context is not built from the request, which would copy
+		// the filter parameters into attributes the indexer reads
+
+		SearchContext searchContext = new SearchContext();
+
+		String completed = getCompleted();
+
+		if (!completed.equals(COMPLETED_ALL)) {
+			searchContext.setAttribute(
+				TaskSearchConstants.COMPLETED,
+				String.valueOf(completed.equals(COMPLETED_YES)));
+		}
+
+		if (isMine()) {
+			searchContext.setAttribute(
+				TaskSearchConstants.TASK_USER_ID, _themeDisplay.getUserId());
+		}
+
+		if (isOverdue()) {
+			searchContext.setAttribute(
+				TaskSearchConstants.COMPLETED, String.valueOf(false));
+			searchContext.setAttribute(
+				TaskSearchConstants.DUE_BEFORE, System.currentTimeMillis());
+		}
+
+		searchContext.setCompanyId(_themeDisplay.getCompanyId());
+		searchContext.setEnd(searchContainer.getEnd());
+		searchContext.setGroupIds(
+			new long[] {_themeDisplay.getScopeGroupId()});
+		searchContext.setLocale(_themeDisplay.getLocale());
+		searchContext.setSorts(getSorts());
+		searchContext.setStart(searchContainer.getStart());
+		searchContext.setTimeZone(_themeDisplay.getTimeZone());
+		searchContext.setUserId(_themeDisplay.getUserId());
+
+		QueryConfig queryConfig = searchContext.getQueryConfig();
+
+		queryConfig.setHighlightEnabled(false);
+		queryConfig.setScoreEnabled(false);
+
+		// The tasks are loaded from the database, so only the primary keys
+		// are read from the hits
+
+		queryConfig.setSelectedFieldNames(Field.ENTRY_CLASS_PK);
+
+		Indexer<Task> indexer = IndexerRegistryUtil.nullSafeGetIndexer(
+			Task.class);
+
+		Hits hits = indexer.search(searchContext);
+
+		searchContainer.setTotal(hits.getLength());
+
+		Document[] documents = hits.getDocs();
+
+		long[] taskIds = new long[documents.length];
+
+		for (int i = 0; i < documents.length; i++) {
+			taskIds[i] = GetterUtil.getLong(
+				documents[i].get(Field.ENTRY_CLASS_PK));
+		}
+
+		// Only the tasks of the page are loaded, by primary key and in the
+		// order of the hits
+
+		List<Task> results = new ArrayList<>(taskIds.length);
+
+		for (Task task : TaskServiceUtil.fetchTasks(taskIds)) {
+			if (task != null) {
+				results.add(task);
+			}
+		}
+
+		searchContainer.setResults(results);
+	}
+
+	private SearchContainer<Task> _createSearchContainer() {
+		SearchContainer<Task> searchContainer = new SearchContainer<>(
+			_renderRequest, null, null, SearchContainer.DEFAULT_CUR_PARAM,
+			_DELTA, getPortletURL(), null, "no-tasks-were-found");
+
+		searchContainer.setOrderByCol(getOrderByCol());
+		searchContainer.setOrderByType(getOrderByType());
+
+		return searchContainer;
+	}
+
+	/**
+	 * Returns the cache key of the task list. The version of the group is
+	 * read before the list is searched, so a write that commits in between
+	 * makes the cached list stale rather than wrong.
+	 */
+	private String _getTasksCacheKey() {
+		if (_tasksCacheKey != null) {
+			return _tasksCacheKey;
+		}
+
+		long groupId = _themeDisplay.getScopeGroupId();
+		long userId = _themeDisplay.getUserId();
+
+		_groupVersion = TaskVersionUtil.getGroupVersion(groupId);
+
+		// Users with the same roles in the group see the same tasks with the
+		// same actions, unless they own some of them or list their own
+
+		PermissionChecker permissionChecker =
+			_themeDisplay.getPermissionChecker();
+
+		long[] roleIds = permissionChecker.getRoleIds(userId, groupId);
+
+		roleIds = Arrays.copyOf(roleIds, roleIds.length);
+
+		Arrays.sort(roleIds);
+
+		long viewerUserId = 0;
+
+		if (isMine() ||
+			(permissionChecker.isSignedIn() &&
+			 TaskListCacheUtil.isOwner(groupId, userId, _groupVersion))) {
+
+			viewerUserId = userId;
+		}
+
+		// The overdue tasks change with the time, so an overdue list is only
+		// kept for the minute it was rendered in
+
+		long overdueTime = 0;
+
+		if (isOverdue()) {
+			overdueTime = System.currentTimeMillis() / Time.MINUTE;
+		}
+
+		SearchContainer<Task> searchContainer = _createSearchContainer();
+
+		StringBundler sb = new StringBundler(29);
+
+		sb.append(groupId);
+		sb.append(StringPool.POUND);
+		sb.append(_groupVersion);
+		sb.append(StringPool.POUND);
+		sb.append(_themeDisplay.getPlid());
+		sb.append(StringPool.POUND);
+		sb.append(_renderResponse.getNamespace());
+		sb.append(StringPool.POUND);
+		sb.append(searchContainer.getCur());
+		sb.append(StringPool.POUND);
+		sb.append(searchContainer.getDelta());
+		sb.append(StringPool.POUND);
+		sb.append(getOrderByCol());
+		sb.append(StringPool.POUND);
+		sb.append(getOrderByType());
+		sb.append(StringPool.POUND);
+		sb.append(getCompleted());
+		sb.append(StringPool.POUND);
+		sb.append(viewerUserId);
+		sb.append(StringPool.POUND);
+		sb.append(overdueTime);
+		sb.append(StringPool.POUND);
+		sb.append(StringUtil.merge(roleIds, StringPool.DASH));
+		sb.append(StringPool.POUND);
+		sb.append(_themeDisplay.getLocale());
+		sb.append(StringPool.POUND);
+		sb.append(_themeDisplay.getTimeZone().getID());
+		sb.append(StringPool.POUND);
+
+		// The action URLs redirect back to the current URL
+
+		sb.append(_themeDisplay.getURLCurrent());
+
+		_tasksCacheKey = sb.toString();
+
+		return _tasksCacheKey;
+	}
+
+	private static final int _DELTA = 10;
+
+	private static final long _MIN_GROUP_VERSION_AGE = 10 * Time.SECOND;
+
+	private static final Log _log = LogFactoryUtil.getLog(
+		TasksManagementDisplayContext.class);
+
+	private String _completed;
+	private long _groupVersion;
+	private Boolean _mine;
+	private String _orderByCol;
+	private String _orderByType;
+	private Boolean _overdue;
+	private ScriptData _previousScriptData;
+	private final RenderRequest _renderRequest;
+	private final RenderResponse _renderResponse;
+	private final HttpServletRequest _request;
+	private SearchContainer<Task> _searchContainer;
+	private boolean _searchFailed;
+	private String _tasksCacheKey;
+	private Map<Long, String> _taskUserNames;
+	private final ThemeDisplay _themeDisplay;
+
+}
@@ -0,0 +1,140 @@
+package gr.confinanz.tasks.management.web.model.listener;
+
+import com.liferay.portal.kernel.exception.ModelListenerException;
+import com.liferay.portal.kernel.model.BaseModelListener;
+import com.liferay.portal.kernel.model.Group;
+import com.liferay.portal.kernel.model.ModelListener;
+import com.liferay.portal.kernel.model.User;
+import com.liferay.portal.kernel.service.UserLocalService;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
+
+import java.util.concurrent.Callable;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferencePolicyOption;
+
+import gr.confinanz.tasks.management.util.TaskUserNameUtil;
+import gr.confinanz.tasks.management.util.TaskVersionUtil;
+import gr.confinanz.tasks.management.web.util.TaskAssigneeDirectoryUtil;
+
+/**
+ * Applies the group membership and name changes of the users to the assignee
+ * directories once they commit.
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+@Component(immediate = true, service = ModelListener.class)
+public class TaskAssigneeUserModelListener extends BaseModelListener<User> {
+
+	@Override
+	public void onAfterAddAssociation(
+			Object classPK, String associationClassName,
+			Object associationClassPK)
+		throws ModelListenerException {
+
+		if (associationClassName.equals(Group.class.getName())) {
+			put((Long)associationClassPK, (Long)classPK);
+		}
+	}
+
+	@Override
+	public void onAfterRemoveAssociation(
+			Object classPK, String associationClassName,
+			Object associationClassPK)
+		throws ModelListenerException {
+
+		if (associationClassName.equals(Group.class.getName())) {
+			remove((Long)associationClassPK, (Long)classPK);
+		}
+	}
+
+	@Override
+	public void onAfterUpdate(User user) throws ModelListenerException {
+		TaskUserNameUtil.clearStoredNames(user.getUserId());
+	}
+
+	@Override
+	public void onBeforeRemove(User user) throws ModelListenerException {
+
+		// The memberships are gone after the removal
+
+		for (long groupId : user.getGroupIds()) {
+			remove(groupId, user.getUserId());
+		}
+	}
+
+	@Override
+	public void onBeforeUpdate(User user) throws ModelListenerException {
+
+		// Most updates, such as the one on every login, leave the name alone
+		// and must not make the other nodes load their directories again
+
+		if (!TaskUserNameUtil.isNameChanged(user)) {
+			return;
+		}
+
+		for (long groupId : user.getGroupIds()) {
+			put(groupId, user.getUserId());
+		}
+	}
+
+	/**
+	 * Removes the version of the members of the group now and again once the
+	 * current transaction commits, before the change is applied. A directory
+	 * loaded between the two removals does not have the change yet, and the
+	 * second removal keeps it from outliving the commit.
+	 */
+	protected void put(final long groupId, final long userId) {
+		final long version = TaskVersionUtil.getGroupMembersVersion(groupId);
+
+		TaskVersionUtil.invalidateGroupMembers(groupId);
+
+		TransactionCommitCallbackUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					TaskVersionUtil.invalidateGroupMembers(groupId);
+
+					User user = _userLocalService.fetchUser(userId);
+
+					if (user == null) {
+						TaskAssigneeDirectoryUtil.remove(
+							groupId, userId, version);
+					}
+					else {
+						TaskAssigneeDirectoryUtil.put(groupId, user, version);
+					}
+
+					return null;
+				}
+
+			});
+	}
+
+	protected void remove(final long groupId, final long userId) {
+		final long version = TaskVersionUtil.getGroupMembersVersion(groupId);
+
+		TaskVersionUtil.invalidateGroupMembers(groupId);
+
+		TransactionCommitCallbackUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					TaskVersionUtil.invalidateGroupMembers(groupId);
+
+					TaskAssigneeDirectoryUtil.remove(groupId, userId, version);
+
+					return null;
+				}
+
+			});
+	}
+
+	@Reference(policyOption = ReferencePolicyOption.GREEDY)
+	private UserLocalService _userLocalService;
+
+}
@@ -0,0 +1,37 @@
+package gr.confinanz.tasks.management.web.model.listener;
+
+import com.liferay.portal.kernel.exception.ModelListenerException;
+import com.liferay.portal.kernel.model.BaseModelListener;
+import com.liferay.portal.kernel.model.Layout;
+import com.liferay.portal.kernel.model.ModelListener;
+
+import org.osgi.service.component.annotations.Component;
+
+import gr.confinanz.tasks.management.web.util.TaskPlidUtil;
+
+/**
+ * Drops the cached plid of the group of a page that is added, updated or
+ * removed, since the tasks management portlet may have moved with it.
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+@Component(immediate = true, service = ModelListener.class)
+public class TaskPlidLayoutModelListener extends BaseModelListener<Layout> {
+
+	@Override
+	public void onAfterCreate(Layout layout) throws ModelListenerException {
+		TaskPlidUtil.invalidate(layout.getGroupId());
+	}
+
+	@Override
+	public void onAfterRemove(Layout layout) throws ModelListenerException {
+		TaskPlidUtil.invalidate(layout.getGroupId());
+	}
+
+	@Override
+	public void onAfterUpdate(Layout layout) throws ModelListenerException {
+		TaskPlidUtil.invalidate(layout.getGroupId());
+	}
+
+}
@@ -0,0 +1,74 @@
+package gr.confinanz.tasks.management.web.model.listener;
+
+import com.liferay.portal.kernel.exception.ModelListenerException;
+import com.liferay.portal.kernel.model.BaseModelListener;
+import com.liferay.portal.kernel.model.Layout;
+import com.liferay.portal.kernel.model.ModelListener;
+import com.liferay.portal.kernel.model.PortletPreferences;
+import com.liferay.portal.kernel.service.LayoutLocalService;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferencePolicyOption;
+
+import gr.confinanz.tasks.management.constants.TasksManagementPortletKeys;
+import gr.confinanz.tasks.management.web.util.TaskPlidUtil;
+
+/**
+ * Drops the cached plid of a group when the tasks management portlet is
+ * added to or removed from one of its pages.
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+@Component(immediate = true, service = ModelListener.class)
+public class TaskPlidPortletPreferencesModelListener
+	extends BaseModelListener<PortletPreferences> {
+
+	@Override
+	public void onAfterCreate(PortletPreferences portletPreferences)
+		throws ModelListenerException {
+
+		invalidate(portletPreferences);
+	}
+
+	@Override
+	public void onAfterRemove(PortletPreferences portletPreferences)
+		throws ModelListenerException {
+
+		invalidate(portletPreferences);
+	}
+
+	@Override
+	public void onAfterUpdate(PortletPreferences portletPreferences)
+		throws ModelListenerException {
+
+		invalidate(portletPreferences);
+	}
+
+	protected void invalidate(PortletPreferences portletPreferences) {
+		String portletId = portletPreferences.getPortletId();
+
+		if (!portletId.startsWith(
+				TasksManagementPortletKeys.TASKS_MANAGEMENT)) {
+
+			return;
+		}
+
+		Layout layout = _layoutLocalService.fetchLayout(
+			portletPreferences.getPlid());
+
+		// The page may be gone already, and with it the group
+
+		if (layout == null) {
+			TaskPlidUtil.invalidateAll();
+		}
+		else {
+			TaskPlidUtil.invalidate(layout.getGroupId());
+		}
+	}
+
+	@Reference(policyOption = ReferencePolicyOption.GREEDY)
+	private LayoutLocalService _layoutLocalService;
+
+}
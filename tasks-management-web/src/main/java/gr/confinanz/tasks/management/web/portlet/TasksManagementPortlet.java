@@ -10,6 +10,8 @@ import com.liferay.portal.kernel.util.PortalUtil;
 
 import java.io.IOException;
 
+import java.util.List;
+
 import javax.portlet.ActionRequest;
 import javax.portlet.ActionResponse;
 import javax.portlet.Portlet;
@@ -95,6 +97,24 @@ public class TasksManagementPortlet extends MVCPortlet {
 			SessionMessages.add(actionRequest, "taskUpdated");
 		}
 		else {
+			boolean ignoreDuplicates = ParamUtil.getBoolean(
+				actionRequest, "ignoreDuplicates");
+
+			if (!ignoreDuplicates) {
+				List<Task> similarTasks = _taskService.getSimilarTasks(
+					serviceContext.getScopeGroupId(), title, description,
+					_SIMILAR_TASKS_LIMIT);
+
+				if (!similarTasks.isEmpty()) {
+					SessionErrors.add(
+						actionRequest, "similarTasks", similarTasks);
+
+					hideDefaultErrorMessage(actionRequest);
+
+					return;
+				}
+			}
+
 			_taskService.addTask(
 				title, description, expirationDateMonth, expirationDateDay,
 				expirationDateYear, taskUserId, completed, serviceContext);
@@ -121,6 +141,8 @@ public class TasksManagementPortlet extends MVCPortlet {
 		return false;
 	}
 
+	private static final int _SIMILAR_TASKS_LIMIT = 5;
+
 	@Reference(policyOption = ReferencePolicyOption.GREEDY)
 	private TaskService _taskService;
 }
\ No newline at end of file
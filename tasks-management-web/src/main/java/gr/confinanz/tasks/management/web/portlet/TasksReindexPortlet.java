@@ -0,0 +1,33 @@
+package gr.confinanz.tasks.management.web.portlet;
+
+import com.liferay.portal.kernel.portlet.bridges.mvc.MVCPortlet;
+
+import javax.portlet.Portlet;
+
+import org.osgi.service.component.annotations.Component;
+
+import gr.confinanz.tasks.management.constants.TasksManagementPortletKeys;
+
+/**
+ * Shows the progress of the task reindexes in the control panel.
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+@Component(
+	immediate = true,
+	property = {
+		"com.liferay.portlet.display-category=category.hidden",
+		"com.liferay.portlet.use-default-template=true",
+		"javax.portlet.display-name=Tasks Reindex",
+		"javax.portlet.expiration-cache=0",
+		"javax.portlet.init-param.template-path=/",
+		"javax.portlet.init-param.view-template=/reindex/view.jsp",
+		"javax.portlet.name=" + TasksManagementPortletKeys.TASKS_REINDEX,
+		"javax.portlet.resource-bundle=content.Language",
+		"javax.portlet.security-role-ref=administrator"
+	},
+	service = Portlet.class
+)
+public class TasksReindexPortlet extends MVCPortlet {
+}
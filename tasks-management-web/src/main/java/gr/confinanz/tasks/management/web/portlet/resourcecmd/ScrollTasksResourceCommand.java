@@ -0,0 +1,176 @@
+package gr.confinanz.tasks.management.web.portlet.resourcecmd;
+
+import com.liferay.portal.kernel.json.JSONArray;
+import com.liferay.portal.kernel.json.JSONFactoryUtil;
+import com.liferay.portal.kernel.json.JSONObject;
+import com.liferay.portal.kernel.portlet.JSONPortletResponseUtil;
+import com.liferay.portal.kernel.portlet.bridges.mvc.BaseMVCResourceCommand;
+import com.liferay.portal.kernel.portlet.bridges.mvc.MVCResourceCommand;
+import com.liferay.portal.kernel.theme.ThemeDisplay;
+import com.liferay.portal.kernel.util.FastDateFormatFactoryUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.ParamUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.WebKeys;
+
+import java.text.Format;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import javax.portlet.ResourceRequest;
+import javax.portlet.ResourceResponse;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferencePolicyOption;
+
+import gr.confinanz.tasks.management.constants.TasksManagementPortletKeys;
+import gr.confinanz.tasks.management.model.Task;
+import gr.confinanz.tasks.management.service.TaskService;
+import gr.confinanz.tasks.management.util.TaskUserNameUtil;
+import gr.confinanz.tasks.management.web.display.context.TasksManagementDisplayContext;
+
+/**
+ * Returns a page of the tasks of the current group for the scrolling task
+ * table, in the order of their expiration dates.
+ *
+ * <p>
+ * The page starts after the opaque <code>cursor</code> of the previous page,
+ * so scrolling deep into a large group never makes the database skip rows.
+ * The JSON object holds the tasks under <code>tasks</code>, each as an array
+ * of its primary key, title, formatted expiration date, assignee name and
+ * completed flag, whether there are more under <code>hasMore</code>, and the
+ * cursor of the next page under <code>cursor</code>. The cursor is the
+ * expiration time and primary key of the last task, or only its primary key
+ * if the task has no expiration date.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+@Component(
+	immediate = true,
+	property = {
+		"javax.portlet.name=" + TasksManagementPortletKeys.TASKS_MANAGEMENT,
+		"mvc.command.name=/tasks/scroll"
+	},
+	service = MVCResourceCommand.class
+)
+public class ScrollTasksResourceCommand extends BaseMVCResourceCommand {
+
+	@Override
+	protected void doServeResource(
+			ResourceRequest resourceRequest, ResourceResponse resourceResponse)
+		throws Exception {
+
+		ThemeDisplay themeDisplay = (ThemeDisplay)resourceRequest.getAttribute(
+			WebKeys.THEME_DISPLAY);
+
+		String completed = ParamUtil.getString(resourceRequest, "completed");
+		String cursor = ParamUtil.getString(resourceRequest, "cursor");
+		int delta = ParamUtil.getInteger(resourceRequest, "delta", 50);
+		String orderByType = ParamUtil.getString(
+			resourceRequest, "orderByType", "asc");
+
+		delta = Math.max(1, Math.min(delta, _MAX_DELTA));
+
+		Date cursorExpirationDate = null;
+		long cursorTaskId = 0;
+
+		String[] cursorParts = StringUtil.split(cursor, StringPool.UNDERLINE);
+
+		if (cursorParts.length == 2) {
+			cursorExpirationDate = new Date(GetterUtil.getLong(cursorParts[0]));
+			cursorTaskId = GetterUtil.getLong(cursorParts[1]);
+		}
+		else if (cursorParts.length == 1) {
+			cursorTaskId = GetterUtil.getLong(cursorParts[0]);
+		}
+
+		// Ask for one more to tell whether there is a next page
+
+		List<Task> tasks = _taskService.getTasksAfter(
+			themeDisplay.getScopeGroupId(), _getCompleted(completed),
+			!orderByType.equals("desc"), cursorExpirationDate, cursorTaskId,
+			delta + 1);
+
+		boolean hasMore = tasks.size() > delta;
+
+		if (hasMore) {
+			tasks = tasks.subList(0, delta);
+		}
+
+		Format dateFormat = FastDateFormatFactoryUtil.getDate(
+			themeDisplay.getLocale(), themeDisplay.getTimeZone());
+
+		Map<Long, String> taskUserNames = TaskUserNameUtil.getTaskUserNames(
+			tasks);
+
+		JSONArray tasksJSONArray = JSONFactoryUtil.createJSONArray();
+
+		for (Task task : tasks) {
+			JSONArray taskJSONArray = JSONFactoryUtil.createJSONArray();
+
+			taskJSONArray.put(task.getTaskId());
+			taskJSONArray.put(task.getTitle());
+
+			if (task.getExpirationDate() != null) {
+				taskJSONArray.put(dateFormat.format(task.getExpirationDate()));
+			}
+			else {
+				taskJSONArray.put(StringPool.BLANK);
+			}
+
+			taskJSONArray.put(taskUserNames.get(task.getTaskUserId()));
+			taskJSONArray.put(task.isCompleted());
+
+			tasksJSONArray.put(taskJSONArray);
+		}
+
+		JSONObject jsonObject = JSONFactoryUtil.createJSONObject();
+
+		if (hasMore) {
+			Task lastTask = tasks.get(tasks.size() - 1);
+
+			Date expirationDate = lastTask.getExpirationDate();
+
+			if (expirationDate != null) {
+				jsonObject.put(
+					"cursor",
+					expirationDate.getTime() + StringPool.UNDERLINE +
+						lastTask.getTaskId());
+			}
+			else {
+				jsonObject.put("cursor", String.valueOf(lastTask.getTaskId()));
+			}
+		}
+
+		jsonObject.put("hasMore", hasMore);
+		jsonObject.put("tasks", tasksJSONArray);
+
+		JSONPortletResponseUtil.writeJSON(
+			resourceRequest, resourceResponse, jsonObject);
+	}
+
+	private Boolean _getCompleted(String completed) {
+		if (completed.equals(TasksManagementDisplayContext.COMPLETED_NO)) {
+			return Boolean.FALSE;
+		}
+		else if (completed.equals(
+					TasksManagementDisplayContext.COMPLETED_YES)) {
+
+			return Boolean.TRUE;
+		}
+
+		return null;
+	}
+
+	private static final int _MAX_DELTA = 100;
+
+	@Reference(policyOption = ReferencePolicyOption.GREEDY)
+	private TaskService _taskService;
+
+}
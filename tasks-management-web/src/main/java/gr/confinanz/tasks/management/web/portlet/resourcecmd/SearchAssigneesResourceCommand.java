@@ -0,0 +1,101 @@
+package gr.confinanz.tasks.management.web.portlet.resourcecmd;
+
+import com.liferay.portal.kernel.json.JSONArray;
+import com.liferay.portal.kernel.json.JSONFactoryUtil;
+import com.liferay.portal.kernel.json.JSONObject;
+import com.liferay.portal.kernel.portlet.JSONPortletResponseUtil;
+import com.liferay.portal.kernel.portlet.bridges.mvc.BaseMVCResourceCommand;
+import com.liferay.portal.kernel.portlet.bridges.mvc.MVCResourceCommand;
+import com.liferay.portal.kernel.security.permission.ActionKeys;
+import com.liferay.portal.kernel.service.UserLocalService;
+import com.liferay.portal.kernel.service.permission.GroupPermissionUtil;
+import com.liferay.portal.kernel.theme.ThemeDisplay;
+import com.liferay.portal.kernel.util.ParamUtil;
+import com.liferay.portal.kernel.util.WebKeys;
+
+import java.util.List;
+
+import javax.portlet.ResourceRequest;
+import javax.portlet.ResourceResponse;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferencePolicyOption;
+
+import gr.confinanz.tasks.management.constants.TasksManagementPortletKeys;
+import gr.confinanz.tasks.management.web.util.TaskAssigneeDirectory.Assignee;
+import gr.confinanz.tasks.management.web.util.TaskAssigneeDirectoryUtil;
+
+/**
+ * Returns a page of the members of the current group whose name words start
+ * with the words typed in the assignee picker, as a JSON object with the
+ * members under <code>assignees</code> and whether there are more under
+ * <code>hasMore</code>.
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+@Component(
+	immediate = true,
+	property = {
+		"javax.portlet.name=" + TasksManagementPortletKeys.TASKS_MANAGEMENT,
+		"mvc.command.name=/tasks/assignees"
+	},
+	service = MVCResourceCommand.class
+)
+public class SearchAssigneesResourceCommand extends BaseMVCResourceCommand {
+
+	@Override
+	protected void doServeResource(
+			ResourceRequest resourceRequest, ResourceResponse resourceResponse)
+		throws Exception {
+
+		ThemeDisplay themeDisplay = (ThemeDisplay)resourceRequest.getAttribute(
+			WebKeys.THEME_DISPLAY);
+
+		long groupId = themeDisplay.getScopeGroupId();
+
+		GroupPermissionUtil.check(
+			themeDisplay.getPermissionChecker(), groupId,
+			ActionKeys.VIEW_MEMBERS);
+
+		String query = ParamUtil.getString(resourceRequest, "q");
+		int start = Math.max(0, ParamUtil.getInteger(resourceRequest, "start"));
+		int delta = ParamUtil.getInteger(resourceRequest, "delta", 20);
+
+		delta = Math.max(1, Math.min(delta, _MAX_DELTA));
+
+		// Ask for one more to tell whether there is a next page
+
+		List<Assignee> assignees = TaskAssigneeDirectoryUtil.search(
+			_userLocalService, groupId, query, start, start + delta + 1);
+
+		JSONArray assigneesJSONArray = JSONFactoryUtil.createJSONArray();
+
+		for (int i = 0; i < Math.min(delta, assignees.size()); i++) {
+			Assignee assignee = assignees.get(i);
+
+			JSONObject assigneeJSONObject = JSONFactoryUtil.createJSONObject();
+
+			assigneeJSONObject.put("fullName", assignee.getFullName());
+			assigneeJSONObject.put("screenName", assignee.getScreenName());
+			assigneeJSONObject.put("userId", assignee.getUserId());
+
+			assigneesJSONArray.put(assigneeJSONObject);
+		}
+
+		JSONObject jsonObject = JSONFactoryUtil.createJSONObject();
+
+		jsonObject.put("assignees", assigneesJSONArray);
+		jsonObject.put("hasMore", assignees.size() > delta);
+
+		JSONPortletResponseUtil.writeJSON(
+			resourceRequest, resourceResponse, jsonObject);
+	}
+
+	private static final int _MAX_DELTA = 50;
+
+	@Reference(policyOption = ReferencePolicyOption.GREEDY)
+	private UserLocalService _userLocalService;
+
+}
@@ -0,0 +1,78 @@
+package gr.confinanz.tasks.management.web.portlet.resourcecmd;
+
+import com.liferay.portal.kernel.json.JSONArray;
+import com.liferay.portal.kernel.json.JSONFactoryUtil;
+import com.liferay.portal.kernel.json.JSONObject;
+import com.liferay.portal.kernel.portlet.JSONPortletResponseUtil;
+import com.liferay.portal.kernel.portlet.bridges.mvc.BaseMVCResourceCommand;
+import com.liferay.portal.kernel.portlet.bridges.mvc.MVCResourceCommand;
+import com.liferay.portal.kernel.theme.ThemeDisplay;
+import com.liferay.portal.kernel.util.ParamUtil;
+import com.liferay.portal.kernel.util.WebKeys;
+
+import java.util.List;
+
+import javax.portlet.ResourceRequest;
+import javax.portlet.ResourceResponse;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferencePolicyOption;
+
+import gr.confinanz.tasks.management.constants.TasksManagementPortletKeys;
+import gr.confinanz.tasks.management.model.Task;
+import gr.confinanz.tasks.management.service.TaskService;
+
+/**
+ * Returns the tasks of the current group whose title words start with the
+ * words typed in the type-ahead, as a JSON array.
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+@Component(
+	immediate = true,
+	property = {
+		"javax.portlet.name=" + TasksManagementPortletKeys.TASKS_MANAGEMENT,
+		"mvc.command.name=/tasks/suggest"
+	},
+	service = MVCResourceCommand.class
+)
+public class SuggestTasksResourceCommand extends BaseMVCResourceCommand {
+
+	@Override
+	protected void doServeResource(
+			ResourceRequest resourceRequest, ResourceResponse resourceResponse)
+		throws Exception {
+
+		ThemeDisplay themeDisplay = (ThemeDisplay)resourceRequest.getAttribute(
+			WebKeys.THEME_DISPLAY);
+
+		String query = ParamUtil.getString(resourceRequest, "q");
+		int limit = ParamUtil.getInteger(resourceRequest, "limit", 10);
+
+		List<Task> tasks = _taskService.suggestTasks(
+			themeDisplay.getScopeGroupId(), query,
+			Math.max(1, Math.min(limit, _MAX_SUGGESTIONS)));
+
+		JSONArray jsonArray = JSONFactoryUtil.createJSONArray();
+
+		for (Task task : tasks) {
+			JSONObject jsonObject = JSONFactoryUtil.createJSONObject();
+
+			jsonObject.put("taskId", task.getTaskId());
+			jsonObject.put("title", task.getTitle());
+
+			jsonArray.put(jsonObject);
+		}
+
+		JSONPortletResponseUtil.writeJSON(
+			resourceRequest, resourceResponse, jsonArray);
+	}
+
+	private static final int _MAX_SUGGESTIONS = 20;
+
+	@Reference(policyOption = ReferencePolicyOption.GREEDY)
+	private TaskService _taskService;
+
+}
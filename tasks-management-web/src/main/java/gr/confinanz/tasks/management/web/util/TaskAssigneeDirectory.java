@@ -0,0 +1,315 @@
+package gr.confinanz.tasks.management.web.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Prefix index of the names of the members of one group, for the assignee
+ * picker of the task form.
+ *
+ * <p>
+ * The members are kept in a concurrent set sorted by full name, and the
+ * distinct words of their names in a sorted concurrent map, each with the
+ * set of the members that have it. A write patches the entries of its
+ * member under a lock, so it costs a few map operations instead of a
+ * rebuild, and lookups never wait for it. A lookup that runs next to a
+ * write may miss the member of the write, but every member it returns
+ * matches.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskAssigneeDirectory {
+
+	public TaskAssigneeDirectory(Map<Long, Assignee> assignees, long version) {
+		for (Assignee assignee : assignees.values()) {
+			_put(assignee);
+		}
+
+		_version = version;
+	}
+
+	/**
+	 * Returns the version of the members of the group that the directory was
+	 * last brought up to date with.
+	 */
+	public long getVersion() {
+		return _version;
+	}
+
+	/**
+	 * Sets the member if the directory is still at the version the write was
+	 * made on, and moves the directory to the new version.
+	 *
+	 * @return <code>true</code> if the member was set, or <code>false</code>
+	 *         if the directory missed other writes and has to be loaded again
+	 */
+	public synchronized boolean put(
+		Assignee assignee, long previousVersion, long version) {
+
+		if (_version != previousVersion) {
+			return false;
+		}
+
+		_remove(assignee.getUserId());
+		_put(assignee);
+
+		_version = version;
+
+		return true;
+	}
+
+	/**
+	 * Removes the member if the directory is still at the version the write
+	 * was made on, and moves the directory to the new version.
+	 *
+	 * @return <code>true</code> if the member was removed, or
+	 *         <code>false</code> if the directory missed other writes and has
+	 *         to be loaded again
+	 */
+	public synchronized boolean remove(
+		long userId, long previousVersion, long version) {
+
+		if (_version != previousVersion) {
+			return false;
+		}
+
+		_remove(userId);
+
+		_version = version;
+
+		return true;
+	}
+
+	/**
+	 * Returns the members between <code>start</code> and <code>end</code>,
+	 * in the order of their full names, with a name word starting with every
+	 * word of the query. An empty query matches every member.
+	 */
+	public List<Assignee> search(String query, int start, int end) {
+		String[] queryWords = _getWords(query);
+
+		if (queryWords.length == 0) {
+			return _getRange(_sortedAssignees, start, end);
+		}
+
+		// Collect the members with a word of the longest query word, which
+		// match the fewest, and check the other query words per member
+
+		String prefix = queryWords[0];
+
+		for (String queryWord : queryWords) {
+			if (queryWord.length() > prefix.length()) {
+				prefix = queryWord;
+			}
+		}
+
+		NavigableSet<Assignee> matches = new TreeSet<>(_comparator);
+
+		for (Map.Entry<String, Set<Long>> entry :
+				_postings.tailMap(prefix).entrySet()) {
+
+			if (!entry.getKey().startsWith(prefix)) {
+				break;
+			}
+
+			for (long userId : entry.getValue()) {
+				Assignee assignee = _assignees.get(userId);
+
+				if ((assignee != null) && _matches(userId, queryWords)) {
+					matches.add(assignee);
+				}
+			}
+		}
+
+		return _getRange(matches, start, end);
+	}
+
+	private static List<Assignee> _getRange(
+		Set<Assignee> assignees, int start, int end) {
+
+		List<Assignee> range = new ArrayList<>();
+
+		Iterator<Assignee> iterator = assignees.iterator();
+
+		for (int i = 0; (i < end) && iterator.hasNext(); i++) {
+			Assignee assignee = iterator.next();
+
+			if (i >= start) {
+				range.add(assignee);
+			}
+		}
+
+		return range;
+	}
+
+	private static String[] _getWords(String text) {
+		if (text == null) {
+			return new String[0];
+		}
+
+		List<String> words = new ArrayList<>();
+
+		int start = -1;
+
+		for (int i = 0; i <= text.length(); i++) {
+			if ((i < text.length()) &&
+				Character.isLetterOrDigit(text.charAt(i))) {
+
+				if (start < 0) {
+					start = i;
+				}
+			}
+			else if (start >= 0) {
+				words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+
+				start = -1;
+			}
+		}
+
+		return words.toArray(new String[words.size()]);
+	}
+
+	private boolean _matches(long userId, String[] queryWords) {
+		String[] words = _assigneeWords.get(userId);
+
+		if (words == null) {
+			return false;
+		}
+
+		for (String queryWord : queryWords) {
+			boolean matches = false;
+
+			for (String word : words) {
+				if (word.startsWith(queryWord)) {
+					matches = true;
+
+					break;
+				}
+			}
+
+			if (!matches) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private void _put(Assignee assignee) {
+		long userId = assignee.getUserId();
+
+		String[] words = _getWords(
+			assignee.getFullName() + " " + assignee.getScreenName());
+
+		_assigneeWords.put(userId, words);
+
+		for (String word : words) {
+			Set<Long> userIds = _postings.get(word);
+
+			if (userIds == null) {
+				userIds = Collections.newSetFromMap(
+					new ConcurrentHashMap<Long, Boolean>());
+
+				_postings.put(word, userIds);
+			}
+
+			userIds.add(userId);
+		}
+
+		_assignees.put(userId, assignee);
+		_sortedAssignees.add(assignee);
+	}
+
+	private void _remove(long userId) {
+		Assignee assignee = _assignees.remove(userId);
+
+		if (assignee == null) {
+			return;
+		}
+
+		_sortedAssignees.remove(assignee);
+
+		String[] words = _assigneeWords.remove(userId);
+
+		for (String word : words) {
+			Set<Long> userIds = _postings.get(word);
+
+			if (userIds == null) {
+				continue;
+			}
+
+			userIds.remove(userId);
+
+			if (userIds.isEmpty()) {
+				_postings.remove(word);
+			}
+		}
+	}
+
+	private static final Comparator<Assignee> _comparator =
+		new Comparator<Assignee>() {
+
+			@Override
+			public int compare(Assignee assignee1, Assignee assignee2) {
+				int value = String.CASE_INSENSITIVE_ORDER.compare(
+					assignee1.getFullName(), assignee2.getFullName());
+
+				if (value != 0) {
+					return value;
+				}
+
+				return Long.compare(
+					assignee1.getUserId(), assignee2.getUserId());
+			}
+
+		};
+
+	private final Map<Long, Assignee> _assignees = new ConcurrentHashMap<>();
+	private final Map<Long, String[]> _assigneeWords =
+		new ConcurrentHashMap<>();
+	private final ConcurrentSkipListMap<String, Set<Long>> _postings =
+		new ConcurrentSkipListMap<>();
+	private final NavigableSet<Assignee> _sortedAssignees =
+		new ConcurrentSkipListSet<>(_comparator);
+	private volatile long _version;
+
+	public static class Assignee {
+
+		public Assignee(long userId, String fullName, String screenName) {
+			_userId = userId;
+			_fullName = fullName;
+			_screenName = screenName;
+		}
+
+		public String getFullName() {
+			return _fullName;
+		}
+
+		public String getScreenName() {
+			return _screenName;
+		}
+
+		public long getUserId() {
+			return _userId;
+		}
+
+		private final String _fullName;
+		private final String _screenName;
+		private final long _userId;
+
+	}
+
+}
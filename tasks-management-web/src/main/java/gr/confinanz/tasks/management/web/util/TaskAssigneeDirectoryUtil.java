@@ -0,0 +1,151 @@
+package gr.confinanz.tasks.management.web.util;
+
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionList;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.Type;
+import com.liferay.portal.kernel.model.User;
+import com.liferay.portal.kernel.security.auth.FullNameGenerator;
+import com.liferay.portal.kernel.security.auth.FullNameGeneratorFactory;
+import com.liferay.portal.kernel.service.UserLocalService;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import gr.confinanz.tasks.management.util.TaskVersionUtil;
+import gr.confinanz.tasks.management.web.util.TaskAssigneeDirectory.Assignee;
+
+/**
+ * Holds a {@link TaskAssigneeDirectory} per group for the assignee picker.
+ *
+ * <p>
+ * A directory is loaded from the database on first use. After that, the
+ * user model listener applies the membership and name changes of this node
+ * to it once they commit. Every directory remembers the version of the
+ * members of its group, so a change made on another node of the cluster
+ * makes the directory load again on the next lookup.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskAssigneeDirectoryUtil {
+
+	/**
+	 * Sets a member that was added to the group or renamed on the version
+	 * <code>previousVersion</code> of its members.
+	 */
+	public static void put(long groupId, User user, long previousVersion) {
+		TaskAssigneeDirectory taskAssigneeDirectory =
+			_taskAssigneeDirectories.get(groupId);
+
+		if ((taskAssigneeDirectory == null) || user.isDefaultUser()) {
+			return;
+		}
+
+		if (!taskAssigneeDirectory.put(
+				new Assignee(
+					user.getUserId(), user.getFullName(),
+					user.getScreenName()),
+				previousVersion,
+				TaskVersionUtil.getGroupMembersVersion(groupId))) {
+
+			_taskAssigneeDirectories.remove(groupId, taskAssigneeDirectory);
+		}
+	}
+
+	/**
+	 * Removes a member that left the group on the version
+	 * <code>previousVersion</code> of its members.
+	 */
+	public static void remove(long groupId, long userId, long previousVersion) {
+		TaskAssigneeDirectory taskAssigneeDirectory =
+			_taskAssigneeDirectories.get(groupId);
+
+		if ((taskAssigneeDirectory != null) &&
+			!taskAssigneeDirectory.remove(
+				userId, previousVersion,
+				TaskVersionUtil.getGroupMembersVersion(groupId))) {
+
+			_taskAssigneeDirectories.remove(groupId, taskAssigneeDirectory);
+		}
+	}
+
+	public static List<Assignee> search(
+		UserLocalService userLocalService, long groupId, String query,
+		int start, int end) {
+
+		long version = TaskVersionUtil.getGroupMembersVersion(groupId);
+
+		TaskAssigneeDirectory taskAssigneeDirectory =
+			_taskAssigneeDirectories.get(groupId);
+
+		if ((taskAssigneeDirectory == null) ||
+			(taskAssigneeDirectory.getVersion() != version)) {
+
+			taskAssigneeDirectory = _load(userLocalService, groupId, version);
+		}
+
+		return taskAssigneeDirectory.search(query, start, end);
+	}
+
+	/**
+	 * Loads the names of the members of the group, without loading the user
+	 * models. The version is read before the names, so a change that commits
+	 * in between makes the directory stale rather than lost.
+	 */
+	private static TaskAssigneeDirectory _load(
+		UserLocalService userLocalService, long groupId, long version) {
+
+		DynamicQuery dynamicQuery = userLocalService.dynamicQuery();
+
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("defaultUser", false));
+		dynamicQuery.add(
+			RestrictionsFactoryUtil.sqlRestriction(
+				"{alias}.userId IN (SELECT userId FROM Users_Groups WHERE " +
+					"groupId = ?)",
+				groupId, Type.LONG));
+
+		ProjectionList projectionList = ProjectionFactoryUtil.projectionList();
+
+		projectionList.add(ProjectionFactoryUtil.property("userId"));
+		projectionList.add(ProjectionFactoryUtil.property("firstName"));
+		projectionList.add(ProjectionFactoryUtil.property("middleName"));
+		projectionList.add(ProjectionFactoryUtil.property("lastName"));
+		projectionList.add(ProjectionFactoryUtil.property("screenName"));
+
+		dynamicQuery.setProjection(projectionList);
+
+		List<Object[]> rows = userLocalService.dynamicQuery(dynamicQuery);
+
+		FullNameGenerator fullNameGenerator =
+			FullNameGeneratorFactory.getInstance();
+
+		Map<Long, Assignee> assignees = new HashMap<>();
+
+		for (Object[] row : rows) {
+			long userId = (Long)row[0];
+
+			String fullName = fullNameGenerator.getFullName(
+				(String)row[1], (String)row[2], (String)row[3]);
+
+			assignees.put(
+				userId, new Assignee(userId, fullName, (String)row[4]));
+		}
+
+		TaskAssigneeDirectory taskAssigneeDirectory = new TaskAssigneeDirectory(
+			assignees, version);
+
+		_taskAssigneeDirectories.put(groupId, taskAssigneeDirectory);
+
+		return taskAssigneeDirectory;
+	}
+
+	private static final ConcurrentMap<Long, TaskAssigneeDirectory>
+		_taskAssigneeDirectories = new ConcurrentHashMap<>();
+
+}
@@ -0,0 +1,285 @@
+package gr.confinanz.tasks.management.web.util;
+
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.security.auth.AuthTokenUtil;
+import com.liferay.portal.kernel.servlet.taglib.aui.ScriptData;
+import com.liferay.portal.kernel.util.Base64;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.kernel.util.WebKeys;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+
+import gr.confinanz.tasks.management.service.TaskLocalServiceUtil;
+
+/**
+ * Keeps the rendered markup of the task list of the portlet, so a list that
+ * did not change is shown again without searching or checking a permission.
+ *
+ * <p>
+ * The caller builds the key from everything the markup depends on, the
+ * version of the group in the first place. The scripts the list registered
+ * with the page are kept with the markup and registered again on every hit.
+ * The authentication token of the session that rendered the list is taken
+ * out of the action URLs and the token of the viewer is put back on a hit.
+ * The lists of this node are kept in least recently used order and the
+ * oldest are evicted once they take up more than {@link #MAX_SIZE} bytes.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskListCacheUtil {
+
+	public static final long MAX_SIZE = 16 * 1024 * 1024;
+
+	/**
+	 * Sets aside the scripts registered with the page so far, so that the
+	 * scripts of the list can be told apart, and returns them.
+	 */
+	public static ScriptData captureScripts(HttpServletRequest request) {
+		ScriptData scriptData = (ScriptData)request.getAttribute(
+			WebKeys.AUI_SCRIPT_DATA);
+
+		request.removeAttribute(WebKeys.AUI_SCRIPT_DATA);
+
+		return scriptData;
+	}
+
+	/**
+	 * Returns the markup of the list with the key, or <code>null</code> if
+	 * it has to be rendered.
+	 */
+	public static String get(HttpServletRequest request, String key) {
+		TaskList taskList = null;
+
+		synchronized (_taskLists) {
+			taskList = _taskLists.get(key);
+		}
+
+		if (taskList == null) {
+			return null;
+		}
+
+		if (taskList._scripts != null) {
+			ScriptData scriptData = (ScriptData)Base64.stringToObject(
+				taskList._scripts, ScriptData.class.getClassLoader());
+
+			if (scriptData == null) {
+				return null;
+			}
+
+			_registerScripts(request, scriptData);
+		}
+
+		return StringUtil.replace(
+			taskList._html, _AUTH_TOKEN_PLACEHOLDER,
+			_getAuthTokenParameter(request));
+	}
+
+	/**
+	 * Returns <code>true</code> if the user created a task of the group, and
+	 * may see it or act on it as its owner. The answer is kept until the
+	 * version of the group changes.
+	 */
+	public static boolean isOwner(long groupId, long userId, long version) {
+		String key = groupId + _KEY_SEPARATOR + userId;
+
+		Owner owner = null;
+
+		synchronized (_owners) {
+			owner = _owners.get(key);
+		}
+
+		if ((owner != null) && (owner._version == version)) {
+			return owner._owner;
+		}
+
+		DynamicQuery dynamicQuery = TaskLocalServiceUtil.dynamicQuery();
+
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("groupId", groupId));
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("userId", userId));
+
+		owner = new Owner(
+			TaskLocalServiceUtil.dynamicQueryCount(dynamicQuery) > 0, version);
+
+		synchronized (_owners) {
+			_owners.put(key, owner);
+		}
+
+		return owner._owner;
+	}
+
+	/**
+	 * Stores the markup of the list and the scripts it registered, which are
+	 * a copy, so the script data of the request can still be written to.
+	 */
+	public static void put(
+		HttpServletRequest request, String key, String html,
+		ScriptData scriptData) {
+
+		String scripts = null;
+
+		if (scriptData != null) {
+			scripts = Base64.objectToString(scriptData);
+
+			if (scripts == null) {
+				return;
+			}
+		}
+
+		String authTokenParameter = _getAuthTokenParameter(request);
+
+		if (authTokenParameter.length() > _AUTH_TOKEN_PARAMETER.length()) {
+			html = StringUtil.replace(
+				html, authTokenParameter, _AUTH_TOKEN_PLACEHOLDER);
+		}
+
+		TaskList taskList = new TaskList(html, scripts);
+
+		if (taskList._size > _MAX_TASK_LIST_SIZE) {
+			if (_log.isDebugEnabled()) {
+				_log.debug("Not caching a task list of " + taskList._size);
+			}
+
+			return;
+		}
+
+		synchronized (_taskLists) {
+			TaskList oldTaskList = _taskLists.put(key, taskList);
+
+			if (oldTaskList != null) {
+				_size -= oldTaskList._size;
+			}
+
+			_size += taskList._size;
+
+			Iterator<TaskList> iterator = _taskLists.values().iterator();
+
+			while ((_size > MAX_SIZE) && iterator.hasNext()) {
+				_size -= iterator.next()._size;
+
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Registers the scripts set aside by {@link #captureScripts} again, with
+	 * the scripts of the list, and returns the scripts of the list.
+	 */
+	public static ScriptData restoreScripts(
+		HttpServletRequest request, ScriptData previousScriptData) {
+
+		ScriptData scriptData = (ScriptData)request.getAttribute(
+			WebKeys.AUI_SCRIPT_DATA);
+
+		request.removeAttribute(WebKeys.AUI_SCRIPT_DATA);
+
+		if (previousScriptData != null) {
+			request.setAttribute(WebKeys.AUI_SCRIPT_DATA, previousScriptData);
+		}
+
+		if (scriptData != null) {
+			_registerScripts(request, scriptData);
+		}
+
+		return scriptData;
+	}
+
+	private static String _getAuthTokenParameter(HttpServletRequest request) {
+		String authToken = AuthTokenUtil.getToken(request);
+
+		if (Validator.isNull(authToken)) {
+			return _AUTH_TOKEN_PARAMETER;
+		}
+
+		return _AUTH_TOKEN_PARAMETER + authToken;
+	}
+
+	private static void _registerScripts(
+		HttpServletRequest request, ScriptData scriptData) {
+
+		ScriptData requestScriptData = (ScriptData)request.getAttribute(
+			WebKeys.AUI_SCRIPT_DATA);
+
+		if (requestScriptData == null) {
+			request.setAttribute(WebKeys.AUI_SCRIPT_DATA, scriptData);
+		}
+		else {
+			requestScriptData.merge(scriptData);
+		}
+	}
+
+	private static final String _AUTH_TOKEN_PARAMETER = "p_auth=";
+
+	private static final String _AUTH_TOKEN_PLACEHOLDER =
+		_AUTH_TOKEN_PARAMETER + "__P_AUTH__";
+
+	private static final String _KEY_SEPARATOR = "#";
+
+	private static final int _MAX_OWNERS = 10000;
+
+	private static final long _MAX_TASK_LIST_SIZE = MAX_SIZE / 64;
+
+	private static final Log _log = LogFactoryUtil.getLog(
+		TaskListCacheUtil.class);
+
+	private static final Map<String, Owner> _owners =
+		new LinkedHashMap<String, Owner>(16, 0.75F, true) {
+
+			@Override
+			protected boolean removeEldestEntry(
+				Map.Entry<String, Owner> eldest) {
+
+				return size() > _MAX_OWNERS;
+			}
+
+		};
+	private static long _size;
+	private static final Map<String, TaskList> _taskLists =
+		new LinkedHashMap<>(16, 0.75F, true);
+
+	private static class Owner {
+
+		private Owner(boolean owner, long version) {
+			_owner = owner;
+			_version = version;
+		}
+
+		private final boolean _owner;
+		private final long _version;
+
+	}
+
+	private static class TaskList {
+
+		private TaskList(String html, String scripts) {
+			_html = html;
+			_scripts = scripts;
+
+			// Two bytes per char, plus the entry and string headers
+
+			long length = html.length();
+
+			if (scripts != null) {
+				length += scripts.length();
+			}
+
+			_size = (length * 2) + 128;
+		}
+
+		private final String _html;
+		private final String _scripts;
+		private final long _size;
+
+	}
+
+}
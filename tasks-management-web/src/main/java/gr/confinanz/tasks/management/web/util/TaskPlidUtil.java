@@ -0,0 +1,90 @@
+package gr.confinanz.tasks.management.web.util;
+
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
+import com.liferay.portal.kernel.util.PortalUtil;
+
+import java.util.concurrent.Callable;
+
+import gr.confinanz.tasks.management.constants.TasksManagementPortletKeys;
+
+/**
+ * Caches the page of every group that holds the tasks management portlet.
+ *
+ * <p>
+ * {@link PortalUtil#getPlidFromPortletId(long, String)} goes through the
+ * layouts of the group, which is too slow to run for every task link of an
+ * asset list. The plids live in a multi-VM cache, and the layout and
+ * portlet preferences model listeners drop the plid of a group once a change
+ * to its pages commits.
+ * </p>
+ *
+ * @author Abdessamad Ben Taleb
+ *
+ */
+public class TaskPlidUtil {
+
+	/**
+	 * Returns the plid of the page of the group that holds the tasks
+	 * management portlet, or <code>0</code> if there is none.
+	 */
+	public static long getPlid(long groupId) throws PortalException {
+		PortalCache<Long, Long> portalCache = _getPortalCache();
+
+		Long plid = portalCache.get(groupId);
+
+		if (plid == null) {
+			plid = PortalUtil.getPlidFromPortletId(
+				groupId, TasksManagementPortletKeys.TASKS_MANAGEMENT);
+
+			portalCache.put(groupId, plid);
+		}
+
+		return plid;
+	}
+
+	/**
+	 * Drops the plid of the group once the current transaction commits.
+	 */
+	public static void invalidate(final long groupId) {
+		TransactionCommitCallbackUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					_getPortalCache().remove(groupId);
+
+					return null;
+				}
+
+			});
+	}
+
+	/**
+	 * Drops the plids of all the groups once the current transaction commits.
+	 */
+	public static void invalidateAll() {
+		TransactionCommitCallbackUtil.registerCallback(
+			new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					_getPortalCache().removeAll();
+
+					return null;
+				}
+
+			});
+	}
+
+	private static PortalCache<Long, Long> _getPortalCache() {
+		return (PortalCache<Long, Long>)MultiVMPoolUtil.getPortalCache(
+			_CACHE_NAME);
+	}
+
+	private static final String _CACHE_NAME =
+		TaskPlidUtil.class.getName() + "_PLID";
+
+}
@@ -26,33 +26,79 @@ Task task = (Task)request.getAttribute(TasksManagementWebKeys.TASK);
 				message="please-enter-a-valid-title"
 			/>
 
+			<%
+			List<Task> similarTasks = (List<Task>)SessionErrors.get(renderRequest, "similarTasks");
+			%>
+
+			<c:if test="<%= similarTasks != null %>">
+				<div class="alert alert-warning">
+					<liferay-ui:message key="similar-tasks-already-exist" />
+
+					<ul>
+
+						<%
+						for (Task similarTask : similarTasks) {
+						%>
+
+							<portlet:renderURL var="viewSimilarTaskURL">
+								<portlet:param name="mvcPath" value="/view_task.jsp" />
+								<portlet:param name="taskId" value="<%= String.valueOf(similarTask.getTaskId()) %>" />
+							</portlet:renderURL>
+
+							<li>
+								<a href="<%= viewSimilarTaskURL %>"><%= HtmlUtil.escape(similarTask.getTitle()) %></a>
+							</li>
+
+						<%
+						}
+						%>
+
+					</ul>
+				</div>
+
+				<aui:input name="ignoreDuplicates" type="hidden" value="<%= true %>" />
+			</c:if>
+
 			<aui:input name="title" />
 
 			<aui:input name="description" />
 
 			<aui:input name="expirationDate" />
 
-			<aui:select label="task-user" name="taskUserId">
-
-				<%
+			<%
+			long taskUserId = (task != null) ? task.getTaskUserId() : user.getUserId();
 
-				// TODO: improve using server side logic
+			User taskUser = UserLocalServiceUtil.fetchUser(taskUserId);
+			%>
 
-				List<User> users = UserServiceUtil.getGroupUsers(scopeGroupId);
+			<portlet:resourceURL id="/tasks/assignees" var="searchAssigneesURL" />
 
-				for (User user2 : users) {
-					if (user2.isDefaultUser()) {
-						continue;
-					}
-				%>
+			<aui:input name="taskUserId" type="hidden" value="<%= taskUserId %>" />
 
-					<aui:option label="<%= user2.getFullName() %>" value="<%= user2.getUserId() %>" />
+			<aui:input label="task-user" name="assigneeName" placeholder="type-a-name" type="text" value='<%= (taskUser != null) ? taskUser.getFullName() : "" %>' />
 
-				<%
-				}
-				%>
+			<aui:script use="autocomplete-list,autocomplete-highlighters,io-base,json-parse">
+				var assigneeList = new A.AutoCompleteList(
+					{
+						activateFirstItem: true,
+						inputNode: '#<portlet:namespace />assigneeName',
+						maxResults: 20,
+						queryDelay: 150,
+						requestTemplate: '&<portlet:namespace />q={query}&<portlet:namespace />delta=20',
+						resultHighlighter: 'wordMatch',
+						resultListLocator: 'assignees',
+						resultTextLocator: 'fullName',
+						source: '<%= searchAssigneesURL %>'
+					}
+				).render();
 
-			</aui:select>
+				assigneeList.on(
+					'select',
+					function(event) {
+						A.one('#<portlet:namespace />taskUserId').val(event.result.raw.userId);
+					}
+				);
+			</aui:script>
 
 			<aui:input name="completed" />
 		</aui:fieldset>
@@ -11,9 +11,12 @@ taglib uri="http://liferay.com/tld/ui" prefix="liferay-ui" %><%@
 taglib uri="http://liferay.com/tld/util" prefix="liferay-util" %>
 
 <%@ page import="com.liferay.portal.kernel.dao.search.ResultRow" %><%@
+page import="com.liferay.portal.kernel.language.LanguageUtil" %><%@
+page import="com.liferay.portal.kernel.language.UnicodeLanguageUtil" %><%@
 page import="com.liferay.portal.kernel.model.User" %><%@
 page import="com.liferay.portal.kernel.portlet.LiferayWindowState" %><%@
-page import="com.liferay.portal.kernel.service.UserServiceUtil" %><%@
+page import="com.liferay.portal.kernel.service.UserLocalServiceUtil" %><%@
+page import="com.liferay.portal.kernel.servlet.SessionErrors" %><%@
 page import="com.liferay.portal.kernel.util.FastDateFormatFactoryUtil" %><%@
 page import="com.liferay.portal.kernel.util.HtmlUtil" %><%@
 page import="com.liferay.portal.kernel.util.ParamUtil" %>
@@ -27,6 +30,10 @@ page import="com.liferay.portal.kernel.util.ParamUtil" %>
 <%@page import="gr.confinanz.tasks.management.service.permission.TaskPermissionChecker"%>
 <%@page import="gr.confinanz.tasks.management.service.permission.TaskResourcePermissionChecker"%>
 <%@page import="gr.confinanz.tasks.management.constants.ActionKeys"%>
+<%@page import="gr.confinanz.tasks.management.constants.TaskSearchConstants"%>
+<%@page import="gr.confinanz.tasks.management.web.display.context.TasksManagementDisplayContext"%>
+<%@page import="gr.confinanz.tasks.management.util.TaskReindexStatus"%>
+<%@page import="gr.confinanz.tasks.management.util.TaskReindexStatusUtil"%>
 
 
 
@@ -0,0 +1,89 @@
+<%@ include file="../init.jsp" %>
+
+<%
+List<TaskReindexStatus> reindexStatuses = TaskReindexStatusUtil.getStatuses();
+
+Format dateTimeFormat = FastDateFormatFactoryUtil.getDateTime(locale, timeZone);
+%>
+
+<portlet:renderURL var="refreshURL" />
+
+<div class="container-fluid-1280">
+	<div class="alert alert-info">
+		<liferay-ui:message key="reindex-tasks-help" />
+	</div>
+
+	<aui:button-row>
+		<aui:button href="<%= refreshURL %>" icon="icon-refresh" value="refresh" />
+	</aui:button-row>
+
+	<liferay-ui:search-container
+		emptyResultsMessage="no-task-reindex-has-run-yet"
+		total="<%= reindexStatuses.size() %>"
+	>
+		<liferay-ui:search-container-results
+			results="<%= reindexStatuses %>"
+		/>
+
+		<liferay-ui:search-container-row
+			className="gr.confinanz.tasks.management.util.TaskReindexStatus"
+			modelVar="reindexStatus"
+		>
+
+			<%
+			String status = null;
+
+			if (reindexStatus.isRunning()) {
+				status = LanguageUtil.get(request, "reindex-running");
+			}
+			else if (reindexStatus.getCheckpoint() > 0) {
+				status = LanguageUtil.format(request, "reindex-interrupted", reindexStatus.getCheckpoint());
+			}
+			else {
+				status = LanguageUtil.get(request, "reindex-completed");
+			}
+			%>
+
+			<liferay-ui:search-container-column-text
+				name="company-id"
+				property="companyId"
+			/>
+
+			<liferay-ui:search-container-column-text
+				name="status"
+				value="<%= status %>"
+			/>
+
+			<liferay-ui:search-container-column-text
+				name="progress"
+				value='<%= reindexStatus.getIndexedCount() + " / " + reindexStatus.getTotalCount() + " (" + Math.round(reindexStatus.getPercentComplete()) + "%)" %>'
+			/>
+
+			<liferay-ui:search-container-column-text
+				name="reindex-documents-per-second"
+				value="<%= String.valueOf(Math.round(reindexStatus.getDocumentsPerSecond())) %>"
+			/>
+
+			<%
+			long estimatedTimeRemaining = reindexStatus.getEstimatedTimeRemaining();
+			%>
+
+			<liferay-ui:search-container-column-text
+				name="reindex-estimated-time-remaining"
+				value='<%= (estimatedTimeRemaining < 0) ? "-" : LanguageUtil.getTimeDescription(request, estimatedTimeRemaining, true) %>'
+			/>
+
+			<liferay-ui:search-container-column-text
+				name="errors"
+				property="errorCount"
+			/>
+
+			<liferay-ui:search-container-column-text
+				name="modified-date"
+				value="<%= dateTimeFormat.format(reindexStatus.getModifiedTime()) %>"
+			/>
+		</liferay-ui:search-container-row>
+
+		<liferay-ui:search-iterator paginate="<%= false %>" />
+	</liferay-ui:search-container>
+</div>
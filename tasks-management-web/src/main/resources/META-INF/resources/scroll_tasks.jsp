@@ -0,0 +1,175 @@
+<%@ include file="init.jsp" %>
+
+<%
+String completed = ParamUtil.getString(request, "completed", TasksManagementDisplayContext.COMPLETED_ALL);
+String orderByType = ParamUtil.getString(request, "orderByType", "asc");
+%>
+
+<liferay-ui:header
+	backURL="<%= redirect %>"
+	title="scroll-all-tasks"
+/>
+
+<portlet:resourceURL id="/tasks/scroll" var="scrollTasksURL" />
+
+<portlet:renderURL var="viewTaskURL">
+	<portlet:param name="mvcPath" value="/view_task.jsp" />
+</portlet:renderURL>
+
+<div class="task-scroller" id="<portlet:namespace />taskScroller" style="height: 600px; overflow-y: auto;">
+	<table class="table table-list" style="table-layout: fixed;">
+		<thead>
+			<tr>
+				<th style="background: #FFF; position: sticky; top: 0; width: 40%;"><liferay-ui:message key="title" /></th>
+				<th style="background: #FFF; position: sticky; top: 0;"><liferay-ui:message key="expiration-date" /></th>
+				<th style="background: #FFF; position: sticky; top: 0;"><liferay-ui:message key="task-user" /></th>
+				<th style="background: #FFF; position: sticky; top: 0;"><liferay-ui:message key="completed" /></th>
+			</tr>
+		</thead>
+
+		<tbody id="<portlet:namespace />taskRows"></tbody>
+	</table>
+</div>
+
+<aui:script use="aui-io-request">
+	var FETCH_AHEAD_ROWS = 100;
+
+	var OVERSCAN_ROWS = 10;
+
+	var PAGE_SIZE = 50;
+
+	var ROW_HEIGHT = 40;
+
+	var scroller = document.getElementById('<portlet:namespace />taskScroller');
+	var taskRows = document.getElementById('<portlet:namespace />taskRows');
+
+	var cursor = '';
+	var hasMore = true;
+	var loading = false;
+	var renderedFirst = -1;
+	var renderedLast = -1;
+	var renderScheduled = false;
+	var tasks = [];
+
+	var cellStyle = 'overflow: hidden; text-overflow: ellipsis; white-space: nowrap;';
+
+	var completedLabels = ['<%= UnicodeLanguageUtil.get(request, "no") %>', '<%= UnicodeLanguageUtil.get(request, "yes") %>'];
+
+	var escapeHTML = Liferay.Util.escapeHTML;
+
+	var getSpacerRow = function(rows) {
+		return '<tr style="height: ' + (rows * ROW_HEIGHT) + 'px;"><td colspan="4" style="border: 0; padding: 0;"></td></tr>';
+	};
+
+	// Only the rows in and around the visible part of the table are in the
+	// DOM, between two spacer rows that stand in for the others
+
+	var renderRows = function(force) {
+		var first = Math.max(0, Math.floor(scroller.scrollTop / ROW_HEIGHT) - OVERSCAN_ROWS);
+		var last = Math.min(tasks.length, Math.ceil((scroller.scrollTop + scroller.clientHeight) / ROW_HEIGHT) + OVERSCAN_ROWS);
+
+		if (!force && (first === renderedFirst) && (last === renderedLast)) {
+			return;
+		}
+
+		renderedFirst = first;
+		renderedLast = last;
+
+		var html = [getSpacerRow(first)];
+
+		for (var i = first; i < last; i++) {
+			var task = tasks[i];
+
+			html.push(
+				'<tr style="height: ' + ROW_HEIGHT + 'px;">',
+				'<td style="' + cellStyle + '"><a href="<%= HtmlUtil.escapeJS(viewTaskURL) %>&<portlet:namespace />taskId=' + task[0] + '">' + escapeHTML(task[1]) + '</a></td>',
+				'<td style="' + cellStyle + '">' + escapeHTML(task[2]) + '</td>',
+				'<td style="' + cellStyle + '">' + escapeHTML(task[3] || '') + '</td>',
+				'<td style="' + cellStyle + '">' + completedLabels[task[4] ? 1 : 0] + '</td>',
+				'</tr>'
+			);
+		}
+
+		html.push(getSpacerRow(tasks.length - last));
+
+		if (hasMore) {
+			html.push('<tr style="height: ' + ROW_HEIGHT + 'px;"><td colspan="4"><span class="loading-animation"></span></td></tr>');
+		}
+
+		taskRows.innerHTML = html.join('');
+	};
+
+	// The next page is asked for while the user is still a few screens away
+	// from the end of the rows that were loaded
+
+	var fetchAhead = function() {
+		var lastVisible = Math.ceil((scroller.scrollTop + scroller.clientHeight) / ROW_HEIGHT);
+
+		if (!hasMore || loading || ((tasks.length - lastVisible) >= FETCH_AHEAD_ROWS)) {
+			return;
+		}
+
+		loading = true;
+
+		var data = {};
+
+		data['<portlet:namespace />completed'] = '<%= HtmlUtil.escapeJS(completed) %>';
+		data['<portlet:namespace />cursor'] = cursor;
+		data['<portlet:namespace />delta'] = PAGE_SIZE;
+		data['<portlet:namespace />orderByType'] = '<%= HtmlUtil.escapeJS(orderByType) %>';
+
+		A.io.request(
+			'<%= scrollTasksURL %>',
+			{
+				data: data,
+				dataType: 'JSON',
+				on: {
+					failure: function() {
+						hasMore = false;
+						loading = false;
+
+						renderRows(true);
+					},
+					success: function() {
+						var response = this.get('responseData');
+
+						Array.prototype.push.apply(tasks, response.tasks);
+
+						cursor = response.cursor || '';
+						hasMore = response.hasMore;
+						loading = false;
+
+						renderRows(true);
+
+						fetchAhead();
+					}
+				}
+			}
+		);
+	};
+
+	scroller.addEventListener(
+		'scroll',
+		function() {
+			if (renderScheduled) {
+				return;
+			}
+
+			renderScheduled = true;
+
+			requestAnimationFrame(
+				function() {
+					renderScheduled = false;
+
+					renderRows(false);
+
+					fetchAhead();
+				}
+			);
+		}
+	);
+
+	renderRows(true);
+
+	fetchAhead();
+</aui:script>
\ No newline at end of file
@@ -33,51 +33,130 @@ boolean showPermissionsButton = TaskResourcePermissionChecker.contains(permissio
 <liferay-ui:success key="taskAdded" message="task-added" />
 <liferay-ui:success key="taskUpdated" message="task-updated" />
 
-<liferay-ui:search-container
-	delta="10"
-	emptyResultsMessage="no-tasks-were-found"
-	total="<%= TaskServiceUtil.getTasksCount(company.getCompanyId(), scopeGroupId) %>"
->
-	<liferay-ui:search-container-results
-		results="<%= TaskServiceUtil.getTasks(company.getCompanyId(), scopeGroupId, searchContainer.getStart(), searchContainer.getEnd()) %>"
-	/>
-
-	<liferay-ui:search-container-row
-		className="gr.confinanz.tasks.management.model.Task"
-		keyProperty="taskId"
-		modelVar="task"
-	>
-		<liferay-ui:search-container-column-text
-			cssClass="table-cell-content"
-			name="title"
-			value="<%= HtmlUtil.escape(task.getTitle()) %>"
-		/>
-
-		<liferay-ui:search-container-column-text
-			cssClass="table-cell-content"
-			name="description"
-			value="<%= HtmlUtil.escape(task.getDescription()) %>"
-		/>
-
-		<liferay-ui:search-container-column-text
-			name="expiration-date"
-			value="<%= dateFormat.format(task.getExpirationDate()) %>"
-		/>
-
-		<liferay-ui:search-container-column-text
-			name="task-user"
-			value="<%= HtmlUtil.escape(task.getUserName()) %>"
-		/>
-
-		<liferay-ui:search-container-column-text
-			name="completed"
-			property="completed"
-		/>
-
-		<liferay-ui:search-container-column-jsp
-			path="/task_action.jsp"
-		/>
-	</liferay-ui:search-container-row>
-
-	<liferay-ui:search-iterator markupView="lexicon" />
-</liferay-ui:search-container>
\ No newline at end of file
+<%
+TasksManagementDisplayContext tasksManagementDisplayContext = new TasksManagementDisplayContext(renderRequest, renderResponse);
+
+String completed = tasksManagementDisplayContext.getCompleted();
+boolean mine = tasksManagementDisplayContext.isMine();
+boolean overdue = tasksManagementDisplayContext.isOverdue();
+%>
+
+<portlet:resourceURL id="/tasks/suggest" var="suggestTasksURL" />
+
+<portlet:renderURL var="viewTaskURL">
+	<portlet:param name="mvcPath" value="/view_task.jsp" />
+</portlet:renderURL>
+
+<aui:input label="" name="suggestTasks" placeholder="find-task" type="text" />
+
+<aui:script use="autocomplete-list,autocomplete-sources,io-base,json-parse">
+	var suggestTasksList = new A.AutoCompleteList(
+		{
+			activateFirstItem: true,
+			inputNode: '#<portlet:namespace />suggestTasks',
+			maxResults: 10,
+			queryDelay: 100,
+			requestTemplate: '&<portlet:namespace />q={query}',
+			resultTextLocator: 'title',
+			source: '<%= suggestTasksURL %>'
+		}
+	).render();
+
+	suggestTasksList.on(
+		'select',
+		function(event) {
+			window.location = '<%= viewTaskURL %>&<portlet:namespace />taskId=' + event.result.raw.taskId;
+		}
+	);
+</aui:script>
+
+<div class="task-filters">
+
+	<%
+	for (String completedFilter : new String[] {TasksManagementDisplayContext.COMPLETED_ALL, TasksManagementDisplayContext.COMPLETED_NO, TasksManagementDisplayContext.COMPLETED_YES}) {
+	%>
+
+		<aui:a cssClass='<%= "label label-lg " + (completedFilter.equals(completed) ? "label-primary" : "label-default") %>' href="<%= tasksManagementDisplayContext.getFilterURL("completed", completedFilter).toString() %>" label='<%= "filter-" + completedFilter %>' />
+
+	<%
+	}
+	%>
+
+	<aui:a cssClass='<%= "label label-lg " + (mine ? "label-primary" : "label-default") %>' href="<%= tasksManagementDisplayContext.getFilterURL("mine", String.valueOf(!mine)).toString() %>" label="filter-mine" />
+
+	<aui:a cssClass='<%= "label label-lg " + (overdue ? "label-primary" : "label-default") %>' href="<%= tasksManagementDisplayContext.getFilterURL("overdue", String.valueOf(!overdue)).toString() %>" label="filter-overdue" />
+
+	<portlet:renderURL var="scrollTasksURL">
+		<portlet:param name="mvcPath" value="/scroll_tasks.jsp" />
+		<portlet:param name="redirect" value="<%= currentURL %>" />
+		<portlet:param name="completed" value="<%= completed %>" />
+		<portlet:param name="orderByType" value="<%= tasksManagementDisplayContext.getOrderByType() %>" />
+	</portlet:renderURL>
+
+	<aui:a cssClass="label label-lg label-default" href="<%= scrollTasksURL %>" label="scroll-all-tasks" />
+</div>
+
+<%
+String tasksHTML = tasksManagementDisplayContext.getCachedTasksHTML();
+
+if (tasksHTML == null) {
+	tasksManagementDisplayContext.startTasksHTML();
+%>
+
+	<liferay-util:buffer var="renderedTasksHTML">
+		<liferay-ui:search-container
+			searchContainer="<%= tasksManagementDisplayContext.getSearchContainer() %>"
+		>
+			<liferay-ui:search-container-row
+				className="gr.confinanz.tasks.management.model.Task"
+				keyProperty="taskId"
+				modelVar="task"
+			>
+				<liferay-ui:search-container-column-text
+					cssClass="table-cell-content"
+					name="title"
+					orderable="<%= true %>"
+					orderableProperty="<%= TaskSearchConstants.TASK_TITLE %>"
+					value="<%= HtmlUtil.escape(task.getTitle()) %>"
+				/>
+
+				<liferay-ui:search-container-column-text
+					cssClass="table-cell-content"
+					name="description"
+					value="<%= HtmlUtil.escape(task.getDescription()) %>"
+				/>
+
+				<liferay-ui:search-container-column-text
+					name="expiration-date"
+					orderable="<%= true %>"
+					orderableProperty="<%= TaskSearchConstants.EXPIRATION_DATE %>"
+					value="<%= dateFormat.format(task.getExpirationDate()) %>"
+				/>
+
+				<liferay-ui:search-container-column-text
+					name="task-user"
+					value="<%= HtmlUtil.escape(tasksManagementDisplayContext.getTaskUserName(task)) %>"
+				/>
+
+				<liferay-ui:search-container-column-text
+					name="completed"
+					orderable="<%= true %>"
+					orderableProperty="<%= TaskSearchConstants.COMPLETED %>"
+					property="completed"
+				/>
+
+				<liferay-ui:search-container-column-jsp
+					path="/task_action.jsp"
+				/>
+			</liferay-ui:search-container-row>
+
+			<liferay-ui:search-iterator markupView="lexicon" />
+		</liferay-ui:search-container>
+	</liferay-util:buffer>
+
+<%
+	tasksHTML = tasksManagementDisplayContext.putTasksHTML(renderedTasksHTML);
+}
+%>
+
+<%= tasksHTML %>
\ No newline at end of file